@@ -9,6 +9,7 @@ package io.camunda.application.commons.actor;
 
 import io.camunda.application.commons.actor.ActorIdleStrategyConfiguration.IdleStrategyProperties;
 import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
+import io.camunda.zeebe.scheduler.AdaptiveIdleStrategy;
 import java.time.Duration;
 import java.util.function.Supplier;
 import org.agrona.concurrent.BackoffIdleStrategy;
@@ -16,6 +17,7 @@ import org.agrona.concurrent.IdleStrategy;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.lang.Nullable;
@@ -37,18 +39,55 @@ public final class ActorIdleStrategyConfiguration {
   @Bean
   public IdleStrategySupplier toSupplier() {
     return new IdleStrategySupplier(
+        properties.strategy(),
+        properties.ioStrategy(),
         properties.maxSpins(),
         properties.maxYields(),
         properties.minParkPeriodNs(),
-        properties.maxParkPeriodNs());
+        properties.maxParkPeriodNs(),
+        properties.maxSpinPeriodNs());
   }
 
+  /** The idle strategy of the actor threads, i.e. how they wait for new tasks. */
+  public enum IdleStrategyType {
+    /** Spins, then yields, then parks with exponential backoff; see {@link BackoffIdleStrategy}. */
+    BACKOFF,
+
+    /**
+     * Spins only as long as new tasks arrived recently, then parks with exponential backoff; see
+     * {@link AdaptiveIdleStrategy}.
+     */
+    ADAPTIVE
+  }
+
+  /**
+   * @param strategy the idle strategy of the CPU-bound actor threads, and by default of the
+   *     IO-bound threads
+   * @param ioStrategy the idle strategy of the IO-bound actor threads
+   * @param maxSpinPeriod the longest time to spin before parking, only used by the adaptive
+   *     strategy
+   */
   @ConfigurationProperties(prefix = "zeebe.actor.idle")
   public record IdleStrategyProperties(
       @Nullable Long maxSpins,
       @Nullable Long maxYields,
       @Nullable Duration minParkPeriod,
-      @Nullable Duration maxParkPeriod) {
+      @Nullable Duration maxParkPeriod,
+      @Nullable Duration maxSpinPeriod,
+      @Nullable IdleStrategyType strategy,
+      @Nullable IdleStrategyType ioStrategy) {
+
+    @ConstructorBinding
+    public IdleStrategyProperties {}
+
+    public IdleStrategyProperties(
+        final Long maxSpins,
+        final Long maxYields,
+        final Duration minParkPeriod,
+        final Duration maxParkPeriod) {
+      this(maxSpins, maxYields, minParkPeriod, maxParkPeriod, null, null, null);
+    }
+
     @Override
     public Long maxSpins() {
       return maxSpins == null ? ActorSchedulerBuilder.DEFAULT_MAX_SPINS : maxSpins;
@@ -70,15 +109,69 @@ public final class ActorIdleStrategyConfiguration {
           ? ActorSchedulerBuilder.DEFAULT_MAX_PARK_PERIOD_NS
           : maxParkPeriod.toNanos();
     }
+
+    public long maxSpinPeriodNs() {
+      return maxSpinPeriod == null
+          ? ActorSchedulerBuilder.DEFAULT_MAX_SPIN_PERIOD_NS
+          : maxSpinPeriod.toNanos();
+    }
+
+    @Override
+    public IdleStrategyType strategy() {
+      return strategy == null ? IdleStrategyType.BACKOFF : strategy;
+    }
+
+    @Override
+    public IdleStrategyType ioStrategy() {
+      return ioStrategy == null ? strategy() : ioStrategy;
+    }
   }
 
+  /**
+   * Supplies the idle strategies of the CPU-bound actor threads; {@link #ioThreads()} supplies the
+   * ones of the IO-bound threads.
+   */
   public record IdleStrategySupplier(
-      long maxSpins, long maxYields, long minParkPeriodNs, long maxParkPeriodNs)
+      IdleStrategyType strategy,
+      IdleStrategyType ioStrategy,
+      long maxSpins,
+      long maxYields,
+      long minParkPeriodNs,
+      long maxParkPeriodNs,
+      long maxSpinPeriodNs)
       implements Supplier<IdleStrategy> {
 
+    public IdleStrategySupplier(
+        final long maxSpins,
+        final long maxYields,
+        final long minParkPeriodNs,
+        final long maxParkPeriodNs) {
+      this(
+          IdleStrategyType.BACKOFF,
+          IdleStrategyType.BACKOFF,
+          maxSpins,
+          maxYields,
+          minParkPeriodNs,
+          maxParkPeriodNs,
+          ActorSchedulerBuilder.DEFAULT_MAX_SPIN_PERIOD_NS);
+    }
+
     @Override
     public IdleStrategy get() {
-      return new BackoffIdleStrategy(maxSpins, maxYields, minParkPeriodNs, maxParkPeriodNs);
+      return create(strategy);
+    }
+
+    public Supplier<IdleStrategy> ioThreads() {
+      return () -> create(ioStrategy);
+    }
+
+    private IdleStrategy create(final IdleStrategyType type) {
+      return switch (type) {
+        case BACKOFF ->
+            new BackoffIdleStrategy(maxSpins, maxYields, minParkPeriodNs, maxParkPeriodNs);
+        case ADAPTIVE ->
+            new AdaptiveIdleStrategy(maxSpinPeriodNs, minParkPeriodNs, maxParkPeriodNs);
+      };
     }
 
     public static IdleStrategySupplier ofDefault() {
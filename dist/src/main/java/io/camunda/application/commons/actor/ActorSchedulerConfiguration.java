@@ -9,6 +9,7 @@ package io.camunda.application.commons.actor;
 
 import io.camunda.application.commons.actor.ActorIdleStrategyConfiguration.IdleStrategySupplier;
 import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.affinity.ThreadAffinity;
 import io.camunda.zeebe.util.VisibleForTesting;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
@@ -45,9 +46,12 @@ public final class ActorSchedulerConfiguration {
             .setActorClock(actorClockConfiguration.getClock().orElse(null))
             .setCpuBoundActorThreadCount(cpuThreads)
             .setIoBoundActorThreadCount(ioThreads)
+            .setCpuThreadAffinity(schedulerConfiguration.cpuThreadAffinity())
             .setMetricsEnabled(metricsEnabled)
+            .setProfilingEnabled(schedulerConfiguration.profilingEnabled())
             .setSchedulerName(String.format("%s-%s", prefix, nodeId))
-            .setIdleStrategySupplier(idleStrategySupplier)
+            .setCpuIdleStrategySupplier(idleStrategySupplier)
+            .setIoIdleStrategySupplier(idleStrategySupplier.ioThreads())
             .build();
     scheduler.start();
 
@@ -55,5 +59,21 @@ public final class ActorSchedulerConfiguration {
   }
 
   public record SchedulerConfiguration(
-      int cpuThreads, int ioThreads, boolean metricsEnabled, String prefix, String nodeId) {}
+      int cpuThreads,
+      int ioThreads,
+      boolean metricsEnabled,
+      String prefix,
+      String nodeId,
+      ThreadAffinity cpuThreadAffinity,
+      boolean profilingEnabled) {
+
+    public SchedulerConfiguration(
+        final int cpuThreads,
+        final int ioThreads,
+        final boolean metricsEnabled,
+        final String prefix,
+        final String nodeId) {
+      this(cpuThreads, ioThreads, metricsEnabled, prefix, nodeId, ThreadAffinity.NONE, false);
+    }
+  }
 }
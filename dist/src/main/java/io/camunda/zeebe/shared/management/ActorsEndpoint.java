@@ -0,0 +1,71 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.shared.management;
+
+import io.camunda.zeebe.scheduler.ActorProfile.Snapshot;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * An actuator endpoint which lists the actors that take the most time of the actor threads,
+ * provided actor profiling is enabled via {@code zeebe.broker.threads.actorProfilingEnabled}.
+ */
+@Component
+@WebEndpoint(id = "actors")
+public final class ActorsEndpoint {
+  static final int DEFAULT_LIMIT = 10;
+
+  private final ActorScheduler scheduler;
+
+  @Autowired
+  public ActorsEndpoint(final ActorScheduler scheduler) {
+    this.scheduler = scheduler;
+  }
+
+  /**
+   * GET /actuator/actors?limit={limit} - returns the actors which the actor threads spent the most
+   * time executing, in that order, together with their executed jobs, queue wait time and timer
+   * lateness since the application started.
+   *
+   * @param limit the maximum number of actors to return; defaults to {@value #DEFAULT_LIMIT}
+   * @return 200 and the top actors, 400 if the limit is not positive, or 404 if actor profiling is
+   *     disabled
+   */
+  @ReadOperation
+  public WebEndpointResponse<?> topActors(final @Nullable Integer limit) {
+    if (limit != null && limit < 1) {
+      return new WebEndpointResponse<>(
+          Map.of("error", "Expected limit to be positive, but was %d".formatted(limit)),
+          400,
+          MimeTypeUtils.APPLICATION_JSON);
+    }
+
+    final var profiler = scheduler.getProfiler();
+    if (profiler.isEmpty()) {
+      return new WebEndpointResponse<>(
+          Map.of(
+              "error",
+              "Expected to list the top actors, but actor profiling is disabled; enable it via "
+                  + "zeebe.broker.threads.actorProfilingEnabled"),
+          404,
+          MimeTypeUtils.APPLICATION_JSON);
+    }
+
+    final List<Snapshot> topActors =
+        profiler.get().getTopActors(limit == null ? DEFAULT_LIMIT : limit);
+    return new WebEndpointResponse<>(topActors, 200, MimeTypeUtils.APPLICATION_JSON);
+  }
+}
@@ -11,8 +11,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import io.camunda.application.commons.actor.ActorIdleStrategyConfiguration;
 import io.camunda.application.commons.actor.ActorIdleStrategyConfiguration.IdleStrategyProperties;
+import io.camunda.application.commons.actor.ActorIdleStrategyConfiguration.IdleStrategyType;
 import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
+import io.camunda.zeebe.scheduler.AdaptiveIdleStrategy;
 import java.time.Duration;
+import org.agrona.concurrent.BackoffIdleStrategy;
 import org.junit.jupiter.api.Test;
 
 final class IdleStrategyConfigTest {
@@ -70,4 +73,46 @@ final class IdleStrategyConfigTest {
         .hasFieldOrPropertyWithValue(
             "maxParkPeriodNs", ActorSchedulerBuilder.DEFAULT_MAX_PARK_PERIOD_NS);
   }
+
+  @Test
+  void shouldConfigureAdaptiveIdleStrategy() {
+    // given
+    final var props =
+        new IdleStrategyProperties(
+            null,
+            null,
+            Duration.ofNanos(100),
+            Duration.ofNanos(500),
+            Duration.ofNanos(300),
+            IdleStrategyType.ADAPTIVE,
+            null);
+    final var config = new ActorIdleStrategyConfiguration(props);
+
+    // when
+    final var supplier = config.toSupplier();
+
+    // then
+    assertThat(supplier.get())
+        .isInstanceOf(AdaptiveIdleStrategy.class)
+        .hasFieldOrPropertyWithValue("maxSpinPeriodNs", 300L)
+        .hasFieldOrPropertyWithValue("minParkPeriodNs", 100L)
+        .hasFieldOrPropertyWithValue("maxParkPeriodNs", 500L);
+    assertThat(supplier.ioThreads().get()).isInstanceOf(AdaptiveIdleStrategy.class);
+  }
+
+  @Test
+  void shouldConfigureIoIdleStrategySeparately() {
+    // given
+    final var props =
+        new IdleStrategyProperties(
+            null, null, null, null, null, IdleStrategyType.ADAPTIVE, IdleStrategyType.BACKOFF);
+    final var config = new ActorIdleStrategyConfiguration(props);
+
+    // when
+    final var supplier = config.toSupplier();
+
+    // then
+    assertThat(supplier.get()).isInstanceOf(AdaptiveIdleStrategy.class);
+    assertThat(supplier.ioThreads().get()).isInstanceOf(BackoffIdleStrategy.class);
+  }
 }
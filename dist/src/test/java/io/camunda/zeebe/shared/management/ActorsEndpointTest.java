@@ -0,0 +1,127 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.shared.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ActorProfile.Snapshot;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class ActorsEndpointTest {
+  private ActorScheduler scheduler;
+
+  @AfterEach
+  void tearDown() throws Exception {
+    if (scheduler != null) {
+      scheduler.close();
+    }
+  }
+
+  @Test
+  void shouldListTopActors() {
+    // given
+    scheduler = startScheduler(true);
+    final var busyActor = new TestActor("ActorsEndpointTest-busy");
+    final var idleActor = new TestActor("ActorsEndpointTest-idle");
+    scheduler.submitActor(busyActor).join();
+    scheduler.submitActor(idleActor).join();
+    for (int i = 0; i < 10; i++) {
+      busyActor.work().join();
+    }
+    // both actors share the only CPU thread, so the busy actor's executions are accounted for once
+    // the idle actor ran
+    idleActor.noop().join();
+    final var endpoint = new ActorsEndpoint(scheduler);
+
+    // when
+    final var response = endpoint.topActors(1);
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(200);
+    assertThat(response.getBody())
+        .asInstanceOf(InstanceOfAssertFactories.list(Snapshot.class))
+        .singleElement()
+        .satisfies(
+            snapshot -> {
+              assertThat(snapshot.actorName()).isEqualTo("ActorsEndpointTest-busy");
+              assertThat(snapshot.jobCount()).isGreaterThanOrEqualTo(10);
+              assertThat(snapshot.queuedJobCount()).isGreaterThanOrEqualTo(10);
+            });
+  }
+
+  @Test
+  void shouldRejectNonPositiveLimit() {
+    // given
+    scheduler = startScheduler(true);
+    final var endpoint = new ActorsEndpoint(scheduler);
+
+    // when
+    final var response = endpoint.topActors(0);
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(400);
+  }
+
+  @Test
+  void shouldReturnNotFoundIfProfilingIsDisabled() {
+    // given
+    scheduler = startScheduler(false);
+    final var endpoint = new ActorsEndpoint(scheduler);
+
+    // when
+    final var response = endpoint.topActors(null);
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(404);
+  }
+
+  private static ActorScheduler startScheduler(final boolean profilingEnabled) {
+    final var scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setProfilingEnabled(profilingEnabled)
+            .build();
+    scheduler.start();
+    return scheduler;
+  }
+
+  private static final class TestActor extends Actor {
+    private final String name;
+
+    private TestActor(final String name) {
+      this.name = name;
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+
+    private ActorFuture<Void> noop() {
+      return actor.call(() -> null);
+    }
+
+    private ActorFuture<Void> work() {
+      return actor.call(
+          () -> {
+            // spin a little, so that the busy actor takes more time than the idle one
+            final long until = System.nanoTime() + 100_000;
+            while (System.nanoTime() < until) {
+              Thread.onSpinWait();
+            }
+            return null;
+          });
+    }
+  }
+}
@@ -25,6 +25,7 @@ import java.util.List;
 /** Messaging configuration. */
 public class MessagingConfig implements Config {
   private final int connectionPoolSize = 8;
+  private int connectionsPerSubject = 1;
   private List<String> interfaces = new ArrayList<>();
   private Integer port;
   private Duration shutdownQuietPeriod = Duration.ofMillis(20);
@@ -83,6 +84,40 @@ public class MessagingConfig implements Config {
     return connectionPoolSize;
   }
 
+  /**
+   * Returns the number of pooled connections to a single node over which the requests of a single
+   * subject are spread.
+   *
+   * @return the number of connections per subject
+   */
+  public int getConnectionsPerSubject() {
+    return connectionsPerSubject;
+  }
+
+  /**
+   * Sets the number of pooled connections to a single node over which the requests of a single
+   * subject are spread. Requests are pipelined on each connection, i.e. multiple requests can be in
+   * flight on the same connection. With a single connection, all messages of a subject keep their
+   * order; with more than one, concurrent senders of the same subject do not contend on one
+   * channel, but messages may be reordered.
+   *
+   * @param connectionsPerSubject the number of connections per subject, between 1 and the
+   *     connection pool size
+   * @return this config for chaining
+   * @throws IllegalArgumentException if the value is not between 1 and the connection pool size
+   */
+  public MessagingConfig setConnectionsPerSubject(final int connectionsPerSubject) {
+    if (connectionsPerSubject < 1 || connectionsPerSubject > connectionPoolSize) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected connections per subject to be between 1 and %d, but was %d",
+              connectionPoolSize, connectionsPerSubject));
+    }
+
+    this.connectionsPerSubject = connectionsPerSubject;
+    return this;
+  }
+
   /**
    * @return the configured shutdown quiet period
    */
@@ -30,6 +30,9 @@ abstract class AbstractMessageEncoder extends MessageToByteEncoder<Object> {
   // Effectively MessageToByteEncoder<InternalMessage>,
   // had to specify <Object> to avoid Class Loader not being able to find some classes.
 
+  private static final int MAX_VARINT_LENGTH = 5;
+  private static final int MAX_VARLONG_LENGTH = 10;
+
   protected final Address address;
   private final Logger log = LoggerFactory.getLogger(getClass());
   private boolean addressWritten;
@@ -47,15 +50,25 @@ abstract class AbstractMessageEncoder extends MessageToByteEncoder<Object> {
 
   protected abstract void encodeReply(ProtocolReply reply, ByteBuf out);
 
+  /**
+   * Returns an upper bound of the encoded length of the address, which is written once per channel.
+   */
+  protected abstract int maxAddressLength();
+
+  /**
+   * Writes the length prefixed UTF-8 representation of the given value directly into the buffer,
+   * reserving the length prefix up front and filling it in afterwards. This avoids allocating an
+   * intermediate buffer for every encoded string.
+   */
   static void writeString(final ByteBuf buffer, final String value) {
-    final ByteBuf buf = buffer.alloc().buffer(ByteBufUtil.utf8MaxBytes(value));
-    try {
-      final int length = ByteBufUtil.writeUtf8(buf, value);
-      buffer.writeShort(length);
-      buffer.writeBytes(buf);
-    } finally {
-      buf.release();
-    }
+    final int lengthIndex = buffer.writerIndex();
+    buffer.writeShort(0);
+    final int length = ByteBufUtil.writeUtf8(buffer, value);
+    buffer.setShort(lengthIndex, length);
+  }
+
+  static int maxStringLength(final String value) {
+    return Short.BYTES + ByteBufUtil.utf8MaxBytes(value);
   }
 
   static void writeInt(final ByteBuf buf, final int value) {
@@ -153,6 +166,33 @@ abstract class AbstractMessageEncoder extends MessageToByteEncoder<Object> {
     }
   }
 
+  /**
+   * Allocates the output buffer with enough capacity for the whole message, such that it does not
+   * have to be grown, and thus copied, while encoding the payload.
+   */
+  @Override
+  protected ByteBuf allocateBuffer(
+      final ChannelHandlerContext context, final Object rawMessage, final boolean preferDirect) {
+    final int capacity = maxEncodedLength((ProtocolMessage) rawMessage);
+    return preferDirect ? context.alloc().ioBuffer(capacity) : context.alloc().heapBuffer(capacity);
+  }
+
+  private int maxEncodedLength(final ProtocolMessage message) {
+    // type, varint encoded id and payload length, payload
+    int length = Byte.BYTES + MAX_VARLONG_LENGTH + MAX_VARINT_LENGTH + message.payload().length;
+    if (!addressWritten) {
+      length += maxAddressLength();
+    }
+
+    if (message instanceof final ProtocolRequest request) {
+      length += maxStringLength(request.subject());
+    } else if (message instanceof ProtocolReply) {
+      length += Byte.BYTES;
+    }
+
+    return length;
+  }
+
   // Effectively same result as one generated by MessageToByteEncoder<InternalMessage>
   @Override
   public final boolean acceptOutboundMessage(final Object msg) throws Exception {
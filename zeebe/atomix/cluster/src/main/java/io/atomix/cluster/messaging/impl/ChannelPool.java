@@ -26,6 +26,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,12 +37,29 @@ class ChannelPool {
 
   private final Function<Address, CompletableFuture<Channel>> factory;
   private final int size;
+  private final int connectionsPerSubject;
+  private final Map<String, AtomicInteger> nextSubjectConnections = Maps.newConcurrentMap();
   private final Map<Tuple<Address, InetAddress>, List<CompletableFuture<Channel>>> channels =
       Maps.newConcurrentMap();
 
   ChannelPool(final Function<Address, CompletableFuture<Channel>> factory, final int size) {
+    this(factory, size, 1);
+  }
+
+  /**
+   * @param factory creates a new channel to the given address
+   * @param size the number of channels kept per address
+   * @param connectionsPerSubject the number of channels out of the pool over which the messages of
+   *     a single subject are spread in a round-robin fashion; with one, all messages of a subject
+   *     go over the same channel, which preserves their order
+   */
+  ChannelPool(
+      final Function<Address, CompletableFuture<Channel>> factory,
+      final int size,
+      final int connectionsPerSubject) {
     this.factory = factory;
     this.size = size;
+    this.connectionsPerSubject = Math.max(1, Math.min(connectionsPerSubject, size));
   }
 
   /**
@@ -70,13 +88,24 @@ class ChannelPool {
   }
 
   /**
-   * Returns the channel offset for the given message type.
+   * Returns the channel offset for the given message type. When the messages of a subject are
+   * spread over multiple channels, consecutive calls for the same subject rotate over these
+   * channels, independent of the calls for other subjects.
    *
    * @param messageType the message type for which to return the channel offset
    * @return the channel offset for the given message type
    */
   private int getChannelOffset(final String messageType) {
-    return Math.abs(messageType.hashCode() % size);
+    final int subjectOffset = Math.abs(messageType.hashCode() % size);
+    if (connectionsPerSubject == 1) {
+      return subjectOffset;
+    }
+
+    final var nextSubjectConnection =
+        nextSubjectConnections.computeIfAbsent(messageType, type -> new AtomicInteger());
+    final int stripe =
+        Math.floorMod(nextSubjectConnection.getAndIncrement(), connectionsPerSubject);
+    return (subjectOffset + stripe) % size;
   }
 
   /**
@@ -87,10 +116,13 @@ class ChannelPool {
    * @return a future to be completed with a channel from the pool
    */
   CompletableFuture<Channel> getChannel(final Address address, final String messageType) {
+    return getChannel(address, getChannelOffset(messageType));
+  }
+
+  private CompletableFuture<Channel> getChannel(final Address address, final int offset) {
     final InetAddress inetAddress = address.getAddress();
 
     final List<CompletableFuture<Channel>> channelPool = getChannelPool(address, inetAddress);
-    final int offset = getChannelOffset(messageType);
 
     CompletableFuture<Channel> channelFuture = channelPool.get(offset);
     if (channelFuture == null || channelFuture.isCompletedExceptionally()) {
@@ -142,7 +174,7 @@ class ChannelPool {
               }
 
               if (currentFuture == finalFuture) {
-                getChannel(address, messageType)
+                getChannel(address, offset)
                     .whenComplete(
                         (recursiveResult, recursiveError) -> {
                           completeFuture(future, recursiveResult, recursiveError);
@@ -26,6 +26,12 @@ class MessageEncoderV1 extends AbstractMessageEncoder {
     super(address);
   }
 
+  @Override
+  protected int maxAddressLength() {
+    // length prefix, IPv4 or IPv6 address, port
+    return Byte.BYTES + 16 + Integer.BYTES;
+  }
+
   @Override
   protected void encodeAddress(final ProtocolMessage message, final ByteBuf buffer) {
     final InetAddress senderIp = address.tryResolveAddress();
@@ -144,7 +144,9 @@ public final class NettyMessagingService implements ManagedMessagingService {
     this.advertisedAddress = advertisedAddress;
     this.protocolVersion = protocolVersion;
     this.config = config;
-    channelPool = new ChannelPool(this::openChannel, config.getConnectionPoolSize());
+    channelPool =
+        new ChannelPool(
+            this::openChannel, config.getConnectionPoolSize(), config.getConnectionsPerSubject());
 
     initAddresses(config);
   }
@@ -59,4 +59,50 @@ class ChannelPoolTest {
     // then
     assertThat(channelForOldNode).isNotEqualTo(channelForNewNode);
   }
+
+  @Test
+  void shouldUseSameChannelForSubjectByDefault() throws UnknownHostException {
+    // given
+    final Address address = new Address("foo.bar", 1234, InetAddress.getByName("10.1.1.1"));
+
+    // when
+    final var firstChannel = channelPool.getChannel(address, MESSAGE_TYPE).join();
+    final var secondChannel = channelPool.getChannel(address, MESSAGE_TYPE).join();
+
+    // then
+    assertThat(firstChannel).isSameAs(secondChannel);
+  }
+
+  @Test
+  void shouldSpreadSubjectOverConfiguredConnections() throws UnknownHostException {
+    // given
+    final var pool = new ChannelPool(factory, 8, 2);
+    final Address address = new Address("foo.bar", 1234, InetAddress.getByName("10.1.1.1"));
+
+    // when
+    final var firstChannel = pool.getChannel(address, MESSAGE_TYPE).join();
+    final var secondChannel = pool.getChannel(address, MESSAGE_TYPE).join();
+    final var thirdChannel = pool.getChannel(address, MESSAGE_TYPE).join();
+
+    // then
+    assertThat(firstChannel).isNotSameAs(secondChannel).isSameAs(thirdChannel);
+  }
+
+  @Test
+  void shouldSpreadEverySubjectOverConfiguredConnections() throws UnknownHostException {
+    // given
+    final var pool = new ChannelPool(factory, 8, 2);
+    final Address address = new Address("foo.bar", 1234, InetAddress.getByName("10.1.1.1"));
+    final var otherMessageType = "other";
+
+    // when - the messages of both subjects are interleaved
+    final var firstChannel = pool.getChannel(address, MESSAGE_TYPE).join();
+    pool.getChannel(address, otherMessageType).join();
+    final var secondChannel = pool.getChannel(address, MESSAGE_TYPE).join();
+    pool.getChannel(address, otherMessageType).join();
+    final var thirdChannel = pool.getChannel(address, MESSAGE_TYPE).join();
+
+    // then
+    assertThat(firstChannel).isNotSameAs(secondChannel).isSameAs(thirdChannel);
+  }
 }
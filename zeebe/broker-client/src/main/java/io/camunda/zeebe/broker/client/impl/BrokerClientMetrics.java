@@ -8,6 +8,7 @@
 package io.camunda.zeebe.broker.client.impl;
 
 import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
 
 public final class BrokerClientMetrics {
@@ -36,8 +37,34 @@ public final class BrokerClientMetrics {
           .labelNames("partition", "requestType")
           .register();
 
+  private static final Gauge IN_FLIGHT_REQUESTS =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("gateway_broker_in_flight_requests")
+          .help("Number of requests sent to a broker which are still awaiting a response")
+          .labelNames("broker")
+          .register();
+
+  private static final Histogram REQUEST_QUEUE_TIME =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("gateway_broker_request_queue_time")
+          .help("Time a request waits in the gateway before it is sent to a broker")
+          .labelNames("broker")
+          .buckets(0.0001, 0.0005, 0.001, 0.005, 0.01, 0.05, 0.1, 0.5, 1)
+          .register();
+
   private BrokerClientMetrics() {}
 
+  public static void registerDispatchedRequest(final String broker, final long queueTimeNanos) {
+    REQUEST_QUEUE_TIME.labels(broker).observe(queueTimeNanos / 1e9);
+    IN_FLIGHT_REQUESTS.labels(broker).inc();
+  }
+
+  public static void registerCompletedRequest(final String broker) {
+    IN_FLIGHT_REQUESTS.labels(broker).dec();
+  }
+
   public static void registerSuccessfulRequest(
       final long partition, final String requestType, final long latencyMs) {
     REQUEST_LATENCY.labels(Long.toString(partition), requestType).observe(latencyMs / 1000f);
@@ -38,6 +38,7 @@ final class BrokerRequestManager extends Actor {
   private static final TransportRequestSender SENDER_WITH_RETRY =
       (c, s, r, t) -> c.sendRequestWithRetry(s, BrokerRequestManager::responseValidation, r, t);
   private static final TransportRequestSender SENDER_WITHOUT_RETRY = ClientTransport::sendRequest;
+  private static final String UNKNOWN_BROKER = "unknown";
   private final ClientTransport clientTransport;
   private final RequestDispatchStrategy dispatchStrategy;
   private final BrokerTopologyManager topologyManager;
@@ -99,7 +100,9 @@ final class BrokerRequestManager extends Actor {
       final Duration requestTimeout) {
     final CompletableFuture<BrokerResponse<T>> responseFuture = new CompletableFuture<>();
     request.serializeValue();
-    actor.run(() -> sendRequestInternal(request, responseFuture, sender, requestTimeout));
+    final long enqueuedAt = System.nanoTime();
+    actor.run(
+        () -> sendRequestInternal(request, responseFuture, sender, requestTimeout, enqueuedAt));
     return responseFuture;
   }
 
@@ -107,7 +110,8 @@ final class BrokerRequestManager extends Actor {
       final BrokerRequest<T> request,
       final CompletableFuture<BrokerResponse<T>> returnFuture,
       final TransportRequestSender sender,
-      final Duration requestTimeout) {
+      final Duration requestTimeout,
+      final long enqueuedAt) {
 
     final BrokerAddressProvider nodeIdProvider;
     try {
@@ -129,6 +133,9 @@ final class BrokerRequestManager extends Actor {
       return;
     }
 
+    final String broker = nodeIdProvider.getBrokerLabel();
+    BrokerClientMetrics.registerDispatchedRequest(broker, System.nanoTime() - enqueuedAt);
+
     final ActorFuture<DirectBuffer> responseFuture =
         sender.send(clientTransport, nodeIdProvider, request, requestTimeout);
     final long startTime = System.currentTimeMillis();
@@ -136,6 +143,7 @@ final class BrokerRequestManager extends Actor {
     actor.runOnCompletion(
         responseFuture,
         (clientResponse, error) -> {
+          BrokerClientMetrics.registerCompletedRequest(broker);
           RequestResult result = null;
           try {
             if (error == null) {
@@ -292,9 +300,10 @@ final class BrokerRequestManager extends Actor {
   private class BrokerAddressProvider implements Supplier<String> {
 
     private final ToIntFunction<BrokerClusterState> nodeIdSelector;
+    private final boolean isRandomBroker;
 
     BrokerAddressProvider() {
-      this(BrokerClusterState::getRandomBroker);
+      this(BrokerClusterState::getRandomBroker, true);
     }
 
     BrokerAddressProvider(final int partitionId) {
@@ -302,7 +311,13 @@ final class BrokerRequestManager extends Actor {
     }
 
     BrokerAddressProvider(final ToIntFunction<BrokerClusterState> nodeIdSelector) {
+      this(nodeIdSelector, false);
+    }
+
+    private BrokerAddressProvider(
+        final ToIntFunction<BrokerClusterState> nodeIdSelector, final boolean isRandomBroker) {
       this.nodeIdSelector = nodeIdSelector;
+      this.isRandomBroker = isRandomBroker;
     }
 
     @Override
@@ -314,5 +329,21 @@ final class BrokerRequestManager extends Actor {
         return null;
       }
     }
+
+    /**
+     * Returns the id of the broker the request is currently dispatched to, as a metrics label. The
+     * broker may change if the request is retried, e.g. after a leader change, so this is only the
+     * broker at the time the request is sent. Requests to a random broker are not attributed to any
+     * specific broker.
+     */
+    String getBrokerLabel() {
+      final BrokerClusterState topology = topologyManager.getTopology();
+      if (topology == null || isRandomBroker) {
+        return UNKNOWN_BROKER;
+      }
+
+      final int nodeId = nodeIdSelector.applyAsInt(topology);
+      return nodeId < 0 ? UNKNOWN_BROKER : Integer.toString(nodeId);
+    }
   }
 }
@@ -64,9 +64,13 @@ final class CommandApiServiceStep extends AbstractBrokerStartupStep {
     final var brokerCfg = brokerStartupContext.getBrokerConfiguration();
     final var schedulingService = brokerStartupContext.getActorSchedulingService();
 
+    final var experimentalCfg = brokerCfg.getExperimental();
     final var commandApiService =
         new CommandApiServiceImpl(
-            serverTransport, schedulingService, brokerCfg.getExperimental().getQueryApi());
+            serverTransport,
+            schedulingService,
+            experimentalCfg.getQueryApi(),
+            experimentalCfg.getCommandBatching());
 
     concurrencyControl.runOnCompletion(
         schedulingService.submitActor(commandApiService),
@@ -0,0 +1,206 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.logstreams.log.LogRecordAwaiter;
+import io.camunda.zeebe.logstreams.log.LogStream;
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.retry.BackOffRetryStrategy;
+import io.camunda.zeebe.stream.api.EventFilter;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongConsumer;
+import org.slf4j.Logger;
+
+/**
+ * Exports the records to a single exporter, with its own log stream reader. It is used by the
+ * {@link ExporterDirector} if exporting in parallel is enabled, so that the exporters of a
+ * partition export concurrently and independently of each other. The exporter starts reading after
+ * its own last exported position and updates it in its own {@link ExportersState}.
+ */
+final class ExporterActor extends Actor implements LogRecordAwaiter {
+
+  private static final Logger LOG = Loggers.EXPORTER_LOGGER;
+  private static final String ERROR_MESSAGE_RECOVER_FAILED =
+      "Expected to find event with the last exported position %d in log stream, but nothing was found. Failed to open exporter '%s'.";
+
+  private final AtomicBoolean isOpened = new AtomicBoolean(false);
+  private final ExporterContainer container;
+  private final LogStream logStream;
+  private final ZeebeDb zeebeDb;
+  private final ExporterMetrics metrics;
+  private final String name;
+  private final int partitionId;
+  private final int maxBatchSize;
+  private final long maxBatchBytes;
+  private final EventFilter eventFilter;
+  private final LongConsumer onExported;
+  private final Runnable onFailure;
+  private ExporterPhase exporterPhase;
+  private ExportingLoop exportingLoop;
+
+  /**
+   * @param onExported is called with the position of the last record of every exported batch
+   * @param onFailure is called if the records could not be exported
+   */
+  ExporterActor(
+      final String directorName,
+      final ExporterContainer container,
+      final LogStream logStream,
+      final ZeebeDb zeebeDb,
+      final ExporterMetrics metrics,
+      final int maxBatchSize,
+      final long maxBatchBytes,
+      final EventFilter eventFilter,
+      final ExporterPhase exporterPhase,
+      final LongConsumer onExported,
+      final Runnable onFailure) {
+    this.container = container;
+    this.logStream = logStream;
+    this.zeebeDb = zeebeDb;
+    this.metrics = metrics;
+    this.maxBatchSize = maxBatchSize;
+    this.maxBatchBytes = maxBatchBytes;
+    this.eventFilter = eventFilter;
+    this.exporterPhase = exporterPhase;
+    this.onExported = onExported;
+    this.onFailure = onFailure;
+    partitionId = logStream.getPartitionId();
+    name = directorName + "-" + container.getId();
+  }
+
+  ActorFuture<Void> pauseExporting() {
+    return actor.call(
+        () -> {
+          exporterPhase = ExporterPhase.PAUSED;
+        });
+  }
+
+  ActorFuture<Void> softPauseExporting() {
+    return actor.call(
+        () -> {
+          container.softPauseExporter();
+          exporterPhase = ExporterPhase.SOFT_PAUSED;
+        });
+  }
+
+  ActorFuture<Void> resumeExporting() {
+    return actor.call(
+        () -> {
+          if (exporterPhase == ExporterPhase.SOFT_PAUSED) {
+            container.undoSoftPauseExporter();
+          }
+          exporterPhase = ExporterPhase.EXPORTING;
+          actor.submit(exportingLoop::readNextEvent);
+        });
+  }
+
+  @Override
+  protected Map<String, String> createContext() {
+    final var context = super.createContext();
+    context.put(ACTOR_PROP_PARTITION_ID, Integer.toString(partitionId));
+    return context;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  protected void onActorStarting() {
+    // the exporter updates its position in its own transaction context, as it runs on its own actor
+    final var state = new ExportersState(zeebeDb, zeebeDb.createContext());
+    container.initContainer(actor, metrics, state, exporterPhase);
+    exportingLoop =
+        new ExportingLoop(
+            actor,
+            logStream,
+            List.of(container),
+            metrics,
+            partitionId,
+            maxBatchSize,
+            maxBatchBytes,
+            this::canExport,
+            this::isClosed,
+            onExported,
+            this::onFailure);
+    exportingLoop.setEventFilter(eventFilter);
+    exportingLoop.openReader();
+  }
+
+  @Override
+  protected void onActorStarted() {
+    isOpened.set(true);
+    final var openFuture =
+        new BackOffRetryStrategy(actor, Duration.ofSeconds(10))
+            .runWithRetry(
+                () -> {
+                  try {
+                    container.openExporter();
+                    return true;
+                  } catch (final Exception e) {
+                    LOG.error("Failed to open exporter '{}'. Retrying...", container.getId(), e);
+                    return false;
+                  }
+                },
+                this::isClosed);
+
+    // Don't need to handle error as any are caught within the runWithRetry try catch
+    actor.runOnCompletion(openFuture, (opened, error) -> startExporting());
+  }
+
+  @Override
+  protected void onActorClosing() {
+    exportingLoop.closeReader();
+    logStream.removeRecordAvailableListener(this);
+  }
+
+  @Override
+  protected void onActorCloseRequested() {
+    isOpened.set(false);
+    container.close();
+  }
+
+  @Override
+  public void onRecordAvailable() {
+    actor.run(exportingLoop::readNextEvent);
+  }
+
+  private void startExporting() {
+    final long position = container.getPosition();
+    if (!exportingLoop.seekToNextEvent(position)) {
+      throw new IllegalStateException(
+          String.format(ERROR_MESSAGE_RECOVER_FAILED, position, container.getId()));
+    }
+
+    logStream.registerRecordAvailableListener(this);
+    if (exporterPhase != ExporterPhase.PAUSED) {
+      actor.submit(exportingLoop::readNextEvent);
+    }
+  }
+
+  private boolean canExport() {
+    return isOpened.get() && exporterPhase != ExporterPhase.PAUSED;
+  }
+
+  private boolean isClosed() {
+    return !isOpened.get();
+  }
+
+  private void onFailure() {
+    isOpened.set(false);
+    onFailure.run();
+    actor.close();
+  }
+}
@@ -15,14 +15,15 @@ import io.camunda.zeebe.exporter.api.Exporter;
 import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.exporter.api.context.Controller;
 import io.camunda.zeebe.exporter.api.context.ScheduledTask;
-import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.scheduler.ActorControl;
-import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.jar.ThreadContextUtil;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import org.agrona.DirectBuffer;
 import org.slf4j.Logger;
@@ -37,6 +38,9 @@ final class ExporterContainer implements Controller {
 
   private final ExporterContext context;
   private final Exporter exporter;
+  private final boolean exportsBatches;
+  private final List<Record<?>> pendingRecords = new ArrayList<>();
+  private final List<Record<?>> pendingRecordsView = Collections.unmodifiableList(pendingRecords);
   private long position;
   private boolean exporterIsSoftPaused = false;
   private long lastUnacknowledgedPosition;
@@ -61,6 +65,16 @@ final class ExporterContainer implements Controller {
             meterRegistry);
 
     exporter = descriptor.newInstance();
+    exportsBatches = overridesExportBatch(exporter);
+  }
+
+  private static boolean overridesExportBatch(final Exporter exporter) {
+    try {
+      return exporter.getClass().getMethod("exportBatch", List.class).getDeclaringClass()
+          != Exporter.class;
+    } catch (final NoSuchMethodException e) {
+      return false;
+    }
   }
 
   void initContainer(
@@ -200,10 +214,9 @@ final class ExporterContainer implements Controller {
     return context.getConfiguration().getId();
   }
 
-  private boolean acceptRecord(final RecordMetadata metadata) {
+  private boolean acceptRecord(final Record<?> record) {
     final Context.RecordFilter filter = context.getFilter();
-    return filter.acceptType(metadata.getRecordType())
-        && filter.acceptValue(metadata.getValueType());
+    return filter.acceptType(record.getRecordType()) && filter.acceptValue(record.getValueType());
   }
 
   void configureExporter() throws Exception {
@@ -212,19 +225,45 @@ final class ExporterContainer implements Controller {
         () -> exporter.configure(context), exporter.getClass().getClassLoader());
   }
 
-  boolean exportRecord(final RecordMetadata rawMetadata, final TypedRecord typedEvent) {
+  /**
+   * Exports the given records, starting at the given index. If the exporter overrides {@link
+   * Exporter#exportBatch(List)}, consecutive records which are accepted by the exporter are passed
+   * to it at once. Otherwise, they are passed one by one.
+   *
+   * @param records the records to export, in the order of their positions
+   * @param fromIndex the index of the first record which was not exported yet
+   * @return the index of the first record which was not exported, which is the number of records if
+   *     all were exported
+   */
+  int exportRecords(final List<? extends Record<?>> records, final int fromIndex) {
+    pendingRecords.clear();
+    int exportedIndex = fromIndex;
     try {
-      if (position < typedEvent.getPosition()) {
-        if (acceptRecord(rawMetadata)) {
-          export(typedEvent);
-        } else {
-          updatePositionOnSkipIfUpToDate(typedEvent.getPosition());
+      for (int i = fromIndex; i < records.size(); i++) {
+        final Record<?> record = records.get(i);
+        if (position < record.getPosition()) {
+          if (!acceptRecord(record)) {
+            exportPendingRecords();
+            updatePositionOnSkipIfUpToDate(record.getPosition());
+          } else if (exportsBatches) {
+            pendingRecords.add(record);
+          } else {
+            export(record);
+          }
+        }
+
+        if (pendingRecords.isEmpty()) {
+          exportedIndex = i + 1;
         }
       }
-      return true;
+
+      exportPendingRecords();
+      return records.size();
     } catch (final Exception ex) {
-      context.getLogger().warn("Error on exporting record with key {}", typedEvent.getKey(), ex);
-      return false;
+      context
+          .getLogger()
+          .warn("Error on exporting record with key {}", records.get(exportedIndex).getKey(), ex);
+      return exportedIndex;
     }
   }
 
@@ -243,6 +282,17 @@ final class ExporterContainer implements Controller {
     lastUnacknowledgedPosition = record.getPosition();
   }
 
+  private void exportPendingRecords() {
+    if (pendingRecords.isEmpty()) {
+      return;
+    }
+
+    ThreadContextUtil.runWithClassLoader(
+        () -> exporter.exportBatch(pendingRecordsView), exporter.getClass().getClassLoader());
+    lastUnacknowledgedPosition = pendingRecords.getLast().getPosition();
+    pendingRecords.clear();
+  }
+
   public void close() {
     try {
       ThreadContextUtil.runCheckedWithClassLoader(
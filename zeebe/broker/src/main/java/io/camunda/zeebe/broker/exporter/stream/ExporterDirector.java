@@ -15,7 +15,6 @@ import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.logstreams.log.LogRecordAwaiter;
 import io.camunda.zeebe.logstreams.log.LogStream;
-import io.camunda.zeebe.logstreams.log.LogStreamReader;
 import io.camunda.zeebe.logstreams.log.LoggedEvent;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.record.RecordType;
@@ -25,10 +24,9 @@ import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.scheduler.ScheduledTimer;
 import io.camunda.zeebe.scheduler.SchedulingHints;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.future.ActorFutureCollector;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.scheduler.retry.BackOffRetryStrategy;
-import io.camunda.zeebe.scheduler.retry.EndlessRetryStrategy;
-import io.camunda.zeebe.scheduler.retry.RetryStrategy;
 import io.camunda.zeebe.stream.api.EventFilter;
 import io.camunda.zeebe.util.exception.UnrecoverableException;
 import io.camunda.zeebe.util.health.FailureListener;
@@ -38,6 +36,7 @@ import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -51,8 +50,6 @@ import org.slf4j.Logger;
 
 public final class ExporterDirector extends Actor implements HealthMonitorable, LogRecordAwaiter {
 
-  private static final String ERROR_MESSAGE_EXPORTING_ABORTED =
-      "Expected to export record '{}' successfully, but exception was thrown.";
   private static final String ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED =
       "Expected to find event with the snapshot position %s in log stream, but nothing was found. Failed to recover '%s'.";
   private static final String EXPORTER_STATE_TOPIC_FORMAT = "exporterState-%d";
@@ -63,21 +60,20 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   // Use concrete type because it must be modifiable
   private final ArrayList<ExporterContainer> containers;
   private final LogStream logStream;
-  private final RecordExporter recordExporter;
+  private final ExportingLoop exportingLoop;
   private final ZeebeDb zeebeDb;
   private final ExporterMetrics metrics;
   private final String name;
-  private final RetryStrategy exportingRetryStrategy;
-  private final RetryStrategy recordWrapStrategy;
   private final Set<FailureListener> listeners = new HashSet<>();
-  private LogStreamReader logStreamReader;
-  private EventFilter eventFilter;
+  // Only used when exporting in parallel, each exporter is exported by its own actor
+  private final Map<String, ExporterActor> exporterActors = new HashMap<>();
+  private final Map<String, Long> exportedPositions = new HashMap<>();
+  private ActorSchedulingService actorSchedulingService;
   private ExportersState state;
 
   @SuppressWarnings("java:S3077") // allow volatile here, health is immutable
   private volatile HealthReport healthReport = HealthReport.healthy(this);
 
-  private boolean inExportingPhase;
   private ExporterPhase exporterPhase;
   private final PartitionMessagingService partitionMessagingService;
   private final String exporterPositionsTopic;
@@ -86,6 +82,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   private ExporterStateDistributionService exporterDistributionService;
   private ScheduledTimer exporterDistributionTimer;
   private final int partitionId;
+  private final int maxBatchSize;
+  private final long maxBatchBytes;
+  private final boolean parallelExporting;
   private final EventFilter positionsToSkipFilter;
   private final MeterRegistry meterRegistry;
   // When idle, exporter director is not exporting any records because no exporters are configured.
@@ -111,9 +110,22 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
             .collect(Collectors.toCollection(ArrayList::new));
     metrics = new ExporterMetrics(partitionId);
     metrics.initializeExporterState(exporterPhase);
-    recordExporter = new RecordExporter(metrics, containers, partitionId);
-    exportingRetryStrategy = new BackOffRetryStrategy(actor, Duration.ofSeconds(10));
-    recordWrapStrategy = new EndlessRetryStrategy(actor);
+    maxBatchSize = context.getMaxBatchSize();
+    maxBatchBytes = context.getMaxBatchBytes();
+    parallelExporting = context.isParallelExporting();
+    exportingLoop =
+        new ExportingLoop(
+            actor,
+            logStream,
+            containers,
+            metrics,
+            partitionId,
+            maxBatchSize,
+            maxBatchBytes,
+            this::shouldExport,
+            this::isClosed,
+            position -> logStream.getFlowControl().onExported(position),
+            this::onFailure);
     zeebeDb = context.getZeebeDb();
     this.exporterPhase = exporterPhase;
     partitionMessagingService = context.getPartitionMessagingService();
@@ -124,6 +136,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   }
 
   public ActorFuture<Void> startAsync(final ActorSchedulingService actorSchedulingService) {
+    this.actorSchedulingService = actorSchedulingService;
     return actorSchedulingService.submitActor(this, SchedulingHints.ioBound());
   }
 
@@ -145,11 +158,14 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       // are added.
       return CompletableActorFuture.completed(null);
     }
-    return actor.call(
-        () -> {
-          metrics.setExporterPaused();
-          exporterPhase = ExporterPhase.PAUSED;
-        });
+    return actor
+        .call(
+            () -> {
+              metrics.setExporterPaused();
+              exporterPhase = ExporterPhase.PAUSED;
+              return forEachExporterActor(ExporterActor::pauseExporting);
+            })
+        .andThen(paused -> paused, Runnable::run);
   }
 
   /**
@@ -167,12 +183,17 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       // are added.
       return CompletableActorFuture.completed(null);
     }
-    return actor.call(
-        () -> {
-          containers.stream().forEach(ExporterContainer::softPauseExporter);
-          exporterPhase = ExporterPhase.SOFT_PAUSED;
-          metrics.setExporterSoftPaused();
-        });
+    return actor
+        .call(
+            () -> {
+              if (!parallelExporting) {
+                containers.stream().forEach(ExporterContainer::softPauseExporter);
+              }
+              exporterPhase = ExporterPhase.SOFT_PAUSED;
+              metrics.setExporterSoftPaused();
+              return forEachExporterActor(ExporterActor::softPauseExporting);
+            })
+        .andThen(softPaused -> softPaused, Runnable::run);
   }
 
   /**
@@ -188,17 +209,33 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       return CompletableActorFuture.completed(null);
     }
 
-    return actor.call(
-        () -> {
-          if (exporterPhase == ExporterPhase.SOFT_PAUSED) {
-            containers.stream().forEach(ExporterContainer::undoSoftPauseExporter);
-          }
-          exporterPhase = ExporterPhase.EXPORTING;
-          metrics.setExporterActive();
-          if (exporterMode == ExporterMode.ACTIVE) {
-            actor.submit(this::readNextEvent);
-          }
-        });
+    return actor
+        .call(
+            () -> {
+              if (!parallelExporting && exporterPhase == ExporterPhase.SOFT_PAUSED) {
+                containers.stream().forEach(ExporterContainer::undoSoftPauseExporter);
+              }
+              exporterPhase = ExporterPhase.EXPORTING;
+              metrics.setExporterActive();
+              if (exporterMode == ExporterMode.ACTIVE) {
+                actor.submit(exportingLoop::readNextEvent);
+              }
+              return forEachExporterActor(ExporterActor::resumeExporting);
+            })
+        .andThen(resumed -> resumed, Runnable::run);
+  }
+
+  /**
+   * Applies the phase change to every exporter actor, i.e. only in the parallel exporting mode.
+   *
+   * @return future which is completed after all exporter actors applied the change
+   */
+  private ActorFuture<Void> forEachExporterActor(
+      final Function<ExporterActor, ActorFuture<Void>> change) {
+    return exporterActors.values().stream()
+        .map(change)
+        .collect(new ActorFutureCollector<>(actor))
+        .thenApply(changed -> null, Runnable::run);
   }
 
   /**
@@ -213,25 +250,49 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       return CompletableActorFuture.completed(null);
     }
 
-    return actor.call(() -> removeExporter(exporterId));
+    return actor.call(() -> removeExporter(exporterId)).andThen(removed -> removed, Runnable::run);
   }
 
-  private void removeExporter(final String exporterId) {
-    containers.stream()
+  private ActorFuture<Void> removeExporter(final String exporterId) {
+    return containers.stream()
         .filter(c -> c.getId().equals(exporterId))
         .findFirst()
-        .ifPresentOrElse(
-            container -> removeExporter(exporterId, container),
-            () -> LOG.debug("Exporter '{}' is not found. It may be already removed.", exporterId));
+        .map(container -> removeExporter(exporterId, container))
+        .orElseGet(
+            () -> {
+              LOG.debug("Exporter '{}' is not found. It may be already removed.", exporterId);
+              return CompletableActorFuture.completed(null);
+            });
   }
 
-  private void removeExporter(final String exporterId, final ExporterContainer container) {
-    container.close();
+  private ActorFuture<Void> removeExporter(
+      final String exporterId, final ExporterContainer container) {
     containers.remove(container);
+    final var exporterActor = exporterActors.remove(exporterId);
+    if (exporterActor == null) {
+      container.close();
+      // After removing this exporter, the exporter index has changed. Reset it so that we don't
+      // miss to export the record to any of the exporters whose index has changed.
+      exportingLoop.resetExporterIndex();
+      onExporterRemoved(exporterId);
+      return CompletableActorFuture.completed(null);
+    }
+
+    // the exporter actor closes the exporter, its state is removed afterward so that it is not
+    // updated again by the closing exporter
+    exportedPositions.remove(exporterId);
+    final var removed = new CompletableActorFuture<Void>();
+    actor.runOnCompletion(
+        exporterActor.closeAsync(),
+        (ok, error) -> {
+          onExporterRemoved(exporterId);
+          removed.complete(null);
+        });
+    return removed;
+  }
+
+  private void onExporterRemoved(final String exporterId) {
     state.removeExporterState(exporterId);
-    // After removing this exporter, the exporter index has changed. Reset it so that we don't
-    // miss to export the record to any of the exporters whose index has changed.
-    recordExporter.resetExporterIndex();
     LOG.debug("Exporter '{}' is removed.", exporterId);
 
     if (containers.isEmpty()) {
@@ -290,7 +351,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     }
     // initializes metadata and position in the runtime state
     container.initMetadata();
-    if (exporterMode == ExporterMode.ACTIVE) {
+    if (exporterMode == ExporterMode.ACTIVE && !parallelExporting) {
       container.openExporter();
     }
     containers.add(container);
@@ -299,6 +360,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     if (idle) {
       becomeLive();
     }
+    if (exporterMode == ExporterMode.ACTIVE && parallelExporting) {
+      startExporterActor(container);
+    }
   }
 
   public ActorFuture<ExporterPhase> getPhase() {
@@ -322,8 +386,8 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   @Override
   protected void onActorStarting() {
-    if (exporterMode == ExporterMode.ACTIVE) {
-      logStreamReader = logStream.newLogStreamReader();
+    if (exporterMode == ExporterMode.ACTIVE && !parallelExporting) {
+      exportingLoop.openReader();
     }
   }
 
@@ -359,10 +423,26 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   @Override
   protected void onActorClosing() {
-    if (logStreamReader != null) {
-      logStreamReader.close();
-    }
+    exportingLoop.closeReader();
     logStream.removeRecordAvailableListener(this);
+    if (exporterActors.isEmpty()) {
+      return;
+    }
+
+    // the exporter actors still flush their exporters and update their positions while closing,
+    // so the director must not be closed before them, as the database is closed afterward
+    final var closeFutures =
+        exporterActors.values().stream()
+            .map(ExporterActor::closeAsync)
+            .collect(new ActorFutureCollector<>(actor));
+    exporterActors.clear();
+    actor.runOnCompletionBlockingCurrentPhase(
+        closeFutures,
+        (closed, error) -> {
+          if (error != null) {
+            LOG.warn("Failed to close exporter actors of '{}'", getName(), error);
+          }
+        });
   }
 
   @Override
@@ -375,7 +455,10 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   protected void onActorCloseRequested() {
     isOpened.set(false);
     if (exporterMode == ExporterMode.ACTIVE) {
-      containers.forEach(ExporterContainer::close);
+      // the exporter actors close their exporters themselves
+      containers.stream()
+          .filter(container -> !exporterActors.containsKey(container.getId()))
+          .forEach(ExporterContainer::close);
     } else {
       exporterDistributionService.close();
     }
@@ -420,7 +503,8 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       container.configureExporter();
     }
 
-    eventFilter = positionsToSkipFilter.and(createEventFilter(containers));
+    final var eventFilter = positionsToSkipFilter.and(createEventFilter(containers));
+    exportingLoop.setEventFilter(eventFilter);
     LOG.debug("Set event filter for exporters: {}", eventFilter);
   }
 
@@ -470,11 +554,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       exporterDistributionTimer.cancel();
       exporterDistributionTimer = null;
     }
-    if (logStreamReader != null) {
-      // We have to close it, otherwise it will prevent journal segment deletion
-      logStreamReader.close();
-      logStreamReader = null;
-    }
+    exportingLoop.closeReader();
   }
 
   private void becomeLive() {
@@ -488,6 +568,11 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   }
 
   private void startActiveExportingMode() {
+    if (parallelExporting) {
+      startParallelExportingMode();
+      return;
+    }
+
     final var containerOpenFutures = new ArrayList<ActorFuture<Boolean>>();
     for (final ExporterContainer container : containers) {
       container.initMetadata();
@@ -523,21 +608,92 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   }
 
   private void restartActiveExportingMode() {
-    logStreamReader = logStream.newLogStreamReader();
+    if (parallelExporting) {
+      // the new exporter is started by its own actor
+      startExporterStateDistribution();
+      return;
+    }
+
+    exportingLoop.openReader();
     startActiveExportingFrom(-1);
   }
 
   private void startActiveExportingFrom(final long snapshotPosition) {
-    final boolean failedToRecoverReader = !logStreamReader.seekToNextEvent(snapshotPosition);
+    final boolean failedToRecoverReader = !exportingLoop.seekToNextEvent(snapshotPosition);
     if (failedToRecoverReader) {
       throw new IllegalStateException(
           String.format(ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED, -1, getName()));
     }
     logStream.registerRecordAvailableListener(this);
     if (!exporterPhase.equals(ExporterPhase.PAUSED)) {
-      actor.submit(this::readNextEvent);
+      actor.submit(exportingLoop::readNextEvent);
+    }
+
+    startExporterStateDistribution();
+  }
+
+  private void startParallelExportingMode() {
+    for (final ExporterContainer container : containers) {
+      container.initMetadata();
     }
 
+    if (!state.hasExporters()) {
+      becomeIdle();
+      return;
+    }
+
+    containers.forEach(this::startExporterActor);
+    startExporterStateDistribution();
+  }
+
+  private void startExporterActor(final ExporterContainer container) {
+    final String exporterId = container.getId();
+    final var exporterEventFilter =
+        positionsToSkipFilter.and(createEventFilter(List.of(container)));
+    final var exporterActor =
+        new ExporterActor(
+            name,
+            container,
+            logStream,
+            zeebeDb,
+            metrics,
+            maxBatchSize,
+            maxBatchBytes,
+            exporterEventFilter,
+            exporterPhase,
+            position -> actor.run(() -> onExported(exporterId, position)),
+            () -> actor.run(this::onFailure));
+
+    exporterActors.put(exporterId, exporterActor);
+    exportedPositions.put(exporterId, container.getPosition());
+    actor.runOnCompletion(
+        actorSchedulingService.submitActor(exporterActor, SchedulingHints.ioBound()),
+        (ok, error) -> {
+          if (error != null) {
+            LOG.error("Failed to start exporter actor '{}'", exporterActor.getName(), error);
+            onFailure();
+          }
+        });
+  }
+
+  /**
+   * Notifies the flow control only about the position which all exporters have exported, as the
+   * exporters export independently of each other.
+   */
+  private void onExported(final String exporterId, final long position) {
+    if (!exporterActors.containsKey(exporterId)) {
+      return;
+    }
+
+    exportedPositions.put(exporterId, position);
+    long lowestPosition = Long.MAX_VALUE;
+    for (final long exportedPosition : exportedPositions.values()) {
+      lowestPosition = Math.min(lowestPosition, exportedPosition);
+    }
+    logStream.getFlowControl().onExported(lowestPosition);
+  }
+
+  private void startExporterStateDistribution() {
     exporterDistributionTimer =
         actor.runAtFixedRate(distributionInterval, this::distributeExporterState);
   }
@@ -568,75 +724,8 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     exporterDistributionService.distributeExporterState(exporterStateMessage);
   }
 
-  private void skipRecord(final LoggedEvent currentEvent) {
-    final RecordMetadata metadata = new RecordMetadata();
-    final long eventPosition = currentEvent.getPosition();
-
-    currentEvent.readMetadata(metadata);
-    metrics.eventSkipped(metadata.getValueType());
-
-    // increase position of all up to date exporters - an up to date exporter is one which has
-    // acknowledged the last record we passed to it
-    for (final ExporterContainer container : containers) {
-      container.updatePositionOnSkipIfUpToDate(eventPosition);
-    }
-
-    actor.submit(this::readNextEvent);
-  }
-
-  private void readNextEvent() {
-    if (shouldExport()) {
-      final LoggedEvent currentEvent = logStreamReader.next();
-      if (eventFilter == null || eventFilter.applies(currentEvent)) {
-        inExportingPhase = true;
-        exportEvent(currentEvent);
-      } else {
-        skipRecord(currentEvent);
-      }
-    }
-  }
-
   private boolean shouldExport() {
-    return isOpened.get()
-        && !idle
-        && logStreamReader.hasNext()
-        && !inExportingPhase
-        && !exporterPhase.equals(ExporterPhase.PAUSED);
-  }
-
-  private void exportEvent(final LoggedEvent event) {
-    final ActorFuture<Boolean> wrapRetryFuture =
-        recordWrapStrategy.runWithRetry(
-            () -> {
-              recordExporter.wrap(event);
-              return true;
-            },
-            this::isClosed);
-
-    actor.runOnCompletion(
-        wrapRetryFuture,
-        (b, t) -> {
-          assert t == null : "Throwable must be null";
-
-          final ActorFuture<Boolean> retryFuture =
-              exportingRetryStrategy.runWithRetry(recordExporter::export, this::isClosed);
-
-          actor.runOnCompletion(
-              retryFuture,
-              (bool, throwable) -> {
-                if (throwable != null) {
-                  LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, event, throwable);
-                  onFailure();
-                } else {
-                  logStream
-                      .getFlowControl()
-                      .onExported(recordExporter.getTypedEvent().getPosition());
-                  metrics.eventExported(recordExporter.getTypedEvent().getValueType());
-                  inExportingPhase = false;
-                  actor.submit(this::readNextEvent);
-                }
-              });
-        });
+    return isOpened.get() && !idle && !exporterPhase.equals(ExporterPhase.PAUSED);
   }
 
   private void clearExporterState() {
@@ -675,7 +764,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   @Override
   public void onRecordAvailable() {
-    actor.run(this::readNextEvent);
+    actor.run(exportingLoop::readNextEvent);
   }
 
   public ActorFuture<Long> getLowestPosition() {
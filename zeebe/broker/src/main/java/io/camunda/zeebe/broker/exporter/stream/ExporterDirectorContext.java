@@ -20,6 +20,9 @@ import java.util.Map;
 public final class ExporterDirectorContext {
 
   public static final Duration DEFAULT_DISTRIBUTION_INTERVAL = Duration.ofSeconds(15);
+  public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+  public static final long DEFAULT_MAX_BATCH_BYTES = 1024 * 1024L;
+  public static final boolean DEFAULT_PARALLEL_EXPORTING = false;
 
   private int id;
   private String name;
@@ -31,6 +34,9 @@ public final class ExporterDirectorContext {
   private Duration distributionInterval = DEFAULT_DISTRIBUTION_INTERVAL;
   private EventFilter positionsToSkipFilter;
   private MeterRegistry meterRegistry;
+  private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+  private long maxBatchBytes = DEFAULT_MAX_BATCH_BYTES;
+  private boolean parallelExporting = DEFAULT_PARALLEL_EXPORTING;
 
   public int getId() {
     return id;
@@ -72,6 +78,18 @@ public final class ExporterDirectorContext {
     return meterRegistry;
   }
 
+  public int getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  public long getMaxBatchBytes() {
+    return maxBatchBytes;
+  }
+
+  public boolean isParallelExporting() {
+    return parallelExporting;
+  }
+
   public ExporterDirectorContext id(final int id) {
     this.id = id;
     return this;
@@ -124,6 +142,21 @@ public final class ExporterDirectorContext {
     return this;
   }
 
+  public ExporterDirectorContext maxBatchSize(final int maxBatchSize) {
+    this.maxBatchSize = maxBatchSize;
+    return this;
+  }
+
+  public ExporterDirectorContext maxBatchBytes(final long maxBatchBytes) {
+    this.maxBatchBytes = maxBatchBytes;
+    return this;
+  }
+
+  public ExporterDirectorContext parallelExporting(final boolean parallelExporting) {
+    this.parallelExporting = parallelExporting;
+    return this;
+  }
+
   public enum ExporterMode {
     /**
      * ACTIVE, means it is actively running the exporting and distributes the exporter positions to
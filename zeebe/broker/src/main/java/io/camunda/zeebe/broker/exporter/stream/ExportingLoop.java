@@ -0,0 +1,219 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.logstreams.log.LogStream;
+import io.camunda.zeebe.logstreams.log.LogStreamReader;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.scheduler.ActorControl;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.retry.BackOffRetryStrategy;
+import io.camunda.zeebe.scheduler.retry.EndlessRetryStrategy;
+import io.camunda.zeebe.scheduler.retry.RetryStrategy;
+import io.camunda.zeebe.stream.api.EventFilter;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongConsumer;
+import org.slf4j.Logger;
+
+/**
+ * Reads the records from the log stream and exports them in batches to the given exporters. It runs
+ * on the actor of its owner, which is either the {@link ExporterDirector}, which exports to all
+ * exporters of the partition, or an {@link ExporterActor}, which exports to a single exporter.
+ *
+ * <p>This class is not thread safe and must only be used from the owner's actor.
+ */
+final class ExportingLoop {
+
+  private static final Logger LOG = Loggers.EXPORTER_LOGGER;
+  private static final String ERROR_MESSAGE_EXPORTING_ABORTED =
+      "Expected to export records up to position '{}' successfully, but exception was thrown.";
+
+  private final ActorControl actor;
+  private final LogStream logStream;
+  private final List<ExporterContainer> containers;
+  private final ExporterMetrics metrics;
+  private final RecordExporter recordExporter;
+  private final RetryStrategy exportingRetryStrategy;
+  private final RetryStrategy recordWrapStrategy;
+  private final int maxBatchSize;
+  private final BooleanSupplier canExport;
+  private final BooleanSupplier isClosed;
+  private final LongConsumer onExported;
+  private final Runnable onFailure;
+
+  private LogStreamReader logStreamReader;
+  private EventFilter eventFilter;
+  private boolean inExportingPhase;
+
+  /**
+   * @param canExport returns true if the owner is ready to export, e.g. it is not paused
+   * @param isClosed returns true if the owner is closed, which stops retrying to export
+   * @param onExported is called with the position of the last record of every exported batch, or of
+   *     the last skipped record if a batch contained only skipped records
+   * @param onFailure is called if the records could not be exported
+   */
+  ExportingLoop(
+      final ActorControl actor,
+      final LogStream logStream,
+      final List<ExporterContainer> containers,
+      final ExporterMetrics metrics,
+      final int partitionId,
+      final int maxBatchSize,
+      final long maxBatchBytes,
+      final BooleanSupplier canExport,
+      final BooleanSupplier isClosed,
+      final LongConsumer onExported,
+      final Runnable onFailure) {
+    this.actor = actor;
+    this.logStream = logStream;
+    this.containers = containers;
+    this.metrics = metrics;
+    this.maxBatchSize = Math.max(1, maxBatchSize);
+    this.canExport = canExport;
+    this.isClosed = isClosed;
+    this.onExported = onExported;
+    this.onFailure = onFailure;
+    recordExporter =
+        new RecordExporter(metrics, containers, partitionId, maxBatchSize, maxBatchBytes);
+    exportingRetryStrategy = new BackOffRetryStrategy(actor, Duration.ofSeconds(10));
+    recordWrapStrategy = new EndlessRetryStrategy(actor);
+  }
+
+  void openReader() {
+    logStreamReader = logStream.newLogStreamReader();
+  }
+
+  /**
+   * Seeks the reader to the event after the given position.
+   *
+   * @return true if the position is negative or exists
+   */
+  boolean seekToNextEvent(final long position) {
+    return logStreamReader.seekToNextEvent(position);
+  }
+
+  void closeReader() {
+    if (logStreamReader != null) {
+      // We have to close it, otherwise it will prevent journal segment deletion
+      logStreamReader.close();
+      logStreamReader = null;
+    }
+  }
+
+  void setEventFilter(final EventFilter eventFilter) {
+    this.eventFilter = eventFilter;
+  }
+
+  /** Must be called if a container is removed while exporting. */
+  void resetExporterIndex() {
+    recordExporter.resetExporterIndex();
+  }
+
+  /**
+   * Reads the next events until the batch is full, and exports them. Events which are skipped are
+   * counted against the batch size too, so that the actor yields after reading a full batch. A
+   * skipped event ends the batch, as it must only update the positions of the exporters after all
+   * previous events are exported. If only skipped events were read, their last position counts as
+   * exported, as nothing is left to export before it.
+   */
+  void readNextEvent() {
+    if (!shouldExport()) {
+      return;
+    }
+
+    recordExporter.reset();
+    int readEvents = 0;
+    long lastSkippedPosition = -1;
+    while (readEvents < maxBatchSize && logStreamReader.hasNext() && !recordExporter.isFull()) {
+      final LoggedEvent nextEvent = logStreamReader.peekNext();
+      if (eventFilter == null || eventFilter.applies(nextEvent)) {
+        recordExporter.add(logStreamReader.next());
+      } else if (recordExporter.isEmpty()) {
+        lastSkippedPosition = skipRecord(logStreamReader.next());
+      } else {
+        break;
+      }
+      readEvents++;
+    }
+
+    if (!recordExporter.isEmpty()) {
+      inExportingPhase = true;
+      exportBatch();
+      return;
+    }
+
+    if (lastSkippedPosition > 0) {
+      onExported.accept(lastSkippedPosition);
+    }
+    if (logStreamReader.hasNext()) {
+      actor.submit(this::readNextEvent);
+    }
+  }
+
+  private boolean shouldExport() {
+    return canExport.getAsBoolean()
+        && logStreamReader != null
+        && logStreamReader.hasNext()
+        && !inExportingPhase;
+  }
+
+  private long skipRecord(final LoggedEvent currentEvent) {
+    final RecordMetadata metadata = new RecordMetadata();
+    final long eventPosition = currentEvent.getPosition();
+
+    currentEvent.readMetadata(metadata);
+    metrics.eventSkipped(metadata.getValueType());
+
+    // increase position of all up to date exporters - an up to date exporter is one which has
+    // acknowledged the last record we passed to it
+    for (final ExporterContainer container : containers) {
+      container.updatePositionOnSkipIfUpToDate(eventPosition);
+    }
+    return eventPosition;
+  }
+
+  private void exportBatch() {
+    final ActorFuture<Boolean> wrapRetryFuture =
+        recordWrapStrategy.runWithRetry(
+            () -> {
+              recordExporter.wrap();
+              return true;
+            },
+            isClosed);
+
+    actor.runOnCompletion(
+        wrapRetryFuture,
+        (b, t) -> {
+          assert t == null : "Throwable must be null";
+
+          final ActorFuture<Boolean> retryFuture =
+              exportingRetryStrategy.runWithRetry(recordExporter::export, isClosed);
+
+          actor.runOnCompletion(
+              retryFuture,
+              (bool, throwable) -> {
+                if (throwable != null) {
+                  LOG.error(
+                      ERROR_MESSAGE_EXPORTING_ABORTED, recordExporter.getLastPosition(), throwable);
+                  onFailure.run();
+                } else {
+                  onExported.accept(recordExporter.getLastPosition());
+                  for (final var record : recordExporter.getRecords()) {
+                    metrics.eventExported(record.getValueType());
+                  }
+                  inExportingPhase = false;
+                  actor.submit(this::readNextEvent);
+                }
+              });
+        });
+  }
+}
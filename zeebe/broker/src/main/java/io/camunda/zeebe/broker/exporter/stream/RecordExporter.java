@@ -7,74 +7,175 @@
  */
 package io.camunda.zeebe.broker.exporter.stream;
 
+import io.camunda.zeebe.logstreams.impl.log.LoggedEventImpl;
 import io.camunda.zeebe.logstreams.log.LoggedEvent;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
-import io.camunda.zeebe.stream.impl.records.RecordValues;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.stream.impl.TypedEventRegistry;
 import io.camunda.zeebe.stream.impl.records.TypedRecordImpl;
+import io.camunda.zeebe.util.ReflectUtil;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 
+/**
+ * Exports a batch of records to all exporters. The events are copied when they are added to the
+ * batch, as the log stream reader reuses its buffers when reading the next event. The batch is full
+ * if it contains the maximum number of records or bytes.
+ */
 final class RecordExporter {
 
-  private final RecordValues recordValues = new RecordValues();
-  private final RecordMetadata rawMetadata = new RecordMetadata();
+  private final List<BatchedRecord> batchedRecords = new ArrayList<>();
+  private final List<Record<?>> records = new ArrayList<>();
   private final List<ExporterContainer> containers;
-  private final TypedRecordImpl typedEvent;
   private final ExporterMetrics exporterMetrics;
+  private final int partitionId;
+  private final int maxBatchSize;
+  private final long maxBatchBytes;
 
-  private boolean shouldExport;
+  private int batchSize;
+  private long batchBytes;
   private int exporterIndex;
+  private int recordIndex;
 
   RecordExporter(
       final ExporterMetrics exporterMetrics,
       final List<ExporterContainer> containers,
-      final int partitionId) {
+      final int partitionId,
+      final int maxBatchSize,
+      final long maxBatchBytes) {
     this.containers = containers;
-    typedEvent = new TypedRecordImpl(partitionId);
     this.exporterMetrics = exporterMetrics;
+    this.partitionId = partitionId;
+    this.maxBatchSize = Math.max(1, maxBatchSize);
+    this.maxBatchBytes = maxBatchBytes;
+  }
+
+  /** Removes all records from the batch, to start a new batch. */
+  void reset() {
+    batchSize = 0;
+    batchBytes = 0;
+    records.clear();
+    exporterIndex = 0;
+    recordIndex = 0;
   }
 
-  void wrap(final LoggedEvent rawEvent) {
-    rawEvent.readMetadata(rawMetadata);
+  boolean isEmpty() {
+    return batchSize == 0;
+  }
 
-    final UnifiedRecordValue recordValue =
-        recordValues.readRecordValue(rawEvent, rawMetadata.getValueType());
+  boolean isFull() {
+    return batchSize >= maxBatchSize || batchBytes >= maxBatchBytes;
+  }
 
-    shouldExport = recordValue != null;
-    if (shouldExport) {
-      typedEvent.wrap(rawEvent, rawMetadata, recordValue);
-      exporterIndex = 0;
+  /** Adds a copy of the given event to the batch. It must be {@link #wrap() wrapped} to export. */
+  void add(final LoggedEvent rawEvent) {
+    if (batchSize == batchedRecords.size()) {
+      batchedRecords.add(new BatchedRecord(partitionId));
     }
+
+    batchedRecords.get(batchSize).copy(rawEvent);
+    batchSize++;
+    batchBytes += rawEvent.getLength();
   }
 
-  boolean export() {
-    if (!shouldExport) {
-      return true;
+  /** Reads the records of the batch. Events with an unknown value type are not exported. */
+  void wrap() {
+    records.clear();
+    for (int i = 0; i < batchSize; i++) {
+      final TypedRecordImpl record = batchedRecords.get(i).wrap();
+      if (record != null) {
+        records.add(record);
+      }
     }
+    exporterIndex = 0;
+    recordIndex = 0;
+  }
 
+  boolean export() {
     final int exportersCount = containers.size();
 
-    // current error handling strategy is simply to repeat forever until the record can be
+    // current error handling strategy is simply to repeat forever until the records can be
     // successfully exported.
     while (exporterIndex < exportersCount) {
       final ExporterContainer container = containers.get(exporterIndex);
 
-      if (container.exportRecord(rawMetadata, typedEvent)) {
-        exporterIndex++;
-        exporterMetrics.setLastExportedPosition(container.getId(), typedEvent.getPosition());
-      } else {
+      recordIndex = container.exportRecords(records, recordIndex);
+      if (recordIndex > 0) {
+        exporterMetrics.setLastExportedPosition(
+            container.getId(), records.get(recordIndex - 1).getPosition());
+      }
+
+      if (recordIndex < records.size()) {
         return false;
       }
+
+      exporterIndex++;
+      recordIndex = 0;
     }
 
     return true;
   }
 
-  TypedRecordImpl getTypedEvent() {
-    return typedEvent;
+  /** Returns the exported records of the batch, without events with an unknown value type. */
+  List<Record<?>> getRecords() {
+    return records;
+  }
+
+  /** Returns the position of the last event of the batch. */
+  long getLastPosition() {
+    return batchedRecords.get(batchSize - 1).event.getPosition();
   }
 
   public void resetExporterIndex() {
     exporterIndex = 0;
+    recordIndex = 0;
+  }
+
+  private static final class BatchedRecord {
+
+    private final ExpandableArrayBuffer eventBuffer = new ExpandableArrayBuffer();
+    private final UnsafeBuffer eventView = new UnsafeBuffer();
+    private final LoggedEventImpl event = new LoggedEventImpl();
+    private final RecordMetadata metadata = new RecordMetadata();
+    private final Map<ValueType, UnifiedRecordValue> values = new EnumMap<>(ValueType.class);
+    private final TypedRecordImpl record;
+
+    private BatchedRecord(final int partitionId) {
+      record = new TypedRecordImpl(partitionId);
+    }
+
+    private void copy(final LoggedEvent rawEvent) {
+      final int length = rawEvent.getLength();
+      rawEvent.write(eventBuffer, 0);
+      eventView.wrap(eventBuffer, 0, length);
+      event.wrap(eventView, 0);
+    }
+
+    private TypedRecordImpl wrap() {
+      event.readMetadata(metadata);
+
+      final UnifiedRecordValue value =
+          values.computeIfAbsent(metadata.getValueType(), BatchedRecord::newRecordValue);
+      if (value == null) {
+        return null;
+      }
+
+      value.reset();
+      event.readValue(value);
+      record.wrap(event, metadata, value);
+      return record;
+    }
+
+    private static UnifiedRecordValue newRecordValue(final ValueType valueType) {
+      final Class<? extends UnifiedRecordValue> valueClass =
+          TypedEventRegistry.EVENT_REGISTRY.get(valueType);
+      return valueClass != null ? ReflectUtil.newInstance(valueClass) : null;
+    }
   }
 }
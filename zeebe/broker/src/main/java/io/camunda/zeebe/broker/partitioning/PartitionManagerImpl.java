@@ -26,18 +26,21 @@ import io.camunda.zeebe.broker.system.monitoring.BrokerHealthCheckService;
 import io.camunda.zeebe.broker.system.monitoring.DiskSpaceUsageMonitor;
 import io.camunda.zeebe.broker.system.partitions.ZeebePartition;
 import io.camunda.zeebe.broker.transport.commandapi.CommandApiService;
+import io.camunda.zeebe.db.impl.rocksdb.SharedRocksDbMemory;
 import io.camunda.zeebe.dynamic.config.changes.PartitionChangeExecutor;
 import io.camunda.zeebe.dynamic.config.state.DynamicPartitionConfig;
 import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer;
 import io.camunda.zeebe.protocol.impl.encoding.BrokerInfo;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.scheduler.ConcurrencyControl;
+import io.camunda.zeebe.scheduler.ScheduledTimer;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.ActorFutureCollector;
 import io.camunda.zeebe.scheduler.startup.StartupProcessShutdownException;
 import io.camunda.zeebe.transport.impl.AtomixServerTransport;
 import io.camunda.zeebe.util.health.HealthStatus;
 import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -45,6 +48,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
+import org.agrona.CloseHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -53,6 +57,7 @@ public final class PartitionManagerImpl implements PartitionManager, PartitionCh
   public static final String GROUP_NAME = "raft-partition";
 
   private static final Logger LOGGER = LoggerFactory.getLogger(PartitionManagerImpl.class);
+  private static final Duration SHARED_MEMORY_REFRESH_INTERVAL = Duration.ofSeconds(5);
   private final ConcurrencyControl concurrencyControl;
 
   private final BrokerHealthCheckService healthCheckService;
@@ -65,6 +70,8 @@ public final class PartitionManagerImpl implements PartitionManager, PartitionCh
   private final ZeebePartitionFactory zeebePartitionFactory;
   private final RaftPartitionFactory raftPartitionFactory;
   private final ClusterConfigurationService clusterConfigurationService;
+  private final SharedRocksDbMemory sharedRocksDbMemory;
+  private ScheduledTimer sharedMemoryRefreshTimer;
 
   public PartitionManagerImpl(
       final ConcurrencyControl concurrencyControl,
@@ -95,6 +102,7 @@ public final class PartitionManagerImpl implements PartitionManager, PartitionCh
     final List<PartitionListener> listeners = new ArrayList<>(partitionListeners);
     listeners.add(topologyManager);
 
+    sharedRocksDbMemory = createSharedRocksDbMemory(brokerCfg);
     zeebePartitionFactory =
         new ZeebePartitionFactory(
             actorSchedulingService,
@@ -110,7 +118,8 @@ public final class PartitionManagerImpl implements PartitionManager, PartitionCh
             partitionRaftListeners,
             topologyManager,
             featureFlags,
-            meterRegistry);
+            meterRegistry,
+            sharedRocksDbMemory);
     managementService =
         new DefaultPartitionManagementService(
             clusterServices.getMembershipService(), clusterServices.getCommunicationService());
@@ -136,6 +145,37 @@ public final class PartitionManagerImpl implements PartitionManager, PartitionCh
               .config();
       bootstrapPartition(partitionMetadata, initialPartitionConfig);
     }
+
+    if (sharedRocksDbMemory != null) {
+      scheduleSharedMemoryRefresh();
+    }
+  }
+
+  private static SharedRocksDbMemory createSharedRocksDbMemory(final BrokerCfg brokerCfg) {
+    final var rocksdbCfg = brokerCfg.getExperimental().getRocksdb();
+    if (!rocksdbCfg.isEnableSharedMemory()) {
+      return null;
+    }
+
+    // the number of partitions of this broker if they are distributed evenly, which partitions
+    // joining later on do not change
+    final var cluster = brokerCfg.getCluster();
+    final var replicas = (long) cluster.getPartitionsCount() * cluster.getReplicationFactor();
+    final var partitionCount = (int) Math.ceilDiv(replicas, cluster.getClusterSize());
+    return new SharedRocksDbMemory(
+        rocksdbCfg.createRocksDbConfiguration(),
+        Math.max(1, partitionCount),
+        rocksdbCfg.isEnableMemoryRebalancing());
+  }
+
+  private void scheduleSharedMemoryRefresh() {
+    sharedMemoryRefreshTimer =
+        concurrencyControl.schedule(
+            SHARED_MEMORY_REFRESH_INTERVAL,
+            () -> {
+              sharedRocksDbMemory.refresh();
+              scheduleSharedMemoryRefresh();
+            });
   }
 
   private ActorFuture<Void> bootstrapPartition(
@@ -232,6 +272,11 @@ public final class PartitionManagerImpl implements PartitionManager, PartitionCh
 
   public ActorFuture<Void> stop() {
     final var result = concurrencyControl.<Void>createFuture();
+    if (sharedMemoryRefreshTimer != null) {
+      sharedMemoryRefreshTimer.cancel();
+      sharedMemoryRefreshTimer = null;
+    }
+
     final var stop =
         partitions.values().stream()
             .map(Partition::stop)
@@ -244,6 +289,7 @@ public final class PartitionManagerImpl implements PartitionManager, PartitionCh
             result.completeExceptionally(error);
           } else {
             partitions.clear();
+            CloseHelper.quietClose(sharedRocksDbMemory);
             topologyManager.closeAsync().onComplete(result);
           }
         });
@@ -0,0 +1,40 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.system.configuration;
+
+public final class CommandBatchingCfg {
+  private static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
+  private boolean enabled = false;
+  private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(final boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public int getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  public void setMaxBatchSize(final int maxBatchSize) {
+    if (maxBatchSize < 1) {
+      throw new IllegalArgumentException(
+          "Expected maxBatchSize to be at least 1, but was %d".formatted(maxBatchSize));
+    }
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  @Override
+  public String toString() {
+    return "CommandBatchingCfg{" + "enabled=" + enabled + ", maxBatchSize=" + maxBatchSize + '}';
+  }
+}
@@ -30,6 +30,9 @@ public class ExperimentalCfg implements ConfigurationEntry {
   private ExperimentalRaftCfg raft = new ExperimentalRaftCfg();
   private PartitioningCfg partitioning = new PartitioningCfg();
   private QueryApiCfg queryApi = new QueryApiCfg();
+  private CommandBatchingCfg commandBatching = new CommandBatchingCfg();
+  private InterPartitionCommandBatchingCfg interPartitionCommandBatching =
+      new InterPartitionCommandBatchingCfg();
   private ConsistencyCheckCfg consistencyChecks = new ConsistencyCheckCfg();
   private EngineCfg engine = new EngineCfg();
 
@@ -113,6 +116,23 @@ public class ExperimentalCfg implements ConfigurationEntry {
     this.queryApi = queryApi;
   }
 
+  public CommandBatchingCfg getCommandBatching() {
+    return commandBatching;
+  }
+
+  public void setCommandBatching(final CommandBatchingCfg commandBatching) {
+    this.commandBatching = commandBatching;
+  }
+
+  public InterPartitionCommandBatchingCfg getInterPartitionCommandBatching() {
+    return interPartitionCommandBatching;
+  }
+
+  public void setInterPartitionCommandBatching(
+      final InterPartitionCommandBatchingCfg interPartitionCommandBatching) {
+    this.interPartitionCommandBatching = interPartitionCommandBatching;
+  }
+
   public ConsistencyCheckCfg getConsistencyChecks() {
     return consistencyChecks;
   }
@@ -152,6 +172,10 @@ public class ExperimentalCfg implements ConfigurationEntry {
         + partitioning
         + ", queryApi="
         + queryApi
+        + ", commandBatching="
+        + commandBatching
+        + ", interPartitionCommandBatching="
+        + interPartitionCommandBatching
         + ", consistencyChecks="
         + consistencyChecks
         + ", engineCfg="
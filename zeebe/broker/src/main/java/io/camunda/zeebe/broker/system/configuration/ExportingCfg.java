@@ -7,8 +7,10 @@
  */
 package io.camunda.zeebe.broker.system.configuration;
 
+import io.camunda.zeebe.broker.exporter.stream.ExporterDirectorContext;
 import java.util.Objects;
 import java.util.Set;
+import org.springframework.util.unit.DataSize;
 
 /**
  * Exporting component configuration. This configuration pertains to configurations that are common
@@ -16,6 +18,10 @@ import java.util.Set;
  */
 public final class ExportingCfg implements ConfigurationEntry {
   private Set<Long> skipRecords;
+  private int maxBatchSize = ExporterDirectorContext.DEFAULT_MAX_BATCH_SIZE;
+  private DataSize maxBatchBytes =
+      DataSize.ofBytes(ExporterDirectorContext.DEFAULT_MAX_BATCH_BYTES);
+  private boolean parallelExporting = ExporterDirectorContext.DEFAULT_PARALLEL_EXPORTING;
 
   public Set<Long> getSkipRecords() {
     return skipRecords != null ? skipRecords : Set.of();
@@ -25,9 +31,39 @@ public final class ExportingCfg implements ConfigurationEntry {
     this.skipRecords = skipRecords;
   }
 
+  /** The maximum number of records which are read and passed to the exporters at once. */
+  public int getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  public void setMaxBatchSize(final int maxBatchSize) {
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  /** The maximum size of the records which are read and passed to the exporters at once. */
+  public DataSize getMaxBatchBytes() {
+    return maxBatchBytes;
+  }
+
+  public void setMaxBatchBytes(final DataSize maxBatchBytes) {
+    this.maxBatchBytes = maxBatchBytes;
+  }
+
+  /**
+   * If enabled, each exporter reads and exports the records on its own actor, so that the exporters
+   * of a partition export concurrently and independently of each other.
+   */
+  public boolean isParallelExporting() {
+    return parallelExporting;
+  }
+
+  public void setParallelExporting(final boolean parallelExporting) {
+    this.parallelExporting = parallelExporting;
+  }
+
   @Override
   public int hashCode() {
-    return Objects.hash(skipRecords);
+    return Objects.hash(skipRecords, maxBatchSize, maxBatchBytes, parallelExporting);
   }
 
   @Override
@@ -39,11 +75,23 @@ public final class ExportingCfg implements ConfigurationEntry {
       return false;
     }
     final ExportingCfg that = (ExportingCfg) o;
-    return Objects.equals(skipRecords, that.skipRecords);
+    return Objects.equals(skipRecords, that.skipRecords)
+        && maxBatchSize == that.maxBatchSize
+        && Objects.equals(maxBatchBytes, that.maxBatchBytes)
+        && parallelExporting == that.parallelExporting;
   }
 
   @Override
   public String toString() {
-    return "ExporterCfg{" + "skipRecords='" + skipRecords + '}';
+    return "ExporterCfg{"
+        + "skipRecords='"
+        + skipRecords
+        + ", maxBatchSize="
+        + maxBatchSize
+        + ", maxBatchBytes="
+        + maxBatchBytes
+        + ", parallelExporting="
+        + parallelExporting
+        + '}';
   }
 }
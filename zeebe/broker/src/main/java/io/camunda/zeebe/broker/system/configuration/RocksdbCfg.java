@@ -8,7 +8,12 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ColumnFamilyProfile;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.engine.state.ZbColumnFamilyProfiles;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
@@ -28,6 +33,11 @@ public final class RocksdbCfg implements ConfigurationEntry {
   private int ioRateBytesPerSecond = RocksDbConfiguration.DEFAULT_IO_RATE_BYTES_PER_SECOND;
   private boolean disableWal = RocksDbConfiguration.DEFAULT_WAL_DISABLED;
   private boolean enableSstPartitioning = RocksDbConfiguration.DEFAULT_SST_PARTITIONING_ENABLED;
+  private int deletionCompactionTrigger = RocksDbConfiguration.DEFAULT_DELETION_COMPACTION_TRIGGER;
+  private boolean enableSharedMemory = false;
+  private boolean enableMemoryRebalancing = false;
+  private boolean enableColumnFamilyProfiles = false;
+  private Map<ZbColumnFamilies, ColumnFamilyProfile> columnFamilyProfiles = new HashMap<>();
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -121,6 +131,47 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.enableSstPartitioning = enableSstPartitioning;
   }
 
+  public int getDeletionCompactionTrigger() {
+    return deletionCompactionTrigger;
+  }
+
+  public void setDeletionCompactionTrigger(final int deletionCompactionTrigger) {
+    this.deletionCompactionTrigger = deletionCompactionTrigger;
+  }
+
+  public boolean isEnableSharedMemory() {
+    return enableSharedMemory;
+  }
+
+  public void setEnableSharedMemory(final boolean enableSharedMemory) {
+    this.enableSharedMemory = enableSharedMemory;
+  }
+
+  public boolean isEnableMemoryRebalancing() {
+    return enableMemoryRebalancing;
+  }
+
+  public void setEnableMemoryRebalancing(final boolean enableMemoryRebalancing) {
+    this.enableMemoryRebalancing = enableMemoryRebalancing;
+  }
+
+  public boolean isEnableColumnFamilyProfiles() {
+    return enableColumnFamilyProfiles;
+  }
+
+  public void setEnableColumnFamilyProfiles(final boolean enableColumnFamilyProfiles) {
+    this.enableColumnFamilyProfiles = enableColumnFamilyProfiles;
+  }
+
+  public Map<ZbColumnFamilies, ColumnFamilyProfile> getColumnFamilyProfiles() {
+    return columnFamilyProfiles;
+  }
+
+  public void setColumnFamilyProfiles(
+      final Map<ZbColumnFamilies, ColumnFamilyProfile> columnFamilyProfiles) {
+    this.columnFamilyProfiles = columnFamilyProfiles;
+  }
+
   public AccessMetricsConfiguration.Kind getAccessMetrics() {
     return accessMetrics;
   }
@@ -130,6 +181,10 @@ public final class RocksdbCfg implements ConfigurationEntry {
   }
 
   public RocksDbConfiguration createRocksDbConfiguration() {
+    final var profiles =
+        enableColumnFamilyProfiles
+            ? ZbColumnFamilyProfiles.withOverrides(columnFamilyProfiles)
+            : Map.<ZbColumnFamilies, ColumnFamilyProfile>of();
     return new RocksDbConfiguration()
         .setColumnFamilyOptions(columnFamilyOptions)
         .setMaxOpenFiles(maxOpenFiles)
@@ -139,7 +194,9 @@ public final class RocksdbCfg implements ConfigurationEntry {
         .setStatisticsEnabled(enableStatistics)
         .setIoRateBytesPerSecond(ioRateBytesPerSecond)
         .setWalDisabled(disableWal)
-        .setSstPartitioningEnabled(enableSstPartitioning);
+        .setSstPartitioningEnabled(enableSstPartitioning)
+        .setDeletionCompactionTrigger(deletionCompactionTrigger)
+        .setColumnFamilyProfiles(profiles);
   }
 
   @Override
@@ -165,6 +222,16 @@ public final class RocksdbCfg implements ConfigurationEntry {
         + disableWal
         + ", enableSstPartitioning="
         + enableSstPartitioning
+        + ", deletionCompactionTrigger="
+        + deletionCompactionTrigger
+        + ", enableSharedMemory="
+        + enableSharedMemory
+        + ", enableMemoryRebalancing="
+        + enableMemoryRebalancing
+        + ", enableColumnFamilyProfiles="
+        + enableColumnFamilyProfiles
+        + ", columnFamilyProfiles="
+        + columnFamilyProfiles
         + '}';
   }
 
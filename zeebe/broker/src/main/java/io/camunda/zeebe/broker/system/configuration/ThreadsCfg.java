@@ -7,9 +7,13 @@
  */
 package io.camunda.zeebe.broker.system.configuration;
 
+import io.camunda.zeebe.scheduler.affinity.ThreadAffinity;
+
 public final class ThreadsCfg implements ConfigurationEntry {
   private int cpuThreadCount = 2;
   private int ioThreadCount = 2;
+  private ThreadAffinity cpuThreadAffinity = ThreadAffinity.NONE;
+  private boolean actorProfilingEnabled = false;
 
   public int getCpuThreadCount() {
     return cpuThreadCount;
@@ -27,6 +31,22 @@ public final class ThreadsCfg implements ConfigurationEntry {
     ioThreadCount = ioThreads;
   }
 
+  public ThreadAffinity getCpuThreadAffinity() {
+    return cpuThreadAffinity;
+  }
+
+  public void setCpuThreadAffinity(final ThreadAffinity cpuThreadAffinity) {
+    this.cpuThreadAffinity = cpuThreadAffinity;
+  }
+
+  public boolean isActorProfilingEnabled() {
+    return actorProfilingEnabled;
+  }
+
+  public void setActorProfilingEnabled(final boolean actorProfilingEnabled) {
+    this.actorProfilingEnabled = actorProfilingEnabled;
+  }
+
   @Override
   public String toString() {
     return "ThreadsCfg{"
@@ -34,6 +54,10 @@ public final class ThreadsCfg implements ConfigurationEntry {
         + cpuThreadCount
         + ", ioThreadCount="
         + ioThreadCount
+        + ", cpuThreadAffinity="
+        + cpuThreadAffinity
+        + ", actorProfilingEnabled="
+        + actorProfilingEnabled
         + '}';
   }
 }
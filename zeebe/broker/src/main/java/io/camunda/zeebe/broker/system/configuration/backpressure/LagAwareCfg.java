@@ -0,0 +1,100 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.system.configuration.backpressure;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static io.camunda.zeebe.broker.system.configuration.ConfigurationUtil.checkPositive;
+
+public class LagAwareCfg {
+
+  private int minLimit = 1;
+  private int initialLimit = 20;
+  private int maxLimit = 1000;
+  private double rttTolerance = 2.0;
+  private long acceptableProcessingBacklog = 1000;
+  private long acceptableExportingBacklog = 100_000;
+
+  public int getMinLimit() {
+    return minLimit;
+  }
+
+  public void setMinLimit(final int minLimit) {
+    checkPositive(minLimit, "minLimit");
+    this.minLimit = minLimit;
+  }
+
+  public int getInitialLimit() {
+    return initialLimit;
+  }
+
+  public void setInitialLimit(final int initialLimit) {
+    checkPositive(initialLimit, "initialLimit");
+    this.initialLimit = initialLimit;
+  }
+
+  public int getMaxLimit() {
+    return maxLimit;
+  }
+
+  public void setMaxLimit(final int maxLimit) {
+    checkPositive(maxLimit, "maxLimit");
+    this.maxLimit = maxLimit;
+  }
+
+  public double getRttTolerance() {
+    return rttTolerance;
+  }
+
+  public void setRttTolerance(final double rttTolerance) {
+    checkArgument(
+        rttTolerance >= 1.0, "Expected rttTolerance to be >= 1.0, but found %s", rttTolerance);
+    this.rttTolerance = rttTolerance;
+  }
+
+  public long getAcceptableProcessingBacklog() {
+    return acceptableProcessingBacklog;
+  }
+
+  public void setAcceptableProcessingBacklog(final long acceptableProcessingBacklog) {
+    checkArgument(
+        acceptableProcessingBacklog > 0,
+        "Expected acceptableProcessingBacklog to be > 0, but found %s",
+        acceptableProcessingBacklog);
+    this.acceptableProcessingBacklog = acceptableProcessingBacklog;
+  }
+
+  public long getAcceptableExportingBacklog() {
+    return acceptableExportingBacklog;
+  }
+
+  public void setAcceptableExportingBacklog(final long acceptableExportingBacklog) {
+    checkArgument(
+        acceptableExportingBacklog > 0,
+        "Expected acceptableExportingBacklog to be > 0, but found %s",
+        acceptableExportingBacklog);
+    this.acceptableExportingBacklog = acceptableExportingBacklog;
+  }
+
+  @Override
+  public String toString() {
+    return "LagAwareCfg{"
+        + "minLimit="
+        + minLimit
+        + ", initialLimit="
+        + initialLimit
+        + ", maxLimit="
+        + maxLimit
+        + ", rttTolerance="
+        + rttTolerance
+        + ", acceptableProcessingBacklog="
+        + acceptableProcessingBacklog
+        + ", acceptableExportingBacklog="
+        + acceptableExportingBacklog
+        + '}';
+  }
+}
@@ -15,6 +15,7 @@ import com.netflix.concurrency.limits.limit.GradientLimit;
 import com.netflix.concurrency.limits.limit.VegasLimit;
 import com.netflix.concurrency.limits.limit.WindowedLimit;
 import io.camunda.zeebe.broker.system.configuration.ConfigurationEntry;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.LagAwareLimit;
 import io.camunda.zeebe.logstreams.impl.flowcontrol.StabilizingAIMDLimit;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
@@ -33,6 +34,7 @@ public final class LimitCfg implements ConfigurationEntry {
   private final GradientCfg gradient = new GradientCfg();
   private final Gradient2Cfg gradient2 = new Gradient2Cfg();
   private final LegacyVegasCfg legacyVegas = new LegacyVegasCfg();
+  private final LagAwareCfg lagAware = new LagAwareCfg();
 
   public boolean isEnabled() {
     return enabled;
@@ -87,8 +89,14 @@ public final class LimitCfg implements ConfigurationEntry {
     return legacyVegas;
   }
 
+  public LagAwareCfg getLagAware() {
+    return lagAware;
+  }
+
   /**
-   * @return null if disabled, (windowed) limit otherwise.
+   * @return null if disabled, (windowed) limit otherwise. The lag aware limit is never windowed, as
+   *     it already smooths the latency, and it must be visible to the flow control to be informed
+   *     about the processing and exporting backlog.
    */
   public Limit buildLimit() {
     if (!enabled) {
@@ -102,8 +110,9 @@ public final class LimitCfg implements ConfigurationEntry {
           case GRADIENT2 -> getGradient2Limit(getGradient2());
           case VEGAS -> getVegasLimit(getVegas());
           case LEGACY_VEGAS -> getLegacyVegasLimit(getLegacyVegas());
+          case LAG_AWARE -> getLagAwareLimit(getLagAware());
         };
-    if (useWindowed) {
+    if (useWindowed && getAlgorithm() != LimitAlgorithm.LAG_AWARE) {
       return WindowedLimit.newBuilder().build(baseLimit);
     } else {
       return baseLimit;
@@ -147,6 +156,17 @@ public final class LimitCfg implements ConfigurationEntry {
         .build();
   }
 
+  private static LagAwareLimit getLagAwareLimit(final LagAwareCfg lagAwareCfg) {
+    return LagAwareLimit.newBuilder()
+        .minLimit(lagAwareCfg.getMinLimit())
+        .initialLimit(lagAwareCfg.getInitialLimit())
+        .maxLimit(lagAwareCfg.getMaxLimit())
+        .rttTolerance(lagAwareCfg.getRttTolerance())
+        .acceptableProcessingBacklog(lagAwareCfg.getAcceptableProcessingBacklog())
+        .acceptableExportingBacklog(lagAwareCfg.getAcceptableExportingBacklog())
+        .build();
+  }
+
   private static StabilizingAIMDLimit getAIMD(final AIMDCfg aimdCfg) {
     return StabilizingAIMDLimit.newBuilder()
         .initialLimit(aimdCfg.getInitialLimit())
@@ -160,7 +180,16 @@ public final class LimitCfg implements ConfigurationEntry {
   @Override
   public int hashCode() {
     return Objects.hash(
-        enabled, useWindowed, algorithm, aimd, fixed, vegas, gradient, gradient2, legacyVegas);
+        enabled,
+        useWindowed,
+        algorithm,
+        aimd,
+        fixed,
+        vegas,
+        gradient,
+        gradient2,
+        legacyVegas,
+        lagAware);
   }
 
   @Override
@@ -179,7 +208,8 @@ public final class LimitCfg implements ConfigurationEntry {
         && Objects.equals(vegas, limitCfg.vegas)
         && Objects.equals(gradient, limitCfg.gradient)
         && Objects.equals(gradient2, limitCfg.gradient2)
-        && Objects.equals(legacyVegas, limitCfg.legacyVegas);
+        && Objects.equals(legacyVegas, limitCfg.legacyVegas)
+        && Objects.equals(lagAware, limitCfg.lagAware);
   }
 
   @Override
@@ -204,6 +234,8 @@ public final class LimitCfg implements ConfigurationEntry {
         + gradient2
         + ", legacyVegas="
         + legacyVegas
+        + ", lagAware="
+        + lagAware
         + '}';
   }
 
@@ -214,5 +246,6 @@ public final class LimitCfg implements ConfigurationEntry {
     FIXED,
     AIMD,
     LEGACY_VEGAS,
+    LAG_AWARE,
   }
 }
@@ -14,6 +14,10 @@ public final class CachesCfg implements ConfigurationEntry {
   private int drgCacheCapacity = EngineConfiguration.DEFAULT_DRG_CACHE_CAPACITY;
   private int formCacheCapacity = EngineConfiguration.DEFAULT_FORM_CACHE_CAPACITY;
   private int processCacheCapacity = EngineConfiguration.DEFAULT_PROCESS_CACHE_CAPACITY;
+  private int executableProcessCacheCapacity =
+      EngineConfiguration.DEFAULT_EXECUTABLE_PROCESS_CACHE_CAPACITY;
+  private int variableScopeCacheCapacity =
+      EngineConfiguration.DEFAULT_VARIABLE_SCOPE_CACHE_CAPACITY;
 
   public int getDrgCacheCapacity() {
     return drgCacheCapacity;
@@ -39,6 +43,22 @@ public final class CachesCfg implements ConfigurationEntry {
     this.processCacheCapacity = processCacheCapacity;
   }
 
+  public int getExecutableProcessCacheCapacity() {
+    return executableProcessCacheCapacity;
+  }
+
+  public void setExecutableProcessCacheCapacity(final int executableProcessCacheCapacity) {
+    this.executableProcessCacheCapacity = executableProcessCacheCapacity;
+  }
+
+  public int getVariableScopeCacheCapacity() {
+    return variableScopeCacheCapacity;
+  }
+
+  public void setVariableScopeCacheCapacity(final int variableScopeCacheCapacity) {
+    this.variableScopeCacheCapacity = variableScopeCacheCapacity;
+  }
+
   @Override
   public String toString() {
     return "CachesCfg{"
@@ -48,6 +68,10 @@ public final class CachesCfg implements ConfigurationEntry {
         + formCacheCapacity
         + ", processCacheCapacity="
         + processCacheCapacity
+        + ", executableProcessCacheCapacity="
+        + executableProcessCacheCapacity
+        + ", variableScopeCacheCapacity="
+        + variableScopeCacheCapacity
         + '}';
   }
 }
@@ -17,6 +17,7 @@ public final class EngineCfg implements ConfigurationEntry {
   private CachesCfg caches = new CachesCfg();
   private JobsCfg jobs = new JobsCfg();
   private ValidatorsCfg validators = new ValidatorsCfg();
+  private ProcessInstanceBatchCfg processInstanceBatch = new ProcessInstanceBatchCfg();
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -24,6 +25,7 @@ public final class EngineCfg implements ConfigurationEntry {
     caches.init(globalConfig, brokerBase);
     jobs.init(globalConfig, brokerBase);
     validators.init(globalConfig, brokerBase);
+    processInstanceBatch.init(globalConfig, brokerBase);
   }
 
   public MessagesCfg getMessages() {
@@ -58,6 +60,14 @@ public final class EngineCfg implements ConfigurationEntry {
     this.validators = validators;
   }
 
+  public ProcessInstanceBatchCfg getProcessInstanceBatch() {
+    return processInstanceBatch;
+  }
+
+  public void setProcessInstanceBatch(final ProcessInstanceBatchCfg processInstanceBatch) {
+    this.processInstanceBatch = processInstanceBatch;
+  }
+
   @Override
   public String toString() {
     return "EngineCfg{"
@@ -69,6 +79,8 @@ public final class EngineCfg implements ConfigurationEntry {
         + jobs
         + ", validators="
         + validators
+        + ", processInstanceBatch="
+        + processInstanceBatch
         + '}';
   }
 
@@ -76,11 +88,16 @@ public final class EngineCfg implements ConfigurationEntry {
     return new EngineConfiguration()
         .setMessagesTtlCheckerBatchLimit(messages.getTtlCheckerBatchLimit())
         .setMessagesTtlCheckerInterval(messages.getTtlCheckerInterval())
+        .setMessagesSubscriptionFilterSize(messages.getSubscriptionFilterSize())
         .setDrgCacheCapacity(caches.getDrgCacheCapacity())
         .setFormCacheCapacity(caches.getFormCacheCapacity())
         .setProcessCacheCapacity(caches.getProcessCacheCapacity())
+        .setVariableScopeCacheCapacity(caches.getVariableScopeCacheCapacity())
         .setJobsTimeoutCheckerPollingInterval(jobs.getTimeoutCheckerPollingInterval())
         .setJobsTimeoutCheckerBatchLimit(jobs.getTimeoutCheckerBatchLimit())
-        .setValidatorsResultsOutputMaxSize(validators.getResultsOutputMaxSize());
+        .setValidatorsResultsOutputMaxSize(validators.getResultsOutputMaxSize())
+        .setValidatorsParallelism(validators.getParallelism())
+        .setProcessInstanceBatchTerminateLimit(processInstanceBatch.getTerminateLimit())
+        .setProcessInstanceBatchActivateLimit(processInstanceBatch.getActivateLimit());
   }
 }
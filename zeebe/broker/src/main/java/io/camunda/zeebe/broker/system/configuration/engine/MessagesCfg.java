@@ -15,6 +15,8 @@ public final class MessagesCfg implements ConfigurationEntry {
 
   private int ttlCheckerBatchLimit = EngineConfiguration.DEFAULT_MESSAGES_TTL_CHECKER_BATCH_LIMIT;
   private Duration ttlCheckerInterval = EngineConfiguration.DEFAULT_MESSAGES_TTL_CHECKER_INTERVAL;
+  private int subscriptionFilterSize =
+      EngineConfiguration.DEFAULT_MESSAGES_SUBSCRIPTION_FILTER_SIZE;
 
   public int getTtlCheckerBatchLimit() {
     return ttlCheckerBatchLimit;
@@ -32,6 +34,14 @@ public final class MessagesCfg implements ConfigurationEntry {
     this.ttlCheckerInterval = ttlCheckerInterval;
   }
 
+  public int getSubscriptionFilterSize() {
+    return subscriptionFilterSize;
+  }
+
+  public void setSubscriptionFilterSize(final int subscriptionFilterSize) {
+    this.subscriptionFilterSize = subscriptionFilterSize;
+  }
+
   @Override
   public String toString() {
     return "MessagesCfg{"
@@ -39,6 +49,8 @@ public final class MessagesCfg implements ConfigurationEntry {
         + ttlCheckerBatchLimit
         + ", ttlCheckerInterval="
         + ttlCheckerInterval
+        + ", subscriptionFilterSize="
+        + subscriptionFilterSize
         + '}';
   }
 }
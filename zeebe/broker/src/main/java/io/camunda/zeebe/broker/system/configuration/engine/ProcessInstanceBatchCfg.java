@@ -0,0 +1,55 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.system.configuration.engine;
+
+import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
+import io.camunda.zeebe.broker.system.configuration.ConfigurationEntry;
+import io.camunda.zeebe.engine.EngineConfiguration;
+
+public class ProcessInstanceBatchCfg implements ConfigurationEntry {
+  private int terminateLimit = EngineConfiguration.DEFAULT_PROCESS_INSTANCE_BATCH_TERMINATE_LIMIT;
+  private int activateLimit = EngineConfiguration.DEFAULT_PROCESS_INSTANCE_BATCH_ACTIVATE_LIMIT;
+
+  @Override
+  public void init(final BrokerCfg globalConfig, final String brokerBase) {
+    if (terminateLimit < 1) {
+      throw new IllegalArgumentException(
+          "terminateLimit must be >= 1 but was %s".formatted(terminateLimit));
+    }
+    if (activateLimit < 1) {
+      throw new IllegalArgumentException(
+          "activateLimit must be >= 1 but was %s".formatted(activateLimit));
+    }
+  }
+
+  public int getTerminateLimit() {
+    return terminateLimit;
+  }
+
+  public void setTerminateLimit(final int terminateLimit) {
+    this.terminateLimit = terminateLimit;
+  }
+
+  public int getActivateLimit() {
+    return activateLimit;
+  }
+
+  public void setActivateLimit(final int activateLimit) {
+    this.activateLimit = activateLimit;
+  }
+
+  @Override
+  public String toString() {
+    return "ProcessInstanceBatchCfg{"
+        + "terminateLimit="
+        + terminateLimit
+        + ", activateLimit="
+        + activateLimit
+        + '}';
+  }
+}
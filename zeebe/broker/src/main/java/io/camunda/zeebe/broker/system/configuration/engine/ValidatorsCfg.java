@@ -13,6 +13,7 @@ import io.camunda.zeebe.engine.EngineConfiguration;
 public class ValidatorsCfg implements ConfigurationEntry {
 
   private int resultsOutputMaxSize = EngineConfiguration.DEFAULT_VALIDATORS_RESULTS_OUTPUT_MAX_SIZE;
+  private int parallelism = EngineConfiguration.DEFAULT_VALIDATORS_PARALLELISM;
 
   public int getResultsOutputMaxSize() {
     return resultsOutputMaxSize;
@@ -22,8 +23,21 @@ public class ValidatorsCfg implements ConfigurationEntry {
     this.resultsOutputMaxSize = resultsOutputMaxSize;
   }
 
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  public void setParallelism(final int parallelism) {
+    this.parallelism = parallelism;
+  }
+
   @Override
   public String toString() {
-    return "BpmnValidatorsCfg{" + "resultsOutputMaxSize=" + resultsOutputMaxSize + '}';
+    return "BpmnValidatorsCfg{"
+        + "resultsOutputMaxSize="
+        + resultsOutputMaxSize
+        + ", parallelism="
+        + parallelism
+        + '}';
   }
 }
@@ -35,6 +35,7 @@ import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.dynamic.config.state.DynamicPartitionConfig;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessorFactory;
 import io.camunda.zeebe.engine.state.QueryService;
+import io.camunda.zeebe.engine.state.deployment.ExecutableProcessCache;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
@@ -102,6 +103,7 @@ public class PartitionStartupAndTransitionContextImpl
   private AdminApiRequestHandler adminApiService;
   private PartitionAdminAccess adminAccess;
   private final MeterRegistry meterRegistry;
+  private final ExecutableProcessCache executableProcessCache;
   private ControllableStreamClock clock;
 
   public PartitionStartupAndTransitionContextImpl(
@@ -122,7 +124,8 @@ public class PartitionStartupAndTransitionContextImpl
       final DiskSpaceUsageMonitor diskSpaceUsageMonitor,
       final AtomixServerTransport gatewayBrokerTransport,
       final TopologyManager topologyManager,
-      final MeterRegistry meterRegistry) {
+      final MeterRegistry meterRegistry,
+      final ExecutableProcessCache executableProcessCache) {
     this.nodeId = nodeId;
     this.clusterCommunicationService = clusterCommunicationService;
     this.raftPartition = raftPartition;
@@ -143,6 +146,7 @@ public class PartitionStartupAndTransitionContextImpl
     this.gatewayBrokerTransport = gatewayBrokerTransport;
     this.topologyManager = topologyManager;
     this.meterRegistry = meterRegistry;
+    this.executableProcessCache = executableProcessCache;
   }
 
   public PartitionAdminControl getPartitionAdminControl() {
@@ -293,6 +297,11 @@ public class PartitionStartupAndTransitionContextImpl
     return brokerCfg;
   }
 
+  @Override
+  public ExecutableProcessCache getExecutableProcessCache() {
+    return executableProcessCache;
+  }
+
   @Override
   public QueryService getQueryService() {
     return queryService;
@@ -27,6 +27,7 @@ import io.camunda.zeebe.broker.transport.partitionapi.InterPartitionCommandSende
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessorFactory;
 import io.camunda.zeebe.engine.state.QueryService;
+import io.camunda.zeebe.engine.state.deployment.ExecutableProcessCache;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.scheduler.ConcurrencyControl;
@@ -103,6 +104,9 @@ public interface PartitionTransitionContext extends PartitionContext {
 
   BrokerCfg getBrokerCfg();
 
+  /** The cache of transformed processes, which is shared by all partitions of the broker. */
+  ExecutableProcessCache getExecutableProcessCache();
+
   QueryService getQueryService();
 
   void setQueryService(QueryService queryService);
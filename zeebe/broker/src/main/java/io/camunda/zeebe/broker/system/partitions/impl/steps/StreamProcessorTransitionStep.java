@@ -135,7 +135,11 @@ public final class StreamProcessorTransitionStep implements PartitionTransitionS
         targetRole == Role.LEADER ? StreamProcessorMode.PROCESSING : StreamProcessorMode.REPLAY;
 
     final var experimentalCfg = context.getBrokerCfg().getExperimental();
-    final var engineCfg = experimentalCfg.getEngine().createEngineConfiguration();
+    final var engineCfg =
+        experimentalCfg
+            .getEngine()
+            .createEngineConfiguration()
+            .setExecutableProcessCache(context.getExecutableProcessCache());
 
     final var engine = new Engine(context.getTypedRecordProcessorFactory(), engineCfg);
     final List<RecordProcessor> recordProcessors =
@@ -8,10 +8,12 @@
 package io.camunda.zeebe.broker.transport.commandapi;
 
 import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.broker.system.configuration.CommandBatchingCfg;
 import io.camunda.zeebe.broker.transport.AsyncApiRequestHandler;
 import io.camunda.zeebe.broker.transport.ErrorResponseWriter;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter.WriteFailure;
 import io.camunda.zeebe.logstreams.log.WriteContext;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
@@ -22,21 +24,44 @@ import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.util.Either;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.agrona.collections.Int2ObjectHashMap;
 import org.slf4j.Logger;
 
+/**
+ * Writes client commands to the log of the partition they are addressed to.
+ *
+ * <p>When command batching is enabled, commands which arrive for the same partition while the
+ * handler is busy are not written one by one, but are buffered and appended together as a single
+ * batch. A batch is flushed once it reaches the configured maximum size, once the next command
+ * would make it exceed the maximum batch size of the log stream writer, or at the latest once the
+ * handler has worked off the requests which were already queued when the batch was started. As
+ * every command keeps its own request id and stream id in its metadata, responses are still
+ * correlated per command, and the flow control acquires one request permit per command in the
+ * batch.
+ */
 final class CommandApiRequestHandler
     extends AsyncApiRequestHandler<CommandApiRequestReader, CommandApiResponseWriter> {
   private static final Logger LOG = Loggers.TRANSPORT_LOGGER;
 
   private final Int2ObjectHashMap<LogStreamWriter> leadingStreams = new Int2ObjectHashMap<>();
+  private final Int2ObjectHashMap<PendingCommands> pendingCommands = new Int2ObjectHashMap<>();
   private boolean isDiskSpaceAvailable = true;
   private final Map<Integer, Boolean> processingPaused = new HashMap<>();
+  private final boolean batchingEnabled;
+  private final int maxBatchSize;
 
   CommandApiRequestHandler() {
+    this(new CommandBatchingCfg());
+  }
+
+  CommandApiRequestHandler(final CommandBatchingCfg batchingCfg) {
     super(CommandApiRequestReader::new, CommandApiResponseWriter::new);
+    batchingEnabled = batchingCfg.isEnabled();
+    maxBatchSize = batchingCfg.getMaxBatchSize();
   }
 
   @Override
@@ -46,6 +71,10 @@ final class CommandApiRequestHandler
       final CommandApiRequestReader requestReader,
       final CommandApiResponseWriter responseWriter,
       final ErrorResponseWriter errorWriter) {
+    if (batchingEnabled) {
+      return handleBatched(partitionId, requestId, requestReader, responseWriter, errorWriter);
+    }
+
     return CompletableActorFuture.completed(
         handle(partitionId, requestId, requestReader, responseWriter, errorWriter));
   }
@@ -128,6 +157,165 @@ final class CommandApiRequestHandler
     }
   }
 
+  private ActorFuture<Either<ErrorResponseWriter, CommandApiResponseWriter>> handleBatched(
+      final int partitionId,
+      final long requestId,
+      final CommandApiRequestReader reader,
+      final CommandApiResponseWriter responseWriter,
+      final ErrorResponseWriter errorWriter) {
+    final var rejection = validateCommand(partitionId, requestId, reader, errorWriter);
+    if (rejection != null) {
+      return CompletableActorFuture.completed(Either.left(rejection));
+    }
+
+    final var command = reader.getMessageDecoder();
+    final var metadata = reader.metadata();
+    final var appendEntry = createAppendEntry(command.key(), metadata, reader.value());
+    final var logStreamWriter = leadingStreams.get(partitionId);
+    if (!logStreamWriter.canWriteEvents(1, appendEntry.getLength())) {
+      return CompletableActorFuture.completed(Either.left(rejectTooLarge(errorWriter)));
+    }
+
+    var pending = pendingCommands.get(partitionId);
+    if (pending != null
+        && !logStreamWriter.canWriteEvents(
+            pending.commands.size() + 1, pending.length + appendEntry.getLength())) {
+      flushPendingCommands(partitionId, pending);
+      pending = null;
+    }
+
+    if (pending == null) {
+      final var batch = new PendingCommands();
+      pendingCommands.put(partitionId, batch);
+      // requests which are already queued are handled before this job, such that they can still
+      // join the batch
+      actor.submit(() -> flushPendingCommands(partitionId, batch));
+      pending = batch;
+    }
+
+    final var result =
+        new CompletableActorFuture<Either<ErrorResponseWriter, CommandApiResponseWriter>>();
+    pending.add(
+        new PendingCommand(appendEntry, metadata.getIntent(), responseWriter, errorWriter, result));
+
+    if (pending.commands.size() >= maxBatchSize) {
+      flushPendingCommands(partitionId, pending);
+    }
+
+    return result;
+  }
+
+  private ErrorResponseWriter validateCommand(
+      final int partitionId,
+      final long requestId,
+      final CommandApiRequestReader reader,
+      final ErrorResponseWriter errorWriter) {
+    if (!isDiskSpaceAvailable) {
+      return errorWriter.outOfDiskSpace(partitionId);
+    }
+
+    if (processingPaused.getOrDefault(partitionId, false)) {
+      return errorWriter.internalError("Processing paused for partition '%s'", partitionId);
+    }
+
+    final var command = reader.getMessageDecoder();
+    final var valueType = command.valueType();
+    final var metadata = reader.metadata();
+
+    metadata.requestId(requestId);
+    metadata.requestStreamId(partitionId);
+    metadata.recordType(RecordType.COMMAND);
+    metadata.intent(Intent.fromProtocolValue(valueType, command.intent()));
+    metadata.valueType(valueType);
+    metadata.operationReference(command.operationReference());
+
+    if (!leadingStreams.containsKey(partitionId)) {
+      return errorWriter.partitionLeaderMismatch(partitionId);
+    }
+
+    if (reader.value() == null) {
+      return errorWriter.unsupportedMessage(
+          valueType.name(), CommandApiRequestReader.RECORDS_BY_TYPE.keySet().toArray());
+    }
+
+    return null;
+  }
+
+  private void flushPendingCommands(final int partitionId, final PendingCommands pending) {
+    if (!pendingCommands.remove(partitionId, pending)) {
+      // already flushed, e.g. because it reached the maximum batch size
+      return;
+    }
+
+    final var logStreamWriter = leadingStreams.get(partitionId);
+    if (logStreamWriter == null) {
+      pending.commands.forEach(
+          command -> command.reject(command.errorWriter.partitionLeaderMismatch(partitionId)));
+      return;
+    }
+
+    try {
+      if (pending.commands.size() == 1) {
+        writePendingCommand(partitionId, logStreamWriter, pending.commands.getFirst());
+        return;
+      }
+
+      final var firstCommand = pending.commands.getFirst();
+      final var result =
+          logStreamWriter.tryWrite(
+              WriteContext.userCommand(firstCommand.intent), pending.appendEntries());
+      if (result.isRight()) {
+        pending.commands.forEach(PendingCommand::accept);
+      } else if (isLimitExhausted(result.getLeft())) {
+        // the batch is admitted all or nothing; fall back to writing the commands one by one to
+        // accept as many of them as the limits allow
+        pending.commands.forEach(
+            command -> writePendingCommand(partitionId, logStreamWriter, command));
+      } else {
+        final var failure = result.getLeft();
+        pending.commands.forEach(
+            command -> command.reject(command.errorWriter.mapWriteError(partitionId, failure)));
+      }
+    } catch (final Exception error) {
+      final String errorMessage =
+          "Failed to write client request to partition '%d', %s".formatted(partitionId, error);
+      LOG.error(errorMessage);
+      pending.commands.forEach(
+          command -> command.reject(command.errorWriter.internalError(errorMessage)));
+    }
+  }
+
+  private void writePendingCommand(
+      final int partitionId, final LogStreamWriter logStreamWriter, final PendingCommand command) {
+    final var result =
+        logStreamWriter.tryWrite(WriteContext.userCommand(command.intent), command.appendEntry);
+    if (result.isRight()) {
+      command.accept();
+    } else {
+      command.reject(command.errorWriter.mapWriteError(partitionId, result.getLeft()));
+    }
+  }
+
+  private static boolean isLimitExhausted(final WriteFailure failure) {
+    return failure == WriteFailure.REQUEST_LIMIT_EXHAUSTED
+        || failure == WriteFailure.WRITE_LIMIT_EXHAUSTED;
+  }
+
+  private static LogAppendEntry createAppendEntry(
+      final long key, final RecordMetadata metadata, final UnifiedRecordValue value) {
+    if (key != ExecuteCommandRequestDecoder.keyNullValue()) {
+      return LogAppendEntry.of(key, metadata, value);
+    } else {
+      return LogAppendEntry.of(metadata, value);
+    }
+  }
+
+  private static ErrorResponseWriter rejectTooLarge(final ErrorResponseWriter errorWriter) {
+    return errorWriter
+        .errorCode(ErrorCode.MALFORMED_REQUEST)
+        .errorMessage("Request size is above configured maxMessageSize.");
+  }
+
   private Either<ErrorResponseWriter, Boolean> writeCommand(
       final long key,
       final RecordMetadata metadata,
@@ -135,12 +323,7 @@ final class CommandApiRequestHandler
       final LogStreamWriter logStreamWriter,
       final ErrorResponseWriter errorWriter,
       final int partitionId) {
-    final LogAppendEntry appendEntry;
-    if (key != ExecuteCommandRequestDecoder.keyNullValue()) {
-      appendEntry = LogAppendEntry.of(key, metadata, value);
-    } else {
-      appendEntry = LogAppendEntry.of(metadata, value);
-    }
+    final var appendEntry = createAppendEntry(key, metadata, value);
 
     if (logStreamWriter.canWriteEvents(1, appendEntry.getLength())) {
       return logStreamWriter
@@ -148,10 +331,7 @@ final class CommandApiRequestHandler
           .map(ignore -> true)
           .mapLeft(error -> errorWriter.mapWriteError(partitionId, error));
     } else {
-      return Either.left(
-          errorWriter
-              .errorCode(ErrorCode.MALFORMED_REQUEST)
-              .errorMessage("Request size is above configured maxMessageSize."));
+      return Either.left(rejectTooLarge(errorWriter));
     }
   }
 
@@ -174,4 +354,36 @@ final class CommandApiRequestHandler
   void onDiskSpaceAvailable() {
     actor.submit(() -> isDiskSpaceAvailable = true);
   }
+
+  private record PendingCommand(
+      LogAppendEntry appendEntry,
+      Intent intent,
+      CommandApiResponseWriter responseWriter,
+      ErrorResponseWriter errorWriter,
+      CompletableActorFuture<Either<ErrorResponseWriter, CommandApiResponseWriter>> result) {
+
+    private void accept() {
+      result.complete(Either.right(responseWriter));
+    }
+
+    private void reject(final ErrorResponseWriter rejection) {
+      result.complete(Either.left(rejection));
+    }
+  }
+
+  private static final class PendingCommands {
+    private final List<PendingCommand> commands = new ArrayList<>();
+    private int length;
+
+    private void add(final PendingCommand command) {
+      commands.add(command);
+      length += command.appendEntry.getLength();
+    }
+
+    private List<LogAppendEntry> appendEntries() {
+      final var entries = new ArrayList<LogAppendEntry>(commands.size());
+      commands.forEach(command -> entries.add(command.appendEntry));
+      return entries;
+    }
+  }
 }
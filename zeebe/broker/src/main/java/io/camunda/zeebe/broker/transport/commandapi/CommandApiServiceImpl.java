@@ -9,6 +9,7 @@ package io.camunda.zeebe.broker.transport.commandapi;
 
 import io.camunda.zeebe.broker.Loggers;
 import io.camunda.zeebe.broker.PartitionListener;
+import io.camunda.zeebe.broker.system.configuration.CommandBatchingCfg;
 import io.camunda.zeebe.broker.system.configuration.QueryApiCfg;
 import io.camunda.zeebe.broker.system.monitoring.DiskSpaceUsageListener;
 import io.camunda.zeebe.broker.transport.queryapi.QueryApiRequestHandler;
@@ -35,10 +36,11 @@ public final class CommandApiServiceImpl extends Actor
   public CommandApiServiceImpl(
       final ServerTransport serverTransport,
       final ActorSchedulingService scheduler,
-      final QueryApiCfg queryApiCfg) {
+      final QueryApiCfg queryApiCfg,
+      final CommandBatchingCfg commandBatchingCfg) {
     this.serverTransport = serverTransport;
     this.scheduler = scheduler;
-    commandHandler = new CommandApiRequestHandler();
+    commandHandler = new CommandApiRequestHandler(commandBatchingCfg);
     queryHandler = new QueryApiRequestHandler(queryApiCfg);
   }
 
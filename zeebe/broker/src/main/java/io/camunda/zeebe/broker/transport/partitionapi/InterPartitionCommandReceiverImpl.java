@@ -10,6 +10,7 @@ package io.camunda.zeebe.broker.transport.partitionapi;
 import io.atomix.cluster.MemberId;
 import io.camunda.zeebe.backup.processing.state.CheckpointState;
 import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.broker.protocol.InterPartitionMessageBatchDecoder;
 import io.camunda.zeebe.broker.protocol.InterPartitionMessageDecoder;
 import io.camunda.zeebe.broker.protocol.MessageHeaderDecoder;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
@@ -26,6 +27,8 @@ import io.camunda.zeebe.protocol.record.intent.management.CheckpointIntent;
 import io.camunda.zeebe.stream.impl.TypedEventRegistry;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.ReflectUtil;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
@@ -44,8 +47,27 @@ final class InterPartitionCommandReceiverImpl {
   void handleMessage(final MemberId memberId, final byte[] message) {
     LOG.trace("Received message from {}", memberId);
 
-    final var decoded = decoder.decodeMessage(message);
+    handleCommands(memberId, List.of(decoder.decodeMessage(message)));
+  }
+
+  /**
+   * Handles a batch of commands, which were sent by the same partition. The commands are written
+   * one after another, like single commands, so a command which can't be written doesn't prevent
+   * writing the others. The sender retries the commands which weren't written.
+   */
+  void handleBatchMessage(final MemberId memberId, final byte[] message) {
+    LOG.trace("Received batch message from {}", memberId);
+
+    handleCommands(memberId, decoder.decodeBatchMessage(message));
+  }
+
+  private void handleCommands(final MemberId memberId, final List<DecodedMessage> commands) {
+    if (commands.isEmpty()) {
+      return;
+    }
 
+    // all commands of a batch belong to the same checkpoint
+    final var decoded = commands.getFirst();
     if (!diskSpaceAvailable) {
       LOG.warn(
           "Ignoring command {} {} from {}, checkpoint {}, no disk space available",
@@ -63,7 +85,9 @@ final class InterPartitionCommandReceiverImpl {
       return;
     }
 
-    writeCommand(decoded).ifLeft(failure -> logWriteFailure(memberId, decoded, failure));
+    for (final var command : commands) {
+      writeCommand(command).ifLeft(failure -> logWriteFailure(memberId, command, failure));
+    }
   }
 
   private void logCheckpointFailure(
@@ -136,6 +160,8 @@ final class InterPartitionCommandReceiverImpl {
 
   private static final class Decoder {
     private final InterPartitionMessageDecoder messageDecoder = new InterPartitionMessageDecoder();
+    private final InterPartitionMessageBatchDecoder batchDecoder =
+        new InterPartitionMessageBatchDecoder();
     private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
 
     DecodedMessage decodeMessage(final byte[] message) {
@@ -164,15 +190,49 @@ final class InterPartitionCommandReceiverImpl {
           messageDecoder.limit() + InterPartitionMessageDecoder.commandHeaderLength();
       final var commandLength = messageDecoder.commandLength();
 
+      final var value = newValue(valueType);
+
+      value.wrap(messageBuffer, commandOffset, commandLength);
+      return new DecodedMessage(checkpointId, recordKey, recordMetadata, value);
+    }
+
+    List<DecodedMessage> decodeBatchMessage(final byte[] message) {
+      final var messageBuffer = new UnsafeBuffer(message);
+      batchDecoder.wrapAndApplyHeader(messageBuffer, 0, headerDecoder);
+
+      final var checkpointId = batchDecoder.checkpointId();
+      final var commandsDecoder = batchDecoder.commands();
+      final var commands = new ArrayList<DecodedMessage>(commandsDecoder.count());
+      for (final var commandDecoder : commandsDecoder) {
+        Optional<Long> recordKey = Optional.empty();
+        if (commandDecoder.recordKey()
+            != InterPartitionMessageBatchDecoder.CommandsDecoder.recordKeyNullValue()) {
+          recordKey = Optional.of(commandDecoder.recordKey());
+        }
+
+        final var valueType = ValueType.get(commandDecoder.valueType());
+        final var intent = Intent.fromProtocolValue(valueType, commandDecoder.intent());
+        final var recordMetadata =
+            new RecordMetadata().recordType(RecordType.COMMAND).valueType(valueType).intent(intent);
+
+        // as for single messages, the command is not parsed but only wrapped
+        final var commandBuffer = new UnsafeBuffer();
+        commandDecoder.wrapCommand(commandBuffer);
+        final var value = newValue(valueType);
+        value.wrap(commandBuffer, 0, commandBuffer.capacity());
+
+        commands.add(new DecodedMessage(checkpointId, recordKey, recordMetadata, value));
+      }
+      return commands;
+    }
+
+    private static UnifiedRecordValue newValue(final ValueType valueType) {
       final var valueClass = TypedEventRegistry.EVENT_REGISTRY.get(valueType);
       if (valueClass == null) {
         throw new IllegalArgumentException(
             "No value type mapped to %s, can't decode message".formatted(valueType));
       }
-      final var value = ReflectUtil.newInstance(valueClass);
-
-      value.wrap(messageBuffer, commandOffset, commandLength);
-      return new DecodedMessage(checkpointId, recordKey, recordMetadata, value);
+      return ReflectUtil.newInstance(valueClass);
     }
   }
 }
@@ -12,26 +12,52 @@ import io.atomix.cluster.messaging.ClusterCommunicationService;
 import io.atomix.utils.serializer.serializers.DefaultSerializers;
 import io.camunda.zeebe.backup.processing.state.CheckpointState;
 import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.broker.protocol.InterPartitionMessageBatchEncoder;
+import io.camunda.zeebe.broker.protocol.InterPartitionMessageBatchEncoder.CommandsEncoder;
 import io.camunda.zeebe.broker.protocol.InterPartitionMessageEncoder;
 import io.camunda.zeebe.broker.protocol.MessageHeaderEncoder;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.stream.api.InterPartitionCommandSender;
-import io.camunda.zeebe.util.buffer.BufferWriter;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import org.agrona.DirectBuffer;
 import org.agrona.collections.Int2IntHashMap;
+import org.agrona.collections.Int2ObjectHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
 
+/**
+ * Sends commands to the leaders of other partitions. Besides sending a command directly, commands
+ * can be queued and flushed later on. All commands which are queued for the same partition until
+ * the next flush are packed into as few messages as possible, see {@link #flushQueuedCommands()}.
+ */
 final class InterPartitionCommandSenderImpl implements InterPartitionCommandSender {
 
   public static final String TOPIC_PREFIX = "inter-partition-";
 
+  /**
+   * Batches of commands are sent on their own topic, such that brokers which don't know batches yet
+   * don't try to decode them as single command. As these brokers drop the batches, commands are
+   * only queued for batches if batching is enabled for the whole cluster.
+   */
+  public static final String BATCH_TOPIC_PREFIX = "inter-partition-batch-";
+
+  /**
+   * The maximum length of the commands in one batch. It is well below the default maximum message
+   * size, so that batching doesn't produce messages which are too large to be sent. A command which
+   * exceeds it on its own is still sent, in its own message.
+   */
+  static final int MAX_BATCH_COMMANDS_LENGTH = 1024 * 1024;
+
   private static final Logger LOG = Loggers.TRANSPORT_LOGGER;
   private final ClusterCommunicationService communicationService;
 
   private final Int2IntHashMap partitionLeaders = new Int2IntHashMap(-1);
+  private final Int2ObjectHashMap<List<QueuedCommand>> queuedCommands = new Int2ObjectHashMap<>();
   private long checkpointId = CheckpointState.NO_CHECKPOINT;
 
   public InterPartitionCommandSenderImpl(final ClusterCommunicationService communicationService) {
@@ -72,7 +98,11 @@ final class InterPartitionCommandSenderImpl implements InterPartitionCommandSend
         partitionLeader);
 
     final var message =
-        Encoder.encode(checkpointId, receiverPartitionId, valueType, intent, recordKey, command);
+        Encoder.encode(
+            checkpointId,
+            receiverPartitionId,
+            new QueuedCommand(
+                checkpointId, valueType, intent, recordKey, BufferUtil.createCopy(command)));
 
     communicationService.unicast(
         TOPIC_PREFIX + receiverPartitionId,
@@ -82,6 +112,102 @@ final class InterPartitionCommandSenderImpl implements InterPartitionCommandSend
         true);
   }
 
+  /**
+   * Queues the command to be sent on the next {@link #flushQueuedCommands()}. The command is
+   * copied, so it may be reused afterwards.
+   *
+   * @return true if no other commands were queued before, i.e. if a flush must be scheduled
+   */
+  boolean queueCommand(
+      final int receiverPartitionId,
+      final ValueType valueType,
+      final Intent intent,
+      final Long recordKey,
+      final UnifiedRecordValue command) {
+    final var wasEmpty = queuedCommands.isEmpty();
+    queuedCommands
+        .computeIfAbsent(receiverPartitionId, partition -> new ArrayList<>())
+        .add(
+            new QueuedCommand(
+                checkpointId, valueType, intent, recordKey, BufferUtil.createCopy(command)));
+    return wasEmpty;
+  }
+
+  /**
+   * Sends all queued commands. The commands for the same partition are packed into batches, in the
+   * order they were queued. A batch is limited by {@link #MAX_BATCH_COMMANDS_LENGTH} and by the
+   * maximum number of entries of the message, and it only contains commands which were queued for
+   * the same checkpoint. A batch with a single command is sent as a single command.
+   */
+  void flushQueuedCommands() {
+    queuedCommands.forEach(this::sendQueuedCommands);
+    queuedCommands.clear();
+  }
+
+  private void sendQueuedCommands(final int receiverPartitionId, final List<QueuedCommand> queued) {
+    if (!partitionLeaders.containsKey(receiverPartitionId)) {
+      LOG.warn(
+          "Not sending {} commands to {}, no known leader for this partition",
+          queued.size(),
+          receiverPartitionId);
+      return;
+    }
+    final var partitionLeader = MemberId.from("" + partitionLeaders.get(receiverPartitionId));
+
+    int batchStart = 0;
+    int batchLength = 0;
+    for (int index = 0; index < queued.size(); index++) {
+      final var command = queued.get(index);
+      final var batchSize = index - batchStart;
+      final var isBatchFull =
+          batchSize == CommandsEncoder.countMaxValue()
+              || batchLength + command.length() > MAX_BATCH_COMMANDS_LENGTH
+              || command.checkpointId() != queued.get(batchStart).checkpointId();
+      if (batchSize > 0 && isBatchFull) {
+        sendBatch(receiverPartitionId, partitionLeader, queued.subList(batchStart, index));
+        batchStart = index;
+        batchLength = 0;
+      }
+      batchLength += command.length();
+    }
+    sendBatch(receiverPartitionId, partitionLeader, queued.subList(batchStart, queued.size()));
+  }
+
+  private void sendBatch(
+      final int receiverPartitionId,
+      final MemberId partitionLeader,
+      final List<QueuedCommand> batch) {
+    final var checkpointId = batch.getFirst().checkpointId();
+    if (batch.size() == 1) {
+      final var command = batch.getFirst();
+      LOG.trace(
+          "Sending command {} {} to partition {}, leader {}",
+          command.valueType(),
+          command.intent(),
+          receiverPartitionId,
+          partitionLeader);
+      communicationService.unicast(
+          TOPIC_PREFIX + receiverPartitionId,
+          Encoder.encode(checkpointId, receiverPartitionId, command),
+          DefaultSerializers.BASIC::encode,
+          partitionLeader,
+          true);
+      return;
+    }
+
+    LOG.trace(
+        "Sending batch of {} commands to partition {}, leader {}",
+        batch.size(),
+        receiverPartitionId,
+        partitionLeader);
+    communicationService.unicast(
+        BATCH_TOPIC_PREFIX + receiverPartitionId,
+        Encoder.encodeBatch(checkpointId, receiverPartitionId, batch),
+        DefaultSerializers.BASIC::encode,
+        partitionLeader,
+        true);
+  }
+
   void setCheckpointId(final long checkpointId) {
     this.checkpointId = checkpointId;
   }
@@ -90,37 +216,75 @@ final class InterPartitionCommandSenderImpl implements InterPartitionCommandSend
     partitionLeaders.put(partitionId, currentLeader);
   }
 
+  private record QueuedCommand(
+      long checkpointId, ValueType valueType, Intent intent, Long recordKey, DirectBuffer command) {
+
+    int length() {
+      return command.capacity();
+    }
+  }
+
   private static final class Encoder {
 
     private static byte[] encode(
-        final long checkpointId,
-        final int receiverPartitionId,
-        final ValueType valueType,
-        final Intent intent,
-        final Long recordKey,
-        final BufferWriter command) {
+        final long checkpointId, final int receiverPartitionId, final QueuedCommand command) {
       final var messageLength =
           MessageHeaderEncoder.ENCODED_LENGTH
               + InterPartitionMessageEncoder.BLOCK_LENGTH
               + InterPartitionMessageEncoder.commandHeaderLength()
-              + command.getLength();
+              + command.length();
 
       final var headerEncoder = new MessageHeaderEncoder();
       final var bodyEncoder = new InterPartitionMessageEncoder();
-      final var commandBuffer = new UnsafeBuffer(new byte[command.getLength()]);
       final var messageBuffer = new UnsafeBuffer(new byte[messageLength]);
-      command.write(commandBuffer, 0);
       bodyEncoder
           .wrapAndApplyHeader(messageBuffer, 0, headerEncoder)
           .checkpointId(checkpointId)
           .receiverPartitionId(receiverPartitionId)
-          .valueType(valueType.value())
-          .intent(intent.value())
-          .putCommand(commandBuffer, 0, command.getLength());
+          .valueType(command.valueType().value())
+          .intent(command.intent().value())
+          .putCommand(command.command(), 0, command.length());
 
       bodyEncoder.recordKey(
           Objects.requireNonNullElseGet(
-              recordKey, InterPartitionMessageEncoder::recordKeyNullValue));
+              command.recordKey(), InterPartitionMessageEncoder::recordKeyNullValue));
+
+      return messageBuffer.byteArray();
+    }
+
+    private static byte[] encodeBatch(
+        final long checkpointId, final int receiverPartitionId, final List<QueuedCommand> batch) {
+      int messageLength =
+          MessageHeaderEncoder.ENCODED_LENGTH
+              + InterPartitionMessageBatchEncoder.BLOCK_LENGTH
+              + CommandsEncoder.sbeHeaderSize();
+      for (final var command : batch) {
+        messageLength +=
+            CommandsEncoder.sbeBlockLength()
+                + CommandsEncoder.commandHeaderLength()
+                + command.length();
+      }
+
+      final var headerEncoder = new MessageHeaderEncoder();
+      final var bodyEncoder = new InterPartitionMessageBatchEncoder();
+      final var messageBuffer = new UnsafeBuffer(new byte[messageLength]);
+      final var commandsEncoder =
+          bodyEncoder
+              .wrapAndApplyHeader(messageBuffer, 0, headerEncoder)
+              .receiverPartitionId(receiverPartitionId)
+              .checkpointId(checkpointId)
+              .commandsCount(batch.size());
+
+      for (final var command : batch) {
+        commandsEncoder
+            .next()
+            .valueType(command.valueType().value())
+            .intent(command.intent().value())
+            .recordKey(
+                Objects.requireNonNullElseGet(
+                    command.recordKey(), CommandsEncoder::recordKeyNullValue))
+            .putCommand(command.command(), 0, command.length());
+      }
 
       return messageBuffer.byteArray();
     }
@@ -17,16 +17,29 @@ import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.scheduler.Actor;
 import io.camunda.zeebe.stream.api.InterPartitionCommandSender;
 
+/**
+ * Sends commands to other partitions on its own actor. If batching is enabled, commands which are
+ * sent in quick succession, e.g. the distributions of a deployment, the redistributions of a retry
+ * cycle, or the acknowledgements of distributed commands, are coalesced: they are queued until the
+ * actor gets to the flush, and then sent in one message per partition.
+ *
+ * <p>Batching must only be enabled once all brokers of the cluster understand batches, as brokers
+ * of earlier versions drop them. Otherwise, every command is sent in its own message.
+ */
 public final class InterPartitionCommandSenderService extends Actor
     implements InterPartitionCommandSender, CheckpointListener, TopologyPartitionListener {
 
   final InterPartitionCommandSenderImpl commandSender;
   final int partitionId;
+  private final boolean batchingEnabled;
 
   public InterPartitionCommandSenderService(
-      final ClusterCommunicationService communicationService, final int partitionId) {
+      final ClusterCommunicationService communicationService,
+      final int partitionId,
+      final boolean batchingEnabled) {
     commandSender = new InterPartitionCommandSenderImpl(communicationService);
     this.partitionId = partitionId;
+    this.batchingEnabled = batchingEnabled;
   }
 
   @Override
@@ -40,7 +53,7 @@ public final class InterPartitionCommandSenderService extends Actor
       final ValueType valueType,
       final Intent intent,
       final UnifiedRecordValue command) {
-    actor.submit(() -> commandSender.sendCommand(receiverPartitionId, valueType, intent, command));
+    sendCommand(receiverPartitionId, valueType, intent, null, command);
   }
 
   @Override
@@ -50,9 +63,22 @@ public final class InterPartitionCommandSenderService extends Actor
       final Intent intent,
       final Long recordKey,
       final UnifiedRecordValue command) {
+    if (!batchingEnabled) {
+      actor.submit(
+          () ->
+              commandSender.sendCommand(
+                  receiverPartitionId, valueType, intent, recordKey, command));
+      return;
+    }
+
     actor.submit(
-        () ->
-            commandSender.sendCommand(receiverPartitionId, valueType, intent, recordKey, command));
+        () -> {
+          if (commandSender.queueCommand(
+              receiverPartitionId, valueType, intent, recordKey, command)) {
+            // the flush is queued after the commands which are already submitted to this actor
+            actor.submit(commandSender::flushQueuedCommands);
+          }
+        });
   }
 
   @Override
@@ -17,15 +17,15 @@ import io.camunda.zeebe.broker.exporter.stream.ExporterDirector.ExporterInitiali
 import io.camunda.zeebe.exporter.api.Exporter;
 import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.exporter.api.context.Controller;
-import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.ValueType;
-import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.BeforeEach;
@@ -52,6 +52,7 @@ final class ExporterContainerTest {
     private Controller controller;
     private Record<?> record;
     private boolean closed;
+    private boolean failing;
 
     public Context getContext() {
       return context;
@@ -69,6 +70,14 @@ final class ExporterContainerTest {
       return closed;
     }
 
+    public boolean isFailing() {
+      return failing;
+    }
+
+    public void setFailing(final boolean failing) {
+      this.failing = failing;
+    }
+
     @Override
     public void configure(final Context context) throws Exception {
       this.context = context;
@@ -86,6 +95,9 @@ final class ExporterContainerTest {
 
     @Override
     public void export(final Record<?> record) {
+      if (failing) {
+        throw new RuntimeException("Export failed (expected)");
+      }
       this.record = record;
     }
   }
@@ -99,6 +111,42 @@ final class ExporterContainerTest {
     }
   }
 
+  public static final class FakeBatchExporter extends FakeExporter {
+
+    private final List<List<Record<?>>> batches = new ArrayList<>();
+
+    public List<List<Record<?>>> getBatches() {
+      return batches;
+    }
+
+    @Override
+    public void exportBatch(final List<Record<?>> records) {
+      if (isFailing()) {
+        throw new RuntimeException("Export failed (expected)");
+      }
+      batches.add(List.copyOf(records));
+    }
+  }
+
+  private static final class ValueTypeFilter implements Context.RecordFilter {
+
+    private final ValueType acceptedValueType;
+
+    private ValueTypeFilter(final ValueType acceptedValueType) {
+      this.acceptedValueType = acceptedValueType;
+    }
+
+    @Override
+    public boolean acceptType(final RecordType recordType) {
+      return true;
+    }
+
+    @Override
+    public boolean acceptValue(final ValueType valueType) {
+      return valueType == acceptedValueType;
+    }
+  }
+
   private static final class AlwaysRejectingFilter implements Context.RecordFilter {
 
     @Override
@@ -189,12 +237,10 @@ final class ExporterContainerTest {
       runtime.getState().setPosition(EXPORTER_ID, 0xCAFE);
       exporterContainer.initMetadata();
 
-      final var mockedRecord = mock(TypedRecord.class);
-      when(mockedRecord.getPosition()).thenReturn(1L);
-      final var recordMetadata = new RecordMetadata();
+      final var mockedRecord = mockRecord(1L, ValueType.JOB);
 
       // when
-      exporterContainer.exportRecord(recordMetadata, mockedRecord);
+      exporterContainer.exportRecords(List.of(mockedRecord), 0);
 
       // then
       assertThat(exporter.getRecord()).isNull();
@@ -207,12 +253,10 @@ final class ExporterContainerTest {
       runtime.getState().setPosition(EXPORTER_ID, 0);
       exporterContainer.initMetadata();
 
-      final var mockedRecord = mock(TypedRecord.class);
-      when(mockedRecord.getPosition()).thenReturn(1L);
-      final var recordMetadata = new RecordMetadata();
+      final var mockedRecord = mockRecord(1L, ValueType.JOB);
 
       // when
-      exporterContainer.exportRecord(recordMetadata, mockedRecord);
+      exporterContainer.exportRecords(List.of(mockedRecord), 0);
 
       // then
       assertThat(exporter.getRecord()).isNotNull();
@@ -228,15 +272,12 @@ final class ExporterContainerTest {
       runtime.getState().setPosition(EXPORTER_ID, 0);
       exporterContainer.initMetadata();
 
-      final var mockedRecord = mock(TypedRecord.class);
-      when(mockedRecord.getPosition()).thenReturn(1L);
-      final var recordMetadata = new RecordMetadata();
-      exporterContainer.exportRecord(recordMetadata, mockedRecord);
+      final var mockedRecord = mockRecord(1L, ValueType.JOB);
+      exporterContainer.exportRecords(List.of(mockedRecord), 0);
 
       // when
-      final var secondRecord = mock(TypedRecord.class);
-      when(secondRecord.getPosition()).thenReturn(2L);
-      exporterContainer.exportRecord(recordMetadata, secondRecord);
+      final var secondRecord = mockRecord(2L, ValueType.JOB);
+      exporterContainer.exportRecords(List.of(secondRecord), 0);
 
       // then
       assertThat(exporter.getRecord()).isNotNull();
@@ -253,10 +294,8 @@ final class ExporterContainerTest {
       exporterContainer.initMetadata();
       exporterContainer.openExporter();
 
-      final var mockedRecord = mock(TypedRecord.class);
-      when(mockedRecord.getPosition()).thenReturn(1L);
-      final var recordMetadata = new RecordMetadata();
-      exporterContainer.exportRecord(recordMetadata, mockedRecord);
+      final var mockedRecord = mockRecord(1L, ValueType.JOB);
+      exporterContainer.exportRecords(List.of(mockedRecord), 0);
 
       // when
       exporterContainer.updateLastExportedRecordPosition(mockedRecord.getPosition());
@@ -276,10 +315,8 @@ final class ExporterContainerTest {
       exporterContainer.initMetadata();
       exporterContainer.openExporter();
 
-      final var mockedRecord = mock(TypedRecord.class);
-      when(mockedRecord.getPosition()).thenReturn(1L);
-      final var recordMetadata = new RecordMetadata();
-      exporterContainer.exportRecord(recordMetadata, mockedRecord);
+      final var mockedRecord = mockRecord(1L, ValueType.JOB);
+      exporterContainer.exportRecords(List.of(mockedRecord), 0);
 
       // when
       exporterContainer.updateLastExportedRecordPosition(-1);
@@ -299,12 +336,10 @@ final class ExporterContainerTest {
       exporterContainer.initMetadata();
       exporterContainer.openExporter();
 
-      final var mockedRecord = mock(TypedRecord.class);
-      when(mockedRecord.getPosition()).thenReturn(1L);
-      final var recordMetadata = new RecordMetadata();
-      exporterContainer.exportRecord(recordMetadata, mockedRecord);
+      final var mockedRecord = mockRecord(1L, ValueType.JOB);
+      exporterContainer.exportRecords(List.of(mockedRecord), 0);
       when(mockedRecord.getPosition()).thenReturn(2L);
-      exporterContainer.exportRecord(recordMetadata, mockedRecord);
+      exporterContainer.exportRecords(List.of(mockedRecord), 0);
 
       // when
       exporterContainer.updateLastExportedRecordPosition(2);
@@ -326,10 +361,8 @@ final class ExporterContainerTest {
       exporterContainer.openExporter();
       exporterContainer.softPauseExporter();
 
-      final var mockedRecord = mock(TypedRecord.class);
-      when(mockedRecord.getPosition()).thenReturn(1L);
-      final var recordMetadata = new RecordMetadata();
-      exporterContainer.exportRecord(recordMetadata, mockedRecord);
+      final var mockedRecord = mockRecord(1L, ValueType.JOB);
+      exporterContainer.exportRecords(List.of(mockedRecord), 0);
 
       // when
       exporterContainer.updateLastExportedRecordPosition(mockedRecord.getPosition());
@@ -349,11 +382,9 @@ final class ExporterContainerTest {
       exporterContainer.openExporter();
       exporterContainer.softPauseExporter();
 
-      final var mockedRecord = mock(TypedRecord.class);
-      when(mockedRecord.getPosition()).thenReturn(1L);
+      final var mockedRecord = mockRecord(1L, ValueType.JOB);
       final byte[] metadata = "metadata".getBytes();
-      final var recordMetadata = new RecordMetadata().requestId(1L);
-      exporterContainer.exportRecord(recordMetadata, mockedRecord);
+      exporterContainer.exportRecords(List.of(mockedRecord), 0);
 
       exporterContainer.updateLastExportedRecordPosition(mockedRecord.getPosition(), metadata);
       awaitPreviousCall();
@@ -380,12 +411,10 @@ final class ExporterContainerTest {
       runtime.getState().setPosition(EXPORTER_ID, 0);
       exporterContainer.initMetadata();
 
-      final var mockedRecord = mock(TypedRecord.class);
-      when(mockedRecord.getPosition()).thenReturn(1L);
-      final var recordMetadata = new RecordMetadata();
+      final var mockedRecord = mockRecord(1L, ValueType.JOB);
 
       // when
-      exporterContainer.exportRecord(recordMetadata, mockedRecord);
+      exporterContainer.exportRecords(List.of(mockedRecord), 0);
 
       // then
       assertThat(exporter.getRecord()).isNull();
@@ -400,17 +429,15 @@ final class ExporterContainerTest {
       runtime.getState().setPosition(EXPORTER_ID, 0);
       exporterContainer.initMetadata();
 
-      final var mockedRecord = mock(TypedRecord.class);
-      when(mockedRecord.getPosition()).thenReturn(1L);
-      final var recordMetadata = new RecordMetadata();
-      exporterContainer.exportRecord(recordMetadata, mockedRecord);
+      final var mockedRecord = mockRecord(1L, ValueType.JOB);
+      exporterContainer.exportRecords(List.of(mockedRecord), 0);
       exporterContainer.updateLastExportedRecordPosition(mockedRecord.getPosition());
       awaitPreviousCall();
 
       // when
       exporter.getContext().setFilter(new AlwaysRejectingFilter());
       when(mockedRecord.getPosition()).thenReturn(2L);
-      exporterContainer.exportRecord(recordMetadata, mockedRecord);
+      exporterContainer.exportRecords(List.of(mockedRecord), 0);
 
       // then
       assertThat(exporter.getRecord()).isNotNull();
@@ -426,16 +453,13 @@ final class ExporterContainerTest {
       runtime.getState().setPosition(EXPORTER_ID, 0);
       exporterContainer.initMetadata();
 
-      final var firstRecord = mock(TypedRecord.class);
-      when(firstRecord.getPosition()).thenReturn(1L);
-      final var recordMetadata = new RecordMetadata();
-      exporterContainer.exportRecord(recordMetadata, firstRecord);
+      final var firstRecord = mockRecord(1L, ValueType.JOB);
+      exporterContainer.exportRecords(List.of(firstRecord), 0);
 
       // when
-      final var secondRecord = mock(TypedRecord.class);
-      when(secondRecord.getPosition()).thenReturn(2L);
+      final var secondRecord = mockRecord(2L, ValueType.JOB);
       exporter.getContext().setFilter(new AlwaysRejectingFilter());
-      exporterContainer.exportRecord(recordMetadata, secondRecord);
+      exporterContainer.exportRecords(List.of(secondRecord), 0);
 
       // then
       assertThat(exporter.getRecord()).isNotNull();
@@ -536,6 +560,78 @@ final class ExporterContainerTest {
       assertThat(readMetadata).isPresent().hasValue(metadata);
     }
 
+    @Test
+    void shouldExportRecordsOneByOneIfExporterDoesNotExportBatches() throws Exception {
+      // given
+      exporterContainer.configureExporter();
+      runtime.getState().setPosition(EXPORTER_ID, 0);
+      exporterContainer.initMetadata();
+
+      final var firstRecord = mockRecord(1L, ValueType.JOB);
+      final var secondRecord = mockRecord(2L, ValueType.JOB);
+
+      // when
+      final var exportedIndex =
+          exporterContainer.exportRecords(List.of(firstRecord, secondRecord), 0);
+
+      // then
+      assertThat(exportedIndex).isEqualTo(2);
+      assertThat(exporter.getRecord()).isEqualTo(secondRecord);
+      assertThat(exporterContainer.getLastUnacknowledgedPosition()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldUpdatePositionOnlyForFilteredRecordsBeforeExportedRecord() throws Exception {
+      // given
+      exporterContainer.configureExporter();
+      exporter.getContext().setFilter(new ValueTypeFilter(ValueType.JOB));
+      runtime.getState().setPosition(EXPORTER_ID, 0);
+      exporterContainer.initMetadata();
+
+      final var filteredRecord = mockRecord(1L, ValueType.INCIDENT);
+      final var exportedRecord = mockRecord(2L, ValueType.JOB);
+      final var unacknowledgedFilteredRecord = mockRecord(3L, ValueType.INCIDENT);
+
+      // when
+      final var exportedIndex =
+          exporterContainer.exportRecords(
+              List.of(filteredRecord, exportedRecord, unacknowledgedFilteredRecord), 0);
+
+      // then
+      assertThat(exportedIndex).isEqualTo(3);
+      assertThat(exporter.getRecord()).isEqualTo(exportedRecord);
+      assertThat(exporterContainer.getLastUnacknowledgedPosition()).isEqualTo(2);
+      assertThat(exporterContainer.getPosition()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReturnIndexOfFailedRecord() throws Exception {
+      // given
+      exporterContainer.configureExporter();
+      runtime.getState().setPosition(EXPORTER_ID, 0);
+      exporterContainer.initMetadata();
+
+      final var firstRecord = mockRecord(1L, ValueType.JOB);
+      final var secondRecord = mockRecord(2L, ValueType.JOB);
+      final var thirdRecord = mockRecord(3L, ValueType.JOB);
+      final var records = List.of(firstRecord, secondRecord, thirdRecord);
+      exporterContainer.exportRecords(records.subList(0, 1), 0);
+      exporter.setFailing(true);
+
+      // when
+      final var exportedIndex = exporterContainer.exportRecords(records, 1);
+
+      // then
+      assertThat(exportedIndex).isOne();
+      assertThat(exporter.getRecord()).isEqualTo(firstRecord);
+      assertThat(exporterContainer.getLastUnacknowledgedPosition()).isOne();
+
+      exporter.setFailing(false);
+      assertThat(exporterContainer.exportRecords(records, exportedIndex)).isEqualTo(3);
+      assertThat(exporter.getRecord()).isEqualTo(thirdRecord);
+      assertThat(exporterContainer.getLastUnacknowledgedPosition()).isEqualTo(3);
+    }
+
     private void awaitPreviousCall() {
       // call is enqueued in queue and will be run after the previous call
       // when we await the call we can be sure that the previous call is also done
@@ -543,6 +639,129 @@ final class ExporterContainerTest {
     }
   }
 
+  @Nested
+  class WithBatchExporter {
+
+    private FakeBatchExporter batchExporter;
+
+    @BeforeEach
+    void beforeEach(final @TempDir Path storagePath) throws Exception {
+      runtime = new ExporterContainerRuntime(storagePath);
+
+      final var descriptor =
+          runtime.getRepository().load(EXPORTER_ID, FakeBatchExporter.class, Map.of());
+      exporterContainer = runtime.newContainer(descriptor, PARTITION_ID);
+      batchExporter = (FakeBatchExporter) exporterContainer.getExporter();
+
+      exporterContainer.configureExporter();
+      runtime.getState().setPosition(EXPORTER_ID, 0);
+      exporterContainer.initMetadata();
+    }
+
+    @Test
+    void shouldExportRecordsAsBatch() {
+      // given
+      final var firstRecord = mockRecord(1L, ValueType.JOB);
+      final var secondRecord = mockRecord(2L, ValueType.JOB);
+
+      // when
+      final var exportedIndex =
+          exporterContainer.exportRecords(List.of(firstRecord, secondRecord), 0);
+
+      // then
+      assertThat(exportedIndex).isEqualTo(2);
+      assertThat(batchExporter.getBatches()).containsExactly(List.of(firstRecord, secondRecord));
+      assertThat(batchExporter.getRecord()).isNull();
+      assertThat(exporterContainer.getLastUnacknowledgedPosition()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldSplitBatchOnFilteredRecord() {
+      // given
+      batchExporter.getContext().setFilter(new ValueTypeFilter(ValueType.JOB));
+      final var firstRecord = mockRecord(1L, ValueType.JOB);
+      final var filteredRecord = mockRecord(2L, ValueType.INCIDENT);
+      final var thirdRecord = mockRecord(3L, ValueType.JOB);
+
+      // when
+      final var exportedIndex =
+          exporterContainer.exportRecords(List.of(firstRecord, filteredRecord, thirdRecord), 0);
+
+      // then
+      assertThat(exportedIndex).isEqualTo(3);
+      assertThat(batchExporter.getBatches())
+          .containsExactly(List.of(firstRecord), List.of(thirdRecord));
+      assertThat(exporterContainer.getLastUnacknowledgedPosition()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldUpdatePositionOnlyForFilteredRecordsBeforeExportedBatch() {
+      // given
+      batchExporter.getContext().setFilter(new ValueTypeFilter(ValueType.JOB));
+      final var filteredRecord = mockRecord(1L, ValueType.INCIDENT);
+      final var secondRecord = mockRecord(2L, ValueType.JOB);
+      final var thirdRecord = mockRecord(3L, ValueType.JOB);
+      final var unacknowledgedFilteredRecord = mockRecord(4L, ValueType.INCIDENT);
+
+      // when
+      final var exportedIndex =
+          exporterContainer.exportRecords(
+              List.of(filteredRecord, secondRecord, thirdRecord, unacknowledgedFilteredRecord), 0);
+
+      // then
+      assertThat(exportedIndex).isEqualTo(4);
+      assertThat(batchExporter.getBatches()).containsExactly(List.of(secondRecord, thirdRecord));
+      assertThat(exporterContainer.getLastUnacknowledgedPosition()).isEqualTo(3);
+      assertThat(exporterContainer.getPosition()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotExportRecordsWithSmallerPosition() {
+      // given
+      final var exportedRecord = mockRecord(0L, ValueType.JOB);
+      final var record = mockRecord(1L, ValueType.JOB);
+
+      // when
+      final var exportedIndex = exporterContainer.exportRecords(List.of(exportedRecord, record), 0);
+
+      // then
+      assertThat(exportedIndex).isEqualTo(2);
+      assertThat(batchExporter.getBatches()).containsExactly(List.of(record));
+    }
+
+    @Test
+    void shouldReturnIndexOfFailedBatch() {
+      // given
+      batchExporter.getContext().setFilter(new ValueTypeFilter(ValueType.JOB));
+      final var firstRecord = mockRecord(1L, ValueType.JOB);
+      final var filteredRecord = mockRecord(2L, ValueType.INCIDENT);
+      final var thirdRecord = mockRecord(3L, ValueType.JOB);
+      final var records = List.of(firstRecord, filteredRecord, thirdRecord);
+      exporterContainer.exportRecords(records.subList(0, 2), 0);
+      batchExporter.setFailing(true);
+
+      // when
+      final var exportedIndex = exporterContainer.exportRecords(records, 2);
+
+      // then
+      assertThat(exportedIndex).isEqualTo(2);
+      assertThat(exporterContainer.getLastUnacknowledgedPosition()).isEqualTo(1);
+
+      batchExporter.setFailing(false);
+      assertThat(exporterContainer.exportRecords(records, exportedIndex)).isEqualTo(3);
+      assertThat(batchExporter.getBatches())
+          .containsExactly(List.of(firstRecord), List.of(thirdRecord));
+    }
+  }
+
+  private static Record<?> mockRecord(final long position, final ValueType valueType) {
+    final Record<?> record = mock(Record.class);
+    when(record.getPosition()).thenReturn(position);
+    when(record.getRecordType()).thenReturn(RecordType.EVENT);
+    when(record.getValueType()).thenReturn(valueType);
+    return record;
+  }
+
   @Nested
   class WithInitializationInfo {
     private static final String OTHER_EXPORTER_ID = "otherExporter";
@@ -10,20 +10,24 @@ package io.camunda.zeebe.broker.exporter.stream;
 import static io.camunda.zeebe.test.util.TestUtil.doRepeatedly;
 import static io.camunda.zeebe.test.util.TestUtil.waitUntil;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.after;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
+import io.camunda.zeebe.broker.exporter.stream.ExporterDirector.ExporterInitializationInfo;
 import io.camunda.zeebe.broker.exporter.util.ControlledTestExporter;
 import io.camunda.zeebe.broker.exporter.util.PojoConfigurationExporter;
 import io.camunda.zeebe.broker.exporter.util.PojoConfigurationExporter.PojoExporterConfiguration;
 import io.camunda.zeebe.engine.Loggers;
+import io.camunda.zeebe.exporter.api.Exporter;
 import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.camunda.zeebe.protocol.impl.record.value.incident.IncidentRecord;
@@ -43,6 +47,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
@@ -455,6 +461,224 @@ public final class ExporterDirectorTest {
                     .containsExactly(eventPosition1, eventPosition2));
   }
 
+  @Test
+  public void shouldExportRecordsInBatches() {
+    // given
+    final var batchExporter = new BatchRecordingExporter();
+    final ExporterDescriptor descriptor =
+        spy(new ExporterDescriptor("batch-exporter", BatchRecordingExporter.class, Map.of()));
+    doAnswer(c -> batchExporter).when(descriptor).newInstance();
+    final var positions = List.of(writeEvent(), writeEvent(), writeEvent());
+
+    // when
+    rule.withMaxBatchSize(2).startExporterDirector(List.of(descriptor));
+
+    // then
+    Awaitility.await("Exporter has exported all records")
+        .untilAsserted(
+            () ->
+                assertThat(batchExporter.getBatches())
+                    .flatExtracting(batch -> batch)
+                    .containsExactlyElementsOf(positions));
+    assertThat(batchExporter.getBatches())
+        .allSatisfy(batch -> assertThat(batch).hasSizeBetween(1, 2));
+  }
+
+  @Test
+  public void shouldExportIndependentlyWithParallelExporting() {
+    // given
+    exporters
+        .get(0)
+        .onExport(
+            e -> {
+              throw new RuntimeException("Export failed (expected)");
+            });
+    rule.withParallelExporting(true).startExporterDirector(exporterDescriptors);
+
+    // when
+    final long eventPosition1 = writeEvent();
+    final long eventPosition2 = writeEvent();
+
+    // then
+    Awaitility.await("Exporter %s has exported all records".formatted(EXPORTER_ID_2))
+        .untilAsserted(
+            () ->
+                assertThat(exporters.get(1).getExportedRecords())
+                    .extracting(Record::getPosition)
+                    .containsExactly(eventPosition1, eventPosition2));
+    final ExportersState state = rule.getExportersState();
+    Awaitility.await("Exporter %s has updated its position".formatted(EXPORTER_ID_2))
+        .untilAsserted(
+            () -> assertThat(state.getPosition(EXPORTER_ID_2)).isEqualTo(eventPosition2));
+    assertThat(exporters.get(0).getExportedRecords()).isEmpty();
+    assertThat(state.getPosition(EXPORTER_ID_1)).isEqualTo(-1L);
+    assertThat(rule.getDirector().getLowestPosition().join()).isEqualTo(-1L);
+  }
+
+  @Test
+  public void shouldPauseExportingWithParallelExporting() {
+    // given
+    rule.withParallelExporting(true).startExporterDirector(exporterDescriptors);
+
+    // when
+    rule.getDirector().pauseExporting().join();
+    writeEvent();
+
+    // then
+    verify(exporters.get(0), after(TIMEOUT_MILLIS).never()).export(any());
+    verify(exporters.get(1), never()).export(any());
+  }
+
+  @Test
+  public void shouldResumeExportingWithParallelExporting() {
+    // given
+    rule.withParallelExporting(true).startExporterDirector(exporterDescriptors);
+    rule.getDirector().pauseExporting().join();
+    final long eventPosition = writeEvent();
+
+    // when
+    rule.getDirector().resumeExporting().join();
+
+    // then
+    Awaitility.await("Exporters have exported the record after resuming")
+        .untilAsserted(
+            () ->
+                assertThat(exporters)
+                    .allSatisfy(
+                        exporter ->
+                            assertThat(exporter.getExportedRecords())
+                                .extracting(Record::getPosition)
+                                .containsExactly(eventPosition)));
+  }
+
+  @Test
+  public void shouldNotUpdatePositionWhileSoftPausedWithParallelExporting() {
+    // given
+    exporters.forEach(e -> e.shouldAutoUpdatePosition(true));
+    rule.withParallelExporting(true).startExporterDirector(exporterDescriptors);
+    rule.getDirector().softPauseExporting().join();
+
+    // when
+    final long eventPosition = writeEvent();
+
+    // then
+    verify(exporters.get(0), TIMEOUT).export(any());
+    verify(exporters.get(1), TIMEOUT).export(any());
+    final ExportersState state = rule.getExportersState();
+    assertThat(state.getPosition(EXPORTER_ID_1)).isEqualTo(-1L);
+    assertThat(state.getPosition(EXPORTER_ID_2)).isEqualTo(-1L);
+
+    // when
+    rule.getDirector().resumeExporting().join();
+
+    // then
+    Awaitility.await("Exporters have updated their positions after resuming")
+        .untilAsserted(
+            () -> {
+              assertThat(state.getPosition(EXPORTER_ID_1)).isEqualTo(eventPosition);
+              assertThat(state.getPosition(EXPORTER_ID_2)).isEqualTo(eventPosition);
+            });
+  }
+
+  @Test
+  public void shouldUpdateExportedPositionOnSkipRecordWithParallelExporting() {
+    // given
+    final ControlledTestExporter filteringExporter = exporters.get(0);
+    filteringExporter.onConfigure(
+        withFilter(List.of(RecordType.COMMAND), List.of(ValueType.DEPLOYMENT)));
+    rule.withParallelExporting(true).startExporterDirector(exporterDescriptors);
+
+    // when
+    final long skippedRecordPosition = writeEvent();
+
+    // then - the skipped record doesn't hold back the position the flow control is notified of
+    verify(exporters.get(1), TIMEOUT).export(any());
+    verify(rule.getFlowControl(), TIMEOUT).onExported(skippedRecordPosition);
+    assertThat(filteringExporter.getExportedRecords()).isEmpty();
+    Awaitility.await("Exporter %s has updated its position".formatted(EXPORTER_ID_1))
+        .untilAsserted(
+            () ->
+                assertThat(rule.getExportersState().getPosition(EXPORTER_ID_1))
+                    .isEqualTo(skippedRecordPosition));
+  }
+
+  @Test
+  public void shouldRemoveExporterWithParallelExporting() {
+    // given
+    rule.withParallelExporting(true).startExporterDirector(exporterDescriptors);
+
+    // when
+    rule.getDirector().disableExporter(EXPORTER_ID_2).join();
+    final long eventPosition = writeEvent();
+
+    // then - the removed exporter doesn't hold back the position the flow control is notified of
+    verify(exporters.get(0), TIMEOUT).export(any());
+    verify(rule.getFlowControl(), TIMEOUT).onExported(eventPosition);
+    verify(exporters.get(1), never()).export(any());
+    assertThat(rule.getExportersState().getPosition(EXPORTER_ID_2)).isEqualTo(-1L);
+  }
+
+  @Test
+  public void shouldAddExporterWithParallelExporting() {
+    // given
+    exporters.forEach(e -> e.shouldAutoUpdatePosition(true));
+    rule.withParallelExporting(true).startExporterDirector(List.of(exporterDescriptors.get(0)));
+    final long eventPosition = writeEvent();
+    verify(exporters.get(0), TIMEOUT).export(any());
+
+    // when
+    rule.getDirector()
+        .enableExporter(
+            EXPORTER_ID_2, new ExporterInitializationInfo(0, null), exporterDescriptors.get(1))
+        .join();
+
+    // then
+    Awaitility.await("Exporter %s has exported the record".formatted(EXPORTER_ID_2))
+        .untilAsserted(
+            () ->
+                assertThat(exporters.get(1).getExportedRecords())
+                    .extracting(Record::getPosition)
+                    .containsExactly(eventPosition));
+    Awaitility.await("Exporter %s has updated its position".formatted(EXPORTER_ID_2))
+        .untilAsserted(
+            () ->
+                assertThat(rule.getExportersState().getPosition(EXPORTER_ID_2))
+                    .isEqualTo(eventPosition));
+  }
+
+  @Test
+  public void shouldCloseExporterActorsBeforeClosingWithParallelExporting() {
+    // given
+    final var closeAllowed = new CompletableFuture<Void>();
+    final var closedExporters = new CopyOnWriteArrayList<String>();
+    exporters
+        .get(0)
+        .onClose(
+            () -> {
+              closeAllowed.join();
+              closedExporters.add(EXPORTER_ID_1);
+            });
+    exporters.get(1).onClose(() -> closedExporters.add(EXPORTER_ID_2));
+    rule.withParallelExporting(true).startExporterDirector(exporterDescriptors);
+    verify(exporters.get(0), TIMEOUT).open(any());
+    verify(exporters.get(1), TIMEOUT).open(any());
+
+    // when
+    final var directorClosed = rule.getDirector().stopAsync();
+
+    // then - the director waits for the exporter which is still closing
+    verify(exporters.get(1), TIMEOUT).close();
+    verify(exporters.get(0), TIMEOUT).close();
+    assertThat(directorClosed).isNotDone();
+
+    // when
+    closeAllowed.complete(null);
+    directorClosed.join();
+
+    // then
+    assertThat(closedExporters).containsExactlyInAnyOrder(EXPORTER_ID_1, EXPORTER_ID_2);
+  }
+
   @Test
   public void shouldExecuteScheduledTask() throws Exception {
     // given
@@ -784,4 +1008,23 @@ public final class ExporterDirectorTest {
 
     return exporter;
   }
+
+  public static final class BatchRecordingExporter implements Exporter {
+
+    private final List<List<Long>> batches = new CopyOnWriteArrayList<>();
+
+    public List<List<Long>> getBatches() {
+      return batches;
+    }
+
+    @Override
+    public void export(final Record<?> record) {
+      throw new UnsupportedOperationException("Expected to export records as batch");
+    }
+
+    @Override
+    public void exportBatch(final List<Record<?>> records) {
+      batches.add(records.stream().map(Record::getPosition).toList());
+    }
+  }
 }
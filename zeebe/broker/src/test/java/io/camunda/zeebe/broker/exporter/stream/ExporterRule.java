@@ -7,6 +7,9 @@
  */
 package io.camunda.zeebe.broker.exporter.stream;
 
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 
 import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
@@ -17,6 +20,8 @@ import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
 import io.camunda.zeebe.engine.util.TestStreams;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl;
+import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.protocol.record.RecordType;
@@ -58,8 +63,11 @@ public final class ExporterRule implements TestRule {
   private TestStreams streams;
   private PartitionMessagingService partitionMessagingService = new SimplePartitionMessageService();
   private ExporterDirector director;
+  private FlowControl capturedFlowControl;
   private Duration distributionInterval = Duration.ofSeconds(15);
   private EventFilter positionsToSkipFilter = SkipPositionsFilter.of(Set.of());
+  private int maxBatchSize = ExporterDirectorContext.DEFAULT_MAX_BATCH_SIZE;
+  private boolean parallelExporting = ExporterDirectorContext.DEFAULT_PARALLEL_EXPORTING;
 
   private ExporterRule(final ExporterMode exporterMode) {
     this.exporterMode = exporterMode;
@@ -94,6 +102,16 @@ public final class ExporterRule implements TestRule {
     return this;
   }
 
+  public ExporterRule withMaxBatchSize(final int maxBatchSize) {
+    this.maxBatchSize = maxBatchSize;
+    return this;
+  }
+
+  public ExporterRule withParallelExporting(final boolean parallelExporting) {
+    this.parallelExporting = parallelExporting;
+    return this;
+  }
+
   @Override
   public Statement apply(final Statement base, final Description description) {
     return chain.apply(base, description);
@@ -108,6 +126,10 @@ public final class ExporterRule implements TestRule {
     final var stream = streams.getLogStream(STREAM_NAME);
     final var runtimeFolder = streams.createRuntimeFolder(stream);
     capturedZeebeDb = spy(zeebeDbFactory.createDb(runtimeFolder.toFile()));
+    final var logStream = stream.getAsyncLogStream();
+    final LogStream capturedLogStream = mock(LogStream.class, delegatesTo(logStream));
+    capturedFlowControl = mock(FlowControl.class, delegatesTo(logStream.getFlowControl()));
+    doReturn(capturedFlowControl).when(capturedLogStream).getFlowControl();
 
     final var descriptorsWithInitializationInfo =
         exporterDescriptors.stream()
@@ -120,13 +142,15 @@ public final class ExporterRule implements TestRule {
         new ExporterDirectorContext()
             .id(EXPORTER_PROCESSOR_ID)
             .name(PROCESSOR_NAME)
-            .logStream(stream.getAsyncLogStream())
+            .logStream(capturedLogStream)
             .zeebeDb(capturedZeebeDb)
             .exporterMode(exporterMode)
             .distributionInterval(distributionInterval)
             .partitionMessagingService(partitionMessagingService)
             .descriptors(descriptorsWithInitializationInfo)
-            .positionsToSkipFilter(positionsToSkipFilter);
+            .positionsToSkipFilter(positionsToSkipFilter)
+            .maxBatchSize(maxBatchSize)
+            .parallelExporting(parallelExporting);
 
     director = new ExporterDirector(context, phase);
     director.startAsync(actorSchedulerRule.get()).join();
@@ -136,6 +160,11 @@ public final class ExporterRule implements TestRule {
     return director;
   }
 
+  /** Returns the flow control of the log stream, which is notified about the exported records. */
+  public FlowControl getFlowControl() {
+    return capturedFlowControl;
+  }
+
   public ControlledActorClock getClock() {
     return clock;
   }
@@ -16,14 +16,13 @@ import io.camunda.zeebe.broker.exporter.stream.ExporterDirector.ExporterInitiali
 import io.camunda.zeebe.exporter.api.Exporter;
 import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.exporter.api.context.Controller;
-import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.record.Record;
-import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.util.jar.ExternalJarClassLoader;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.dynamic.DynamicType.Unloaded;
 import org.agrona.CloseHelper;
@@ -111,10 +110,10 @@ final class ExternalExporterContainerTest {
     final var container = runtime.newContainer(descriptor, 0);
 
     // when
-    final var record = mock(TypedRecord.class);
+    final Record<?> record = mock(Record.class);
     // set a high position to ensure we export it
     when(record.getPosition()).thenReturn(Long.MAX_VALUE);
-    container.exportRecord(mock(RecordMetadata.class), record);
+    container.exportRecords(List.of(record), 0);
 
     // then
     final var exporterInstance = (TclExporter) container.getExporter();
@@ -123,6 +122,30 @@ final class ExternalExporterContainerTest {
         .isInstanceOf(ExternalJarClassLoader.class);
   }
 
+  @Test
+  void shouldSetTclOnExportBatch(final @TempDir File jarDirectory)
+      throws ExporterLoadException, IOException {
+    // given
+    final var exporterClass = createUnloadedExporter(TclBatchExporter.class);
+    final var jarFile = exporterClass.toJar(new File(jarDirectory, "exporter.jar"));
+    final var descriptor = runtime.loadExternalExporter(jarFile, EXPORTER_CLASS_NAME);
+    final var expectedClassLoader = descriptor.newInstance().getClass().getClassLoader();
+    final var container = runtime.newContainer(descriptor, 0);
+
+    // when
+    final Record<?> record = mock(Record.class);
+    // set a high position to ensure we export it
+    when(record.getPosition()).thenReturn(Long.MAX_VALUE);
+    container.exportRecords(List.of(record), 0);
+
+    // then
+    final var exporterInstance = (TclBatchExporter) container.getExporter();
+    assertThat(exporterInstance.onExportBatchTCL)
+        .isSameAs(expectedClassLoader)
+        .isInstanceOf(ExternalJarClassLoader.class);
+    assertThat(exporterInstance.onExportTCL).isNull();
+  }
+
   @Test
   void shouldSetTclOnClose(final @TempDir File jarDirectory)
       throws ExporterLoadException, IOException {
@@ -213,4 +236,13 @@ final class ExternalExporterContainerTest {
       onExportTCL = Thread.currentThread().getContextClassLoader();
     }
   }
+
+  public abstract static class TclBatchExporter extends TclExporter {
+    public ClassLoader onExportBatchTCL;
+
+    @Override
+    public void exportBatch(final List<Record<?>> records) {
+      onExportBatchTCL = Thread.currentThread().getContextClassLoader();
+    }
+  }
 }
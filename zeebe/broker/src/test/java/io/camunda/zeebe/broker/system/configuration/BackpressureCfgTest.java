@@ -12,6 +12,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import io.camunda.zeebe.broker.system.configuration.backpressure.FixedCfg;
 import io.camunda.zeebe.broker.system.configuration.backpressure.Gradient2Cfg;
 import io.camunda.zeebe.broker.system.configuration.backpressure.GradientCfg;
+import io.camunda.zeebe.broker.system.configuration.backpressure.LagAwareCfg;
 import io.camunda.zeebe.broker.system.configuration.backpressure.LimitCfg;
 import io.camunda.zeebe.broker.system.configuration.backpressure.LimitCfg.LimitAlgorithm;
 import io.camunda.zeebe.broker.system.configuration.backpressure.VegasCfg;
@@ -99,6 +100,21 @@ public final class BackpressureCfgTest {
     assertThat(gradient2Cfg.getLongWindow()).isEqualTo(300);
   }
 
+  @Test
+  public void shouldSetLagAwareCfg() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("backpressure-cfg", environment);
+    final LagAwareCfg lagAwareCfg = cfg.getBackpressure().getLagAware();
+
+    // then
+    assertThat(lagAwareCfg.getMinLimit()).isEqualTo(2);
+    assertThat(lagAwareCfg.getInitialLimit()).isEqualTo(12);
+    assertThat(lagAwareCfg.getMaxLimit()).isEqualTo(120);
+    assertThat(lagAwareCfg.getRttTolerance()).isEqualTo(1.2);
+    assertThat(lagAwareCfg.getAcceptableProcessingBacklog()).isEqualTo(500);
+    assertThat(lagAwareCfg.getAcceptableExportingBacklog()).isEqualTo(5000);
+  }
+
   @Test
   public void shouldUseConfiguredBackpressureAlgorithms() {
 
@@ -128,5 +144,10 @@ public final class BackpressureCfgTest {
     backpressure.setAlgorithm("aimd");
     // then
     assertThat(backpressure.getAlgorithm()).isEqualTo(LimitAlgorithm.AIMD);
+
+    // when
+    backpressure.setAlgorithm("lag_aware");
+    // then
+    assertThat(backpressure.getAlgorithm()).isEqualTo(LimitAlgorithm.LAG_AWARE);
   }
 }
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.camunda.zeebe.engine.EngineConfiguration;
 import java.time.Duration;
@@ -30,6 +31,8 @@ final class EngineCfgTest {
     // then
     assertThat(configuration.getMessagesTtlCheckerBatchLimit()).isEqualTo(Integer.MAX_VALUE);
     assertThat(configuration.getMessagesTtlCheckerInterval()).isEqualTo(Duration.ofMinutes(1));
+    assertThat(configuration.getMessagesSubscriptionFilterSize())
+        .isEqualTo(EngineConfiguration.DEFAULT_MESSAGES_SUBSCRIPTION_FILTER_SIZE);
     assertThat(configuration.getDrgCacheCapacity()).isEqualTo(1000L);
     assertThat(configuration.getJobsTimeoutCheckerPollingInterval())
         .isEqualTo(Duration.ofSeconds(1));
@@ -38,8 +41,16 @@ final class EngineCfgTest {
         .isEqualTo(EngineConfiguration.DEFAULT_FORM_CACHE_CAPACITY);
     assertThat(configuration.getProcessCacheCapacity())
         .isEqualTo(EngineConfiguration.DEFAULT_PROCESS_CACHE_CAPACITY);
+    assertThat(configuration.getVariableScopeCacheCapacity())
+        .isEqualTo(EngineConfiguration.DEFAULT_VARIABLE_SCOPE_CACHE_CAPACITY);
     assertThat(configuration.getValidatorsResultsOutputMaxSize())
         .isEqualTo(EngineConfiguration.DEFAULT_VALIDATORS_RESULTS_OUTPUT_MAX_SIZE);
+    assertThat(configuration.getValidatorsParallelism())
+        .isEqualTo(EngineConfiguration.DEFAULT_VALIDATORS_PARALLELISM);
+    assertThat(configuration.getProcessInstanceBatchTerminateLimit())
+        .isEqualTo(EngineConfiguration.DEFAULT_PROCESS_INSTANCE_BATCH_TERMINATE_LIMIT);
+    assertThat(configuration.getProcessInstanceBatchActivateLimit())
+        .isEqualTo(EngineConfiguration.DEFAULT_PROCESS_INSTANCE_BATCH_ACTIVATE_LIMIT);
   }
 
   @Test
@@ -53,12 +64,41 @@ final class EngineCfgTest {
     // then
     assertThat(configuration.getMessagesTtlCheckerBatchLimit()).isEqualTo(1000);
     assertThat(configuration.getMessagesTtlCheckerInterval()).isEqualTo(Duration.ofSeconds(15));
+    assertThat(configuration.getMessagesSubscriptionFilterSize()).isEqualTo(4096);
     assertThat(configuration.getDrgCacheCapacity()).isEqualTo(2000L);
     assertThat(configuration.getJobsTimeoutCheckerPollingInterval())
         .isEqualTo(Duration.ofSeconds(15));
     assertThat(configuration.getJobsTimeoutCheckerBatchLimit()).isEqualTo(1000);
     assertThat(configuration.getDrgCacheCapacity()).isEqualTo(2000L);
     assertThat(configuration.getDrgCacheCapacity()).isEqualTo(2000L);
+    assertThat(configuration.getVariableScopeCacheCapacity()).isEqualTo(500);
     assertThat(configuration.getValidatorsResultsOutputMaxSize()).isEqualTo(2000);
+    assertThat(configuration.getValidatorsParallelism()).isEqualTo(4);
+    assertThat(configuration.getProcessInstanceBatchTerminateLimit()).isEqualTo(500);
+    assertThat(configuration.getProcessInstanceBatchActivateLimit()).isEqualTo(250);
+    assertThat(cfg.getExperimental().getEngine().getCaches().getExecutableProcessCacheCapacity())
+        .isEqualTo(5000);
+  }
+
+  @Test
+  void shouldRejectInvalidProcessInstanceBatchTerminateLimit() {
+    // given
+    environment.put("zeebe.broker.experimental.engine.processInstanceBatch.terminateLimit", "0");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("engine", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("terminateLimit must be >= 1");
+  }
+
+  @Test
+  void shouldRejectInvalidProcessInstanceBatchActivateLimit() {
+    // given
+    environment.put("zeebe.broker.experimental.engine.processInstanceBatch.activateLimit", "-1");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("engine", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("activateLimit must be >= 1");
   }
 }
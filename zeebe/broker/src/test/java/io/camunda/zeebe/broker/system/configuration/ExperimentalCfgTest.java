@@ -181,4 +181,25 @@ final class ExperimentalCfgTest {
     // then
     assertThat(raftCfg.isPreallocateSegmentFiles()).isTrue();
   }
+
+  @Test
+  void shouldDisableInterPartitionCommandBatchingByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+
+    // then
+    assertThat(cfg.getExperimental().getInterPartitionCommandBatching().isEnabled()).isFalse();
+  }
+
+  @Test
+  void shouldSetInterPartitionCommandBatchingEnabledFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.interPartitionCommandBatching.enabled", "true");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+
+    // then
+    assertThat(cfg.getExperimental().getInterPartitionCommandBatching().isEnabled()).isTrue();
+  }
 }
@@ -12,6 +12,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.util.HashMap;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
 
 class ExporterConfigurationTest {
 
@@ -62,4 +63,76 @@ class ExporterConfigurationTest {
     // then
     assertThat(exportingCfg.getSkipRecords()).isEqualTo(Set.of(1L, 2L, 3L));
   }
+
+  @Test
+  void shouldUseDefaultBatchLimits() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", new HashMap<>());
+    final ExportingCfg exportingCfg = cfg.getExporting();
+
+    // then
+    assertThat(exportingCfg.getMaxBatchSize()).isEqualTo(100);
+    assertThat(exportingCfg.getMaxBatchBytes()).isEqualTo(DataSize.ofMegabytes(1));
+  }
+
+  @Test
+  void shouldSetBatchLimitsFromConfigurationFile() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("exporters", new HashMap<>());
+    final ExportingCfg exportingCfg = cfg.getExporting();
+
+    // then
+    assertThat(exportingCfg.getMaxBatchSize()).isEqualTo(500);
+    assertThat(exportingCfg.getMaxBatchBytes()).isEqualTo(DataSize.ofMegabytes(4));
+  }
+
+  @Test
+  void shouldSetBatchLimitsFromEnvironment() {
+    // given
+    final var environment = new HashMap<String, String>();
+    environment.put("zeebe.broker.exporting.maxBatchSize", "10");
+    environment.put("zeebe.broker.exporting.maxBatchBytes", "64KB");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("exporters", environment);
+    final ExportingCfg exportingCfg = cfg.getExporting();
+
+    // then
+    assertThat(exportingCfg.getMaxBatchSize()).isEqualTo(10);
+    assertThat(exportingCfg.getMaxBatchBytes()).isEqualTo(DataSize.ofKilobytes(64));
+  }
+
+  @Test
+  void shouldDisableParallelExportingByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", new HashMap<>());
+    final ExportingCfg exportingCfg = cfg.getExporting();
+
+    // then
+    assertThat(exportingCfg.isParallelExporting()).isFalse();
+  }
+
+  @Test
+  void shouldEnableParallelExportingFromConfigurationFile() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("exporters", new HashMap<>());
+    final ExportingCfg exportingCfg = cfg.getExporting();
+
+    // then
+    assertThat(exportingCfg.isParallelExporting()).isTrue();
+  }
+
+  @Test
+  void shouldDisableParallelExportingFromEnvironment() {
+    // given
+    final var environment = new HashMap<String, String>();
+    environment.put("zeebe.broker.exporting.parallelExporting", "false");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("exporters", environment);
+    final ExportingCfg exportingCfg = cfg.getExporting();
+
+    // then
+    assertThat(exportingCfg.isParallelExporting()).isFalse();
+  }
 }
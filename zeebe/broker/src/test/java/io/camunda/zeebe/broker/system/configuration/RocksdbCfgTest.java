@@ -9,6 +9,8 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.db.impl.rocksdb.ColumnFamilyProfile;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.Test;
@@ -77,6 +79,7 @@ public final class RocksdbCfgTest {
     assertThat(rocksDbConfiguration.getMinWriteBufferNumberToMerge()).isEqualTo(3);
     assertThat(rocksDbConfiguration.getIoRateBytesPerSecond()).isZero();
     assertThat(rocksDbConfiguration.isWalDisabled()).isTrue();
+    assertThat(rocksDbConfiguration.getDeletionCompactionTrigger()).isZero();
   }
 
   @Test
@@ -285,4 +288,117 @@ public final class RocksdbCfgTest {
     // then
     assertThat(rocksdb.isDisableWal()).isTrue();
   }
+
+  @Test
+  public void shouldSetDeletionCompactionTriggerViaConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.getDeletionCompactionTrigger()).isEqualTo(1024);
+    assertThat(rocksdb.createRocksDbConfiguration().getDeletionCompactionTrigger()).isEqualTo(1024);
+  }
+
+  @Test
+  public void shouldSetDeletionCompactionTriggerViaEnvironmentVariables() {
+    // given
+    environment.put("zeebe.broker.experimental.rocksdb.deletionCompactionTrigger", "2048");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.getDeletionCompactionTrigger()).isEqualTo(2048);
+  }
+
+  @Test
+  public void shouldNotShareMemoryPerDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.isEnableSharedMemory()).isFalse();
+    assertThat(rocksdb.isEnableMemoryRebalancing()).isFalse();
+  }
+
+  @Test
+  public void shouldSetSharedMemoryViaConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.isEnableSharedMemory()).isTrue();
+    assertThat(rocksdb.isEnableMemoryRebalancing()).isTrue();
+  }
+
+  @Test
+  public void shouldSetSharedMemoryViaEnvironmentVariables() {
+    // given
+    environment.put("zeebe.broker.experimental.rocksdb.enableSharedMemory", "false");
+    environment.put("zeebe.broker.experimental.rocksdb.enableMemoryRebalancing", "false");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.isEnableSharedMemory()).isFalse();
+    assertThat(rocksdb.isEnableMemoryRebalancing()).isFalse();
+  }
+
+  @Test
+  public void shouldDisableColumnFamilyProfilesByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.isEnableColumnFamilyProfiles()).isFalse();
+    assertThat(rocksdb.createRocksDbConfiguration().getUsedColumnFamilyProfiles())
+        .containsExactly(ColumnFamilyProfile.DEFAULT);
+  }
+
+  @Test
+  public void shouldSetColumnFamilyProfilesViaConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+    final var rocksDbConfiguration = rocksdb.createRocksDbConfiguration();
+
+    // then
+    assertThat(rocksdb.isEnableColumnFamilyProfiles()).isTrue();
+    assertThat(rocksdb.getColumnFamilyProfiles())
+        .containsEntry(ZbColumnFamilies.JOBS, ColumnFamilyProfile.PREFIX_SCAN)
+        .containsEntry(ZbColumnFamilies.VARIABLES, ColumnFamilyProfile.POINT_LOOKUP);
+    assertThat(rocksDbConfiguration.getColumnFamilyProfile(ZbColumnFamilies.JOBS.getValue()))
+        .isEqualTo(ColumnFamilyProfile.PREFIX_SCAN);
+    assertThat(rocksDbConfiguration.getColumnFamilyProfile(ZbColumnFamilies.VARIABLES.getValue()))
+        .isEqualTo(ColumnFamilyProfile.POINT_LOOKUP);
+    assertThat(
+            rocksDbConfiguration.getColumnFamilyProfile(
+                ZbColumnFamilies.JOB_ACTIVATABLE.getValue()))
+        .isEqualTo(ColumnFamilyProfile.PREFIX_SCAN);
+  }
+
+  @Test
+  public void shouldSetColumnFamilyProfilesViaEnvironmentVariables() {
+    // given
+    environment.put("zeebe.broker.experimental.rocksdb.enableColumnFamilyProfiles", "false");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.isEnableColumnFamilyProfiles()).isFalse();
+    assertThat(
+            rocksdb
+                .createRocksDbConfiguration()
+                .getColumnFamilyProfile(ZbColumnFamilies.JOBS.getValue()))
+        .isEqualTo(ColumnFamilyProfile.DEFAULT);
+  }
 }
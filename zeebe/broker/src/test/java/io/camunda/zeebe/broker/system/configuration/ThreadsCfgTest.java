@@ -9,6 +9,7 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.scheduler.affinity.ThreadAffinity;
 import java.util.Collections;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
@@ -115,4 +116,80 @@ final class ThreadsCfgTest {
     // then
     assertThat(cpuThreadCount).isEqualTo(6);
   }
+
+  @Test
+  void shouldNotPinCpuThreadsByDefault() {
+    // given
+    final ThreadsCfg cfg = new ThreadsCfg();
+
+    // when
+    final var cpuThreadAffinity = cfg.getCpuThreadAffinity();
+
+    // then
+    assertThat(cpuThreadAffinity).isEqualTo(ThreadAffinity.NONE);
+  }
+
+  @Test
+  void shouldSetCpuThreadAffinityFromConfig() {
+    // given
+    final var cfg = TestConfigReader.readConfig("threads-cfg", Collections.emptyMap()).getThreads();
+
+    // when
+    final var cpuThreadAffinity = cfg.getCpuThreadAffinity();
+
+    // then
+    assertThat(cpuThreadAffinity).isEqualTo(ThreadAffinity.NUMA_NODE);
+  }
+
+  @Test
+  void shouldSetCpuThreadAffinityFromEnv() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.threads.cpuThreadAffinity", "CORE");
+    final var cfg = TestConfigReader.readConfig("threads-cfg", environment).getThreads();
+
+    // when
+    final var cpuThreadAffinity = cfg.getCpuThreadAffinity();
+
+    // then
+    assertThat(cpuThreadAffinity).isEqualTo(ThreadAffinity.CORE);
+  }
+
+  @Test
+  void shouldNotProfileActorsByDefault() {
+    // given
+    final ThreadsCfg cfg = new ThreadsCfg();
+
+    // when
+    final var actorProfilingEnabled = cfg.isActorProfilingEnabled();
+
+    // then
+    assertThat(actorProfilingEnabled).isFalse();
+  }
+
+  @Test
+  void shouldEnableActorProfilingFromConfig() {
+    // given
+    final var cfg = TestConfigReader.readConfig("threads-cfg", Collections.emptyMap()).getThreads();
+
+    // when
+    final var actorProfilingEnabled = cfg.isActorProfilingEnabled();
+
+    // then
+    assertThat(actorProfilingEnabled).isTrue();
+  }
+
+  @Test
+  void shouldDisableActorProfilingFromEnv() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.threads.actorProfilingEnabled", "false");
+    final var cfg = TestConfigReader.readConfig("threads-cfg", environment).getThreads();
+
+    // when
+    final var actorProfilingEnabled = cfg.isActorProfilingEnabled();
+
+    // then
+    assertThat(actorProfilingEnabled).isFalse();
+  }
 }
@@ -33,6 +33,7 @@ import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.dynamic.config.state.DynamicPartitionConfig;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessorFactory;
 import io.camunda.zeebe.engine.state.QueryService;
+import io.camunda.zeebe.engine.state.deployment.ExecutableProcessCache;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.scheduler.ConcurrencyControl;
@@ -63,6 +64,7 @@ public class TestPartitionTransitionContext implements PartitionTransitionContex
   private ExporterRepository exporterRepository;
   private AtomixLogStorage logStorage;
   private BrokerCfg brokerCfg;
+  private ExecutableProcessCache executableProcessCache = new ExecutableProcessCache(100);
   private AsyncSnapshotDirector snapshotDirector;
   private QueryService queryService;
   private ConcurrencyControl concurrencyControl;
@@ -244,6 +246,11 @@ public class TestPartitionTransitionContext implements PartitionTransitionContex
     return brokerCfg;
   }
 
+  @Override
+  public ExecutableProcessCache getExecutableProcessCache() {
+    return executableProcessCache;
+  }
+
   @Override
   public QueryService getQueryService() {
     return queryService;
@@ -321,6 +328,10 @@ public class TestPartitionTransitionContext implements PartitionTransitionContex
     this.brokerCfg = brokerCfg;
   }
 
+  public void setExecutableProcessCache(final ExecutableProcessCache executableProcessCache) {
+    this.executableProcessCache = executableProcessCache;
+  }
+
   @Override
   public void setStreamProcessor(final StreamProcessor streamProcessor) {
     this.streamProcessor = streamProcessor;
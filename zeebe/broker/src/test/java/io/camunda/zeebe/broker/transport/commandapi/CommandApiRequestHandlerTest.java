@@ -10,10 +10,15 @@ package io.camunda.zeebe.broker.transport.commandapi;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.camunda.zeebe.broker.system.configuration.CommandBatchingCfg;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerPublishMessageRequest;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
@@ -31,6 +36,7 @@ import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import org.agrona.ExpandableArrayBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -251,14 +257,117 @@ public class CommandApiRequestHandlerTest {
             ErrorCode.MALFORMED_REQUEST, "Request size is above configured maxMessageSize.");
   }
 
+  @Test
+  public void shouldWriteConcurrentCommandsAsOneBatch() {
+    // given
+    final var batchingHandler = createBatchingHandler(10);
+    final var logWriter = mock(LogStreamWriter.class);
+    when(logWriter.canWriteEvents(anyInt(), anyInt())).thenReturn(true);
+    when(logWriter.tryWrite(any(WriteContext.class), anyList())).thenReturn(Either.right(2L));
+    batchingHandler.addPartition(0, logWriter);
+    scheduler.workUntilDone();
+
+    final var request =
+        new BrokerPublishMessageRequest("test", "1").setMessageId("1").setTimeToLive(0);
+    request.serializeValue();
+
+    // when
+    sendRequest(batchingHandler, request, 1);
+    sendRequest(batchingHandler, request, 2);
+    scheduler.workUntilDone();
+
+    // then
+    verify(logWriter)
+        .tryWrite(any(WriteContext.class), argThat((List<LogAppendEntry> l) -> l.size() == 2));
+    verify(logWriter, never()).tryWrite(any(WriteContext.class), any(LogAppendEntry.class));
+  }
+
+  @Test
+  public void shouldNotExceedMaxBatchSize() {
+    // given
+    final var batchingHandler = createBatchingHandler(2);
+    final var logWriter = mock(LogStreamWriter.class);
+    when(logWriter.canWriteEvents(anyInt(), anyInt())).thenReturn(true);
+    when(logWriter.tryWrite(any(WriteContext.class), anyList())).thenReturn(Either.right(2L));
+    when(logWriter.tryWrite(any(WriteContext.class), any(LogAppendEntry.class)))
+        .thenReturn(Either.right(3L));
+    batchingHandler.addPartition(0, logWriter);
+    scheduler.workUntilDone();
+
+    final var request =
+        new BrokerPublishMessageRequest("test", "1").setMessageId("1").setTimeToLive(0);
+    request.serializeValue();
+
+    // when
+    sendRequest(batchingHandler, request, 1);
+    sendRequest(batchingHandler, request, 2);
+    sendRequest(batchingHandler, request, 3);
+    scheduler.workUntilDone();
+
+    // then
+    verify(logWriter)
+        .tryWrite(any(WriteContext.class), argThat((List<LogAppendEntry> l) -> l.size() == 2));
+    verify(logWriter).tryWrite(any(WriteContext.class), any(LogAppendEntry.class));
+  }
+
+  @Test
+  public void shouldWriteCommandsOfBatchOneByOneIfLimitExhausted() {
+    // given
+    final var batchingHandler = createBatchingHandler(10);
+    final var logWriter = mock(LogStreamWriter.class);
+    when(logWriter.canWriteEvents(anyInt(), anyInt())).thenReturn(true);
+    when(logWriter.tryWrite(any(WriteContext.class), anyList()))
+        .thenReturn(Either.left(WriteFailure.REQUEST_LIMIT_EXHAUSTED));
+    when(logWriter.tryWrite(any(WriteContext.class), any(LogAppendEntry.class)))
+        .thenReturn(Either.right(1L), Either.left(WriteFailure.REQUEST_LIMIT_EXHAUSTED));
+    batchingHandler.addPartition(0, logWriter);
+    scheduler.workUntilDone();
+
+    final var request =
+        new BrokerPublishMessageRequest("test", "1").setMessageId("1").setTimeToLive(0);
+    request.serializeValue();
+
+    // when
+    sendRequest(batchingHandler, request, 1);
+    final var rejected = sendRequest(batchingHandler, request, 2);
+    scheduler.workUntilDone();
+
+    // then
+    verify(logWriter, times(2)).tryWrite(any(WriteContext.class), any(LogAppendEntry.class));
+    assertThat(rejected)
+        .succeedsWithin(Duration.ofMinutes(1))
+        .matches(Either::isLeft)
+        .extracting(Either::getLeft)
+        .extracting(ErrorResponse::getErrorCode)
+        .isEqualTo(ErrorCode.RESOURCE_EXHAUSTED);
+  }
+
+  private CommandApiRequestHandler createBatchingHandler(final int maxBatchSize) {
+    final var batchingCfg = new CommandBatchingCfg();
+    batchingCfg.setEnabled(true);
+    batchingCfg.setMaxBatchSize(maxBatchSize);
+    final var batchingHandler = new CommandApiRequestHandler(batchingCfg);
+    scheduler.submitActor(batchingHandler);
+    scheduler.workUntilDone();
+    return batchingHandler;
+  }
+
   private CompletableFuture<Either<ErrorResponse, ExecuteCommandResponse>> handleRequest(
       final BufferWriter request) {
+    final var future = sendRequest(handler, request, 0);
+    scheduler.workUntilDone();
+    return future;
+  }
+
+  private CompletableFuture<Either<ErrorResponse, ExecuteCommandResponse>> sendRequest(
+      final CommandApiRequestHandler requestHandler,
+      final BufferWriter request,
+      final long requestId) {
     final var future = new CompletableFuture<Either<ErrorResponse, ExecuteCommandResponse>>();
     final ServerOutput serverOutput = createServerOutput(future);
     final var requestBuffer = new UnsafeBuffer(new byte[request.getLength()]);
     request.write(requestBuffer, 0);
-    handler.onRequest(serverOutput, 0, 0, requestBuffer, 0, request.getLength());
-    scheduler.workUntilDone();
+    requestHandler.onRequest(serverOutput, 0, requestId, requestBuffer, 0, request.getLength());
     return future;
   }
 
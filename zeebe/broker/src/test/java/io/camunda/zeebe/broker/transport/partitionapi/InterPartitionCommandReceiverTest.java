@@ -7,11 +7,14 @@
  */
 package io.camunda.zeebe.broker.transport.partitionapi;
 
+import static io.camunda.zeebe.broker.transport.partitionapi.InterPartitionCommandSenderImpl.BATCH_TOPIC_PREFIX;
 import static io.camunda.zeebe.broker.transport.partitionapi.InterPartitionCommandSenderImpl.TOPIC_PREFIX;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -220,6 +223,94 @@ final class InterPartitionCommandReceiverTest {
     assertThat(entryCaptor.getValue().key()).isEqualTo(LogEntryDescriptor.KEY_NULL_VALUE);
   }
 
+  @Test
+  void shouldWriteBatchedCommandsToLogStream() {
+    // given
+    final var receiverBrokerId = 3;
+    final var receiverPartitionId = 5;
+    final ClusterCommunicationService communicationService =
+        mock(ClusterCommunicationService.class);
+    final var sender = new InterPartitionCommandSenderImpl(communicationService);
+    sender.setCurrentLeader(receiverPartitionId, receiverBrokerId);
+
+    final var firstValue =
+        new MessageSubscriptionRecord().setProcessInstanceKey(1).setElementInstanceKey(1);
+    final var secondValue =
+        new MessageSubscriptionRecord().setProcessInstanceKey(2).setElementInstanceKey(2);
+    sender.queueCommand(
+        receiverPartitionId,
+        ValueType.MESSAGE_SUBSCRIPTION,
+        MessageSubscriptionIntent.CORRELATE,
+        10L,
+        firstValue);
+    sender.queueCommand(
+        receiverPartitionId,
+        ValueType.MESSAGE_SUBSCRIPTION,
+        MessageSubscriptionIntent.CORRELATE,
+        null,
+        secondValue);
+    sender.flushQueuedCommands();
+
+    final var messageCaptor = ArgumentCaptor.forClass(byte[].class);
+    verify(communicationService)
+        .unicast(
+            eq(BATCH_TOPIC_PREFIX + receiverPartitionId),
+            messageCaptor.capture(),
+            any(),
+            any(),
+            eq(true));
+
+    final LogStreamWriter logStreamWriter = getLogStreamWriter();
+    final var receiver = new InterPartitionCommandReceiverImpl(logStreamWriter);
+    final var entryCaptor = ArgumentCaptor.forClass(LogAppendEntry.class);
+
+    // when
+    receiver.handleBatchMessage(new MemberId("0"), messageCaptor.getValue());
+
+    // then
+    verify(logStreamWriter, times(2)).tryWrite(any(WriteContext.class), entryCaptor.capture());
+    assertThat(entryCaptor.getAllValues())
+        .extracting(LogAppendEntry::key, LogAppendEntry::recordValue)
+        .containsExactly(
+            tuple(10L, firstValue), tuple(LogEntryDescriptor.KEY_NULL_VALUE, secondValue));
+  }
+
+  @Test
+  void shouldSendSingleQueuedCommandAsSingleMessage() {
+    // given
+    final var receiverBrokerId = 3;
+    final var receiverPartitionId = 5;
+    final ClusterCommunicationService communicationService =
+        mock(ClusterCommunicationService.class);
+    final var sender = new InterPartitionCommandSenderImpl(communicationService);
+    sender.setCurrentLeader(receiverPartitionId, receiverBrokerId);
+
+    sender.queueCommand(
+        receiverPartitionId,
+        ValueType.MESSAGE_SUBSCRIPTION,
+        MessageSubscriptionIntent.CORRELATE,
+        null,
+        new MessageSubscriptionRecord().setProcessInstanceKey(1).setElementInstanceKey(1));
+
+    // when
+    sender.flushQueuedCommands();
+
+    // then
+    final var messageCaptor = ArgumentCaptor.forClass(byte[].class);
+    verify(communicationService)
+        .unicast(
+            eq(TOPIC_PREFIX + receiverPartitionId),
+            messageCaptor.capture(),
+            any(),
+            any(),
+            eq(true));
+
+    final LogStreamWriter logStreamWriter = getLogStreamWriter();
+    new InterPartitionCommandReceiverImpl(logStreamWriter)
+        .handleMessage(new MemberId("0"), messageCaptor.getValue());
+    verify(logStreamWriter).tryWrite(any(WriteContext.class), any(LogAppendEntry.class));
+  }
+
   private byte[] sendCommand(
       final Integer receiverBrokerId,
       final Integer receiverPartitionId,
@@ -58,6 +58,7 @@ public class Engine implements RecordProcessor {
       new ProcessingResultBuilderMutex();
 
   private Writers writers;
+  private ProcessingResultBuilder postCommitResultBuilder;
   private final TypedRecordProcessorFactory typedRecordProcessorFactory;
   private final EngineConfiguration config;
 
@@ -105,6 +106,7 @@ public class Engine implements RecordProcessor {
       final TypedRecord record, final ProcessingResultBuilder processingResultBuilder) {
 
     try (final var scope = new ProcessingResultBuilderScope(processingResultBuilder)) {
+      flushTransientStateAfterCommit(processingResultBuilder);
       TypedRecordProcessor<?> currentProcessor = null;
 
       final var typedCommand = (TypedRecord<?>) record;
@@ -140,6 +142,7 @@ public class Engine implements RecordProcessor {
       final TypedRecord record,
       final ProcessingResultBuilder processingResultBuilder) {
     try (final var scope = new ProcessingResultBuilderScope(processingResultBuilder)) {
+      flushTransientStateAfterCommit(processingResultBuilder);
 
       final var typedCommand = (TypedRecord<?>) record;
       TypedRecordProcessor<?> processor = null;
@@ -166,6 +169,34 @@ public class Engine implements RecordProcessor {
     return processingResultBuilder.build();
   }
 
+  /**
+   * The changes to the timers and the removed message subscriptions are applied to the transient
+   * timer wheel and subscription filter only after they were committed. All commands processed with
+   * the same result builder are committed together, so the flush is registered once per result
+   * builder, before any other post commit task. A new result builder means that the previous
+   * transaction was either committed and flushed, or rolled back, in which case its changes are
+   * discarded. Either way, the variable scopes which it changed may be cached again.
+   */
+  private void flushTransientStateAfterCommit(
+      final ProcessingResultBuilder processingResultBuilder) {
+    if (processingResultBuilder == postCommitResultBuilder) {
+      return;
+    }
+
+    postCommitResultBuilder = processingResultBuilder;
+    final var timerState = processingState.getTimerState();
+    final var messageSubscriptionState = processingState.getMessageSubscriptionState();
+    timerState.discardPendingTimerWheelUpdates();
+    messageSubscriptionState.discardPendingSubscriptionFilterUpdates();
+    processingState.getVariableState().releaseModifiedScopes();
+    processingResultBuilder.appendPostCommitTask(
+        () -> {
+          timerState.flushPendingTimerWheelUpdates();
+          messageSubscriptionState.flushPendingSubscriptionFilterUpdates();
+          return true;
+        });
+  }
+
   private void handleUnexpectedError(
       final Throwable processingException, final TypedRecord record) {
     final String errorMessage =
@@ -7,12 +7,14 @@
  */
 package io.camunda.zeebe.engine;
 
+import io.camunda.zeebe.engine.state.deployment.ExecutableProcessCache;
 import java.time.Duration;
 
 public final class EngineConfiguration {
 
   public static final int DEFAULT_MESSAGES_TTL_CHECKER_BATCH_LIMIT = Integer.MAX_VALUE;
   public static final Duration DEFAULT_MESSAGES_TTL_CHECKER_INTERVAL = Duration.ofMinutes(1);
+  public static final int DEFAULT_MESSAGES_SUBSCRIPTION_FILTER_SIZE = 1 << 20;
 
   public static final int DEFAULT_MAX_ERROR_MESSAGE_SIZE = 10000;
 
@@ -23,20 +25,37 @@ public final class EngineConfiguration {
   public static final int DEFAULT_DRG_CACHE_CAPACITY = 1000;
   public static final int DEFAULT_FORM_CACHE_CAPACITY = 1000;
   public static final int DEFAULT_PROCESS_CACHE_CAPACITY = 1000;
+  public static final int DEFAULT_EXECUTABLE_PROCESS_CACHE_CAPACITY = 10_000;
+  public static final int DEFAULT_VARIABLE_SCOPE_CACHE_CAPACITY = 1000;
   public static final Duration DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL = Duration.ofSeconds(1);
   public static final int DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT = Integer.MAX_VALUE;
   public static final int DEFAULT_VALIDATORS_RESULTS_OUTPUT_MAX_SIZE = 12 * 1024;
+  public static final int DEFAULT_VALIDATORS_PARALLELISM = 1;
+  public static final int DEFAULT_PROCESS_INSTANCE_BATCH_TERMINATE_LIMIT = 1000;
+  public static final int DEFAULT_PROCESS_INSTANCE_BATCH_ACTIVATE_LIMIT = 1000;
 
   private int messagesTtlCheckerBatchLimit = DEFAULT_MESSAGES_TTL_CHECKER_BATCH_LIMIT;
   private Duration messagesTtlCheckerInterval = DEFAULT_MESSAGES_TTL_CHECKER_INTERVAL;
+  private int messagesSubscriptionFilterSize = DEFAULT_MESSAGES_SUBSCRIPTION_FILTER_SIZE;
   private int drgCacheCapacity = DEFAULT_DRG_CACHE_CAPACITY;
   private int formCacheCapacity = DEFAULT_FORM_CACHE_CAPACITY;
   private int processCacheCapacity = DEFAULT_FORM_CACHE_CAPACITY;
+  private int variableScopeCacheCapacity = DEFAULT_VARIABLE_SCOPE_CACHE_CAPACITY;
 
   private Duration jobsTimeoutCheckerPollingInterval = DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL;
   private int jobsTimeoutCheckerBatchLimit = DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT;
 
   private int validatorsResultsOutputMaxSize = DEFAULT_VALIDATORS_RESULTS_OUTPUT_MAX_SIZE;
+  private int validatorsParallelism = DEFAULT_VALIDATORS_PARALLELISM;
+
+  private int processInstanceBatchTerminateLimit = DEFAULT_PROCESS_INSTANCE_BATCH_TERMINATE_LIMIT;
+  private int processInstanceBatchActivateLimit = DEFAULT_PROCESS_INSTANCE_BATCH_ACTIVATE_LIMIT;
+
+  /**
+   * The cache of transformed processes, which is shared by all partitions of the broker; if not
+   * set, every partition transforms its processes on its own.
+   */
+  private ExecutableProcessCache executableProcessCache;
 
   public int getMessagesTtlCheckerBatchLimit() {
     return messagesTtlCheckerBatchLimit;
@@ -58,6 +77,16 @@ public final class EngineConfiguration {
     return this;
   }
 
+  public int getMessagesSubscriptionFilterSize() {
+    return messagesSubscriptionFilterSize;
+  }
+
+  public EngineConfiguration setMessagesSubscriptionFilterSize(
+      final int messagesSubscriptionFilterSize) {
+    this.messagesSubscriptionFilterSize = messagesSubscriptionFilterSize;
+    return this;
+  }
+
   public int getDrgCacheCapacity() {
     return drgCacheCapacity;
   }
@@ -85,6 +114,15 @@ public final class EngineConfiguration {
     return this;
   }
 
+  public int getVariableScopeCacheCapacity() {
+    return variableScopeCacheCapacity;
+  }
+
+  public EngineConfiguration setVariableScopeCacheCapacity(final int variableScopeCacheCapacity) {
+    this.variableScopeCacheCapacity = variableScopeCacheCapacity;
+    return this;
+  }
+
   public Duration getJobsTimeoutCheckerPollingInterval() {
     return jobsTimeoutCheckerPollingInterval;
   }
@@ -113,4 +151,43 @@ public final class EngineConfiguration {
     validatorsResultsOutputMaxSize = maxSize;
     return this;
   }
+
+  public int getValidatorsParallelism() {
+    return validatorsParallelism;
+  }
+
+  public EngineConfiguration setValidatorsParallelism(final int validatorsParallelism) {
+    this.validatorsParallelism = validatorsParallelism;
+    return this;
+  }
+
+  public int getProcessInstanceBatchTerminateLimit() {
+    return processInstanceBatchTerminateLimit;
+  }
+
+  public EngineConfiguration setProcessInstanceBatchTerminateLimit(
+      final int processInstanceBatchTerminateLimit) {
+    this.processInstanceBatchTerminateLimit = processInstanceBatchTerminateLimit;
+    return this;
+  }
+
+  public int getProcessInstanceBatchActivateLimit() {
+    return processInstanceBatchActivateLimit;
+  }
+
+  public EngineConfiguration setProcessInstanceBatchActivateLimit(
+      final int processInstanceBatchActivateLimit) {
+    this.processInstanceBatchActivateLimit = processInstanceBatchActivateLimit;
+    return this;
+  }
+
+  public ExecutableProcessCache getExecutableProcessCache() {
+    return executableProcessCache;
+  }
+
+  public EngineConfiguration setExecutableProcessCache(
+      final ExecutableProcessCache executableProcessCache) {
+    this.executableProcessCache = executableProcessCache;
+    return this;
+  }
 }
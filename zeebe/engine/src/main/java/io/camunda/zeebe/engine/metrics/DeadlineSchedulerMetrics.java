@@ -0,0 +1,56 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Histogram;
+
+public final class DeadlineSchedulerMetrics {
+
+  private static final Histogram DEADLINE_LAG =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("deadline_lag")
+          .help(
+              "Time in seconds between a deadline being due and the deadline scheduler checking it,"
+                  + " by kind of deadline")
+          .labelNames("partition", "kind")
+          .buckets(0.01, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30, 60)
+          .register();
+
+  private static final Counter DEADLINE_WAKEUPS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("deadline_wakeups_total")
+          .help("Number of times the deadline scheduler woke up to check due deadlines")
+          .labelNames("partition")
+          .register();
+
+  private static final Counter DEADLINE_CHECKS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("deadline_checks_total")
+          .help("Number of due deadlines checked by the deadline scheduler, by kind of deadline")
+          .labelNames("partition", "kind")
+          .register();
+
+  private final String partitionIdLabel;
+
+  public DeadlineSchedulerMetrics(final int partitionId) {
+    partitionIdLabel = String.valueOf(partitionId);
+  }
+
+  public void wakeup() {
+    DEADLINE_WAKEUPS.labels(partitionIdLabel).inc();
+  }
+
+  public void deadlineChecked(final String kind, final long lagMillis) {
+    DEADLINE_CHECKS.labels(partitionIdLabel, kind).inc();
+    DEADLINE_LAG.labels(partitionIdLabel, kind).observe(Math.max(lagMillis, 0) / 1000.0);
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+
+public final class MessageSubscriptionFilterMetrics {
+
+  private static final Counter SUBSCRIPTION_LOOKUPS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("message_subscription_filter_lookups_total")
+          .help(
+              "Number of message subscription lookups by the result of the subscription filter:"
+                  + " skipped if there was no subscription for sure, hit if a subscription was"
+                  + " found, or false_positive if none was found")
+          .labelNames("partition", "result")
+          .register();
+
+  private final Counter.Child skipped;
+  private final Counter.Child hit;
+  private final Counter.Child falsePositive;
+
+  public MessageSubscriptionFilterMetrics(final int partitionId) {
+    final var partitionIdLabel = String.valueOf(partitionId);
+    skipped = SUBSCRIPTION_LOOKUPS.labels(partitionIdLabel, "skipped");
+    hit = SUBSCRIPTION_LOOKUPS.labels(partitionIdLabel, "hit");
+    falsePositive = SUBSCRIPTION_LOOKUPS.labels(partitionIdLabel, "false_positive");
+  }
+
+  public void skipped() {
+    skipped.inc();
+  }
+
+  public void hit() {
+    hit.inc();
+  }
+
+  public void falsePositive() {
+    falsePositive.inc();
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+
+public final class ProcessInstanceBatchMetrics {
+
+  private static final String ACTION_TERMINATE = "terminate";
+  private static final String ACTION_ACTIVATE = "activate";
+
+  private static final Counter BATCH_COMMANDS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("process_instance_batch_commands_total")
+          .help("Number of processed process instance batch commands, by action")
+          .labelNames("partition", "action")
+          .register();
+
+  private static final Counter BATCH_ELEMENTS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("process_instance_batch_elements_total")
+          .help(
+              "Number of child element instances terminated or activated by process instance batch"
+                  + " commands, by action")
+          .labelNames("partition", "action")
+          .register();
+
+  private final String partitionIdLabel;
+
+  public ProcessInstanceBatchMetrics(final int partitionId) {
+    partitionIdLabel = String.valueOf(partitionId);
+  }
+
+  public void terminateBatchProcessed(final int terminatedElements) {
+    batchProcessed(ACTION_TERMINATE, terminatedElements);
+  }
+
+  public void activateBatchProcessed(final int activatedElements) {
+    batchProcessed(ACTION_ACTIVATE, activatedElements);
+  }
+
+  private void batchProcessed(final String action, final int elements) {
+    BATCH_COMMANDS.labels(partitionIdLabel, action).inc();
+    BATCH_ELEMENTS.labels(partitionIdLabel, action).inc(elements);
+  }
+
+  /** Clears the metrics counters. You probably only want to use this during testing. */
+  static void clear() {
+    BATCH_COMMANDS.clear();
+    BATCH_ELEMENTS.clear();
+  }
+}
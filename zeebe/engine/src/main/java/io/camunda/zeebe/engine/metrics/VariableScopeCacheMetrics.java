@@ -0,0 +1,41 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+
+public final class VariableScopeCacheMetrics {
+
+  private static final Counter SCOPE_LOOKUPS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("variable_scope_cache_lookups_total")
+          .help(
+              "Number of variable scope lookups by the result of the variable scope cache: hit if"
+                  + " the variables of the scope were cached, or miss if they were read from the"
+                  + " state")
+          .labelNames("partition", "result")
+          .register();
+
+  private final Counter.Child hit;
+  private final Counter.Child miss;
+
+  public VariableScopeCacheMetrics(final int partitionId) {
+    final var partitionIdLabel = String.valueOf(partitionId);
+    hit = SCOPE_LOOKUPS.labels(partitionIdLabel, "hit");
+    miss = SCOPE_LOOKUPS.labels(partitionIdLabel, "miss");
+  }
+
+  public void hit() {
+    hit.inc();
+  }
+
+  public void miss() {
+    miss.inc();
+  }
+}
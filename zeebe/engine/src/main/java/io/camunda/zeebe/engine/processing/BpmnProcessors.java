@@ -7,7 +7,9 @@
  */
 package io.camunda.zeebe.engine.processing;
 
+import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.metrics.ProcessEngineMetrics;
+import io.camunda.zeebe.engine.metrics.ProcessInstanceBatchMetrics;
 import io.camunda.zeebe.engine.processing.bpmn.BpmnStreamProcessor;
 import io.camunda.zeebe.engine.processing.bpmn.behavior.BpmnBehaviors;
 import io.camunda.zeebe.engine.processing.distribution.CommandDistributionBehavior;
@@ -64,6 +66,7 @@ public final class BpmnProcessors {
       final CommandDistributionBehavior commandDistributionBehavior,
       final int partitionId,
       final int partitionsCount,
+      final EngineConfiguration config,
       final InstantSource clock) {
     final MutableProcessMessageSubscriptionState subscriptionState =
         processingState.getProcessMessageSubscriptionState();
@@ -106,7 +109,8 @@ public final class BpmnProcessors {
         commandDistributionBehavior,
         partitionId,
         partitionsCount);
-    addProcessInstanceBatchStreamProcessors(typedRecordProcessors, processingState, writers);
+    addProcessInstanceBatchStreamProcessors(
+        typedRecordProcessors, processingState, writers, config);
 
     return bpmnStreamProcessor;
   }
@@ -263,7 +267,9 @@ public final class BpmnProcessors {
   private static void addProcessInstanceBatchStreamProcessors(
       final TypedRecordProcessors typedRecordProcessors,
       final MutableProcessingState processingState,
-      final Writers writers) {
+      final Writers writers,
+      final EngineConfiguration config) {
+    final var metrics = new ProcessInstanceBatchMetrics(processingState.getPartitionId());
     typedRecordProcessors
         .onCommand(
             ValueType.PROCESS_INSTANCE_BATCH,
@@ -271,7 +277,9 @@ public final class BpmnProcessors {
             new ProcessInstanceBatchTerminateProcessor(
                 writers,
                 processingState.getKeyGenerator(),
-                processingState.getElementInstanceState()))
+                processingState.getElementInstanceState(),
+                config.getProcessInstanceBatchTerminateLimit(),
+                metrics))
         .onCommand(
             ValueType.PROCESS_INSTANCE_BATCH,
             ProcessInstanceBatchIntent.ACTIVATE,
@@ -279,6 +287,8 @@ public final class BpmnProcessors {
                 writers,
                 processingState.getKeyGenerator(),
                 processingState.getElementInstanceState(),
-                processingState.getProcessState()));
+                processingState.getProcessState(),
+                config.getProcessInstanceBatchActivateLimit(),
+                metrics));
   }
 }
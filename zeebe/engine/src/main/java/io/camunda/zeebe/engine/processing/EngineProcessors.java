@@ -23,6 +23,7 @@ import io.camunda.zeebe.engine.processing.deployment.distribute.DeploymentDistri
 import io.camunda.zeebe.engine.processing.deployment.distribute.DeploymentDistributionCommandSender;
 import io.camunda.zeebe.engine.processing.deployment.distribute.DeploymentDistributionCompleteProcessor;
 import io.camunda.zeebe.engine.processing.deployment.distribute.DeploymentRedistributor;
+import io.camunda.zeebe.engine.processing.deployment.transform.ParallelResourceParser;
 import io.camunda.zeebe.engine.processing.distribution.CommandDistributionAcknowledgeProcessor;
 import io.camunda.zeebe.engine.processing.distribution.CommandDistributionBehavior;
 import io.camunda.zeebe.engine.processing.distribution.CommandRedistributor;
@@ -32,6 +33,7 @@ import io.camunda.zeebe.engine.processing.job.JobEventProcessors;
 import io.camunda.zeebe.engine.processing.message.MessageEventProcessors;
 import io.camunda.zeebe.engine.processing.message.command.SubscriptionCommandSender;
 import io.camunda.zeebe.engine.processing.resource.ResourceDeletionDeleteProcessor;
+import io.camunda.zeebe.engine.processing.scheduled.DeadlineScheduler;
 import io.camunda.zeebe.engine.processing.signal.SignalBroadcastProcessor;
 import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessor;
@@ -83,9 +85,15 @@ public final class EngineProcessors {
     final int partitionId = typedRecordProcessorContext.getPartitionId();
     final var config = typedRecordProcessorContext.getConfig();
 
+    final var deadlineScheduler = new DeadlineScheduler(partitionId, clock);
+    typedRecordProcessors.withListener(deadlineScheduler);
+
     final DueDateTimerChecker timerChecker =
         new DueDateTimerChecker(
-            scheduledTaskStateFactory.get().getTimerState(), featureFlags, clock);
+            scheduledTaskStateFactory.get().getTimerState(),
+            featureFlags,
+            deadlineScheduler,
+            clock);
 
     final var jobMetrics = new JobMetrics(partitionId);
     final var processEngineMetrics = new ProcessEngineMetrics(processingState.getPartitionId());
@@ -139,6 +147,7 @@ public final class EngineProcessors {
         config,
         featureFlags,
         commandDistributionBehavior,
+        deadlineScheduler,
         clock);
 
     final TypedRecordProcessor<ProcessInstanceRecord> bpmnStreamProcessor =
@@ -153,6 +162,7 @@ public final class EngineProcessors {
             commandDistributionBehavior,
             partitionId,
             partitionsCount,
+            config,
             clock);
 
     addDecisionProcessors(typedRecordProcessors, decisionBehavior, writers, processingState);
@@ -165,6 +175,7 @@ public final class EngineProcessors {
         writers,
         jobMetrics,
         config,
+        deadlineScheduler,
         clock);
 
     addIncidentProcessors(
@@ -245,6 +256,7 @@ public final class EngineProcessors {
       final CommandDistributionBehavior commandDistributionBehavior,
       final int partitionId,
       final int partitionsCount,
+      final EngineConfiguration config,
       final InstantSource clock) {
     return BpmnProcessors.addBpmnStreamProcessor(
         processingState,
@@ -257,6 +269,7 @@ public final class EngineProcessors {
         commandDistributionBehavior,
         partitionId,
         partitionsCount,
+        config,
         clock);
   }
 
@@ -275,6 +288,10 @@ public final class EngineProcessors {
 
     // on deployment partition CREATE Command is received and processed
     // it will cause a distribution to other partitions
+    final var resourceParser =
+        new ParallelResourceParser(
+            config.getValidatorsParallelism(), config.getValidatorsResultsOutputMaxSize(), clock);
+    typedRecordProcessors.withListener(resourceParser);
     final var processor =
         new DeploymentCreateProcessor(
             processingState,
@@ -284,6 +301,7 @@ public final class EngineProcessors {
             featureFlags,
             distributionBehavior,
             config,
+            resourceParser,
             clock);
     typedRecordProcessors.onCommand(ValueType.DEPLOYMENT, CREATE, processor);
 
@@ -334,6 +352,7 @@ public final class EngineProcessors {
       final EngineConfiguration config,
       final FeatureFlags featureFlags,
       final CommandDistributionBehavior commandDistributionBehavior,
+      final DeadlineScheduler deadlineScheduler,
       final InstantSource clock) {
     MessageEventProcessors.addMessageProcessors(
         bpmnBehaviors,
@@ -345,6 +364,7 @@ public final class EngineProcessors {
         config,
         featureFlags,
         commandDistributionBehavior,
+        deadlineScheduler,
         clock);
   }
 
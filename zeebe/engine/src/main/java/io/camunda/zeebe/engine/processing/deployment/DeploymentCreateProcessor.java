@@ -20,6 +20,7 @@ import io.camunda.zeebe.engine.processing.common.Failure;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableCatchEventElement;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableStartEvent;
 import io.camunda.zeebe.engine.processing.deployment.transform.DeploymentTransformer;
+import io.camunda.zeebe.engine.processing.deployment.transform.ParallelResourceParser;
 import io.camunda.zeebe.engine.processing.distribution.CommandDistributionBehavior;
 import io.camunda.zeebe.engine.processing.streamprocessor.DistributedTypedRecordProcessor;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
@@ -85,6 +86,7 @@ public final class DeploymentCreateProcessor
       final FeatureFlags featureFlags,
       final CommandDistributionBehavior distributionBehavior,
       final EngineConfiguration config,
+      final ParallelResourceParser resourceParser,
       final InstantSource clock) {
     processState = processingState.getProcessState();
     decisionState = processingState.getDecisionState();
@@ -105,6 +107,7 @@ public final class DeploymentCreateProcessor
             keyGenerator,
             featureFlags,
             config,
+            resourceParser,
             clock);
     startEventSubscriptionManager =
         new StartEventSubscriptionManager(processingState, keyGenerator, stateWriter);
@@ -0,0 +1,76 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.deployment.transform;
+
+import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
+import io.camunda.zeebe.engine.processing.common.Failure;
+import io.camunda.zeebe.engine.processing.deployment.model.BpmnFactory;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
+import io.camunda.zeebe.engine.processing.deployment.model.transformation.BpmnTransformer;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
+import io.camunda.zeebe.util.Either;
+import java.time.InstantSource;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.io.DirectBufferInputStream;
+import org.camunda.bpm.model.xml.ModelParseException;
+
+/**
+ * Parses, validates and transforms a BPMN resource. This is the part of deploying a BPMN resource
+ * which doesn't depend on the state, so it may run off the processing thread, see {@link
+ * ParallelResourceParser}.
+ *
+ * <p>This class is not thread safe.
+ */
+final class BpmnResourceParser {
+
+  private final BpmnTransformer bpmnTransformer;
+  private final BpmnValidator validator;
+
+  BpmnResourceParser(
+      final InstantSource clock,
+      final ExpressionProcessor expressionProcessor,
+      final int validatorResultsOutputMaxSize) {
+    bpmnTransformer = BpmnFactory.createTransformer(clock);
+    validator =
+        BpmnFactory.createValidator(clock, expressionProcessor, validatorResultsOutputMaxSize);
+  }
+
+  Either<Failure, ParsedBpmnResource> parse(
+      final String resourceName, final DirectBuffer resource) {
+    return readProcessDefinition(resourceName, resource)
+        .flatMap(
+            definition -> {
+              final String validationError = validator.validate(definition);
+              if (validationError != null) {
+                final var failureMessage = String.format("'%s': %s", resourceName, validationError);
+                return Either.left(new Failure(failureMessage));
+              }
+
+              // transform the model to avoid unexpected failures that are not covered by the
+              // validator
+              final var executableProcesses = bpmnTransformer.transformDefinitions(definition);
+              return Either.right(new ParsedBpmnResource(definition, executableProcesses));
+            });
+  }
+
+  private Either<Failure, BpmnModelInstance> readProcessDefinition(
+      final String resourceName, final DirectBuffer resource) {
+    try {
+      final DirectBufferInputStream resourceStream = new DirectBufferInputStream(resource);
+      return Either.right(Bpmn.readModelFromStream(resourceStream));
+    } catch (final ModelParseException e) {
+      final var failureMessage = String.format("'%s': %s", resourceName, e.getCause().getMessage());
+      return Either.left(new Failure(failureMessage));
+    }
+  }
+
+  record ParsedBpmnResource(
+      BpmnModelInstance definition, List<ExecutableProcess> executableProcesses) {}
+}
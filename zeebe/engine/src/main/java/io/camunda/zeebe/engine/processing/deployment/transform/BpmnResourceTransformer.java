@@ -12,14 +12,12 @@ import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
 import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
 import io.camunda.zeebe.engine.processing.common.Failure;
-import io.camunda.zeebe.engine.processing.deployment.model.BpmnFactory;
-import io.camunda.zeebe.engine.processing.deployment.model.transformation.BpmnTransformer;
 import io.camunda.zeebe.engine.processing.deployment.model.validation.StraightThroughProcessingLoopValidator;
 import io.camunda.zeebe.engine.processing.deployment.model.validation.UnsupportedMultiTenantFeaturesValidator;
+import io.camunda.zeebe.engine.processing.deployment.transform.BpmnResourceParser.ParsedBpmnResource;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
 import io.camunda.zeebe.engine.state.deployment.DeployedProcess;
 import io.camunda.zeebe.engine.state.immutable.ProcessState;
-import io.camunda.zeebe.model.bpmn.Bpmn;
 import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
 import io.camunda.zeebe.model.bpmn.instance.BaseElement;
 import io.camunda.zeebe.model.bpmn.instance.Process;
@@ -34,18 +32,14 @@ import java.time.InstantSource;
 import java.util.List;
 import java.util.function.Function;
 import org.agrona.DirectBuffer;
-import org.agrona.io.DirectBufferInputStream;
-import org.camunda.bpm.model.xml.ModelParseException;
 
 public final class BpmnResourceTransformer implements DeploymentResourceTransformer {
 
-  private final BpmnTransformer bpmnTransformer;
+  private final BpmnResourceParser parser;
 
   private final KeyGenerator keyGenerator;
   private final StateWriter stateWriter;
   private final Function<byte[], DirectBuffer> checksumGenerator;
-
-  private final BpmnValidator validator;
   private final ProcessState processState;
   private final boolean enableStraightThroughProcessingLoopDetector;
 
@@ -58,56 +52,52 @@ public final class BpmnResourceTransformer implements DeploymentResourceTransfor
       final boolean enableStraightThroughProcessingLoopDetector,
       final EngineConfiguration config,
       final InstantSource clock) {
-    bpmnTransformer = BpmnFactory.createTransformer(clock);
+    parser =
+        new BpmnResourceParser(
+            clock, expressionProcessor, config.getValidatorsResultsOutputMaxSize());
     this.keyGenerator = keyGenerator;
     this.stateWriter = stateWriter;
     this.checksumGenerator = checksumGenerator;
     this.processState = processState;
-    validator =
-        BpmnFactory.createValidator(
-            clock, expressionProcessor, config.getValidatorsResultsOutputMaxSize());
     this.enableStraightThroughProcessingLoopDetector = enableStraightThroughProcessingLoopDetector;
   }
 
   @Override
   public Either<Failure, Void> createMetadata(
       final DeploymentResource resource, final DeploymentRecord deployment) {
+    final var parsedResource =
+        parser.parse(resource.getResourceName(), resource.getResourceBuffer());
+    return createMetadata(resource, deployment, parsedResource);
+  }
 
-    return readProcessDefinition(resource)
-        .flatMap(
-            definition -> {
-              final String validationError = validator.validate(definition);
-
-              if (validationError == null) {
-                // transform the model to avoid unexpected failures that are not covered by the
-                // validator
-                final var executableProcesses = bpmnTransformer.transformDefinitions(definition);
-
-                return checkForDuplicateBpmnId(definition, resource, deployment)
-                    .flatMap(
-                        ok ->
-                            UnsupportedMultiTenantFeaturesValidator.validate(
-                                resource, executableProcesses, deployment.getTenantId()))
-                    .flatMap(
-                        ok -> {
-                          if (enableStraightThroughProcessingLoopDetector) {
-                            return StraightThroughProcessingLoopValidator.validate(
-                                resource, executableProcesses);
-                          }
-                          return Either.right(null);
-                        })
-                    .map(
-                        ok -> {
-                          createProcessMetadata(deployment, resource, definition);
-                          return null;
-                        });
-
-              } else {
-                final var failureMessage =
-                    String.format("'%s': %s", resource.getResourceName(), validationError);
-                return Either.left(new Failure(failureMessage));
-              }
-            });
+  /**
+   * Creates the metadata of the given resource, which was already parsed, validated and
+   * transformed, e.g. by the {@link ParallelResourceParser}.
+   */
+  Either<Failure, Void> createMetadata(
+      final DeploymentResource resource,
+      final DeploymentRecord deployment,
+      final Either<Failure, ParsedBpmnResource> parsedResource) {
+    return parsedResource.flatMap(
+        parsed ->
+            checkForDuplicateBpmnId(parsed.definition(), resource, deployment)
+                .flatMap(
+                    ok ->
+                        UnsupportedMultiTenantFeaturesValidator.validate(
+                            resource, parsed.executableProcesses(), deployment.getTenantId()))
+                .flatMap(
+                    ok -> {
+                      if (enableStraightThroughProcessingLoopDetector) {
+                        return StraightThroughProcessingLoopValidator.validate(
+                            resource, parsed.executableProcesses());
+                      }
+                      return Either.right(null);
+                    })
+                .map(
+                    ok -> {
+                      createProcessMetadata(deployment, resource, parsed.definition());
+                      return null;
+                    }));
   }
 
   @Override
@@ -141,20 +131,6 @@ public final class BpmnResourceTransformer implements DeploymentResourceTransfor
     return Either.right(null);
   }
 
-  private Either<Failure, BpmnModelInstance> readProcessDefinition(
-      final DeploymentResource deploymentResource) {
-    try {
-      final DirectBuffer resource = deploymentResource.getResourceBuffer();
-      final DirectBufferInputStream resourceStream = new DirectBufferInputStream(resource);
-      return Either.right(Bpmn.readModelFromStream(resourceStream));
-    } catch (final ModelParseException e) {
-      final var failureMessage =
-          String.format(
-              "'%s': %s", deploymentResource.getResourceName(), e.getCause().getMessage());
-      return Either.left(new Failure(failureMessage));
-    }
-  }
-
   private Either<Failure, ?> checkForDuplicateBpmnId(
       final BpmnModelInstance process,
       final DeploymentResource resource,
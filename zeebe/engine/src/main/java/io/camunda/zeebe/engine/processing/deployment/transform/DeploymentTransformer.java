@@ -14,6 +14,7 @@ import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.Loggers;
 import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
 import io.camunda.zeebe.engine.processing.common.Failure;
+import io.camunda.zeebe.engine.processing.deployment.transform.ParallelResourceParser.ParsedResources;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
 import io.camunda.zeebe.engine.state.immutable.ProcessingState;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
@@ -41,6 +42,9 @@ public final class DeploymentTransformer {
       new UnknownResourceTransformer();
 
   private final Map<String, DeploymentResourceTransformer> resourceTransformers;
+  private final BpmnResourceTransformer bpmnResourceTransformer;
+  private final DmnResourceTransformer dmnResourceTransformer;
+  private final ParallelResourceParser resourceParser;
 
   private final MessageDigest digestGenerator;
   // internal changes during processing
@@ -54,7 +58,9 @@ public final class DeploymentTransformer {
       final KeyGenerator keyGenerator,
       final FeatureFlags featureFlags,
       final EngineConfiguration config,
+      final ParallelResourceParser resourceParser,
       final InstantSource clock) {
+    this.resourceParser = resourceParser;
 
     try {
       // We get an alert by LGTM, since MD5 is a weak cryptographic hash function,
@@ -67,7 +73,7 @@ public final class DeploymentTransformer {
       throw new IllegalStateException(e);
     }
 
-    final var bpmnResourceTransformer =
+    bpmnResourceTransformer =
         new BpmnResourceTransformer(
             keyGenerator,
             stateWriter,
@@ -77,7 +83,7 @@ public final class DeploymentTransformer {
             featureFlags.enableStraightThroughProcessingLoopDetector(),
             config,
             clock);
-    final var dmnResourceTransformer =
+    dmnResourceTransformer =
         new DmnResourceTransformer(
             keyGenerator, stateWriter, this::getChecksum, processingState.getDecisionState());
 
@@ -110,15 +116,20 @@ public final class DeploymentTransformer {
     }
 
     // step 1: only validate the resources and add their metadata to the deployment record (no event
-    // records are being written yet)
+    // records are being written yet); the resources may be parsed in parallel beforehand
+    final var parsedResources = resourceParser.parse(deploymentEvent);
+    var resourceIndex = 0;
     while (resourceIterator.hasNext()) {
       final DeploymentResource deploymentResource = resourceIterator.next();
+      final var index = resourceIndex++;
       success &=
           transformResource(
               deploymentEvent,
               errors,
               deploymentResource,
-              transformer -> transformer::createMetadata);
+              transformer ->
+                  (resource, deployment) ->
+                      createMetadata(transformer, resource, deployment, parsedResources, index));
     }
 
     // step 2: update metadata (optionally) and write actual event records
@@ -145,6 +156,25 @@ public final class DeploymentTransformer {
     return Either.right(null);
   }
 
+  private Either<Failure, Void> createMetadata(
+      final DeploymentResourceTransformer transformer,
+      final DeploymentResource resource,
+      final DeploymentRecord deployment,
+      final ParsedResources parsedResources,
+      final int index) {
+    final var parsedBpmnResource = parsedResources.getBpmnResource(index);
+    if (parsedBpmnResource != null) {
+      return bpmnResourceTransformer.createMetadata(resource, deployment, parsedBpmnResource);
+    }
+
+    final var parsedDmnResource = parsedResources.getDmnResource(index);
+    if (parsedDmnResource != null) {
+      return dmnResourceTransformer.createMetadata(resource, deployment, parsedDmnResource);
+    }
+
+    return transformer.createMetadata(resource, deployment);
+  }
+
   private boolean transformResource(
       final DeploymentRecord deploymentEvent,
       final StringBuilder errors,
@@ -66,8 +66,17 @@ public final class DmnResourceTransformer implements DeploymentResourceTransform
       final DeploymentResource resource, final DeploymentRecord deployment) {
 
     final var dmnResource = new ByteArrayInputStream(resource.getResource());
-    final var parsedDrg = decisionEngine.parse(dmnResource);
+    return createMetadata(resource, deployment, decisionEngine.parse(dmnResource));
+  }
 
+  /**
+   * Creates the metadata of the given resource, which was already parsed, e.g. by the {@link
+   * ParallelResourceParser}.
+   */
+  Either<Failure, Void> createMetadata(
+      final DeploymentResource resource,
+      final DeploymentRecord deployment,
+      final ParsedDecisionRequirementsGraph parsedDrg) {
     if (parsedDrg.isValid()) {
       return checkForDuplicateIds(resource, parsedDrg, deployment)
           .map(
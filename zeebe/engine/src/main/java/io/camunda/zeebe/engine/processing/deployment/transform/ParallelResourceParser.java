@@ -0,0 +1,203 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.deployment.transform;
+
+import io.camunda.zeebe.dmn.DecisionEngine;
+import io.camunda.zeebe.dmn.DecisionEngineFactory;
+import io.camunda.zeebe.dmn.ParsedDecisionRequirementsGraph;
+import io.camunda.zeebe.el.ExpressionLanguageFactory;
+import io.camunda.zeebe.engine.processing.bpmn.clock.ZeebeFeelEngineClock;
+import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
+import io.camunda.zeebe.engine.processing.common.Failure;
+import io.camunda.zeebe.engine.processing.deployment.transform.BpmnResourceParser.ParsedBpmnResource;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
+import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
+import io.camunda.zeebe.util.Either;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.io.ByteArrayInputStream;
+import java.time.InstantSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses, validates and transforms the BPMN and DMN resources of a deployment in parallel, on a
+ * pool of worker threads. This is the expensive part of a deployment, and it doesn't depend on the
+ * state, so the processing thread only has to wait for the slowest resource instead of parsing one
+ * resource after another. The processing thread then only runs the checks which depend on the
+ * state, and writes the records.
+ *
+ * <p>Every worker thread has its own parsers, as they're not thread safe. The validation of a BPMN
+ * resource only evaluates static expressions, so the workers use an expression processor without
+ * access to the variables.
+ *
+ * <p>If the parallelism is 1 or less, no resources are parsed in advance, and the resources are
+ * parsed on the processing thread as before.
+ */
+public final class ParallelResourceParser implements StreamProcessorLifecycleAware {
+
+  private static final long WORKER_KEEP_ALIVE_SECONDS = 60;
+
+  private final InstantSource clock;
+  private final int validatorResultsOutputMaxSize;
+  private final ExecutorService executor;
+  private final ThreadLocal<Worker> workers = ThreadLocal.withInitial(Worker::new);
+
+  public ParallelResourceParser(
+      final int parallelism, final int validatorResultsOutputMaxSize, final InstantSource clock) {
+    this.clock = clock;
+    this.validatorResultsOutputMaxSize = validatorResultsOutputMaxSize;
+    executor = parallelism > 1 ? createExecutor(parallelism) : null;
+  }
+
+  /**
+   * Starts parsing the BPMN and DMN resources of the given deployment on the worker threads. The
+   * results can be retrieved from the returned parsed resources, by the index of the resource in
+   * the deployment.
+   *
+   * @return the parsed resources, or {@link ParsedResources#NONE} if the resources should be parsed
+   *     on the processing thread
+   */
+  ParsedResources parse(final DeploymentRecord deployment) {
+    if (executor == null || executor.isShutdown() || !hasMultipleResources(deployment)) {
+      // a single resource is parsed on the processing thread, to avoid the handover
+      return ParsedResources.NONE;
+    }
+
+    final List<CompletableFuture<?>> results = new ArrayList<>();
+    for (final var resource : deployment.resources()) {
+      // copy the resource, as the record may be reused by the processing thread afterwards
+      final var resourceName = resource.getResourceName();
+      final var resourceBuffer = BufferUtil.cloneBuffer(resource.getResourceBuffer());
+
+      if (isBpmnResource(resourceName)) {
+        results.add(
+            CompletableFuture.supplyAsync(
+                () -> workers.get().bpmnParser.parse(resourceName, resourceBuffer), executor));
+      } else if (isDmnResource(resourceName)) {
+        final var resourceBytes = BufferUtil.bufferAsArray(resourceBuffer);
+        results.add(
+            CompletableFuture.supplyAsync(
+                () -> workers.get().decisionEngine.parse(new ByteArrayInputStream(resourceBytes)),
+                executor));
+      } else {
+        results.add(null);
+      }
+    }
+    return new ParsedResources(results);
+  }
+
+  @Override
+  public void onClose() {
+    shutdown();
+  }
+
+  @Override
+  public void onFailed() {
+    shutdown();
+  }
+
+  private void shutdown() {
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+  }
+
+  private static boolean hasMultipleResources(final DeploymentRecord deployment) {
+    return deployment.resources().stream().limit(2).count() > 1;
+  }
+
+  private static boolean isBpmnResource(final String resourceName) {
+    return resourceName.endsWith(".bpmn") || resourceName.endsWith(".xml");
+  }
+
+  private static boolean isDmnResource(final String resourceName) {
+    return resourceName.endsWith(".dmn");
+  }
+
+  private static ExecutorService createExecutor(final int parallelism) {
+    final var executor =
+        new ThreadPoolExecutor(
+            parallelism,
+            parallelism,
+            WORKER_KEEP_ALIVE_SECONDS,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            Thread.ofPlatform().name("zb-deployment-parser-", 0).daemon().factory());
+    // the workers are only needed while deploying, so they shouldn't be kept alive in between
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  private final class Worker {
+    private final BpmnResourceParser bpmnParser;
+    private final DecisionEngine decisionEngine = DecisionEngineFactory.createDecisionEngine();
+
+    private Worker() {
+      final var expressionProcessor =
+          new ExpressionProcessor(
+              ExpressionLanguageFactory.createExpressionLanguage(new ZeebeFeelEngineClock(clock)),
+              scopeKey -> variableName -> null);
+      bpmnParser =
+          new BpmnResourceParser(clock, expressionProcessor, validatorResultsOutputMaxSize);
+    }
+  }
+
+  /** The results of parsing the resources of a deployment, by the index of the resource. */
+  static final class ParsedResources {
+    static final ParsedResources NONE = new ParsedResources(List.of());
+
+    private final List<CompletableFuture<?>> results;
+
+    private ParsedResources(final List<CompletableFuture<?>> results) {
+      this.results = results;
+    }
+
+    /**
+     * Waits for the result of the BPMN resource with the given index. If parsing the resource
+     * failed unexpectedly, the exception is rethrown.
+     *
+     * @return the result, or {@code null} if the resource wasn't parsed as BPMN resource
+     */
+    @SuppressWarnings("unchecked")
+    Either<Failure, ParsedBpmnResource> getBpmnResource(final int index) {
+      final var result = join(index);
+      return result instanceof Either<?, ?> ? (Either<Failure, ParsedBpmnResource>) result : null;
+    }
+
+    /**
+     * Waits for the result of the DMN resource with the given index. If parsing the resource failed
+     * unexpectedly, the exception is rethrown.
+     *
+     * @return the result, or {@code null} if the resource wasn't parsed as DMN resource
+     */
+    ParsedDecisionRequirementsGraph getDmnResource(final int index) {
+      return join(index) instanceof final ParsedDecisionRequirementsGraph drg ? drg : null;
+    }
+
+    private Object join(final int index) {
+      if (index >= results.size() || results.get(index) == null) {
+        return null;
+      }
+
+      try {
+        return results.get(index).join();
+      } catch (final CompletionException e) {
+        if (e.getCause() instanceof final RuntimeException cause) {
+          throw cause;
+        }
+        throw e;
+      }
+    }
+  }
+}
@@ -13,10 +13,8 @@ import io.camunda.zeebe.stream.api.InterPartitionCommandSender;
 import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
 import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
 import java.time.Duration;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.function.Predicate;
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.Long2LongHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,6 +28,9 @@ import org.slf4j.LoggerFactory;
  * #COMMAND_REDISTRIBUTION_INTERVAL} until it reaches a maximum of 5 minutes {@link
  * #RETRY_MAX_BACKOFF_DURATION}, doubling every time. This backoff is tracked for each pending
  * distribution individually.
+ *
+ * <p>The retries of a cycle are sent in quick succession, so the sender can pack the retries for
+ * the same partition into one message.
  */
 public final class CommandRedistributor implements StreamProcessorLifecycleAware {
 
@@ -52,16 +53,24 @@ public final class CommandRedistributor implements StreamProcessorLifecycleAware
   private static final long MAX_RETRY_CYCLES =
       RETRY_MAX_BACKOFF_DURATION.dividedBy(COMMAND_REDISTRIBUTION_INTERVAL);
 
+  private static final long NOT_TRACKED = -1L;
+
   private static final Logger LOG = LoggerFactory.getLogger(CommandRedistributor.class);
 
   private final DistributionState distributionState;
   private final InterPartitionCommandSender commandSender;
 
   /**
-   * Tracks the number of attempted retry cycles for each pending distribution. Note that this
-   * includes retry cycles where the pending distribution was not resend due to exponential backoff.
+   * Tracks the pending distributions by target partition and distribution key. The value packs the
+   * cycle in which the pending distribution was seen first, which gives the number of attempted
+   * retry cycles, and the cycle in which it was seen last, which tells whether it is still pending.
+   * Note that the retry cycles include cycles where the pending distribution was not resend due to
+   * exponential backoff.
    */
-  private final Map<PendingDistribution, Long> retryCyclesPerDistribution = new HashMap<>();
+  private final Int2ObjectHashMap<Long2LongHashMap> trackedDistributionsPerPartition =
+      new Int2ObjectHashMap<>();
+
+  private int currentCycle;
 
   public CommandRedistributor(
       final DistributionState distributionState, final InterPartitionCommandSender commandSender) {
@@ -77,51 +86,58 @@ public final class CommandRedistributor implements StreamProcessorLifecycleAware
   }
 
   private void runRetryCycle() {
-    final var pendingDistributions = new HashSet<PendingDistribution>();
-    distributionState.foreachPendingDistribution(
-        (distributionKey, record) -> {
-          final var pending = new PendingDistribution(distributionKey, record.getPartitionId());
-          pendingDistributions.add(pending);
-          retryDistribution(pending, record);
-        });
+    currentCycle++;
+    distributionState.foreachPendingDistribution(this::retryDistribution);
 
     // Remove retry cycle tracking for completed distributions, i.e. those not visited in this cycle
-    retryCyclesPerDistribution.keySet().removeIf(Predicate.not(pendingDistributions::contains));
+    trackedDistributionsPerPartition
+        .values()
+        .removeIf(
+            trackedDistributions -> {
+              trackedDistributions
+                  .entrySet()
+                  .removeIfLong((distributionKey, cycles) -> lastSeenCycle(cycles) != currentCycle);
+              return trackedDistributions.isEmpty();
+            });
   }
 
   private void retryDistribution(
-      final PendingDistribution pending,
-      final CommandDistributionRecord commandDistributionRecord) {
-    if (!shouldRetryNow(pending)) {
+      final long distributionKey, final CommandDistributionRecord commandDistributionRecord) {
+    final var partitionId = commandDistributionRecord.getPartitionId();
+    if (!shouldRetryNow(distributionKey, partitionId)) {
       return;
     }
 
     LOG.info(
-        "Retrying to distribute pending command {} to partition {}",
-        pending.distributionKey,
-        pending.partitionId);
+        "Retrying to distribute pending command {} to partition {}", distributionKey, partitionId);
 
     commandSender.sendCommand(
-        pending.partitionId,
+        partitionId,
         commandDistributionRecord.getValueType(),
         commandDistributionRecord.getIntent(),
-        pending.distributionKey,
+        distributionKey,
         commandDistributionRecord.getCommandValue());
   }
 
   /**
    * Returns whether a pending distribution should be retried now, or not in this cycle.
    *
-   * <p>Calling this method increments the retry cycles tracking ({@link
-   * #retryCyclesPerDistribution}) of that pending distribution, or initiates it at 0. The number of
+   * <p>Calling this method marks the pending distribution as seen in the current cycle ({@link
+   * #trackedDistributionsPerPartition}), or starts tracking it at 0 retry cycles. The number of
    * cycles is used to implement a simple exponential backoff.
    */
-  private boolean shouldRetryNow(final PendingDistribution pendingDistribution) {
-    // retryCycles starts off at 0, ensuring that we wait between COMMAND_REDISTRIBUTION_INTERVAL
+  private boolean shouldRetryNow(final long distributionKey, final int partitionId) {
+    final var trackedDistributions =
+        trackedDistributionsPerPartition.computeIfAbsent(
+            partitionId, partition -> new Long2LongHashMap(NOT_TRACKED));
+    final var trackedCycles = trackedDistributions.get(distributionKey);
+    final int firstSeenCycle =
+        trackedCycles == NOT_TRACKED ? currentCycle : firstSeenCycle(trackedCycles);
+    trackedDistributions.put(distributionKey, packCycles(firstSeenCycle, currentCycle));
+
+    // retryCycle starts off at 0, ensuring that we wait between COMMAND_REDISTRIBUTION_INTERVAL
     // and 2 * COMMAND_REDISTRIBUTION_INTERVAL before retrying distribution.
-    final long retryCycle =
-        retryCyclesPerDistribution.compute(
-            pendingDistribution, (k, retryCycles) -> retryCycles != null ? retryCycles + 1 : 0L);
+    final long retryCycle = currentCycle - firstSeenCycle;
 
     if (retryCycle >= MAX_RETRY_CYCLES) {
       // Retry in intervals of RETRY_MAX_BACKOFF_DURATION
@@ -133,5 +149,15 @@ public final class CommandRedistributor implements StreamProcessorLifecycleAware
     }
   }
 
-  private record PendingDistribution(long distributionKey, int partitionId) {}
+  private static long packCycles(final int firstSeenCycle, final int lastSeenCycle) {
+    return ((long) firstSeenCycle << Integer.SIZE) | (lastSeenCycle & 0xFFFF_FFFFL);
+  }
+
+  private static int firstSeenCycle(final long cycles) {
+    return (int) (cycles >>> Integer.SIZE);
+  }
+
+  private static int lastSeenCycle(final long cycles) {
+    return (int) cycles;
+  }
 }
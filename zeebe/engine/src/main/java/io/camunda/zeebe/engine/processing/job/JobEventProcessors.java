@@ -11,6 +11,8 @@ import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.metrics.JobMetrics;
 import io.camunda.zeebe.engine.processing.bpmn.behavior.BpmnBehaviors;
 import io.camunda.zeebe.engine.processing.common.EventHandle;
+import io.camunda.zeebe.engine.processing.scheduled.DeadlineScheduler;
+import io.camunda.zeebe.engine.processing.scheduled.DeadlineScheduler.DeadlineKind;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessors;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
 import io.camunda.zeebe.engine.state.immutable.ScheduledTaskState;
@@ -31,6 +33,7 @@ public final class JobEventProcessors {
       final Writers writers,
       final JobMetrics jobMetrics,
       final EngineConfiguration config,
+      final DeadlineScheduler deadlineScheduler,
       final InstantSource clock) {
 
     final var keyGenerator = processingState.getKeyGenerator();
@@ -44,8 +47,16 @@ public final class JobEventProcessors {
             bpmnBehaviors.eventTriggerBehavior(),
             bpmnBehaviors.stateBehavior());
 
-    final var jobBackoffChecker =
-        new JobBackoffChecker(clock, scheduledTaskStateFactory.get().getJobState());
+    final var jobState = scheduledTaskStateFactory.get().getJobState();
+    final var jobBackoffChecker = new JobBackoffChecker(clock, jobState, deadlineScheduler);
+    deadlineScheduler.register(
+        DeadlineKind.JOB_TIMEOUT,
+        config.getJobsTimeoutCheckerPollingInterval(),
+        new JobTimeoutChecker(
+            jobState,
+            config.getJobsTimeoutCheckerPollingInterval(),
+            config.getJobsTimeoutCheckerBatchLimit(),
+            clock));
     typedRecordProcessors
         .onCommand(
             ValueType.JOB,
@@ -101,13 +112,6 @@ public final class JobEventProcessors {
             ValueType.JOB_BATCH,
             JobBatchIntent.ACTIVATE,
             new JobBatchActivateProcessor(
-                writers, processingState, processingState.getKeyGenerator(), jobMetrics))
-        .withListener(
-            new JobTimeoutCheckerScheduler(
-                scheduledTaskStateFactory.get().getJobState(),
-                config.getJobsTimeoutCheckerPollingInterval(),
-                config.getJobsTimeoutCheckerBatchLimit(),
-                clock))
-        .withListener(jobBackoffChecker);
+                writers, processingState, processingState.getKeyGenerator(), jobMetrics));
   }
 }
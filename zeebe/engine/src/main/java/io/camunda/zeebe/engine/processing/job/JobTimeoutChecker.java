@@ -7,12 +7,10 @@
  */
 package io.camunda.zeebe.engine.processing.job;
 
+import io.camunda.zeebe.engine.processing.scheduled.DeadlineScheduler.DeadlineCheck;
 import io.camunda.zeebe.engine.state.immutable.JobState;
 import io.camunda.zeebe.engine.state.immutable.JobState.DeadlineIndex;
 import io.camunda.zeebe.protocol.record.intent.JobIntent;
-import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
-import io.camunda.zeebe.stream.api.scheduling.Task;
-import io.camunda.zeebe.stream.api.scheduling.TaskResult;
 import io.camunda.zeebe.stream.api.scheduling.TaskResultBuilder;
 import java.time.Duration;
 import java.time.InstantSource;
@@ -20,11 +18,14 @@ import org.agrona.collections.MutableInteger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-final class JobTimeoutChecker implements Task {
+/**
+ * Times out the jobs whose deadline passed. It is checked by the {@link
+ * io.camunda.zeebe.engine.processing.scheduled.DeadlineScheduler} after every polling interval, or
+ * as soon as possible if it yielded early, in which case it continues where it left off.
+ */
+final class JobTimeoutChecker implements DeadlineCheck {
   private static final Logger LOG = LoggerFactory.getLogger(JobTimeoutChecker.class);
 
-  private boolean shouldReschedule = false;
-
   /** Keeps track of the timestamp to compare the message deadlines against. */
   private long executionTimestamp = -1;
 
@@ -32,7 +33,6 @@ final class JobTimeoutChecker implements Task {
   private DeadlineIndex startAtIndex = null;
 
   private final JobState state;
-  private ReadonlyStreamProcessorContext processingContext;
   private final Duration pollingInterval;
   private final int batchLimit;
   private final InstantSource clock;
@@ -48,14 +48,8 @@ final class JobTimeoutChecker implements Task {
     this.clock = clock;
   }
 
-  public void schedule(final Duration idleInterval) {
-    if (shouldReschedule) {
-      processingContext.getScheduleService().runAt(clock.millis() + idleInterval.toMillis(), this);
-    }
-  }
-
   @Override
-  public TaskResult execute(final TaskResultBuilder taskResultBuilder) {
+  public long check(final TaskResultBuilder taskResultBuilder) {
     LOG.trace("Job timeout checker running...");
     if (executionTimestamp == -1) {
       executionTimestamp = clock.millis();
@@ -75,28 +69,18 @@ final class JobTimeoutChecker implements Task {
               return taskResultBuilder.appendCommandRecord(key, JobIntent.TIME_OUT, record);
             });
 
+    LOG.trace("{} timeout job commands appended to task result builder", counter.get());
+
     if (lastVisitedIndex != null) {
       LOG.trace(
           "Job timeout checker yielded early. Will reschedule immediately from {}",
           lastVisitedIndex);
       startAtIndex = lastVisitedIndex;
-      schedule(Duration.ZERO);
-    } else {
-      executionTimestamp = -1;
-      startAtIndex = null;
-      schedule(pollingInterval);
+      return clock.millis();
     }
 
-    LOG.trace("{} timeout job commands appended to task result builder", counter.get());
-
-    return taskResultBuilder.build();
-  }
-
-  public void setProcessingContext(final ReadonlyStreamProcessorContext processingContext) {
-    this.processingContext = processingContext;
-  }
-
-  public void setShouldReschedule(final boolean shouldReschedule) {
-    this.shouldReschedule = shouldReschedule;
+    executionTimestamp = -1;
+    startAtIndex = null;
+    return clock.millis() + pollingInterval.toMillis();
   }
 }
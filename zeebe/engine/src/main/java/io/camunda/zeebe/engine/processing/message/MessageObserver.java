@@ -8,10 +8,16 @@
 package io.camunda.zeebe.engine.processing.message;
 
 import io.camunda.zeebe.engine.processing.message.command.SubscriptionCommandSender;
+import io.camunda.zeebe.engine.processing.scheduled.DeadlineScheduler;
+import io.camunda.zeebe.engine.processing.scheduled.DeadlineScheduler.DeadlineKind;
 import io.camunda.zeebe.engine.state.immutable.PendingMessageSubscriptionState;
 import io.camunda.zeebe.engine.state.immutable.ScheduledTaskState;
 import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
 import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
+import io.camunda.zeebe.stream.api.scheduling.ProcessingScheduleService;
+import io.camunda.zeebe.stream.api.scheduling.Task;
+import io.camunda.zeebe.stream.api.scheduling.TaskResult;
+import io.camunda.zeebe.stream.api.scheduling.TaskResultBuilder;
 import java.time.Duration;
 import java.time.InstantSource;
 import java.util.function.Supplier;
@@ -22,9 +28,8 @@ public final class MessageObserver implements StreamProcessorLifecycleAware {
   public static final Duration SUBSCRIPTION_CHECK_INTERVAL = Duration.ofSeconds(30);
 
   private final SubscriptionCommandSender subscriptionCommandSender;
-  private final Supplier<ScheduledTaskState> scheduledTaskStateFactory;
   private final PendingMessageSubscriptionState pendingState;
-  private final int messagesTtlCheckerBatchLimit;
+  private final MessageTimeToLiveChecker timeToLiveChecker;
   private final Duration messagesTtlCheckerInterval;
   private final boolean enableMessageTtlCheckerAsync;
   private final InstantSource clock;
@@ -36,39 +41,42 @@ public final class MessageObserver implements StreamProcessorLifecycleAware {
       final Duration messagesTtlCheckerInterval,
       final int messagesTtlCheckerBatchLimit,
       final boolean enableMessageTtlCheckerAsync,
+      final DeadlineScheduler deadlineScheduler,
       final InstantSource clock) {
     this.subscriptionCommandSender = subscriptionCommandSender;
-    this.scheduledTaskStateFactory = scheduledTaskStateFactory;
     this.pendingState = pendingState;
     this.messagesTtlCheckerInterval = messagesTtlCheckerInterval;
-    this.messagesTtlCheckerBatchLimit = messagesTtlCheckerBatchLimit;
     this.enableMessageTtlCheckerAsync = enableMessageTtlCheckerAsync;
     this.clock = clock;
+    timeToLiveChecker =
+        new MessageTimeToLiveChecker(
+            messagesTtlCheckerInterval,
+            messagesTtlCheckerBatchLimit,
+            scheduledTaskStateFactory.get().getMessageState(),
+            clock);
+
+    if (!enableMessageTtlCheckerAsync) {
+      deadlineScheduler.register(
+          DeadlineKind.MESSAGE_TIME_TO_LIVE, messagesTtlCheckerInterval, timeToLiveChecker);
+    }
   }
 
   @Override
   public void onRecovered(final ReadonlyStreamProcessorContext context) {
-    scheduleMessageTtlChecker(context);
+    if (enableMessageTtlCheckerAsync) {
+      scheduleAsyncMessageTtlChecker(context);
+    }
     schedulePendingMessageSubscriptionChecker(context);
   }
 
-  private void scheduleMessageTtlChecker(final ReadonlyStreamProcessorContext context) {
+  /**
+   * The message TTL checker is usually scheduled by the {@link DeadlineScheduler}, which runs on
+   * the stream processor actor. When it should run async instead, it schedules itself.
+   */
+  private void scheduleAsyncMessageTtlChecker(final ReadonlyStreamProcessorContext context) {
     final var scheduleService = context.getScheduleService();
-    final var messageState = scheduledTaskStateFactory.get().getMessageState();
     final var timestamp = clock.millis() + messagesTtlCheckerInterval.toMillis();
-    final var timeToLiveChecker =
-        new MessageTimeToLiveChecker(
-            messagesTtlCheckerInterval,
-            messagesTtlCheckerBatchLimit,
-            enableMessageTtlCheckerAsync,
-            scheduleService,
-            messageState,
-            context.getClock());
-    if (enableMessageTtlCheckerAsync) {
-      scheduleService.runAtAsync(timestamp, timeToLiveChecker);
-    } else {
-      scheduleService.runAt(timestamp, timeToLiveChecker);
-    }
+    scheduleService.runAtAsync(timestamp, new AsyncMessageTtlTask(scheduleService));
   }
 
   private void schedulePendingMessageSubscriptionChecker(
@@ -82,4 +90,19 @@ public final class MessageObserver implements StreamProcessorLifecycleAware {
             context.getClock());
     scheduleService.runAtFixedRate(SUBSCRIPTION_CHECK_INTERVAL, pendingSubscriptionChecker);
   }
+
+  private final class AsyncMessageTtlTask implements Task {
+    private final ProcessingScheduleService scheduleService;
+
+    private AsyncMessageTtlTask(final ProcessingScheduleService scheduleService) {
+      this.scheduleService = scheduleService;
+    }
+
+    @Override
+    public TaskResult execute(final TaskResultBuilder taskResultBuilder) {
+      final var nextExecution = timeToLiveChecker.check(taskResultBuilder);
+      scheduleService.runAtAsync(nextExecution, this);
+      return taskResultBuilder.build();
+    }
+  }
 }
@@ -7,13 +7,11 @@
  */
 package io.camunda.zeebe.engine.processing.message;
 
+import io.camunda.zeebe.engine.processing.scheduled.DeadlineScheduler.DeadlineCheck;
 import io.camunda.zeebe.engine.state.immutable.MessageState;
 import io.camunda.zeebe.engine.state.immutable.MessageState.Index;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageBatchRecord;
 import io.camunda.zeebe.protocol.record.intent.MessageBatchIntent;
-import io.camunda.zeebe.stream.api.scheduling.ProcessingScheduleService;
-import io.camunda.zeebe.stream.api.scheduling.Task;
-import io.camunda.zeebe.stream.api.scheduling.TaskResult;
 import io.camunda.zeebe.stream.api.scheduling.TaskResultBuilder;
 import java.time.Duration;
 import java.time.InstantSource;
@@ -24,14 +22,13 @@ import org.agrona.collections.MutableInteger;
  * EXPIRE Message command.
  *
  * <p>To prevent that it clogs the log stream with too many EXPIRE Message commands, it only writes
- * a limited number of these commands in a single run of {@link #execute(TaskResultBuilder)}.
+ * a limited number of these commands in a single run of {@link #check(TaskResultBuilder)}.
  *
- * <p>It determines whether to reschedule itself immediately, or after the configured {@link
- * #executionInterval interval}. If it reschedules itself immediately, then it will continue where
- * it left off the last time. Otherwise, it starts with the first expired message deadline it can
- * find.
+ * <p>It determines whether it should run again immediately, or after the configured {@link
+ * #executionInterval interval}. If it runs again immediately, then it will continue where it left
+ * off the last time. Otherwise, it starts with the first expired message deadline it can find.
  */
-public final class MessageTimeToLiveChecker implements Task {
+public final class MessageTimeToLiveChecker implements DeadlineCheck {
 
   /** This determines the duration that the TTL checker is idle after it completes an execution. */
   private final Duration executionInterval;
@@ -39,10 +36,6 @@ public final class MessageTimeToLiveChecker implements Task {
   /** This determines the maximum number of EXPIRE commands it will attempt to fit in the result. */
   private final int batchLimit;
 
-  /** This determines whether to run this checker async or not. */
-  private final boolean enableMessageTtlCheckerAsync;
-
-  private final ProcessingScheduleService scheduleService;
   private final MessageState messageState;
 
   /** Keeps track of the timestamp to compare the message deadlines against. */
@@ -56,21 +49,17 @@ public final class MessageTimeToLiveChecker implements Task {
   public MessageTimeToLiveChecker(
       final Duration executionInterval,
       final int batchLimit,
-      final boolean enableMessageTtlCheckerAsync,
-      final ProcessingScheduleService scheduleService,
       final MessageState messageState,
       final InstantSource clock) {
     this.executionInterval = executionInterval;
     this.batchLimit = batchLimit;
-    this.enableMessageTtlCheckerAsync = enableMessageTtlCheckerAsync;
     this.messageState = messageState;
-    this.scheduleService = scheduleService;
     this.clock = clock;
     lastIndex = null;
   }
 
   @Override
-  public TaskResult execute(final TaskResultBuilder taskResultBuilder) {
+  public long check(final TaskResultBuilder taskResultBuilder) {
     if (currentTimestamp == -1) {
       currentTimestamp = clock.millis();
     }
@@ -100,22 +89,11 @@ public final class MessageTimeToLiveChecker implements Task {
     }
 
     if (shouldContinueWhereLeftOff) {
-      reschedule(Duration.ZERO);
-    } else {
-      lastIndex = null;
-      currentTimestamp = -1;
-      reschedule(executionInterval);
+      return clock.millis();
     }
 
-    return taskResultBuilder.build();
-  }
-
-  private void reschedule(final Duration idleInterval) {
-    final var timestamp = clock.millis() + idleInterval.toMillis();
-    if (enableMessageTtlCheckerAsync) {
-      scheduleService.runAtAsync(timestamp, this);
-    } else {
-      scheduleService.runAt(timestamp, this);
-    }
+    lastIndex = null;
+    currentTimestamp = -1;
+    return clock.millis() + executionInterval.toMillis();
   }
 }
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.engine.processing.processinstance;
 
 import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.metrics.ProcessInstanceBatchMetrics;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableMultiInstanceBody;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessor;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedCommandWriter;
@@ -21,22 +22,35 @@ import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.stream.api.state.KeyGenerator;
 
+/**
+ * Activates the children of a multi-instance body in batches. The index of the batch record is the
+ * number of children which are left to activate: if the batch is full, or the configured limit of
+ * children per batch is reached, a follow-up batch command is written with the remaining number. As
+ * the follow-up command is appended to the end of the log, the commands of other process instances
+ * are processed in between.
+ */
 public final class ProcessInstanceBatchActivateProcessor
     implements TypedRecordProcessor<ProcessInstanceBatchRecord> {
   private final TypedCommandWriter commandWriter;
   private final KeyGenerator keyGenerator;
   private final ElementInstanceState elementInstanceState;
   private final ProcessState processState;
+  private final int activateLimit;
+  private final ProcessInstanceBatchMetrics metrics;
 
   public ProcessInstanceBatchActivateProcessor(
       final Writers writers,
       final KeyGenerator keyGenerator,
       final ElementInstanceState elementInstanceState,
-      final ProcessState processState) {
+      final ProcessState processState,
+      final int activateLimit,
+      final ProcessInstanceBatchMetrics metrics) {
     commandWriter = writers.command();
     this.keyGenerator = keyGenerator;
     this.elementInstanceState = elementInstanceState;
     this.processState = processState;
+    this.activateLimit = activateLimit;
+    this.metrics = metrics;
   }
 
   @Override
@@ -45,17 +59,22 @@ public final class ProcessInstanceBatchActivateProcessor
 
     final ProcessInstanceRecord childInstanceRecord = createChildInstanceRecord(recordValue);
     var amountOfChildInstancesToActivate = recordValue.getIndex();
+    var activatedChildInstances = 0;
     while (amountOfChildInstancesToActivate > 0) {
-      if (canWriteCommands(record, childInstanceRecord)) {
+      if (activatedChildInstances < activateLimit
+          && canWriteCommands(record, childInstanceRecord)) {
         final long childInstanceKey = keyGenerator.nextKey();
         commandWriter.appendFollowUpCommand(
             childInstanceKey, ProcessInstanceIntent.ACTIVATE_ELEMENT, childInstanceRecord);
         amountOfChildInstancesToActivate--;
+        activatedChildInstances++;
       } else {
         writeFollowupBatchCommand(recordValue, amountOfChildInstancesToActivate);
         break;
       }
     }
+
+    metrics.activateBatchProcessed(activatedChildInstances);
   }
 
   private ProcessInstanceRecord createChildInstanceRecord(
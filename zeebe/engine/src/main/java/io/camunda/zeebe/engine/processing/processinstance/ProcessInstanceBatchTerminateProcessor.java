@@ -8,6 +8,7 @@
 package io.camunda.zeebe.engine.processing.processinstance;
 
 import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.metrics.ProcessInstanceBatchMetrics;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessor;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedCommandWriter;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
@@ -18,46 +19,72 @@ import io.camunda.zeebe.protocol.record.intent.ProcessInstanceBatchIntent;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.stream.api.state.KeyGenerator;
+import org.agrona.collections.MutableInteger;
 
+/**
+ * Terminates the children of an element instance in batches. The index of the batch record is the
+ * key of the first child to terminate, and acts as cursor: if the batch is full, or the configured
+ * limit of children per batch is reached, a follow-up batch command is written with the key of the
+ * next child. As the follow-up command is appended to the end of the log, the commands of other
+ * process instances are processed in between, so that terminating a huge number of children does
+ * not block the partition.
+ */
 public final class ProcessInstanceBatchTerminateProcessor
     implements TypedRecordProcessor<ProcessInstanceBatchRecord> {
 
   private final TypedCommandWriter commandWriter;
   private final KeyGenerator keyGenerator;
   private final ElementInstanceState elementInstanceState;
+  private final int terminateLimit;
+  private final ProcessInstanceBatchMetrics metrics;
 
   public ProcessInstanceBatchTerminateProcessor(
       final Writers writers,
       final KeyGenerator keyGenerator,
-      final ElementInstanceState elementInstanceState) {
+      final ElementInstanceState elementInstanceState,
+      final int terminateLimit,
+      final ProcessInstanceBatchMetrics metrics) {
     commandWriter = writers.command();
     this.keyGenerator = keyGenerator;
     this.elementInstanceState = elementInstanceState;
+    this.terminateLimit = terminateLimit;
+    this.metrics = metrics;
   }
 
   @Override
   public void processRecord(final TypedRecord<ProcessInstanceBatchRecord> record) {
     final var recordValue = record.getValue();
+    final var visitedChildren = new MutableInteger(0);
+    final var terminatedChildren = new MutableInteger(0);
 
     elementInstanceState.forEachChild(
         recordValue.getBatchElementInstanceKey(),
         recordValue.getIndex(),
         (childKey, childInstance) -> {
-          if (canWriteCommand(record, childInstance)) {
-            terminateChildInstance(childInstance);
+          if (visitedChildren.getAndIncrement() < terminateLimit
+              && canWriteCommand(record, childInstance)) {
+            if (terminateChildInstance(childInstance)) {
+              terminatedChildren.increment();
+            }
             return true;
           } else {
-            final var nextBatchRecord =
-                new ProcessInstanceBatchRecord()
-                    .setProcessInstanceKey(recordValue.getProcessInstanceKey())
-                    .setBatchElementInstanceKey(recordValue.getBatchElementInstanceKey())
-                    .setIndex(childKey);
-            final long key = keyGenerator.nextKey();
-            commandWriter.appendFollowUpCommand(
-                key, ProcessInstanceBatchIntent.TERMINATE, nextBatchRecord);
+            writeFollowUpBatchCommand(recordValue, childKey);
             return false;
           }
         });
+
+    metrics.terminateBatchProcessed(terminatedChildren.get());
+  }
+
+  private void writeFollowUpBatchCommand(
+      final ProcessInstanceBatchRecord recordValue, final long nextChildKey) {
+    final var nextBatchRecord =
+        new ProcessInstanceBatchRecord()
+            .setProcessInstanceKey(recordValue.getProcessInstanceKey())
+            .setBatchElementInstanceKey(recordValue.getBatchElementInstanceKey())
+            .setIndex(nextChildKey);
+    final long key = keyGenerator.nextKey();
+    commandWriter.appendFollowUpCommand(key, ProcessInstanceBatchIntent.TERMINATE, nextBatchRecord);
   }
 
   private boolean canWriteCommand(
@@ -72,12 +99,14 @@ public final class ProcessInstanceBatchTerminateProcessor
     return commandWriter.canWriteCommandOfLength(expectedCommandLength);
   }
 
-  private void terminateChildInstance(final ElementInstance childInstance) {
+  private boolean terminateChildInstance(final ElementInstance childInstance) {
     if (childInstance.canTerminate()) {
       commandWriter.appendFollowUpCommand(
           childInstance.getKey(),
           ProcessInstanceIntent.TERMINATE_ELEMENT,
           childInstance.getValue());
+      return true;
     }
+    return false;
   }
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.scheduled;
+
+import java.util.Arrays;
+
+/**
+ * A binary min-heap of ids in the range [0, capacity), ordered by their deadline. Every id is
+ * contained at most once, and its position is tracked, so that its deadline can be moved in O(log
+ * n) without searching the heap. Backed by primitive arrays, so it doesn't allocate after
+ * construction.
+ */
+final class DeadlineHeap {
+  private static final int ABSENT = -1;
+
+  private final long[] deadlines;
+  private final int[] heap;
+  private final int[] positions;
+  private int size;
+
+  DeadlineHeap(final int capacity) {
+    deadlines = new long[capacity];
+    heap = new int[capacity];
+    positions = new int[capacity];
+    Arrays.fill(positions, ABSENT);
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  int size() {
+    return size;
+  }
+
+  boolean contains(final int id) {
+    return positions[id] != ABSENT;
+  }
+
+  /**
+   * Adds the id with the given deadline. If the id is already contained, its deadline is only moved
+   * if the given deadline is earlier.
+   */
+  void offer(final int id, final long deadline) {
+    final var position = positions[id];
+    if (position == ABSENT) {
+      deadlines[id] = deadline;
+      heap[size] = id;
+      positions[id] = size;
+      siftUp(size);
+      size++;
+    } else if (deadline < deadlines[id]) {
+      deadlines[id] = deadline;
+      siftUp(position);
+    }
+  }
+
+  /**
+   * @return the earliest deadline; must not be called on an empty heap
+   */
+  long peekDeadline() {
+    return deadlines[heap[0]];
+  }
+
+  /**
+   * Removes the id with the earliest deadline.
+   *
+   * @return the removed id; must not be called on an empty heap
+   */
+  int poll() {
+    final var id = heap[0];
+    size--;
+    if (size > 0) {
+      move(heap[size], 0);
+      siftDown(0);
+    }
+    positions[id] = ABSENT;
+    return id;
+  }
+
+  void clear() {
+    for (int i = 0; i < size; i++) {
+      positions[heap[i]] = ABSENT;
+    }
+    size = 0;
+  }
+
+  private void siftUp(int position) {
+    final var id = heap[position];
+    final var deadline = deadlines[id];
+    while (position > 0) {
+      final var parent = (position - 1) >>> 1;
+      if (deadlines[heap[parent]] <= deadline) {
+        break;
+      }
+      move(heap[parent], position);
+      position = parent;
+    }
+    move(id, position);
+  }
+
+  private void siftDown(int position) {
+    final var id = heap[position];
+    final var deadline = deadlines[id];
+    final var half = size >>> 1;
+    while (position < half) {
+      var child = 2 * position + 1;
+      final var right = child + 1;
+      if (right < size && deadlines[heap[right]] < deadlines[heap[child]]) {
+        child = right;
+      }
+      if (deadline <= deadlines[heap[child]]) {
+        break;
+      }
+      move(heap[child], position);
+      position = child;
+    }
+    move(id, position);
+  }
+
+  private void move(final int id, final int position) {
+    heap[position] = id;
+    positions[id] = position;
+  }
+}
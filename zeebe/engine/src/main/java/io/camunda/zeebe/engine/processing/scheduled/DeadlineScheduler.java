@@ -0,0 +1,233 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.scheduled;
+
+import io.camunda.zeebe.engine.metrics.DeadlineSchedulerMetrics;
+import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
+import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
+import io.camunda.zeebe.stream.api.scheduling.ProcessingScheduleService;
+import io.camunda.zeebe.stream.api.scheduling.SimpleProcessingScheduleService.ScheduledTask;
+import io.camunda.zeebe.stream.api.scheduling.TaskResult;
+import io.camunda.zeebe.stream.api.scheduling.TaskResultBuilder;
+import java.time.Duration;
+import java.time.InstantSource;
+
+/**
+ * Schedules the checks of all kinds of deadlines which are checked on the stream processor actor,
+ * e.g. timers, job timeouts and job back offs. Instead of every checker scheduling its own
+ * execution, the scheduler keeps the next deadline of every kind in a {@link DeadlineHeap} and
+ * schedules a single wakeup for the earliest of them. On wakeup, the checks of all kinds which are
+ * due are executed with the same {@link TaskResultBuilder}, such that their commands are written as
+ * one batch.
+ *
+ * <p>Each check returns the next deadline of its kind, which is added to the heap again. A deadline
+ * can also be scheduled from outside, e.g. when a timer is created, in which case it replaces the
+ * known deadline of its kind if it is earlier.
+ *
+ * <p>Similar to the {@link DueDateChecker}, a wakeup is always scheduled at least {@link
+ * #resolution} into the future, so that the other tasks of the stream processor have a chance to
+ * run in between, and a scheduled wakeup is only replaced if the new one is earlier by more than
+ * the resolution.
+ *
+ * <p>This class is not thread safe, and must only be used from the stream processor actor.
+ */
+public final class DeadlineScheduler implements StreamProcessorLifecycleAware {
+  public static final Duration DEFAULT_RESOLUTION = Duration.ofMillis(100);
+
+  private static final DeadlineKind[] KINDS = DeadlineKind.values();
+  private static final long NONE = -1;
+
+  private final long resolution;
+  private final InstantSource clock;
+  private final DeadlineSchedulerMetrics metrics;
+
+  private final DeadlineCheck[] checks = new DeadlineCheck[KINDS.length];
+  private final long[] initialDelays = new long[KINDS.length];
+  private final DeadlineHeap deadlines = new DeadlineHeap(KINDS.length);
+
+  private final int[] dueKinds = new int[KINDS.length];
+  private final long[] dueDeadlines = new long[KINDS.length];
+
+  private ProcessingScheduleService scheduleService;
+  private boolean shouldSchedule;
+  private ScheduledTask wakeup;
+  private long wakeupAt = NONE;
+
+  public DeadlineScheduler(final int partitionId, final InstantSource clock) {
+    this(DEFAULT_RESOLUTION, clock, new DeadlineSchedulerMetrics(partitionId));
+  }
+
+  DeadlineScheduler(
+      final Duration resolution,
+      final InstantSource clock,
+      final DeadlineSchedulerMetrics metrics) {
+    this.resolution = resolution.toMillis();
+    this.clock = clock;
+    this.metrics = metrics;
+  }
+
+  /**
+   * Registers the check for the given kind of deadlines. Once the stream processor is recovered or
+   * resumed, the check is first executed after the given initial delay.
+   *
+   * @param kind the kind of deadlines the check is responsible for
+   * @param initialDelay the delay of the first check after recovery
+   * @param check the check, which appends the commands for the due deadlines
+   */
+  public void register(
+      final DeadlineKind kind, final Duration initialDelay, final DeadlineCheck check) {
+    if (checks[kind.ordinal()] != null) {
+      throw new IllegalStateException(
+          "Expected to register a check for deadlines of kind %s, but one is already registered"
+              .formatted(kind));
+    }
+    checks[kind.ordinal()] = check;
+    initialDelays[kind.ordinal()] = initialDelay.toMillis();
+  }
+
+  /**
+   * Ensures that the deadlines of the given kind are checked at or shortly after the given
+   * deadline.
+   */
+  public void schedule(final DeadlineKind kind, final long deadline) {
+    if (!shouldSchedule || checks[kind.ordinal()] == null) {
+      return;
+    }
+
+    deadlines.offer(kind.ordinal(), deadline);
+    scheduleWakeup();
+  }
+
+  TaskResult execute(final TaskResultBuilder taskResultBuilder) {
+    wakeup = null;
+    wakeupAt = NONE;
+    metrics.wakeup();
+
+    // take all due kinds first, so that a check which is immediately due again is only executed on
+    // the next wakeup
+    final var now = clock.millis();
+    var dueCount = 0;
+    while (!deadlines.isEmpty() && deadlines.peekDeadline() <= now) {
+      dueDeadlines[dueCount] = deadlines.peekDeadline();
+      dueKinds[dueCount] = deadlines.poll();
+      dueCount++;
+    }
+
+    for (int i = 0; i < dueCount; i++) {
+      final var kind = KINDS[dueKinds[i]];
+      metrics.deadlineChecked(kind.label(), now - dueDeadlines[i]);
+
+      final var nextDeadline = checks[kind.ordinal()].check(taskResultBuilder);
+      if (nextDeadline > 0) {
+        deadlines.offer(kind.ordinal(), nextDeadline);
+      }
+    }
+
+    scheduleWakeup();
+    return taskResultBuilder.build();
+  }
+
+  private void scheduleWakeup() {
+    if (!shouldSchedule || deadlines.isEmpty()) {
+      return;
+    }
+
+    final var now = clock.millis();
+    final var scheduleFor = Math.max(deadlines.peekDeadline(), now + resolution);
+    if (wakeupAt != NONE && wakeupAt - scheduleFor <= resolution) {
+      // the scheduled wakeup is early enough
+      return;
+    }
+
+    cancelWakeup();
+    wakeupAt = scheduleFor;
+    wakeup = scheduleService.runAt(scheduleFor, this::execute);
+  }
+
+  private void cancelWakeup() {
+    if (wakeup != null) {
+      wakeup.cancel();
+    }
+    wakeup = null;
+    wakeupAt = NONE;
+  }
+
+  private void start() {
+    shouldSchedule = true;
+
+    final var now = clock.millis();
+    for (final var kind : KINDS) {
+      if (checks[kind.ordinal()] != null) {
+        deadlines.offer(kind.ordinal(), now + initialDelays[kind.ordinal()]);
+      }
+    }
+    scheduleWakeup();
+  }
+
+  private void stop() {
+    shouldSchedule = false;
+    cancelWakeup();
+    deadlines.clear();
+  }
+
+  @Override
+  public void onRecovered(final ReadonlyStreamProcessorContext context) {
+    scheduleService = context.getScheduleService();
+    start();
+  }
+
+  @Override
+  public void onClose() {
+    stop();
+  }
+
+  @Override
+  public void onFailed() {
+    stop();
+  }
+
+  @Override
+  public void onPaused() {
+    stop();
+  }
+
+  @Override
+  public void onResumed() {
+    start();
+  }
+
+  public enum DeadlineKind {
+    TIMER("timer"),
+    JOB_TIMEOUT("jobTimeout"),
+    JOB_BACKOFF("jobBackoff"),
+    MESSAGE_TIME_TO_LIVE("messageTimeToLive");
+
+    private final String label;
+
+    DeadlineKind(final String label) {
+      this.label = label;
+    }
+
+    public String label() {
+      return label;
+    }
+  }
+
+  @FunctionalInterface
+  public interface DeadlineCheck {
+
+    /**
+     * Appends the commands for the due deadlines of its kind to the given builder.
+     *
+     * @return the next deadline of its kind, or a value {@code <= 0} if it is unknown; a deadline
+     *     in the past means that not all due deadlines could be handled and the check should be
+     *     executed again as soon as possible
+     */
+    long check(TaskResultBuilder taskResultBuilder);
+  }
+}
@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.engine.processing.timer;
 
+import io.camunda.zeebe.engine.processing.scheduled.DeadlineScheduler;
+import io.camunda.zeebe.engine.processing.scheduled.DeadlineScheduler.DeadlineKind;
 import io.camunda.zeebe.engine.processing.scheduled.DueDateChecker;
 import io.camunda.zeebe.engine.state.immutable.TimerInstanceState;
 import io.camunda.zeebe.engine.state.immutable.TimerInstanceState.TimerVisitor;
@@ -25,48 +27,72 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
 
   private static final long TIMER_RESOLUTION = Duration.ofMillis(100).toMillis();
   private static final double GIVE_YIELD_FACTOR = 0.5;
+  private final DeadlineScheduler deadlineScheduler;
+
+  /**
+   * Only set if the timers are checked asynchronously, otherwise the timers are checked by the
+   * {@link DeadlineScheduler} of the partition, together with the other deadlines.
+   */
   private final DueDateChecker dueDateChecker;
 
   public DueDateTimerChecker(
       final TimerInstanceState timerInstanceState,
       final FeatureFlags featureFlags,
+      final DeadlineScheduler deadlineScheduler,
       final InstantSource clock) {
-    dueDateChecker =
-        new DueDateChecker(
-            TIMER_RESOLUTION,
-            featureFlags.enableTimerDueDateCheckerAsync(),
-            new TriggerTimersSideEffect(
-                timerInstanceState, clock, featureFlags.yieldingDueDateChecker()),
-            clock);
+    this.deadlineScheduler = deadlineScheduler;
+    final var triggerTimers =
+        new TriggerTimersSideEffect(
+            timerInstanceState, clock, featureFlags.yieldingDueDateChecker());
+    if (featureFlags.enableTimerDueDateCheckerAsync()) {
+      dueDateChecker = new DueDateChecker(TIMER_RESOLUTION, true, triggerTimers, clock);
+    } else {
+      dueDateChecker = null;
+      deadlineScheduler.register(DeadlineKind.TIMER, Duration.ZERO, triggerTimers::apply);
+    }
   }
 
   public void scheduleTimer(final long dueDate) {
-    dueDateChecker.schedule(dueDate);
+    if (dueDateChecker != null) {
+      dueDateChecker.schedule(dueDate);
+    } else {
+      deadlineScheduler.schedule(DeadlineKind.TIMER, dueDate);
+    }
   }
 
   @Override
   public void onRecovered(final ReadonlyStreamProcessorContext context) {
-    dueDateChecker.onRecovered(context);
+    if (dueDateChecker != null) {
+      dueDateChecker.onRecovered(context);
+    }
   }
 
   @Override
   public void onClose() {
-    dueDateChecker.onClose();
+    if (dueDateChecker != null) {
+      dueDateChecker.onClose();
+    }
   }
 
   @Override
   public void onFailed() {
-    dueDateChecker.onFailed();
+    if (dueDateChecker != null) {
+      dueDateChecker.onFailed();
+    }
   }
 
   @Override
   public void onPaused() {
-    dueDateChecker.onPaused();
+    if (dueDateChecker != null) {
+      dueDateChecker.onPaused();
+    }
   }
 
   @Override
   public void onResumed() {
-    dueDateChecker.onResumed();
+    if (dueDateChecker != null) {
+      dueDateChecker.onResumed();
+    }
   }
 
   protected static final class TriggerTimersSideEffect
@@ -0,0 +1,86 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state;
+
+import io.camunda.zeebe.db.impl.rocksdb.ColumnFamilyProfile;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The default {@link ColumnFamilyProfile} of the column families of the engine, based on how the
+ * engine accesses them. Column families which are not listed here, or are accessed both ways, use
+ * the {@link ColumnFamilyProfile#DEFAULT} profile.
+ */
+public final class ZbColumnFamilyProfiles {
+
+  private static final Map<ZbColumnFamilies, ColumnFamilyProfile> DEFAULTS;
+
+  static {
+    final var profiles = new EnumMap<ZbColumnFamilies, ColumnFamilyProfile>(ZbColumnFamilies.class);
+
+    // iterated by prefix to find the next due entries or all entries of a parent, type or name
+    profiles.put(ZbColumnFamilies.ELEMENT_INSTANCE_PARENT_CHILD, ColumnFamilyProfile.PREFIX_SCAN);
+    profiles.put(ZbColumnFamilies.JOB_ACTIVATABLE, ColumnFamilyProfile.PREFIX_SCAN);
+    profiles.put(ZbColumnFamilies.JOB_DEADLINES, ColumnFamilyProfile.PREFIX_SCAN);
+    profiles.put(ZbColumnFamilies.JOB_BACKOFF, ColumnFamilyProfile.PREFIX_SCAN);
+    profiles.put(ZbColumnFamilies.TIMER_DUE_DATES, ColumnFamilyProfile.PREFIX_SCAN);
+    profiles.put(ZbColumnFamilies.MESSAGE_DEADLINES, ColumnFamilyProfile.PREFIX_SCAN);
+    profiles.put(
+        ZbColumnFamilies.MESSAGE_SUBSCRIPTION_BY_NAME_AND_CORRELATION_KEY,
+        ColumnFamilyProfile.PREFIX_SCAN);
+    profiles.put(
+        ZbColumnFamilies.MESSAGE_START_EVENT_SUBSCRIPTION_BY_NAME_AND_KEY,
+        ColumnFamilyProfile.PREFIX_SCAN);
+    profiles.put(
+        ZbColumnFamilies.SIGNAL_SUBSCRIPTION_BY_NAME_AND_KEY, ColumnFamilyProfile.PREFIX_SCAN);
+    profiles.put(ZbColumnFamilies.PENDING_DISTRIBUTION, ColumnFamilyProfile.PREFIX_SCAN);
+    profiles.put(
+        ZbColumnFamilies.PROCESS_INSTANCE_KEY_BY_DEFINITION_KEY, ColumnFamilyProfile.PREFIX_SCAN);
+    profiles.put(ZbColumnFamilies.MESSAGES, ColumnFamilyProfile.PREFIX_SCAN);
+
+    // read by their full key, usually the key of a record
+    profiles.put(ZbColumnFamilies.JOBS, ColumnFamilyProfile.POINT_LOOKUP);
+    profiles.put(ZbColumnFamilies.JOB_STATES, ColumnFamilyProfile.POINT_LOOKUP);
+    profiles.put(ZbColumnFamilies.ELEMENT_INSTANCE_KEY, ColumnFamilyProfile.POINT_LOOKUP);
+    profiles.put(ZbColumnFamilies.USER_TASKS, ColumnFamilyProfile.POINT_LOOKUP);
+    profiles.put(ZbColumnFamilies.USER_TASK_STATES, ColumnFamilyProfile.POINT_LOOKUP);
+    profiles.put(ZbColumnFamilies.INCIDENTS, ColumnFamilyProfile.POINT_LOOKUP);
+    profiles.put(ZbColumnFamilies.MESSAGE_KEY, ColumnFamilyProfile.POINT_LOOKUP);
+    profiles.put(ZbColumnFamilies.KEY, ColumnFamilyProfile.POINT_LOOKUP);
+    profiles.put(ZbColumnFamilies.PROCESS_CACHE, ColumnFamilyProfile.POINT_LOOKUP);
+    profiles.put(ZbColumnFamilies.DMN_DECISIONS, ColumnFamilyProfile.POINT_LOOKUP);
+    profiles.put(ZbColumnFamilies.FORMS, ColumnFamilyProfile.POINT_LOOKUP);
+    profiles.put(ZbColumnFamilies.AWAIT_WORKLOW_RESULT, ColumnFamilyProfile.POINT_LOOKUP);
+
+    DEFAULTS = Collections.unmodifiableMap(profiles);
+  }
+
+  private ZbColumnFamilyProfiles() {}
+
+  /**
+   * @return the default profiles of the engine's column families, which aren't using the default
+   *     profile
+   */
+  public static Map<ZbColumnFamilies, ColumnFamilyProfile> defaults() {
+    return DEFAULTS;
+  }
+
+  /**
+   * @return the default profiles, with the given profiles replacing the default of their column
+   *     family
+   */
+  public static Map<ZbColumnFamilies, ColumnFamilyProfile> withOverrides(
+      final Map<ZbColumnFamilies, ColumnFamilyProfile> overrides) {
+    final var profiles = new EnumMap<ZbColumnFamilies, ColumnFamilyProfile>(ZbColumnFamilies.class);
+    profiles.putAll(DEFAULTS);
+    profiles.putAll(overrides);
+    return profiles;
+  }
+}
@@ -36,6 +36,7 @@ import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessMetadata;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessRecord;
 import io.camunda.zeebe.protocol.record.value.deployment.DeploymentResource;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.security.MessageDigest;
 import java.time.InstantSource;
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -50,6 +51,8 @@ public final class DbProcessState implements MutableProcessState {
   private static final int DEFAULT_VERSION_VALUE = 0;
 
   private final BpmnTransformer transformer;
+  private final ExecutableProcessCache executableProcessCache;
+  private final MessageDigest checksumDigest = ExecutableProcessCache.newDigest();
   private final ProcessRecord processRecordForDeployments = new ProcessRecord();
   private final Cache<TenantIdAndProcessIdAndVersion, DeployedProcess>
       processesByTenantAndProcessIdAndVersionCache;
@@ -102,6 +105,9 @@ public final class DbProcessState implements MutableProcessState {
       final EngineConfiguration config,
       final InstantSource clock) {
     transformer = BpmnFactory.createTransformer(clock);
+    executableProcessCache =
+        Optional.ofNullable(config.getExecutableProcessCache())
+            .orElseGet(() -> new ExecutableProcessCache(config.getProcessCacheCapacity()));
     processDefinitionKey = new DbLong();
     persistedProcess = new PersistedProcess();
     tenantIdKey = new DbString();
@@ -296,30 +302,35 @@ public final class DbProcessState implements MutableProcessState {
     final PersistedProcess copiedProcess = new PersistedProcess();
     copiedProcess.wrap(buffer, 0, persistedProcess.getLength());
 
-    final BpmnModelInstance modelInstance =
-        readModelInstanceFromBuffer(copiedProcess.getResource());
-    final List<ExecutableProcess> definitions = transformer.transformDefinitions(modelInstance);
-
-    final ExecutableProcess executableProcess =
-        definitions.stream()
-            .filter(
-                process -> BufferUtil.equals(persistedProcess.getBpmnProcessId(), process.getId()))
-            .findFirst()
-            .orElseThrow(
-                () ->
-                    new NoSuchElementException(
-                        String.format(
-                            "Expected to find executable process in persisted process with key '%s',"
-                                + " but after transformation no such executable process could be found.",
-                            persistedProcess.getKey())));
-
-    final DeployedProcess deployedProcess = new DeployedProcess(executableProcess, copiedProcess);
+    // the executable process is only transformed once it's accessed, as many accesses only need
+    // the metadata of the process
+    final DeployedProcess deployedProcess =
+        new DeployedProcess(copiedProcess, this::transformProcess);
 
     addProcessToInMemoryState(deployedProcess);
 
     return deployedProcess;
   }
 
+  private ExecutableProcess transformProcess(final PersistedProcess persistedProcess) {
+    final var resource = persistedProcess.getResource();
+    final List<ExecutableProcess> definitions =
+        executableProcessCache.computeIfAbsent(
+            ExecutableProcessCache.checksumOf(checksumDigest, resource),
+            () -> transformer.transformDefinitions(readModelInstanceFromBuffer(resource)));
+
+    return definitions.stream()
+        .filter(process -> BufferUtil.equals(persistedProcess.getBpmnProcessId(), process.getId()))
+        .findFirst()
+        .orElseThrow(
+            () ->
+                new NoSuchElementException(
+                    String.format(
+                        "Expected to find executable process in persisted process with key '%s',"
+                            + " but after transformation no such executable process could be found.",
+                        persistedProcess.getKey())));
+  }
+
   private BpmnModelInstance readModelInstanceFromBuffer(final DirectBuffer buffer) {
     try (final DirectBufferInputStream stream = new DirectBufferInputStream(buffer)) {
       return Bpmn.readModelFromStream(stream);
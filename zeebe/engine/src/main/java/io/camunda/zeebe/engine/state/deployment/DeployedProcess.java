@@ -9,25 +9,54 @@ package io.camunda.zeebe.engine.state.deployment;
 
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
 import io.camunda.zeebe.engine.state.deployment.PersistedProcess.PersistedProcessState;
+import java.util.function.Function;
 import org.agrona.DirectBuffer;
 
+/**
+ * A deployed process, consisting of its persisted form and its executable form. The executable
+ * process may be loaded lazily on its first access, so that reading only the metadata of a process,
+ * e.g. its version or state, doesn't require to parse and transform its resource.
+ *
+ * <p>This class is not thread safe.
+ */
 public final class DeployedProcess {
-  private final ExecutableProcess process;
   private final PersistedProcess persistedProcess;
+  private Function<PersistedProcess, ExecutableProcess> processLoader;
+  private ExecutableProcess process;
 
   public DeployedProcess(final ExecutableProcess process, final PersistedProcess persistedProcess) {
     this.process = process;
     this.persistedProcess = persistedProcess;
   }
 
+  /**
+   * Creates a deployed process whose executable process is only loaded by the given loader on the
+   * first call of {@link #getProcess()}.
+   */
+  public DeployedProcess(
+      final PersistedProcess persistedProcess,
+      final Function<PersistedProcess, ExecutableProcess> processLoader) {
+    this.persistedProcess = persistedProcess;
+    this.processLoader = processLoader;
+  }
+
   public DirectBuffer getResourceName() {
     return persistedProcess.getResourceName();
   }
 
   public ExecutableProcess getProcess() {
+    if (process == null) {
+      process = processLoader.apply(persistedProcess);
+      processLoader = null;
+    }
     return process;
   }
 
+  /** Returns true if the executable process is loaded, i.e. its resource was transformed. */
+  public boolean isProcessLoaded() {
+    return process != null;
+  }
+
   public int getVersion() {
     return persistedProcess.getVersion();
   }
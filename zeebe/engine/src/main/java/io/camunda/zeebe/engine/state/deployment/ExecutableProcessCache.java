@@ -0,0 +1,93 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.function.Supplier;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A cache of the executable processes which are transformed from a BPMN resource, keyed by the
+ * checksum of the resource. As the transformation only depends on the content of the resource, the
+ * transformed processes can be shared by all partitions of a broker which deployed the same
+ * resource, and they survive the recreation of the partition's state, e.g. on a leader change.
+ *
+ * <p>The cached processes must be treated as immutable, as they're shared between the stream
+ * processors of different partitions. Everything that is specific to a deployed process, like its
+ * key or version, is kept in the {@link DeployedProcess} instead.
+ *
+ * <p>This class is thread safe.
+ */
+public final class ExecutableProcessCache {
+
+  private final Cache<DirectBuffer, List<ExecutableProcess>> processesByChecksum;
+
+  public ExecutableProcessCache(final long capacity) {
+    processesByChecksum = CacheBuilder.newBuilder().maximumSize(capacity).build();
+  }
+
+  /**
+   * Returns the executable processes of the resource with the given checksum. If they're not cached
+   * yet, they're transformed by the given transformation and cached. Concurrent calls for the same
+   * checksum may both run the transformation, in which case the result of the last one is kept.
+   *
+   * @param checksum the checksum of the resource, see {@link #checksumOf(MessageDigest,
+   *     DirectBuffer)}
+   * @param transformation transforms the resource into its executable processes
+   * @return the executable processes of the resource
+   */
+  public List<ExecutableProcess> computeIfAbsent(
+      final DirectBuffer checksum, final Supplier<List<ExecutableProcess>> transformation) {
+    final var cachedProcesses = processesByChecksum.getIfPresent(checksum);
+    if (cachedProcesses != null) {
+      return cachedProcesses;
+    }
+
+    final var processes = List.copyOf(transformation.get());
+    processesByChecksum.put(BufferUtil.cloneBuffer(checksum), processes);
+    return processes;
+  }
+
+  public long size() {
+    return processesByChecksum.size();
+  }
+
+  public void clear() {
+    processesByChecksum.invalidateAll();
+  }
+
+  /**
+   * Creates the digest to calculate the checksums of the resources. The same algorithm is used as
+   * for the checksums of the deployed resources. The returned digest is not thread safe.
+   */
+  public static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance("MD5"); // lgtm [java/weak-cryptographic-algorithm]
+    } catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /** Calculates the checksum of the given resource with the given digest. */
+  public static DirectBuffer checksumOf(final MessageDigest digest, final DirectBuffer resource) {
+    digest.reset();
+    if (resource.byteArray() != null) {
+      digest.update(resource.byteArray(), resource.wrapAdjustment(), resource.capacity());
+    } else {
+      digest.update(BufferUtil.bufferAsArray(resource));
+    }
+    return new UnsafeBuffer(digest.digest());
+  }
+}
@@ -17,9 +17,18 @@ import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.engine.state.mutable.MutableTimerInstanceState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
+import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
 import java.util.function.Consumer;
+import org.agrona.collections.LongArrayList;
 
-public final class DbTimerInstanceState implements MutableTimerInstanceState {
+public final class DbTimerInstanceState
+    implements MutableTimerInstanceState, StreamProcessorLifecycleAware {
+
+  /** The maximum number of due timers which are collected from the wheel at once. */
+  private static final int MAX_DUE_TIMERS = 1_000;
+
+  private static final long REMOVED = -1L;
 
   private final ColumnFamily<DbCompositeKey<DbForeignKey<DbLong>, DbLong>, TimerInstance>
       timerInstanceColumnFamily;
@@ -37,8 +46,22 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
   private long nextDueDate;
 
+  private final TimerWheel timerWheel;
+
+  /**
+   * The timers which were stored (with their due date) or removed (with {@link #REMOVED}) since the
+   * last flush, as triples of due date, element instance key and timer key. They are only applied
+   * to the wheel once the transaction is committed.
+   */
+  private final LongArrayList pendingWheelUpdates = new LongArrayList();
+
+  private final LongArrayList dueTimers = new LongArrayList();
+
   public DbTimerInstanceState(
-      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final TimerWheel timerWheel) {
+    this.timerWheel = timerWheel;
     timerInstance = new TimerInstance();
     timerKey = new DbLong();
     elementInstanceKey =
@@ -62,6 +85,19 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
             DbNil.INSTANCE);
   }
 
+  @Override
+  public void onRecovered(final ReadonlyStreamProcessorContext context) {
+    pendingWheelUpdates.clear();
+    timerWheel.rebuild(
+        timers ->
+            dueDateColumnFamily.forEach(
+                (key, nil) ->
+                    timers.accept(
+                        key.first().getValue(),
+                        key.second().first().inner().getValue(),
+                        key.second().second().getValue())));
+  }
+
   @Override
   public void store(final TimerInstance timer) {
     timerKey.wrapLong(timer.getKey());
@@ -71,6 +107,8 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
     dueDate.wrapLong(timer.getDueDate());
     dueDateColumnFamily.insert(dueDateCompositeKey, DbNil.INSTANCE);
+
+    addPendingWheelUpdate(timer.getDueDate(), timer.getElementInstanceKey(), timer.getKey());
   }
 
   @Override
@@ -81,6 +119,8 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
     dueDate.wrapLong(timer.getDueDate());
     dueDateColumnFamily.deleteExisting(dueDateCompositeKey);
+
+    addPendingWheelUpdate(REMOVED, timer.getElementInstanceKey(), timer.getKey());
   }
 
   @Override
@@ -90,8 +130,31 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
     timerInstanceColumnFamily.update(elementAndTimerKey, timer);
   }
 
+  @Override
+  public void flushPendingTimerWheelUpdates() {
+    for (int i = 0; i < pendingWheelUpdates.size(); i += 3) {
+      final var dueDate = pendingWheelUpdates.getLong(i);
+      final var timerKey = pendingWheelUpdates.getLong(i + 2);
+      if (dueDate == REMOVED) {
+        timerWheel.remove(timerKey);
+      } else {
+        timerWheel.add(dueDate, pendingWheelUpdates.getLong(i + 1), timerKey);
+      }
+    }
+    pendingWheelUpdates.clear();
+  }
+
+  @Override
+  public void discardPendingTimerWheelUpdates() {
+    pendingWheelUpdates.clear();
+  }
+
   @Override
   public long processTimersWithDueDateBefore(final long timestamp, final TimerVisitor consumer) {
+    if (timerWheel.isReady()) {
+      return processDueTimersOfWheel(timestamp, consumer);
+    }
+
     nextDueDate = -1L;
 
     dueDateColumnFamily.whileTrue(
@@ -122,6 +185,45 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
     return nextDueDate;
   }
 
+  private long processDueTimersOfWheel(final long timestamp, final TimerVisitor consumer) {
+    dueTimers.clear();
+    final var nextScheduledDueDate =
+        timerWheel.collectDue(
+            timestamp,
+            MAX_DUE_TIMERS,
+            (dueDate, elementInstanceKey, timerKey) -> {
+              dueTimers.addLong(dueDate);
+              dueTimers.addLong(elementInstanceKey);
+              dueTimers.addLong(timerKey);
+            });
+
+    for (int i = 0; i < dueTimers.size(); i += 3) {
+      final var timerInstance = get(dueTimers.getLong(i + 1), dueTimers.getLong(i + 2));
+      if (timerInstance == null) {
+        // the timer was removed, but the removal is not yet applied to the wheel because it happens
+        // after the transaction is committed
+        continue;
+      }
+
+      if (!consumer.visit(timerInstance)) {
+        return dueTimers.getLong(i);
+      }
+      timerWheel.markTriggered(timerInstance.getKey(), timestamp);
+    }
+
+    return nextScheduledDueDate;
+  }
+
+  private void addPendingWheelUpdate(
+      final long dueDate, final long elementInstanceKey, final long timerKey) {
+    // while replaying, the wheel is not built yet and is built from the state on recovery
+    if (timerWheel.isReady()) {
+      pendingWheelUpdates.addLong(dueDate);
+      pendingWheelUpdates.addLong(elementInstanceKey);
+      pendingWheelUpdates.addLong(timerKey);
+    }
+  }
+
   @Override
   public void forEachTimerForElementInstance(
       final long elementInstanceKey, final Consumer<TimerInstance> action) {
@@ -0,0 +1,401 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+import org.agrona.collections.Long2ObjectHashMap;
+
+/**
+ * A transient, hierarchical timing wheel which indexes the timers of a partition by their due date.
+ * It is used by {@link DbTimerInstanceState} to find the due timers without iterating over the due
+ * dates in RocksDB, which stays the source of truth: the wheel only contains committed timers, is
+ * rebuilt from the state on recovery, and every due timer is looked up in the state before it is
+ * triggered.
+ *
+ * <p>The wheel has {@link #LEVELS} levels of {@link #WHEEL_SIZE} slots each. A slot of the first
+ * level spans one tick of {@link #TICK_MILLIS}, and a slot of every following level spans a whole
+ * rotation of the previous level. Timers are added to the slot of the lowest level which covers
+ * their due date, and cascade down into the lower levels as time advances. Timers which are due
+ * beyond the last level are kept in an overflow slot until the last level completes a rotation.
+ * Adding and removing a timer is O(1), while advancing the wheel is O(1) per tick plus the number
+ * of cascaded timers.
+ *
+ * <p>Due timers stay in the wheel until they are removed, i.e. until their trigger command was
+ * processed. To not pass the same due timers again on every check, a timer which was {@link
+ * #markTriggered(long, long) triggered} is moved out of the expired slot, and only collected again
+ * if it's still not removed after {@link #TRIGGER_RETRY_MILLIS}, e.g. because its trigger command
+ * was never written. Checking for due timers therefore only pays for the newly due timers.
+ *
+ * <p>This class is thread safe. It's intended use is that one thread is adding and removing timers,
+ * while another thread is collecting the due timers.
+ */
+public final class TimerWheel {
+
+  static final long TICK_MILLIS = 100;
+  private static final int WHEEL_BITS = 6;
+  private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+  private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+  private static final int LEVELS = 4;
+
+  /**
+   * If the wheel lags behind by more ticks than this, e.g. after it was (re)built or when the clock
+   * jumped, all timers are placed again instead of advancing the wheel tick by tick.
+   */
+  private static final long MAX_ADVANCE_TICKS = WHEEL_SIZE * WHEEL_SIZE;
+
+  /** The time after which a triggered timer, which was not removed, is collected again. */
+  static final long TRIGGER_RETRY_MILLIS = Duration.ofSeconds(10).toMillis();
+
+  private final Long2ObjectHashMap<Entry> entries = new Long2ObjectHashMap<>();
+  private final Slot[][] wheels = new Slot[LEVELS][WHEEL_SIZE];
+  private final Slot overflow = new Slot();
+  private final Slot expired = new Slot();
+
+  /** The triggered timers, in the order in which they were triggered. */
+  private final Slot triggered = new Slot();
+
+  /** The next tick to advance; all timers of earlier ticks are in the expired slot. */
+  private long currentTick;
+
+  private boolean ready;
+
+  public TimerWheel() {
+    for (final var wheel : wheels) {
+      for (int i = 0; i < WHEEL_SIZE; i++) {
+        wheel[i] = new Slot();
+      }
+    }
+  }
+
+  /**
+   * @return true if the wheel was built, otherwise the due timers must be found by other means
+   */
+  public synchronized boolean isReady() {
+    return ready;
+  }
+
+  /**
+   * Replaces all timers of the wheel with the given timers, and marks the wheel as ready.
+   *
+   * @param timers called with a consumer to which all timers must be passed
+   */
+  public synchronized void rebuild(final Consumer<TimerConsumer> timers) {
+    entries.clear();
+    for (final var wheel : wheels) {
+      for (final var slot : wheel) {
+        slot.clear();
+      }
+    }
+    overflow.clear();
+    expired.clear();
+    triggered.clear();
+
+    timers.accept(this::insert);
+    ready = true;
+  }
+
+  /** Adds the timer, or moves it to the given due date if it was already added. */
+  public synchronized void add(
+      final long dueDate, final long elementInstanceKey, final long timerKey) {
+    if (ready) {
+      insert(dueDate, elementInstanceKey, timerKey);
+    }
+  }
+
+  public synchronized void remove(final long timerKey) {
+    final var entry = entries.remove(timerKey);
+    if (entry != null) {
+      entry.slot.remove(entry);
+    }
+  }
+
+  /**
+   * Marks a collected timer as triggered, such that it's not collected again until {@link
+   * #TRIGGER_RETRY_MILLIS} passed, unless it's added again with a new due date.
+   *
+   * @param timerKey the key of the triggered timer
+   * @param timestamp the current time in milliseconds
+   */
+  public synchronized void markTriggered(final long timerKey, final long timestamp) {
+    final var entry = entries.get(timerKey);
+    if (entry != null && entry.slot == expired) {
+      expired.remove(entry);
+      entry.triggeredAt = timestamp;
+      triggered.add(entry);
+    }
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  /**
+   * Advances the wheel to the given timestamp and passes the timers which are due at that time to
+   * the consumer, without removing them. The timers stay in the wheel until they are removed, and
+   * are passed again on the next call unless they are {@link #markTriggered(long, long) marked as
+   * triggered}.
+   *
+   * @param timestamp the current time in milliseconds
+   * @param limit the maximum number of due timers to collect
+   * @param consumer the consumer of the due timers
+   * @return a lower bound for the due date of the next timer which was not collected, a due date
+   *     before the timestamp if the limit was reached, or {@code -1} if no such timer exists
+   */
+  public synchronized long collectDue(
+      final long timestamp, final int limit, final TimerConsumer consumer) {
+    advance(Math.floorDiv(timestamp, TICK_MILLIS));
+    retryTriggered(timestamp);
+
+    // besides the not yet triggered timers, the expired slot only contains timers of the current
+    // tick which are not due yet
+    var nextDueDate = Long.MAX_VALUE;
+    var collected = 0;
+    for (var entry = expired.head; entry != null; entry = entry.next) {
+      if (entry.dueDate > timestamp) {
+        nextDueDate = Math.min(nextDueDate, entry.dueDate);
+      } else if (collected < limit) {
+        consumer.accept(entry.dueDate, entry.elementInstanceKey, entry.timerKey);
+        collected++;
+      } else {
+        return entry.dueDate;
+      }
+    }
+
+    if (!triggered.isEmpty()) {
+      nextDueDate = Math.min(nextDueDate, triggered.head.triggeredAt + TRIGGER_RETRY_MILLIS);
+    }
+    nextDueDate = Math.min(nextDueDate, nextScheduledDueDate());
+    return nextDueDate == Long.MAX_VALUE ? -1 : nextDueDate;
+  }
+
+  /** Moves the triggered timers which were not removed in time back to the expired slot. */
+  private void retryTriggered(final long timestamp) {
+    for (var entry = triggered.head;
+        entry != null && entry.triggeredAt + TRIGGER_RETRY_MILLIS <= timestamp;
+        entry = triggered.head) {
+      triggered.remove(entry);
+      expired.add(entry);
+    }
+  }
+
+  private void insert(final long dueDate, final long elementInstanceKey, final long timerKey) {
+    var entry = entries.get(timerKey);
+    if (entry == null) {
+      entry = new Entry(timerKey);
+      entries.put(timerKey, entry);
+    } else {
+      entry.slot.remove(entry);
+    }
+
+    entry.dueDate = dueDate;
+    entry.elementInstanceKey = elementInstanceKey;
+    place(entry);
+  }
+
+  private void place(final Entry entry) {
+    final var tick = Math.floorDiv(entry.dueDate, TICK_MILLIS);
+    final var delta = tick - currentTick;
+
+    if (delta < 0) {
+      expired.add(entry);
+      return;
+    }
+
+    for (int level = 0; level < LEVELS; level++) {
+      if (delta < 1L << (WHEEL_BITS * (level + 1))) {
+        wheels[level][slotIndex(tick, level)].add(entry);
+        return;
+      }
+    }
+    overflow.add(entry);
+  }
+
+  private void advance(final long toTick) {
+    if (toTick < currentTick) {
+      return;
+    }
+
+    if (toTick - currentTick > MAX_ADVANCE_TICKS) {
+      rebase(toTick + 1);
+      return;
+    }
+
+    while (currentTick <= toTick) {
+      cascade();
+
+      final var slot = wheels[0][slotIndex(currentTick, 0)];
+      for (var entry = slot.poll(); entry != null; entry = slot.poll()) {
+        expired.add(entry);
+      }
+      currentTick++;
+    }
+  }
+
+  /** Moves the timers which reach a lower level at the current tick down, highest level first. */
+  private void cascade() {
+    if (isRotationStart(currentTick, LEVELS)) {
+      replace(overflow);
+    }
+
+    for (int level = LEVELS - 1; level > 0; level--) {
+      if (isRotationStart(currentTick, level)) {
+        replace(wheels[level][slotIndex(currentTick, level)]);
+      }
+    }
+  }
+
+  private void rebase(final long tick) {
+    final var pending = new Slot();
+    for (final var wheel : wheels) {
+      for (final var slot : wheel) {
+        for (var entry = slot.poll(); entry != null; entry = slot.poll()) {
+          pending.add(entry);
+        }
+      }
+    }
+    for (var entry = overflow.poll(); entry != null; entry = overflow.poll()) {
+      pending.add(entry);
+    }
+
+    currentTick = tick;
+    replace(pending);
+  }
+
+  private void replace(final Slot slot) {
+    // detach the entries first, as timers of the overflow slot may be placed in it again
+    var entry = slot.head;
+    slot.clear();
+    while (entry != null) {
+      final var next = entry.next;
+      place(entry);
+      entry = next;
+    }
+  }
+
+  /**
+   * Returns a lower bound for the due date of the timers which are not yet expired. For every
+   * level, this is the start of the first slot which is not empty, or rather the tick at which the
+   * slot cascades down.
+   */
+  private long nextScheduledDueDate() {
+    var nextTick = Long.MAX_VALUE;
+
+    for (int i = 0; i < WHEEL_SIZE; i++) {
+      final var tick = currentTick + i;
+      if (!wheels[0][slotIndex(tick, 0)].isEmpty()) {
+        nextTick = tick;
+        break;
+      }
+    }
+
+    for (int level = 1; level < LEVELS; level++) {
+      final var shift = WHEEL_BITS * level;
+      final var firstRotation = nextRotationStart(currentTick, level);
+      for (int i = 0; i < WHEEL_SIZE; i++) {
+        final var tick = firstRotation + ((long) i << shift);
+        if (tick >= nextTick) {
+          break;
+        }
+        if (!wheels[level][slotIndex(tick, level)].isEmpty()) {
+          nextTick = tick;
+          break;
+        }
+      }
+    }
+
+    if (!overflow.isEmpty()) {
+      nextTick = Math.min(nextTick, nextRotationStart(currentTick, LEVELS));
+    }
+
+    return nextTick == Long.MAX_VALUE ? Long.MAX_VALUE : nextTick * TICK_MILLIS;
+  }
+
+  private static int slotIndex(final long tick, final int level) {
+    return (int) ((tick >> (WHEEL_BITS * level)) & WHEEL_MASK);
+  }
+
+  private static boolean isRotationStart(final long tick, final int level) {
+    return (tick & ((1L << (WHEEL_BITS * level)) - 1)) == 0;
+  }
+
+  private static long nextRotationStart(final long tick, final int level) {
+    final var shift = WHEEL_BITS * level;
+    return ((tick + (1L << shift) - 1) >> shift) << shift;
+  }
+
+  @FunctionalInterface
+  public interface TimerConsumer {
+    void accept(long dueDate, long elementInstanceKey, long timerKey);
+  }
+
+  private static final class Entry {
+    private final long timerKey;
+    private long elementInstanceKey;
+    private long dueDate;
+    private long triggeredAt;
+    private Slot slot;
+    private Entry previous;
+    private Entry next;
+
+    private Entry(final long timerKey) {
+      this.timerKey = timerKey;
+    }
+  }
+
+  /** A doubly linked list of entries, which allows to remove an entry in O(1). */
+  private static final class Slot {
+    private Entry head;
+    private Entry tail;
+
+    private void add(final Entry entry) {
+      entry.slot = this;
+      entry.previous = tail;
+      entry.next = null;
+      if (tail == null) {
+        head = entry;
+      } else {
+        tail.next = entry;
+      }
+      tail = entry;
+    }
+
+    private void remove(final Entry entry) {
+      if (entry.previous == null) {
+        head = entry.next;
+      } else {
+        entry.previous.next = entry.next;
+      }
+      if (entry.next == null) {
+        tail = entry.previous;
+      } else {
+        entry.next.previous = entry.previous;
+      }
+      entry.slot = null;
+      entry.previous = null;
+      entry.next = null;
+    }
+
+    private Entry poll() {
+      final var entry = head;
+      if (entry != null) {
+        remove(entry);
+      }
+      return entry;
+    }
+
+    private boolean isEmpty() {
+      return head == null;
+    }
+
+    private void clear() {
+      head = null;
+      tail = null;
+    }
+  }
+}
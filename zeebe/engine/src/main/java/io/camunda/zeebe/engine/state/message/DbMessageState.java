@@ -317,14 +317,17 @@ public final class DbMessageState implements MutableMessageState {
       return;
     }
 
+    // the message and its name and deadline index entries are only inserted once and never
+    // updated, so their tombstones can be dropped together with the values on compaction; this
+    // matters when masses of messages expire at once
     messageKey.wrapLong(storedMessage.getMessageKey());
-    messageColumnFamily.deleteExisting(messageKey);
+    messageColumnFamily.singleDeleteExisting(messageKey);
 
     tenantIdKey.wrapString(storedMessage.getMessage().getTenantId());
     messageName.wrapBuffer(storedMessage.getMessage().getNameBuffer());
     correlationKey.wrapBuffer(storedMessage.getMessage().getCorrelationKeyBuffer());
 
-    nameCorrelationMessageColumnFamily.deleteExisting(nameCorrelationMessageKey);
+    nameCorrelationMessageColumnFamily.singleDeleteExisting(nameCorrelationMessageKey);
 
     final DirectBuffer messageId = storedMessage.getMessage().getMessageIdBuffer();
     if (messageId.capacity() > 0) {
@@ -333,7 +336,7 @@ public final class DbMessageState implements MutableMessageState {
     }
 
     deadline.wrapLong(storedMessage.getMessage().getDeadline());
-    deadlineColumnFamily.deleteExisting(deadlineMessageKey);
+    deadlineColumnFamily.singleDeleteExisting(deadlineMessageKey);
 
     localMessageDeadlineCount -= 1L;
     messagesDeadlineCount.wrapLong(localMessageDeadlineCount);
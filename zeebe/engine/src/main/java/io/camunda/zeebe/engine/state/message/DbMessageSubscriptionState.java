@@ -27,6 +27,7 @@ import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.time.InstantSource;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.MutableBoolean;
 import org.slf4j.Logger;
 
 public final class DbMessageSubscriptionState
@@ -55,6 +56,7 @@ public final class DbMessageSubscriptionState
       messageNameAndCorrelationKeyColumnFamily;
 
   private final TransientPendingSubscriptionState transientState;
+  private final MessageSubscriptionFilter subscriptionFilter;
   private final InstantSource clock;
 
   public DbMessageSubscriptionState(
@@ -62,6 +64,16 @@ public final class DbMessageSubscriptionState
       final TransactionContext transactionContext,
       final TransientPendingSubscriptionState transientState,
       final InstantSource clock) {
+    this(zeebeDb, transactionContext, transientState, MessageSubscriptionFilter.disabled(), clock);
+  }
+
+  public DbMessageSubscriptionState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final TransientPendingSubscriptionState transientState,
+      final MessageSubscriptionFilter subscriptionFilter,
+      final InstantSource clock) {
+    this.subscriptionFilter = subscriptionFilter;
     this.clock = clock;
 
     elementInstanceKey = new DbLong();
@@ -93,15 +105,26 @@ public final class DbMessageSubscriptionState
 
   @Override
   public void onRecovered(final ReadonlyStreamProcessorContext context) {
-    subscriptionColumnFamily.forEach(
-        subscription -> {
-          if (subscription.isCorrelating()) {
-            transientState.add(
-                new PendingSubscription(
-                    elementInstanceKey.getValue(), messageName.toString(), tenantIdKey.toString()),
-                clock.millis());
-          }
-        });
+    subscriptionFilter.rebuild(
+        subscriptions ->
+            subscriptionColumnFamily.forEach(
+                subscription -> {
+                  final var record = subscription.getRecord();
+                  subscriptions.accept(
+                      MessageSubscriptionFilter.hash(
+                          record.getTenantId(),
+                          record.getMessageNameBuffer(),
+                          record.getCorrelationKeyBuffer()));
+
+                  if (subscription.isCorrelating()) {
+                    transientState.add(
+                        new PendingSubscription(
+                            elementInstanceKey.getValue(),
+                            messageName.toString(),
+                            tenantIdKey.toString()),
+                        clock.millis());
+                  }
+                }));
   }
 
   @Override
@@ -117,16 +140,23 @@ public final class DbMessageSubscriptionState
       final DirectBuffer messageName,
       final DirectBuffer correlationKey,
       final MessageSubscriptionVisitor visitor) {
+    if (!subscriptionFilter.mightContain(
+        MessageSubscriptionFilter.hash(tenantId, messageName, correlationKey))) {
+      return;
+    }
 
     tenantIdKey.wrapString(tenantId);
     this.messageName.wrapBuffer(messageName);
     this.correlationKey.wrapBuffer(correlationKey);
 
+    final var found = new MutableBoolean();
     messageNameAndCorrelationKeyColumnFamily.whileEqualPrefix(
         tenantAwareNameAndCorrelationKey,
         (compositeKey, nil) -> {
+          found.set(true);
           return visitMessageSubscription(elementKeyAndMessageName, visitor);
         });
+    subscriptionFilter.recordLookup(found.get());
   }
 
   @Override
@@ -150,6 +180,10 @@ public final class DbMessageSubscriptionState
     correlationKey.wrapBuffer(record.getCorrelationKeyBuffer());
     messageNameAndCorrelationKeyColumnFamily.insert(
         tenantAwareNameCorrelationAndElementInstanceKey, DbNil.INSTANCE);
+
+    subscriptionFilter.add(
+        MessageSubscriptionFilter.hash(
+            record.getTenantId(), record.getMessageNameBuffer(), record.getCorrelationKeyBuffer()));
   }
 
   @Override
@@ -216,6 +250,9 @@ public final class DbMessageSubscriptionState
     correlationKey.wrapBuffer(record.getCorrelationKeyBuffer());
     messageNameAndCorrelationKeyColumnFamily.deleteExisting(
         tenantAwareNameCorrelationAndElementInstanceKey);
+    subscriptionFilter.remove(
+        MessageSubscriptionFilter.hash(
+            record.getTenantId(), record.getMessageNameBuffer(), record.getCorrelationKeyBuffer()));
 
     transientState.remove(
         new PendingSubscription(
@@ -241,6 +278,16 @@ public final class DbMessageSubscriptionState
     subscriptionColumnFamily.update(elementKeyAndMessageName, messageSubscription);
   }
 
+  @Override
+  public void flushPendingSubscriptionFilterUpdates() {
+    subscriptionFilter.flushPendingRemovals();
+  }
+
+  @Override
+  public void discardPendingSubscriptionFilterUpdates() {
+    subscriptionFilter.discardPendingRemovals();
+  }
+
   private void updateCorrelatingFlag(
       final MessageSubscription subscription, final boolean correlating) {
     final var record = subscription.getRecord();
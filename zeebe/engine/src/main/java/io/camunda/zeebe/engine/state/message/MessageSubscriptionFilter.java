@@ -0,0 +1,195 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.message;
+
+import io.camunda.zeebe.engine.metrics.MessageSubscriptionFilterMetrics;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import org.agrona.BitUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.LongArrayList;
+
+/**
+ * A counting bloom filter over the tenant, message name and correlation key of the message
+ * subscriptions of a partition. It tells whether a published message may have a subscription, or
+ * whether it has none for sure, in which case the subscriptions don't need to be looked up in the
+ * state.
+ *
+ * <p>The filter is built from the state on recovery, see {@link #rebuild(Consumer)}. Until then, it
+ * may contain any subscription. Afterwards, adding a subscription is applied right away, so that
+ * the subscription can be found before its transaction is committed. Removing a subscription is
+ * only applied after its transaction is committed, see {@link #flushPendingRemovals()}. If a
+ * transaction is rolled back, the filter may keep subscriptions which don't exist, which only
+ * results in a false positive.
+ *
+ * <p>A counter which reached its maximum is never decremented again, as it may have missed
+ * increments.
+ *
+ * <p>This class is not thread safe.
+ */
+public final class MessageSubscriptionFilter {
+
+  private static final int HASH_FUNCTIONS = 3;
+  private static final byte MAX_COUNT = Byte.MAX_VALUE;
+
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private final int size;
+  private final MessageSubscriptionFilterMetrics metrics;
+  private final LongArrayList pendingRemovals = new LongArrayList();
+  private byte[] counters;
+  private int mask;
+
+  /**
+   * @param size the number of counters, which is rounded up to the next power of two; if it is 0 or
+   *     less, the filter is disabled and may always contain any subscription
+   */
+  public MessageSubscriptionFilter(final int size, final MessageSubscriptionFilterMetrics metrics) {
+    this.size = size;
+    this.metrics = metrics;
+  }
+
+  /** Creates a filter which is disabled, e.g. for states which don't look up subscriptions. */
+  public static MessageSubscriptionFilter disabled() {
+    return new MessageSubscriptionFilter(0, null);
+  }
+
+  /**
+   * Builds the filter from the given subscriptions, replacing its previous content.
+   *
+   * @param subscriptions is called with a consumer which accepts the {@link #hash hashes} of all
+   *     subscriptions
+   */
+  public void rebuild(final Consumer<LongConsumer> subscriptions) {
+    if (size <= 0) {
+      return;
+    }
+
+    pendingRemovals.clear();
+    final var capacity = BitUtil.findNextPositivePowerOfTwo(size);
+    counters = new byte[capacity];
+    mask = capacity - 1;
+    subscriptions.accept(this::add);
+  }
+
+  public boolean isReady() {
+    return counters != null;
+  }
+
+  /** Adds the subscription with the given hash right away. */
+  public void add(final long hash) {
+    if (!isReady()) {
+      return;
+    }
+
+    final int h1 = (int) hash;
+    final int h2 = (int) (hash >>> 32);
+    for (int i = 0; i < HASH_FUNCTIONS; i++) {
+      final int index = (h1 + i * h2) & mask;
+      if (counters[index] < MAX_COUNT) {
+        counters[index]++;
+      }
+    }
+  }
+
+  /** Removes the subscription with the given hash on the next {@link #flushPendingRemovals()}. */
+  public void remove(final long hash) {
+    if (isReady()) {
+      pendingRemovals.addLong(hash);
+    }
+  }
+
+  /**
+   * Applies the removals since the last flush. Must only be called once the transaction which
+   * removed the subscriptions is committed.
+   */
+  public void flushPendingRemovals() {
+    if (!isReady()) {
+      return;
+    }
+
+    for (int removal = 0; removal < pendingRemovals.size(); removal++) {
+      final long hash = pendingRemovals.getLong(removal);
+      final int h1 = (int) hash;
+      final int h2 = (int) (hash >>> 32);
+      for (int i = 0; i < HASH_FUNCTIONS; i++) {
+        final int index = (h1 + i * h2) & mask;
+        if (counters[index] > 0 && counters[index] < MAX_COUNT) {
+          counters[index]--;
+        }
+      }
+    }
+    pendingRemovals.clear();
+  }
+
+  /** Discards the removals of a transaction which was rolled back. */
+  public void discardPendingRemovals() {
+    pendingRemovals.clear();
+  }
+
+  /**
+   * Returns false if there is no subscription with the given hash for sure, otherwise true. It
+   * returns true if the filter is not built yet.
+   */
+  public boolean mightContain(final long hash) {
+    if (!isReady()) {
+      return true;
+    }
+
+    final int h1 = (int) hash;
+    final int h2 = (int) (hash >>> 32);
+    for (int i = 0; i < HASH_FUNCTIONS; i++) {
+      if (counters[(h1 + i * h2) & mask] == 0) {
+        metrics.skipped();
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Records whether a lookup, which the filter didn't skip, found a subscription or was a false
+   * positive.
+   */
+  public void recordLookup(final boolean found) {
+    if (!isReady()) {
+      return;
+    }
+
+    if (found) {
+      metrics.hit();
+    } else {
+      metrics.falsePositive();
+    }
+  }
+
+  /** Returns the hash of a subscription, to add, remove or look up the subscription. */
+  public static long hash(
+      final String tenantId, final DirectBuffer messageName, final DirectBuffer correlationKey) {
+    long hash = FNV_OFFSET_BASIS ^ tenantId.hashCode();
+    hash = hash(hash, messageName);
+    hash = hash(hash, correlationKey);
+
+    // mix the bits, as the filter uses the lower and the upper half of the hash as indexes
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    return hash ^ (hash >>> 33);
+  }
+
+  private static long hash(final long initialHash, final DirectBuffer buffer) {
+    long hash = initialHash;
+    for (int i = 0; i < buffer.capacity(); i++) {
+      hash = (hash ^ buffer.getByte(i)) * FNV_PRIME;
+    }
+    // the length separates the fields, e.g. the name "ab" and the key "c" from "a" and "bc"
+    return (hash ^ buffer.capacity()) * FNV_PRIME;
+  }
+}
@@ -25,4 +25,14 @@ public interface MutableMessageSubscriptionState extends MessageSubscriptionStat
   void remove(MessageSubscription subscription);
 
   void update(long key, MessageSubscriptionRecord record);
+
+  /**
+   * Applies the subscriptions which were removed since the last call to the transient subscription
+   * filter. Must only be called once the transaction which removed the subscriptions is committed,
+   * as the filter can't be rolled back.
+   */
+  void flushPendingSubscriptionFilterUpdates();
+
+  /** Discards the changes to the subscription filter of a transaction which was rolled back. */
+  void discardPendingSubscriptionFilterUpdates();
 }
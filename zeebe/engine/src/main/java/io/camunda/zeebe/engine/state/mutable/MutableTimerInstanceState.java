@@ -17,4 +17,14 @@ public interface MutableTimerInstanceState extends TimerInstanceState {
   void remove(TimerInstance timer);
 
   void update(TimerInstance timer);
+
+  /**
+   * Applies the timers which were stored or removed since the last call to the transient timer
+   * wheel. Must only be called once the transaction which changed the timers is committed, as the
+   * wheel can't be rolled back.
+   */
+  void flushPendingTimerWheelUpdates();
+
+  /** Discards the changes to the timer wheel of a transaction which was rolled back. */
+  void discardPendingTimerWheelUpdates();
 }
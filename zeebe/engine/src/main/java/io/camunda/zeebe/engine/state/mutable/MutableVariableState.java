@@ -8,9 +8,10 @@
 package io.camunda.zeebe.engine.state.mutable;
 
 import io.camunda.zeebe.engine.state.immutable.VariableState;
+import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
 import org.agrona.DirectBuffer;
 
-public interface MutableVariableState extends VariableState {
+public interface MutableVariableState extends VariableState, StreamProcessorLifecycleAware {
 
   /**
    * Creates or updates the variable with {@code name} within the given scope with {@code scopeKey},
@@ -61,4 +62,11 @@ public interface MutableVariableState extends VariableState {
   void removeScope(long scopeKey);
 
   void removeAllVariables(long scopeKey);
+
+  /**
+   * Allows caching the variable scopes again which were changed by the previous transaction. Must
+   * be called once the transaction is committed or rolled back, before the next one reads
+   * variables.
+   */
+  void releaseModifiedScopes();
 }
@@ -15,8 +15,10 @@ import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.engine.state.instance.ParentScopeKey;
 import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
+import io.camunda.zeebe.engine.state.variable.VariableScopeCache.CachedScope;
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -56,8 +58,19 @@ public class DbVariableState implements MutableVariableState {
   private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
   private final ObjectHashSet<DirectBuffer> variablesToCollect = new ObjectHashSet<>();
 
+  private final VariableScopeCache scopeCache;
+
   public DbVariableState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+    this(zeebeDb, transactionContext, VariableScopeCache.disabled());
+  }
+
+  public DbVariableState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final VariableScopeCache scopeCache) {
+    this.scopeCache = scopeCache;
+
     childKey = new DbLong();
     childParentColumnFamily =
         zeebeDb.createColumnFamily(
@@ -77,6 +90,11 @@ public class DbVariableState implements MutableVariableState {
             new VariableInstance());
   }
 
+  @Override
+  public void onRecovered(final ReadonlyStreamProcessorContext context) {
+    scopeCache.enable();
+  }
+
   @Override
   public void setVariableLocal(
       final long key,
@@ -109,6 +127,7 @@ public class DbVariableState implements MutableVariableState {
     variableName.wrapBuffer(variableNameView);
 
     variablesColumnFamily.upsert(scopeKeyVariableNameKey, newVariable);
+    scopeCache.invalidate(scopeKey);
   }
 
   @Override
@@ -117,6 +136,7 @@ public class DbVariableState implements MutableVariableState {
     this.parentKey.set(parentKey);
 
     childParentColumnFamily.insert(this.childKey, this.parentKey);
+    scopeCache.invalidate(childKey);
   }
 
   @Override
@@ -128,6 +148,7 @@ public class DbVariableState implements MutableVariableState {
     childKey.wrapLong(scopeKey);
     // TODO: Could be deleteExisting except for tests
     childParentColumnFamily.deleteIfExists(childKey);
+    scopeCache.invalidate(scopeKey);
   }
 
   @Override
@@ -137,6 +158,12 @@ public class DbVariableState implements MutableVariableState {
         dbString -> true,
         (dbString, variable1) -> variablesColumnFamily.deleteExisting(scopeKeyVariableNameKey),
         () -> false);
+    scopeCache.invalidate(scopeKey);
+  }
+
+  @Override
+  public void releaseModifiedScopes() {
+    scopeCache.releaseModifiedScopes();
   }
 
   @Override
@@ -179,14 +206,24 @@ public class DbVariableState implements MutableVariableState {
 
     long currentScopeKey = scopeKey;
     do {
-      final VariableInstance variable =
-          getVariableLocal(currentScopeKey, name, nameOffset, nameLength);
-
-      if (variable != null) {
-        return variable.getValue();
+      final CachedScope cachedScope = scopeCache.get(currentScopeKey, this::loadScope);
+
+      if (cachedScope != null && cachedScope.hasVariables()) {
+        variableNameView.wrap(name, nameOffset, nameLength);
+        final DirectBuffer value = cachedScope.getValue(variableNameView);
+        if (value != null) {
+          return value;
+        }
+      } else {
+        final VariableInstance variable =
+            getVariableLocal(currentScopeKey, name, nameOffset, nameLength);
+        if (variable != null) {
+          return variable.getValue();
+        }
       }
 
-      currentScopeKey = getParentScopeKey(currentScopeKey);
+      currentScopeKey =
+          cachedScope != null ? cachedScope.parentKey() : getParentScopeKey(currentScopeKey);
     } while (currentScopeKey >= 0);
 
     return null;
@@ -202,11 +239,10 @@ public class DbVariableState implements MutableVariableState {
 
     visitVariables(
         scopeKey,
-        name -> !collectedVariables.contains(name.getBuffer()),
-        (name, value) -> {
-          final DirectBuffer variableNameBuffer = name.getBuffer();
+        name -> !collectedVariables.contains(name),
+        (variableNameBuffer, value) -> {
           writer.writeString(variableNameBuffer);
-          writer.writeRaw(value.getValue());
+          writer.writeRaw(value);
 
           // must create a new name wrapper, because we keep them all in the hashset at the same
           // time
@@ -234,12 +270,12 @@ public class DbVariableState implements MutableVariableState {
 
     visitVariables(
         scopeKey,
-        name -> variablesToCollect.contains(name.getBuffer()),
+        variablesToCollect::contains,
         (name, value) -> {
-          writer.writeString(name.getBuffer());
-          writer.writeRaw(value.getValue());
+          writer.writeString(name);
+          writer.writeRaw(value);
 
-          variablesToCollect.remove(name.getBuffer());
+          variablesToCollect.remove(name);
         },
         variablesToCollect::isEmpty);
 
@@ -255,16 +291,29 @@ public class DbVariableState implements MutableVariableState {
     writer.reserveMapHeader();
 
     final MutableInteger variableCount = new MutableInteger();
-    visitVariablesLocal(
-        scopeKey,
-        name -> true,
-        (name, value) -> {
-          writer.writeString(name.getBuffer());
-          writer.writeRaw(value.getValue());
-
-          variableCount.addAndGet(1);
-        },
-        () -> false);
+    final CachedScope cachedScope = scopeCache.get(scopeKey, this::loadScope);
+    if (cachedScope != null && cachedScope.hasVariables()) {
+      cachedScope.visitVariables(
+          name -> true,
+          (name, value) -> {
+            writer.writeString(name);
+            writer.writeRaw(value);
+
+            variableCount.addAndGet(1);
+          },
+          () -> false);
+    } else {
+      visitVariablesLocal(
+          scopeKey,
+          name -> true,
+          (name, value) -> {
+            writer.writeString(name.getBuffer());
+            writer.writeRaw(value.getValue());
+
+            variableCount.addAndGet(1);
+          },
+          () -> false);
+    }
 
     writer.writeReservedMapHeader(0, variableCount.get());
 
@@ -318,24 +367,61 @@ public class DbVariableState implements MutableVariableState {
 
   /**
    * Like {@link #visitVariablesLocal(long, Predicate, BiConsumer, BooleanSupplier)} but walks up
-   * the scope hierarchy.
+   * the scope hierarchy, and provides the names and the values of the variables. The scopes are
+   * read from the scope cache if possible.
    */
   private void visitVariables(
       final long scopeKey,
-      final Predicate<DbString> filter,
-      final BiConsumer<DbString, VariableInstance> variableConsumer,
+      final Predicate<DirectBuffer> filter,
+      final BiConsumer<DirectBuffer, DirectBuffer> variableConsumer,
       final BooleanSupplier completionCondition) {
     long currentScope = scopeKey;
 
     boolean completed;
     do {
-      completed = visitVariablesLocal(currentScope, filter, variableConsumer, completionCondition);
+      final CachedScope cachedScope = scopeCache.get(currentScope, this::loadScope);
+
+      if (cachedScope != null && cachedScope.hasVariables()) {
+        completed = cachedScope.visitVariables(filter, variableConsumer, completionCondition);
+      } else {
+        completed =
+            visitVariablesLocal(
+                currentScope,
+                name -> filter.test(name.getBuffer()),
+                (name, variable) -> variableConsumer.accept(name.getBuffer(), variable.getValue()),
+                completionCondition);
+      }
 
-      currentScope = getParentScopeKey(currentScope);
+      currentScope =
+          cachedScope != null ? cachedScope.parentKey() : getParentScopeKey(currentScope);
 
     } while (!completed && currentScope >= 0);
   }
 
+  /**
+   * Reads the parent and the local variables of the given scope from the state, to cache them. If
+   * the variables are too large, only the parent is cached.
+   */
+  private CachedScope loadScope(final long scopeKey) {
+    final List<DirectBuffer> names = new ArrayList<>();
+    final List<DirectBuffer> values = new ArrayList<>();
+    final MutableInteger size = new MutableInteger();
+    visitVariablesLocal(
+        scopeKey,
+        name -> true,
+        (name, variable) -> {
+          names.add(BufferUtil.cloneBuffer(name.getBuffer()));
+          values.add(BufferUtil.cloneBuffer(variable.getValue()));
+          size.addAndGet(name.getBuffer().capacity() + variable.getValue().capacity());
+        },
+        () -> size.get() > VariableScopeCache.MAX_CACHED_VARIABLES_SIZE);
+
+    final long parentKey = getParentScopeKey(scopeKey);
+    return size.get() > VariableScopeCache.MAX_CACHED_VARIABLES_SIZE
+        ? CachedScope.withoutVariables(parentKey)
+        : CachedScope.of(parentKey, names, values);
+  }
+
   /**
    * Provides all variables of a scope to the given consumer until a condition is met.
    *
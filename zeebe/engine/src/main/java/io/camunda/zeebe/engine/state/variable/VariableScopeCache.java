@@ -0,0 +1,180 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.variable;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.camunda.zeebe.engine.metrics.VariableScopeCacheMetrics;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongFunction;
+import java.util.function.Predicate;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.LongHashSet;
+import org.agrona.collections.Object2IntHashMap;
+
+/**
+ * Caches the local variables and the parent of recently used variable scopes. Resolving a variable
+ * or collecting the variables of a scope hierarchy then doesn't have to walk the scopes in the
+ * state again, e.g. for every input mapping, output mapping and condition of an element which is
+ * nested deeply in subprocesses.
+ *
+ * <p>The cache only contains committed scopes. A scope which is changed in the current transaction
+ * is invalidated, and it is not cached again until the transaction is finished, see {@link
+ * #releaseModifiedScopes()}. So, nothing needs to be undone if the transaction is rolled back.
+ *
+ * <p>The cache is only enabled once the state is recovered, see {@link #enable()}, as the variables
+ * are rarely read while replaying. Of a scope whose variables are larger than {@link
+ * #MAX_CACHED_VARIABLES_SIZE}, only the parent is cached.
+ *
+ * <p>This class is not thread safe.
+ */
+public final class VariableScopeCache {
+
+  static final int MAX_CACHED_VARIABLES_SIZE = 16 * 1024;
+
+  private final Cache<Long, CachedScope> scopes;
+  private final VariableScopeCacheMetrics metrics;
+  private final LongHashSet modifiedScopes = new LongHashSet();
+  private boolean enabled;
+
+  /**
+   * @param capacity the maximum number of cached scopes; if it is 0 or less, the cache is disabled
+   */
+  public VariableScopeCache(final int capacity, final VariableScopeCacheMetrics metrics) {
+    scopes = capacity > 0 ? CacheBuilder.newBuilder().maximumSize(capacity).build() : null;
+    this.metrics = metrics;
+  }
+
+  /** Creates a cache which is disabled, e.g. for states which are only used to query. */
+  public static VariableScopeCache disabled() {
+    return new VariableScopeCache(0, null);
+  }
+
+  public void enable() {
+    enabled = scopes != null;
+  }
+
+  /**
+   * Returns the cached scope with the given key. If it isn't cached yet, it is loaded with the
+   * given loader and cached.
+   *
+   * @return the cached scope, or {@code null} if the cache is disabled or the scope was changed in
+   *     the current transaction, in which case the scope must be read from the state
+   */
+  CachedScope get(final long scopeKey, final LongFunction<CachedScope> loader) {
+    if (!enabled || modifiedScopes.contains(scopeKey)) {
+      return null;
+    }
+
+    final var cachedScope = scopes.getIfPresent(scopeKey);
+    if (cachedScope != null) {
+      metrics.hit();
+      return cachedScope;
+    }
+
+    metrics.miss();
+    final var loadedScope = loader.apply(scopeKey);
+    scopes.put(scopeKey, loadedScope);
+    return loadedScope;
+  }
+
+  /**
+   * Invalidates the scope with the given key, because its variables or its parent are changed. The
+   * scope is not cached again until the transaction is finished.
+   */
+  void invalidate(final long scopeKey) {
+    if (enabled) {
+      scopes.invalidate(scopeKey);
+      modifiedScopes.add(scopeKey);
+    }
+  }
+
+  /**
+   * Allows caching the scopes again which were changed by the previous transaction. Must be called
+   * once the transaction is committed or rolled back.
+   */
+  void releaseModifiedScopes() {
+    modifiedScopes.clear();
+  }
+
+  /** The parent and the local variables of a scope, in the order in which they are stored. */
+  static final class CachedScope {
+
+    private final long parentKey;
+    private final List<DirectBuffer> names;
+    private final List<DirectBuffer> values;
+    private final Object2IntHashMap<DirectBuffer> indexByName;
+
+    private CachedScope(
+        final long parentKey, final List<DirectBuffer> names, final List<DirectBuffer> values) {
+      this.parentKey = parentKey;
+      this.names = names;
+      this.values = values;
+
+      if (names != null) {
+        indexByName = new Object2IntHashMap<>(names.size() * 2, 0.65f, -1);
+        for (int i = 0; i < names.size(); i++) {
+          indexByName.put(names.get(i), i);
+        }
+      } else {
+        indexByName = null;
+      }
+    }
+
+    static CachedScope of(
+        final long parentKey, final List<DirectBuffer> names, final List<DirectBuffer> values) {
+      return new CachedScope(parentKey, names, values);
+    }
+
+    static CachedScope withoutVariables(final long parentKey) {
+      return new CachedScope(parentKey, null, null);
+    }
+
+    long parentKey() {
+      return parentKey;
+    }
+
+    /**
+     * Returns false if the variables are too large to be cached, and must be read from the state.
+     */
+    boolean hasVariables() {
+      return names != null;
+    }
+
+    /** Returns the value of the local variable with the given name, or {@code null}. */
+    DirectBuffer getValue(final DirectBuffer name) {
+      final int index = indexByName.getValue(name);
+      return index >= 0 ? values.get(index) : null;
+    }
+
+    /**
+     * Provides the local variables to the given consumer until a condition is met, like {@link
+     * DbVariableState} visits the variables of a scope in the state.
+     *
+     * @return true if the completion condition was met
+     */
+    boolean visitVariables(
+        final Predicate<DirectBuffer> filter,
+        final BiConsumer<DirectBuffer, DirectBuffer> consumer,
+        final BooleanSupplier completionCondition) {
+      for (int i = 0; i < names.size(); i++) {
+        final var name = names.get(i);
+        if (filter.test(name)) {
+          consumer.accept(name, values.get(i));
+        }
+
+        if (completionCondition.getAsBoolean()) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+}
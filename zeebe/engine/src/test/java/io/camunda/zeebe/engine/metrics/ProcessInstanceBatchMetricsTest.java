@@ -0,0 +1,122 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import static java.util.Map.entry;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.util.EngineRule;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import io.camunda.zeebe.test.util.record.RecordingExporterTestWatcher;
+import java.util.stream.IntStream;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestWatcher;
+
+public class ProcessInstanceBatchMetricsTest {
+
+  @ClassRule
+  public static final EngineRule ENGINE =
+      EngineRule.singlePartition()
+          .withEngineConfig(
+              config ->
+                  config
+                      .setProcessInstanceBatchActivateLimit(100)
+                      .setProcessInstanceBatchTerminateLimit(100));
+
+  private static final String PROCESS_ID = "process";
+  private static final int CHILDREN = 250;
+
+  @Rule public final TestWatcher watcher = new RecordingExporterTestWatcher();
+
+  @BeforeClass
+  public static void deployProcess() {
+    ENGINE
+        .deployment()
+        .withXmlResource(
+            Bpmn.createExecutableProcess(PROCESS_ID)
+                .startEvent()
+                .serviceTask(
+                    "task",
+                    t ->
+                        t.zeebeJobType("task")
+                            .multiInstance(
+                                m -> m.parallel().zeebeInputCollectionExpression("items")))
+                .endEvent()
+                .done())
+        .deploy();
+  }
+
+  @Before
+  public void resetMetrics() {
+    ProcessInstanceBatchMetrics.clear();
+  }
+
+  @Test
+  public void shouldCountActivateBatches() {
+    // when
+    createProcessInstanceWithChildren();
+
+    // then - 250 children are activated by batches of 100, 100 and 50
+    assertThat(batchCommands("activate")).isEqualTo(3);
+    assertThat(batchElements("activate")).isEqualTo(CHILDREN);
+  }
+
+  @Test
+  public void shouldCountTerminateBatches() {
+    // given
+    final var processInstanceKey = createProcessInstanceWithChildren();
+
+    // when
+    ENGINE.processInstance().withInstanceKey(processInstanceKey).cancel();
+    RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_TERMINATED)
+        .withRecordKey(processInstanceKey)
+        .await();
+
+    // then - one batch terminates the multi-instance body of the process instance, and three
+    // batches terminate its 250 children
+    assertThat(batchCommands("terminate")).isEqualTo(4);
+    assertThat(batchElements("terminate")).isEqualTo(CHILDREN + 1);
+  }
+
+  private static long createProcessInstanceWithChildren() {
+    final var processInstanceKey =
+        ENGINE
+            .processInstance()
+            .ofBpmnProcessId(PROCESS_ID)
+            .withVariable("items", IntStream.range(0, CHILDREN).boxed().toList())
+            .create();
+
+    RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_ACTIVATED)
+        .withProcessInstanceKey(processInstanceKey)
+        .withElementType(BpmnElementType.SERVICE_TASK)
+        .limit(CHILDREN)
+        .count();
+    return processInstanceKey;
+  }
+
+  private static Double batchCommands(final String action) {
+    return MetricsTestHelper.readMetricValue(
+        "zeebe_process_instance_batch_commands_total",
+        entry("partition", "1"),
+        entry("action", action));
+  }
+
+  private static Double batchElements(final String action) {
+    return MetricsTestHelper.readMetricValue(
+        "zeebe_process_instance_batch_elements_total",
+        entry("partition", "1"),
+        entry("action", action));
+  }
+}
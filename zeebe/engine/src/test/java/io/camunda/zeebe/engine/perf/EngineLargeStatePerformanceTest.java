@@ -7,7 +7,10 @@
  */
 package io.camunda.zeebe.engine.perf;
 
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
 import io.camunda.zeebe.engine.perf.TestEngine.TestContext;
+import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.camunda.zeebe.engine.state.ZbColumnFamilyProfiles;
 import io.camunda.zeebe.engine.util.client.ProcessInstanceClient;
 import io.camunda.zeebe.model.bpmn.Bpmn;
 import io.camunda.zeebe.protocol.record.Record;
@@ -28,6 +31,7 @@ import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.TearDown;
@@ -47,6 +51,10 @@ public class EngineLargeStatePerformanceTest {
   public static final Logger LOG =
       LoggerFactory.getLogger(EngineLargeStatePerformanceTest.class.getName());
 
+  // the reference score is only measured without profiles; run the benchmark to compare both
+  @Param({"false", "true"})
+  private boolean columnFamilyProfiles;
+
   private long count;
   private ProcessInstanceClient processInstanceClient;
   private TestEngine.TestContext testContext;
@@ -56,7 +64,13 @@ public class EngineLargeStatePerformanceTest {
   public void setup() throws Throwable {
     testContext = createTestContext();
 
-    singlePartitionEngine = TestEngine.createSinglePartitionEngine(testContext);
+    final var rocksDbConfiguration = new RocksDbConfiguration();
+    if (columnFamilyProfiles) {
+      rocksDbConfiguration.setColumnFamilyProfiles(ZbColumnFamilyProfiles.defaults());
+    }
+    singlePartitionEngine =
+        TestEngine.createSinglePartitionEngine(
+            testContext, DefaultZeebeDbFactory.defaultFactory(rocksDbConfiguration));
 
     setupState(singlePartitionEngine);
   }
@@ -138,7 +152,8 @@ public class EngineLargeStatePerformanceTest {
     final var referenceScore = 1000;
 
     // when
-    final var assertResult = testCase.run();
+    final var assertResult =
+        testCase.withOptions(options -> options.param("columnFamilyProfiles", "false")).run();
 
     // then
     assertResult.isAtLeast(referenceScore, 0.25);
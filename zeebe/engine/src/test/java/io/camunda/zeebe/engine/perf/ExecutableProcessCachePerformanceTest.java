@@ -0,0 +1,166 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.perf;
+
+import io.camunda.zeebe.engine.processing.deployment.model.BpmnFactory;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
+import io.camunda.zeebe.engine.processing.deployment.model.transformation.BpmnTransformer;
+import io.camunda.zeebe.engine.state.deployment.ExecutableProcessCache;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.model.bpmn.builder.AbstractFlowNodeBuilder;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.security.MessageDigest;
+import java.time.InstantSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.agrona.DirectBuffer;
+import org.agrona.io.DirectBufferInputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures how long a partition needs to load all versions of the deployed processes into its
+ * in-memory state, e.g. after a leader change, if the transformed processes are shared with the
+ * other partitions of the broker. On setup, it also logs the heap which is retained by the
+ * transformed processes of all partitions, with and without sharing them.
+ */
+@Warmup(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class ExecutableProcessCachePerformanceTest {
+  public static final Logger LOG =
+      LoggerFactory.getLogger(ExecutableProcessCachePerformanceTest.class.getName());
+
+  private static final int PARTITION_COUNT = 3;
+  private static final int PROCESS_VERSION_COUNT = 1000;
+  private static final int TASK_COUNT = 20;
+
+  private final BpmnTransformer transformer = BpmnFactory.createTransformer(InstantSource.system());
+  private final MessageDigest checksumDigest = ExecutableProcessCache.newDigest();
+  private final List<DirectBuffer> resources = new ArrayList<>();
+  private ExecutableProcessCache sharedCache;
+
+  @Setup
+  public void setup() {
+    for (int version = 0; version < PROCESS_VERSION_COUNT; version++) {
+      resources.add(createResource(version));
+    }
+
+    final var retainedWithoutSharing = measureRetainedHeap(this::loadWithoutSharing);
+    final var retainedWithSharing = measureRetainedHeap(this::loadWithSharing);
+    LOG.info(
+        "Transformed {} process versions on {} partitions, retaining {} MB without and {} MB with"
+            + " a shared cache",
+        PROCESS_VERSION_COUNT,
+        PARTITION_COUNT,
+        retainedWithoutSharing / (1024 * 1024),
+        retainedWithSharing / (1024 * 1024));
+
+    // the other partitions already loaded their processes
+    sharedCache = new ExecutableProcessCache(PROCESS_VERSION_COUNT);
+    loadProcessVersions(sharedCache);
+  }
+
+  @Benchmark
+  public int measureLoadingFromSharedCache() {
+    return loadProcessVersions(sharedCache);
+  }
+
+  @Benchmark
+  public int measureLoadingWithoutSharedCache() {
+    var loaded = 0;
+    for (final var resource : resources) {
+      loaded += transform(resource).size();
+    }
+    return loaded;
+  }
+
+  @JMHTest("measureLoadingFromSharedCache")
+  void shouldLoadWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured in CI
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 100;
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  private int loadProcessVersions(final ExecutableProcessCache cache) {
+    var loaded = 0;
+    for (final var resource : resources) {
+      final var checksum = ExecutableProcessCache.checksumOf(checksumDigest, resource);
+      loaded += cache.computeIfAbsent(checksum, () -> transform(resource)).size();
+    }
+    return loaded;
+  }
+
+  private Object loadWithoutSharing() {
+    final List<List<ExecutableProcess>> partitions = new ArrayList<>();
+    for (int partition = 0; partition < PARTITION_COUNT; partition++) {
+      final List<ExecutableProcess> processes = new ArrayList<>();
+      resources.forEach(resource -> processes.addAll(transform(resource)));
+      partitions.add(processes);
+    }
+    return partitions;
+  }
+
+  private Object loadWithSharing() {
+    final var cache = new ExecutableProcessCache(PROCESS_VERSION_COUNT);
+    for (int partition = 0; partition < PARTITION_COUNT; partition++) {
+      loadProcessVersions(cache);
+    }
+    return cache;
+  }
+
+  private List<ExecutableProcess> transform(final DirectBuffer resource) {
+    try (final var stream = new DirectBufferInputStream(resource)) {
+      return transformer.transformDefinitions(Bpmn.readModelFromStream(stream));
+    }
+  }
+
+  private static DirectBuffer createResource(final int version) {
+    AbstractFlowNodeBuilder<?, ?> builder = Bpmn.createExecutableProcess("process").startEvent();
+    for (int task = 0; task < TASK_COUNT; task++) {
+      builder = builder.serviceTask("task-" + task, t -> t.zeebeJobType("type-" + version));
+    }
+    return BufferUtil.wrapString(Bpmn.convertToString(builder.endEvent().done()));
+  }
+
+  private static long measureRetainedHeap(final Supplier<Object> loader) {
+    final var runtime = Runtime.getRuntime();
+    System.gc();
+    final var usedBefore = runtime.totalMemory() - runtime.freeMemory();
+    final var retained = loader.get();
+    System.gc();
+    final var usedAfter = runtime.totalMemory() - runtime.freeMemory();
+    // keep the loaded processes reachable until the heap is measured
+    LOG.debug("Measured retained heap of {}", retained.getClass().getSimpleName());
+    return Math.max(usedAfter - usedBefore, 0);
+  }
+}
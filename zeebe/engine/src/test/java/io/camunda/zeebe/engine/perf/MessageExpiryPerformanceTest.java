@@ -0,0 +1,178 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.perf;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.state.ProcessingDbState;
+import io.camunda.zeebe.engine.state.instance.TimerWheel;
+import io.camunda.zeebe.engine.state.message.TransientPendingSubscriptionState;
+import io.camunda.zeebe.engine.state.mutable.MutableMessageState;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
+import io.camunda.zeebe.stream.impl.state.DbKeyGenerator;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.InstantSource;
+import java.util.concurrent.TimeUnit;
+import org.agrona.collections.LongArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures how fast buffered messages expire, if many messages with a short time to live are
+ * published. On setup, it buffers the given number of messages. Every operation expires the batch
+ * of messages with the oldest deadlines, as the TTL checker and the expire command do, and
+ * publishes the same number of new messages, so the number of buffered messages stays the same.
+ *
+ * <p>The expired messages leave tombstones at the head of the deadline index, which every following
+ * batch has to skip. The benchmark can be run with and without compacting SST files with many
+ * deletions, see {@link RocksDbConfiguration#getDeletionCompactionTrigger()}.
+ */
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class MessageExpiryPerformanceTest {
+  public static final Logger LOG =
+      LoggerFactory.getLogger(MessageExpiryPerformanceTest.class.getName());
+
+  private static final int EXPIRE_BATCH_SIZE = 1000;
+  private static final int PUBLISH_BATCH_SIZE = 10_000;
+
+  @Param({"10000000"})
+  private int messageCount;
+
+  @Param({"0", "16384"})
+  private int deletionCompactionTrigger;
+
+  private final MessageRecord message = new MessageRecord();
+  private final LongArrayList expiredMessageKeys = new LongArrayList();
+  private Path dbDirectory;
+  private ZeebeDb<ZbColumnFamilies> db;
+  private TransactionContext transactionContext;
+  private MutableMessageState messageState;
+  private long nextMessageKey;
+  private long nextDeadline;
+
+  @Setup
+  public void setup() throws Exception {
+    dbDirectory = Files.createTempDirectory("message-expiry");
+    db =
+        new ZeebeRocksDbFactory<ZbColumnFamilies>(
+                new RocksDbConfiguration().setDeletionCompactionTrigger(deletionCompactionTrigger),
+                new ConsistencyChecksSettings(false, false),
+                new AccessMetricsConfiguration(Kind.NONE, Protocol.DEPLOYMENT_PARTITION))
+            .createDb(dbDirectory.toFile());
+    transactionContext = db.createContext();
+    messageState =
+        new ProcessingDbState(
+                Protocol.DEPLOYMENT_PARTITION,
+                db,
+                transactionContext,
+                new DbKeyGenerator(Protocol.DEPLOYMENT_PARTITION, db, transactionContext),
+                new TransientPendingSubscriptionState(),
+                new TransientPendingSubscriptionState(),
+                new TimerWheel(),
+                new EngineConfiguration(),
+                InstantSource.system())
+            .getMessageState();
+
+    LOG.info("Publishing {} messages, please hold the line...", messageCount);
+    publishMessages(messageCount);
+    LOG.info("Published {} messages.", messageCount);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    db.close();
+    FileUtil.deleteFolder(dbDirectory);
+  }
+
+  @Benchmark
+  public int measureExpiringMessages() {
+    expiredMessageKeys.clear();
+    transactionContext.runInTransaction(
+        () -> {
+          messageState.visitMessagesWithDeadlineBeforeTimestamp(
+              Long.MAX_VALUE,
+              null,
+              (deadline, messageKey) -> {
+                expiredMessageKeys.addLong(messageKey);
+                return expiredMessageKeys.size() < EXPIRE_BATCH_SIZE;
+              });
+          expiredMessageKeys.forEachOrderedLong(messageState::remove);
+        });
+
+    publishMessages(expiredMessageKeys.size());
+    return expiredMessageKeys.size();
+  }
+
+  @JMHTest("measureExpiringMessages")
+  void shouldExpireWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured in CI
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 100;
+
+    // when - with fewer messages, to keep the setup short
+    final var assertResult =
+        testCase
+            .withOptions(
+                options ->
+                    options
+                        .param("messageCount", "1000000")
+                        .param("deletionCompactionTrigger", "16384"))
+            .run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  private void publishMessages(final int count) {
+    for (int published = 0; published < count; published += PUBLISH_BATCH_SIZE) {
+      final var batchSize = Math.min(PUBLISH_BATCH_SIZE, count - published);
+      transactionContext.runInTransaction(
+          () -> {
+            for (int i = 0; i < batchSize; i++) {
+              final var messageKey = nextMessageKey++;
+              message
+                  .setName("message")
+                  .setCorrelationKey("correlation-" + messageKey)
+                  .setTimeToLive(1)
+                  .setDeadline(nextDeadline++);
+              messageState.put(messageKey, message);
+            }
+          });
+    }
+  }
+}
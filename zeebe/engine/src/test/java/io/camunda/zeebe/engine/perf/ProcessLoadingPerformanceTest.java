@@ -0,0 +1,125 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.perf;
+
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.camunda.zeebe.engine.state.deployment.DbProcessState;
+import io.camunda.zeebe.engine.state.deployment.ExecutableProcessCache;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.model.bpmn.builder.AbstractFlowNodeBuilder;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessRecord;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.InstantSource;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares loading a large process into the in-memory state of the process state, e.g. after a
+ * leader change, if only its metadata is accessed versus if its executable process is accessed,
+ * which requires to parse and transform its resource.
+ */
+@Warmup(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class ProcessLoadingPerformanceTest {
+  private static final int ELEMENT_COUNT = 1000;
+  private static final long PROCESS_DEFINITION_KEY = 1L;
+  private static final String TENANT_ID = TenantOwned.DEFAULT_TENANT_IDENTIFIER;
+
+  private final ExecutableProcessCache executableProcessCache = new ExecutableProcessCache(1);
+  private Path dbDirectory;
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private DbProcessState processState;
+
+  @Setup
+  public void setup() throws Exception {
+    dbDirectory = Files.createTempDirectory("process-loading");
+    zeebeDb = DefaultZeebeDbFactory.defaultFactory().createDb(dbDirectory.toFile());
+    processState =
+        new DbProcessState(
+            zeebeDb,
+            zeebeDb.createContext(),
+            new EngineConfiguration().setExecutableProcessCache(executableProcessCache),
+            InstantSource.system());
+
+    processState.putProcess(PROCESS_DEFINITION_KEY, createLargeProcess());
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolder(dbDirectory);
+  }
+
+  @Benchmark
+  public int measureLoadingProcessMetadata() {
+    processState.clearCache();
+    return processState.getProcessByKeyAndTenant(PROCESS_DEFINITION_KEY, TENANT_ID).getVersion();
+  }
+
+  @Benchmark
+  public Object measureLoadingExecutableProcess() {
+    processState.clearCache();
+    executableProcessCache.clear();
+    return processState.getProcessByKeyAndTenant(PROCESS_DEFINITION_KEY, TENANT_ID).getProcess();
+  }
+
+  @JMHTest("measureLoadingProcessMetadata")
+  void shouldLoadWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured in CI
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 10_000;
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  private static ProcessRecord createLargeProcess() {
+    AbstractFlowNodeBuilder<?, ?> builder = Bpmn.createExecutableProcess("process").startEvent();
+    for (int element = 0; element < ELEMENT_COUNT; element++) {
+      builder = builder.serviceTask("task-" + element, t -> t.zeebeJobType("task"));
+    }
+    final var resource = Bpmn.convertToString(builder.endEvent().done());
+
+    return new ProcessRecord()
+        .setResourceName("process.bpmn")
+        .setResource(BufferUtil.wrapString(resource))
+        .setBpmnProcessId("process")
+        .setVersion(1)
+        .setKey(PROCESS_DEFINITION_KEY)
+        .setChecksum(BufferUtil.wrapString("checksum"))
+        .setTenantId(TENANT_ID)
+        .setDeploymentKey(2L);
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.camunda.zeebe.engine.util.EngineRule;
+import io.camunda.zeebe.engine.util.client.DeploymentClient;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.protocol.record.Assertions;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessIntent;
+import io.camunda.zeebe.protocol.record.value.DeploymentRecordValue;
+import io.camunda.zeebe.protocol.record.value.deployment.DecisionRecordValue;
+import io.camunda.zeebe.protocol.record.value.deployment.DecisionRequirementsMetadataValue;
+import io.camunda.zeebe.protocol.record.value.deployment.ProcessMetadataValue;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import io.camunda.zeebe.test.util.record.RecordingExporterTestWatcher;
+import java.util.stream.IntStream;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Deploys the same multi-resource deployments with the resources parsed on the processing thread
+ * and parsed in parallel, and expects the same results for both.
+ */
+@RunWith(Parameterized.class)
+public final class ParallelDeploymentTest {
+
+  private static final int PROCESS_COUNT = 8;
+  private static final String DMN_RESOURCE = "/dmn/decision-table.dmn";
+  private static final String INVALID_PROCESS = "/processes/invalid_process.bpmn";
+  private static final String INVALID_CONDITION_PROCESS =
+      "/processes/invalid_process_condition.bpmn";
+  private static final String INVALID_DMN = "/dmn/decision-table-with-invalid-expression.dmn";
+
+  @Rule public final EngineRule engine;
+
+  @Rule
+  public final RecordingExporterTestWatcher recordingExporterTestWatcher =
+      new RecordingExporterTestWatcher();
+
+  public ParallelDeploymentTest(final String name, final int parallelism) {
+    engine =
+        EngineRule.singlePartition()
+            .withEngineConfig(config -> config.setValidatorsParallelism(parallelism));
+  }
+
+  @Parameters(name = "{0}")
+  public static Object[][] parameters() {
+    return new Object[][] {{"sequential", 1}, {"parallel", 4}};
+  }
+
+  @Test
+  public void shouldDeployResourcesInOrder() {
+    // given
+    final var deployment = engine.deployment();
+    for (int i = 0; i < PROCESS_COUNT; i++) {
+      withProcess(deployment, i);
+      if (i == PROCESS_COUNT / 2) {
+        deployment.withXmlClasspathResource(DMN_RESOURCE);
+      }
+    }
+
+    // when
+    final var deploymentEvent = deployment.deploy();
+
+    // then
+    Assertions.assertThat(deploymentEvent)
+        .hasIntent(DeploymentIntent.CREATED)
+        .hasRecordType(RecordType.EVENT);
+    final var processesMetadata = deploymentEvent.getValue().getProcessesMetadata();
+    assertThat(processesMetadata)
+        .extracting(
+            ProcessMetadataValue::getBpmnProcessId,
+            ProcessMetadataValue::getResourceName,
+            ProcessMetadataValue::getVersion)
+        .containsExactlyElementsOf(
+            IntStream.range(0, PROCESS_COUNT)
+                .mapToObj(i -> tuple(processId(i), resourceName(i), 1))
+                .toList());
+    assertThat(processesMetadata)
+        .extracting(ProcessMetadataValue::getProcessDefinitionKey)
+        .isSorted();
+    assertThat(deploymentEvent.getValue().getDecisionsMetadata())
+        .extracting(DecisionRecordValue::getDecisionId)
+        .containsExactly("jedi_or_sith");
+    assertThat(deploymentEvent.getValue().getDecisionRequirementsMetadata())
+        .extracting(DecisionRequirementsMetadataValue::getResourceName)
+        .containsExactly(DMN_RESOURCE);
+
+    assertThat(
+            RecordingExporter.processRecords()
+                .withIntent(ProcessIntent.CREATED)
+                .limit(PROCESS_COUNT)
+                .map(process -> process.getValue().getBpmnProcessId()))
+        .containsExactlyElementsOf(
+            IntStream.range(0, PROCESS_COUNT).mapToObj(ParallelDeploymentTest::processId).toList());
+  }
+
+  @Test
+  public void shouldRejectInvalidResourcesInOrder() {
+    // given
+    final var deployment = engine.deployment();
+    withProcess(deployment, 0);
+    deployment.withXmlClasspathResource(INVALID_PROCESS);
+    withProcess(deployment, 1);
+    deployment.withXmlClasspathResource(INVALID_DMN);
+    withProcess(deployment, 2);
+    deployment.withXmlClasspathResource(INVALID_CONDITION_PROCESS);
+
+    // when
+    final Record<DeploymentRecordValue> rejectedDeployment = deployment.expectRejection().deploy();
+
+    // then
+    Assertions.assertThat(rejectedDeployment)
+        .hasIntent(DeploymentIntent.CREATE)
+        .hasRecordType(RecordType.COMMAND_REJECTION)
+        .hasRejectionType(RejectionType.INVALID_ARGUMENT);
+    assertThat(rejectedDeployment.getRejectionReason())
+        .startsWith(
+            "Expected to deploy new resources, but encountered the following errors:\n'%s': "
+                .formatted(INVALID_PROCESS))
+        .containsSubsequence(
+            "'%s': ".formatted(INVALID_PROCESS),
+            "ERROR: Must have at least one start event",
+            "'%s': FEEL unary-tests: failed to parse expression".formatted(INVALID_DMN),
+            "'%s': ".formatted(INVALID_CONDITION_PROCESS),
+            "ERROR: failed to parse expression")
+        .doesNotContain(resourceName(0), resourceName(1), resourceName(2));
+  }
+
+  private static void withProcess(final DeploymentClient deployment, final int index) {
+    deployment.withXmlResource(
+        resourceName(index),
+        Bpmn.createExecutableProcess(processId(index)).startEvent().endEvent().done());
+  }
+
+  private static String processId(final int index) {
+    return "process-" + index;
+  }
+
+  private static String resourceName(final int index) {
+    return "process-" + index + ".bpmn";
+  }
+}
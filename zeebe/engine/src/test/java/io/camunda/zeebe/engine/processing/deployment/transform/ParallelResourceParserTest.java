@@ -0,0 +1,132 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.deployment.transform;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
+import java.io.IOException;
+import java.time.InstantSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class ParallelResourceParserTest {
+
+  private final ParallelResourceParser parser =
+      new ParallelResourceParser(
+          4,
+          EngineConfiguration.DEFAULT_VALIDATORS_RESULTS_OUTPUT_MAX_SIZE,
+          InstantSource.system());
+
+  @AfterEach
+  void tearDown() {
+    parser.onClose();
+  }
+
+  @Test
+  void shouldParseResourcesOfDeployment() throws IOException {
+    // given
+    final var deployment = new DeploymentRecord();
+    deployment
+        .resources()
+        .add()
+        .setResourceName("process.bpmn")
+        .setResource(
+            Bpmn.convertToString(
+                    Bpmn.createExecutableProcess("process").startEvent().endEvent().done())
+                .getBytes());
+    deployment.resources().add().setResourceName("decision.dmn").setResource(readDecision());
+    deployment.resources().add().setResourceName("form.form").setResource("{}".getBytes());
+
+    // when
+    final var parsedResources = parser.parse(deployment);
+
+    // then
+    assertThat(parsedResources.getBpmnResource(0).get().executableProcesses()).hasSize(1);
+    assertThat(parsedResources.getDmnResource(0)).isNull();
+    assertThat(parsedResources.getDmnResource(1).isValid()).isTrue();
+    assertThat(parsedResources.getBpmnResource(1)).isNull();
+    assertThat(parsedResources.getBpmnResource(2)).isNull();
+    assertThat(parsedResources.getDmnResource(2)).isNull();
+  }
+
+  @Test
+  void shouldReturnFailureOfInvalidResource() {
+    // given
+    final var deployment = new DeploymentRecord();
+    deployment
+        .resources()
+        .add()
+        .setResourceName("valid.bpmn")
+        .setResource(
+            Bpmn.convertToString(
+                    Bpmn.createExecutableProcess("valid").startEvent().endEvent().done())
+                .getBytes());
+    deployment
+        .resources()
+        .add()
+        .setResourceName("invalid.bpmn")
+        .setResource("<definitions/>".getBytes());
+
+    // when
+    final var parsedResources = parser.parse(deployment);
+
+    // then
+    assertThat(parsedResources.getBpmnResource(0).isRight()).isTrue();
+    assertThat(parsedResources.getBpmnResource(1).isLeft()).isTrue();
+    assertThat(parsedResources.getBpmnResource(1).getLeft().getMessage())
+        .startsWith("'invalid.bpmn'");
+  }
+
+  @Test
+  void shouldNotParseSingleResourceInAdvance() {
+    // given
+    final var deployment = new DeploymentRecord();
+    deployment
+        .resources()
+        .add()
+        .setResourceName("process.bpmn")
+        .setResource(
+            Bpmn.convertToString(
+                    Bpmn.createExecutableProcess("process").startEvent().endEvent().done())
+                .getBytes());
+
+    // when
+    final var parsedResources = parser.parse(deployment);
+
+    // then
+    assertThat(parsedResources).isSameAs(ParallelResourceParser.ParsedResources.NONE);
+  }
+
+  @Test
+  void shouldNotParseInAdvanceWithoutParallelism() {
+    // given
+    final var sequentialParser =
+        new ParallelResourceParser(
+            1,
+            EngineConfiguration.DEFAULT_VALIDATORS_RESULTS_OUTPUT_MAX_SIZE,
+            InstantSource.system());
+    final var deployment = new DeploymentRecord();
+    deployment.resources().add().setResourceName("a.bpmn").setResource("<a/>".getBytes());
+    deployment.resources().add().setResourceName("b.bpmn").setResource("<b/>".getBytes());
+
+    // when
+    final var parsedResources = sequentialParser.parse(deployment);
+
+    // then
+    assertThat(parsedResources).isSameAs(ParallelResourceParser.ParsedResources.NONE);
+  }
+
+  private byte[] readDecision() throws IOException {
+    try (final var resource = getClass().getResourceAsStream("/dmn/decision-table.dmn")) {
+      return resource.readAllBytes();
+    }
+  }
+}
@@ -14,8 +14,6 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.times;
-import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.camunda.zeebe.engine.EngineConfiguration;
@@ -25,17 +23,12 @@ import io.camunda.zeebe.engine.util.ProcessingStateRule;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.protocol.record.value.TenantOwned;
 import io.camunda.zeebe.scheduler.clock.ActorClock;
-import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
-import io.camunda.zeebe.stream.api.scheduling.ProcessingScheduleService;
-import io.camunda.zeebe.stream.api.scheduling.Task;
 import io.camunda.zeebe.stream.api.scheduling.TaskResultBuilder;
 import java.time.Duration;
 import java.time.InstantSource;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
-import org.mockito.ArgumentCaptor;
-import org.mockito.ArgumentMatchers;
 
 public class JobTimeoutCheckerTest {
   public static final int NUMBER_OF_ACTIVE_JOBS = 10;
@@ -43,8 +36,6 @@ public class JobTimeoutCheckerTest {
 
   private MutableProcessingState processingState;
   private MutableJobState jobState;
-  private ReadonlyStreamProcessorContext mockContext;
-  private ProcessingScheduleService mockScheduleService;
   private TaskResultBuilder mockTaskResultBuilder;
 
   @Before
@@ -56,9 +47,6 @@ public class JobTimeoutCheckerTest {
       createAndActivateJobRecord(i, newJobRecord().setDeadline(i));
     }
 
-    mockContext = mock(ReadonlyStreamProcessorContext.class);
-    mockScheduleService = mock(ProcessingScheduleService.class);
-    when(mockContext.getScheduleService()).thenReturn(mockScheduleService);
     mockTaskResultBuilder = mock(TaskResultBuilder.class);
   }
 
@@ -83,72 +71,60 @@ public class JobTimeoutCheckerTest {
   public void shouldRescheduleWithPollingIntervalAfterSuccessfulExecution() {
     // Given
     when(mockTaskResultBuilder.appendCommandRecord(anyLong(), any(), any())).thenReturn(true);
-    final ArgumentCaptor<Long> timestampCaptor = ArgumentCaptor.forClass(Long.class);
 
     final Duration pollingInterval = EngineConfiguration.DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL;
     final int batchLimit = Integer.MAX_VALUE;
 
     final var task =
         new JobTimeoutChecker(jobState, pollingInterval, batchLimit, InstantSource.system());
-    task.setProcessingContext(mockContext);
-    task.setShouldReschedule(true);
 
     // When
-    task.execute(mockTaskResultBuilder);
+    final var nextDeadline = task.check(mockTaskResultBuilder);
 
     // then
     final var inOrder = inOrder(mockTaskResultBuilder);
     for (long i = 1; i <= NUMBER_OF_ACTIVE_JOBS; i++) {
       inOrder.verify(mockTaskResultBuilder).appendCommandRecord(eq(i), eq(TIME_OUT), any());
     }
-    inOrder.verify(mockTaskResultBuilder).build();
     verifyNoMoreInteractions(mockTaskResultBuilder);
 
-    verify(mockScheduleService, times(1))
-        .runAt(timestampCaptor.capture(), ArgumentMatchers.<Task>any());
-    assertThat(timestampCaptor.getValue())
-        .isLessThanOrEqualTo(ActorClock.currentTimeMillis() + pollingInterval.toMillis());
+    assertThat(nextDeadline)
+        .isLessThanOrEqualTo(ActorClock.currentTimeMillis() + pollingInterval.toMillis())
+        .isGreaterThan(ActorClock.currentTimeMillis());
   }
 
   @Test
   public void shouldRescheduleImmediatelyIfYieldedDueToBatchLimit() {
     // Given
     when(mockTaskResultBuilder.appendCommandRecord(anyLong(), any(), any())).thenReturn(true);
-    final ArgumentCaptor<Long> timestampCaptor = ArgumentCaptor.forClass(Long.class);
 
     final Duration pollingInterval = EngineConfiguration.DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL;
     final int batchLimit = 3;
 
     final var task =
         new JobTimeoutChecker(jobState, pollingInterval, batchLimit, InstantSource.system());
-    task.setProcessingContext(mockContext);
-    task.setShouldReschedule(true);
 
     // When
-    task.execute(mockTaskResultBuilder);
+    final var nextDeadline = task.check(mockTaskResultBuilder);
 
     // then
     final var inOrder = inOrder(mockTaskResultBuilder);
     for (long i = 1; i <= batchLimit; i++) {
       inOrder.verify(mockTaskResultBuilder).appendCommandRecord(eq(i), eq(TIME_OUT), any());
     }
-    inOrder.verify(mockTaskResultBuilder).build();
     verifyNoMoreInteractions(mockTaskResultBuilder);
 
-    verify(mockScheduleService, times(1))
-        .runAt(timestampCaptor.capture(), ArgumentMatchers.<Task>any());
-    assertThat(timestampCaptor.getValue()).isLessThanOrEqualTo(ActorClock.currentTimeMillis());
+    assertThat(nextDeadline).isLessThanOrEqualTo(ActorClock.currentTimeMillis());
 
     /* TEST verify next execute will start where left off */
 
     // When
-    task.execute(mockTaskResultBuilder);
+    task.check(mockTaskResultBuilder);
 
     // then
     for (long i = batchLimit + 1; i <= 2 * batchLimit; i++) {
       inOrder.verify(mockTaskResultBuilder).appendCommandRecord(eq(i), eq(TIME_OUT), any());
     }
-    inOrder.verify(mockTaskResultBuilder).build();
     verifyNoMoreInteractions(mockTaskResultBuilder);
   }
 
@@ -158,29 +134,23 @@ public class JobTimeoutCheckerTest {
     when(mockTaskResultBuilder.appendCommandRecord(anyLong(), any(), any()))
         .thenReturn(true)
         .thenReturn(false);
-    final ArgumentCaptor<Long> timestampCaptor = ArgumentCaptor.forClass(Long.class);
 
     final Duration pollingInterval = EngineConfiguration.DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL;
     final int batchLimit = Integer.MAX_VALUE;
 
     final var task =
         new JobTimeoutChecker(jobState, pollingInterval, batchLimit, InstantSource.system());
-    task.setProcessingContext(mockContext);
-    task.setShouldReschedule(true);
 
     // When
-    task.execute(mockTaskResultBuilder);
+    final var nextDeadline = task.check(mockTaskResultBuilder);
 
     // then
     final var inOrder = inOrder(mockTaskResultBuilder);
 
     inOrder.verify(mockTaskResultBuilder).appendCommandRecord(eq(1L), eq(TIME_OUT), any());
     inOrder.verify(mockTaskResultBuilder).appendCommandRecord(eq(2L), eq(TIME_OUT), any());
-    inOrder.verify(mockTaskResultBuilder).build();
 
     verifyNoMoreInteractions(mockTaskResultBuilder);
-    verify(mockScheduleService, times(1))
-        .runAt(timestampCaptor.capture(), ArgumentMatchers.<Task>any());
-    assertThat(timestampCaptor.getValue()).isLessThanOrEqualTo(ActorClock.currentTimeMillis());
+    assertThat(nextDeadline).isLessThanOrEqualTo(ActorClock.currentTimeMillis());
   }
 }
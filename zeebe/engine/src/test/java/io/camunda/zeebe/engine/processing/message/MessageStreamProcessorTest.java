@@ -23,6 +23,7 @@ import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.processing.bpmn.behavior.BpmnBehaviors;
 import io.camunda.zeebe.engine.processing.distribution.CommandDistributionBehavior;
 import io.camunda.zeebe.engine.processing.message.command.SubscriptionCommandSender;
+import io.camunda.zeebe.engine.processing.scheduled.DeadlineScheduler;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
 import io.camunda.zeebe.engine.state.appliers.EventAppliers;
 import io.camunda.zeebe.engine.util.StreamProcessorRule;
@@ -73,6 +74,9 @@ public final class MessageStreamProcessorTest {
         (typedRecordProcessors, processingContext) -> {
           final var processingState = processingContext.getProcessingState();
           final var scheduledTaskState = processingContext.getScheduledTaskStateFactory();
+          final var deadlineScheduler =
+              new DeadlineScheduler(processingContext.getPartitionId(), InstantSource.system());
+          typedRecordProcessors.withListener(deadlineScheduler);
           MessageEventProcessors.addMessageProcessors(
               mock(BpmnBehaviors.class),
               typedRecordProcessors,
@@ -83,6 +87,7 @@ public final class MessageStreamProcessorTest {
               DEFAULT_ENGINE_CONFIGURATION,
               FeatureFlags.createDefault(),
               spyCommandDistributionBehavior,
+              deadlineScheduler,
               InstantSource.system());
           return typedRecordProcessors;
         });
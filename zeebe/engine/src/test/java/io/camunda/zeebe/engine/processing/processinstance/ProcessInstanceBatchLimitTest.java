@@ -0,0 +1,136 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.processinstance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.util.EngineRule;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceBatchIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.ProcessInstanceBatchRecordValue;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import io.camunda.zeebe.test.util.record.RecordingExporterTestWatcher;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class ProcessInstanceBatchLimitTest {
+
+  private static final int BATCH_LIMIT = 100;
+  private static final int CHILDREN = 2_000;
+
+  @ClassRule
+  public static final EngineRule ENGINE =
+      EngineRule.singlePartition()
+          .withEngineConfig(
+              config ->
+                  config
+                      .setProcessInstanceBatchActivateLimit(BATCH_LIMIT)
+                      .setProcessInstanceBatchTerminateLimit(BATCH_LIMIT));
+
+  private static final String PROCESS_ID = "process";
+  private static final BpmnModelInstance PROCESS =
+      Bpmn.createExecutableProcess(PROCESS_ID)
+          .startEvent()
+          .serviceTask(
+              "task",
+              t ->
+                  t.zeebeJobType("task")
+                      .multiInstance(m -> m.parallel().zeebeInputCollectionExpression("items")))
+          .endEvent()
+          .done();
+
+  @Rule
+  public final RecordingExporterTestWatcher recordingExporterTestWatcher =
+      new RecordingExporterTestWatcher();
+
+  @BeforeClass
+  public static void deployProcess() {
+    ENGINE.deployment().withXmlResource(PROCESS).deploy();
+  }
+
+  @Test
+  public void shouldActivateChildrenInBatchesOfLimit() {
+    // when
+    final var processInstanceKey = createProcessInstanceWithChildren();
+
+    // then - every batch command activates the limit of children, and leaves the rest to the next
+    final var remainingChildrenPerBatch =
+        RecordingExporter.processInstanceBatchRecords()
+            .withIntent(ProcessInstanceBatchIntent.ACTIVATE)
+            .withProcessInstanceKey(processInstanceKey)
+            .limit(r -> r.getValue().getIndex() == BATCH_LIMIT)
+            .map(r -> r.getValue().getIndex())
+            .toList();
+
+    assertThat(remainingChildrenPerBatch)
+        .containsExactlyElementsOf(
+            LongStream.iterate(CHILDREN, remaining -> remaining - BATCH_LIMIT)
+                .limit(CHILDREN / BATCH_LIMIT)
+                .boxed()
+                .toList());
+  }
+
+  @Test
+  public void shouldTerminateChildrenInBatchesOfLimit() {
+    // given
+    final var processInstanceKey = createProcessInstanceWithChildren();
+    final var multiInstanceBodyKey =
+        RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_ACTIVATED)
+            .withProcessInstanceKey(processInstanceKey)
+            .withElementType(BpmnElementType.MULTI_INSTANCE_BODY)
+            .getFirst()
+            .getKey();
+
+    // when
+    ENGINE.processInstance().withInstanceKey(processInstanceKey).cancel();
+
+    // then
+    final var terminateBatches =
+        RecordingExporter.records()
+            .limitToProcessInstance(processInstanceKey)
+            .filter(r -> r.getValueType() == ValueType.PROCESS_INSTANCE_BATCH)
+            .filter(r -> r.getIntent() == ProcessInstanceBatchIntent.TERMINATE)
+            .map(r -> (ProcessInstanceBatchRecordValue) r.getValue())
+            .filter(batch -> batch.getBatchElementInstanceKey() == multiInstanceBodyKey)
+            .toList();
+
+    assertThat(terminateBatches).hasSize(CHILDREN / BATCH_LIMIT);
+    assertThat(
+            RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_TERMINATED)
+                .withProcessInstanceKey(processInstanceKey)
+                .withElementId("task")
+                .withElementType(BpmnElementType.SERVICE_TASK)
+                .limit(CHILDREN)
+                .count())
+        .isEqualTo(CHILDREN);
+  }
+
+  private static long createProcessInstanceWithChildren() {
+    final var processInstanceKey =
+        ENGINE
+            .processInstance()
+            .ofBpmnProcessId(PROCESS_ID)
+            .withVariable("items", IntStream.range(0, CHILDREN).boxed().toList())
+            .create();
+
+    RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_ACTIVATED)
+        .withProcessInstanceKey(processInstanceKey)
+        .withElementType(BpmnElementType.SERVICE_TASK)
+        .limit(CHILDREN)
+        .count();
+    return processInstanceKey;
+  }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.scheduled;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.engine.metrics.DeadlineSchedulerMetrics;
+import io.camunda.zeebe.engine.processing.scheduled.DeadlineScheduler.DeadlineKind;
+import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
+import io.camunda.zeebe.stream.api.scheduling.ProcessingScheduleService;
+import io.camunda.zeebe.stream.api.scheduling.SimpleProcessingScheduleService.ScheduledTask;
+import io.camunda.zeebe.stream.api.scheduling.Task;
+import io.camunda.zeebe.stream.api.scheduling.TaskResultBuilder;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.InstantSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+final class DeadlineSchedulerTest {
+
+  private static final Duration RESOLUTION = Duration.ofMillis(100);
+  private static final long NOW = 1_000_000L;
+
+  private final AtomicLong currentTime = new AtomicLong(NOW);
+  private final InstantSource clock = () -> Instant.ofEpochMilli(currentTime.get());
+  private final ProcessingScheduleService scheduleService = mock(ProcessingScheduleService.class);
+  private final ScheduledTask scheduledTask = mock(ScheduledTask.class);
+  private final ReadonlyStreamProcessorContext context = mock(ReadonlyStreamProcessorContext.class);
+
+  private DeadlineScheduler scheduler;
+
+  @BeforeEach
+  void setUp() {
+    when(context.getScheduleService()).thenReturn(scheduleService);
+    when(scheduleService.runAt(anyLong(), any(Task.class))).thenReturn(scheduledTask);
+    scheduler = new DeadlineScheduler(RESOLUTION, clock, new DeadlineSchedulerMetrics(1));
+  }
+
+  @Test
+  void shouldScheduleSingleWakeupForEarliestDeadline() {
+    // given
+    scheduler.register(DeadlineKind.TIMER, Duration.ofSeconds(5), builder -> -1);
+    scheduler.register(DeadlineKind.JOB_TIMEOUT, Duration.ofSeconds(1), builder -> -1);
+
+    // when
+    scheduler.onRecovered(context);
+
+    // then
+    verify(scheduleService).runAt(eq(NOW + 1000), any(Task.class));
+  }
+
+  @Test
+  void shouldReplaceWakeupForEarlierDeadline() {
+    // given
+    scheduler.register(DeadlineKind.TIMER, Duration.ofSeconds(5), builder -> -1);
+    scheduler.onRecovered(context);
+
+    // when
+    scheduler.schedule(DeadlineKind.TIMER, NOW + 500);
+
+    // then
+    verify(scheduledTask).cancel();
+    verify(scheduleService).runAt(eq(NOW + 500), any(Task.class));
+  }
+
+  @Test
+  void shouldNotReplaceWakeupForDeadlineWithinResolution() {
+    // given
+    scheduler.register(DeadlineKind.TIMER, Duration.ofSeconds(1), builder -> -1);
+    scheduler.onRecovered(context);
+    Mockito.clearInvocations(scheduleService);
+
+    // when
+    scheduler.schedule(DeadlineKind.TIMER, NOW + 950);
+    scheduler.schedule(DeadlineKind.TIMER, NOW + 2000);
+
+    // then
+    verify(scheduleService, never()).runAt(anyLong(), any(Task.class));
+    verify(scheduledTask, never()).cancel();
+  }
+
+  @Test
+  void shouldScheduleWakeupAtLeastOneResolutionAhead() {
+    // given
+    scheduler.register(DeadlineKind.JOB_BACKOFF, Duration.ofSeconds(1), builder -> -1);
+    scheduler.onRecovered(context);
+
+    // when
+    scheduler.schedule(DeadlineKind.JOB_BACKOFF, NOW - 500);
+
+    // then
+    verify(scheduleService).runAt(eq(NOW + RESOLUTION.toMillis()), any(Task.class));
+  }
+
+  @Test
+  void shouldCheckAllDueKindsInOneWakeup() {
+    // given
+    final List<DeadlineKind> checked = new ArrayList<>();
+    scheduler.register(
+        DeadlineKind.TIMER,
+        Duration.ofSeconds(1),
+        builder -> {
+          checked.add(DeadlineKind.TIMER);
+          return -1;
+        });
+    scheduler.register(
+        DeadlineKind.JOB_BACKOFF,
+        Duration.ofSeconds(1),
+        builder -> {
+          checked.add(DeadlineKind.JOB_BACKOFF);
+          return -1;
+        });
+    scheduler.register(
+        DeadlineKind.JOB_TIMEOUT,
+        Duration.ofSeconds(10),
+        builder -> {
+          checked.add(DeadlineKind.JOB_TIMEOUT);
+          return -1;
+        });
+    scheduler.onRecovered(context);
+    final var builder = mock(TaskResultBuilder.class);
+
+    // when
+    currentTime.addAndGet(1000);
+    scheduler.execute(builder);
+
+    // then
+    assertThat(checked).containsExactlyInAnyOrder(DeadlineKind.TIMER, DeadlineKind.JOB_BACKOFF);
+    verify(builder).build();
+  }
+
+  @Test
+  void shouldScheduleNextDeadlineReturnedByCheck() {
+    // given
+    scheduler.register(DeadlineKind.MESSAGE_TIME_TO_LIVE, Duration.ZERO, builder -> NOW + 3000);
+    scheduler.onRecovered(context);
+    Mockito.clearInvocations(scheduleService);
+
+    // when
+    currentTime.addAndGet(RESOLUTION.toMillis());
+    scheduler.execute(mock(TaskResultBuilder.class));
+
+    // then
+    verify(scheduleService).runAt(eq(NOW + 3000), any(Task.class));
+  }
+
+  @Test
+  void shouldNotScheduleWakeupIfNoDeadlineIsKnown() {
+    // given
+    scheduler.register(DeadlineKind.TIMER, Duration.ZERO, builder -> -1);
+    scheduler.onRecovered(context);
+    Mockito.clearInvocations(scheduleService);
+
+    // when
+    currentTime.addAndGet(RESOLUTION.toMillis());
+    scheduler.execute(mock(TaskResultBuilder.class));
+
+    // then
+    verify(scheduleService, never()).runAt(anyLong(), any(Task.class));
+  }
+
+  @Test
+  void shouldNotScheduleWhilePaused() {
+    // given
+    scheduler.register(DeadlineKind.TIMER, Duration.ofSeconds(1), builder -> -1);
+    scheduler.onRecovered(context);
+
+    // when
+    scheduler.onPaused();
+    scheduler.schedule(DeadlineKind.TIMER, NOW + 500);
+
+    // then
+    verify(scheduledTask).cancel();
+    verify(scheduleService, times(1)).runAt(anyLong(), any(Task.class));
+  }
+
+  @Test
+  void shouldScheduleInitialDeadlinesOnResume() {
+    // given
+    scheduler.register(DeadlineKind.TIMER, Duration.ofSeconds(1), builder -> -1);
+    scheduler.onRecovered(context);
+    scheduler.onPaused();
+    Mockito.clearInvocations(scheduleService);
+
+    // when
+    currentTime.addAndGet(5000);
+    scheduler.onResumed();
+
+    // then
+    verify(scheduleService).runAt(eq(NOW + 6000), any(Task.class));
+  }
+
+  @Test
+  void shouldIgnoreDeadlinesOfUnregisteredKind() {
+    // given
+    scheduler.onRecovered(context);
+
+    // when
+    scheduler.schedule(DeadlineKind.JOB_BACKOFF, NOW + 500);
+
+    // then
+    verifyNoInteractions(scheduleService);
+  }
+
+  @Test
+  void shouldRejectSecondCheckForSameKind() {
+    // given
+    scheduler.register(DeadlineKind.TIMER, Duration.ZERO, builder -> -1);
+
+    // when - then
+    assertThatThrownBy(() -> scheduler.register(DeadlineKind.TIMER, Duration.ZERO, builder -> -1))
+        .isInstanceOf(IllegalStateException.class);
+  }
+}
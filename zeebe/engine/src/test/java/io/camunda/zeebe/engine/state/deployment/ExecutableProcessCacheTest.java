@@ -0,0 +1,81 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+
+final class ExecutableProcessCacheTest {
+
+  private final ExecutableProcessCache cache = new ExecutableProcessCache(10);
+  private final AtomicInteger transformations = new AtomicInteger();
+
+  @Test
+  void shouldTransformResourceOnlyOnce() {
+    // given
+    final var digest = ExecutableProcessCache.newDigest();
+    final var resource = wrapString("<definitions/>");
+    final var firstProcesses =
+        cache.computeIfAbsent(ExecutableProcessCache.checksumOf(digest, resource), this::transform);
+
+    // when
+    final var secondProcesses =
+        cache.computeIfAbsent(ExecutableProcessCache.checksumOf(digest, resource), this::transform);
+
+    // then
+    assertThat(secondProcesses).isSameAs(firstProcesses);
+    assertThat(transformations).hasValue(1);
+    assertThat(cache.size()).isOne();
+  }
+
+  @Test
+  void shouldTransformResourcesWithDifferentContent() {
+    // given
+    final var digest = ExecutableProcessCache.newDigest();
+    cache.computeIfAbsent(
+        ExecutableProcessCache.checksumOf(digest, wrapString("<definitions id=\"a\"/>")),
+        this::transform);
+
+    // when
+    cache.computeIfAbsent(
+        ExecutableProcessCache.checksumOf(digest, wrapString("<definitions id=\"b\"/>")),
+        this::transform);
+
+    // then
+    assertThat(transformations).hasValue(2);
+    assertThat(cache.size()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldCalculateSameChecksumForResourceAtOffset() {
+    // given
+    final var digest = ExecutableProcessCache.newDigest();
+    final var content = "<definitions/>".getBytes();
+    final var padded = new byte[content.length + 8];
+    System.arraycopy(content, 0, padded, 4, content.length);
+
+    // when
+    final var checksum = ExecutableProcessCache.checksumOf(digest, new UnsafeBuffer(content));
+    final var checksumAtOffset =
+        ExecutableProcessCache.checksumOf(digest, new UnsafeBuffer(padded, 4, content.length));
+
+    // then
+    assertThat(checksumAtOffset).isEqualTo(checksum);
+  }
+
+  private List<ExecutableProcess> transform() {
+    transformations.incrementAndGet();
+    return List.of(new ExecutableProcess("process"));
+  }
+}
@@ -239,6 +239,25 @@ public final class ProcessStateTest {
     assertThat(processState.getNextProcessVersion("process1", TENANT_ID)).isEqualTo(2);
   }
 
+  @Test
+  public void shouldTransformProcessOnlyOnAccess() {
+    // given
+    final var processRecord = creatingProcessRecord(processingState);
+    processState.putProcess(processRecord.getKey(), processRecord);
+    processState.clearCache();
+
+    // when
+    final var deployedProcess =
+        processState.getProcessByKeyAndTenant(processRecord.getKey(), TENANT_ID);
+
+    // then
+    assertThat(deployedProcess.getVersion()).isEqualTo(processRecord.getVersion());
+    assertThat(deployedProcess.isProcessLoaded()).isFalse();
+    assertThat(deployedProcess.getProcess().getId())
+        .isEqualTo(processRecord.getBpmnProcessIdBuffer());
+    assertThat(deployedProcess.isProcessLoaded()).isTrue();
+  }
+
   @Test
   public void shouldReturnNullOnGetLatest() {
     // given
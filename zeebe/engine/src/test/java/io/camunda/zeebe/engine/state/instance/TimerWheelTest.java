@@ -0,0 +1,271 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class TimerWheelTest {
+
+  private static final long NOW = Duration.ofDays(20_000).toMillis();
+
+  private final TimerWheel wheel = new TimerWheel();
+
+  @BeforeEach
+  void setUp() {
+    wheel.rebuild(timers -> {});
+    collectDue(NOW);
+  }
+
+  @Test
+  void shouldNotAddTimersBeforeBuilt() {
+    // given
+    final var notBuiltWheel = new TimerWheel();
+
+    // when
+    notBuiltWheel.add(NOW, 1, 2);
+
+    // then
+    assertThat(notBuiltWheel.isReady()).isFalse();
+    assertThat(notBuiltWheel.size()).isZero();
+  }
+
+  @Test
+  void shouldCollectDueTimers() {
+    // given
+    wheel.add(NOW + 1_000, 1, 10);
+    wheel.add(NOW + 2_000, 2, 20);
+    wheel.add(NOW + 3_000, 3, 30);
+
+    // when
+    final var dueTimers = collectDue(NOW + 2_000);
+
+    // then
+    assertThat(dueTimers).containsExactlyInAnyOrder(10L, 20L);
+  }
+
+  @Test
+  void shouldKeepDueTimersUntilRemoved() {
+    // given
+    wheel.add(NOW + 1_000, 1, 10);
+    collectDue(NOW + 1_000);
+
+    // when
+    final var dueTimersBeforeRemoval = collectDue(NOW + 1_100);
+    wheel.remove(10);
+    final var dueTimersAfterRemoval = collectDue(NOW + 1_200);
+
+    // then
+    assertThat(dueTimersBeforeRemoval).containsExactly(10L);
+    assertThat(dueTimersAfterRemoval).isEmpty();
+  }
+
+  @Test
+  void shouldNotCollectTriggeredTimerAgain() {
+    // given
+    wheel.add(NOW + 1_000, 1, 10);
+    wheel.add(NOW + 1_000, 2, 20);
+    collectDue(NOW + 1_000);
+
+    // when
+    wheel.markTriggered(10, NOW + 1_000);
+    final var dueTimers = collectDue(NOW + 1_100);
+
+    // then
+    assertThat(dueTimers).containsExactly(20L);
+    assertThat(wheel.size()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldCollectTriggeredTimerAgainIfNotRemovedInTime() {
+    // given
+    wheel.add(NOW + 1_000, 1, 10);
+    collectDue(NOW + 1_000);
+    wheel.markTriggered(10, NOW + 1_000);
+
+    // when
+    final var nextDueDate = wheel.collectDue(NOW + 1_100, 10, (d, e, t) -> {});
+    final var dueTimersBeforeRetry = collectDue(NOW + 1_000 + TimerWheel.TRIGGER_RETRY_MILLIS - 1);
+    final var dueTimersAtRetry = collectDue(NOW + 1_000 + TimerWheel.TRIGGER_RETRY_MILLIS);
+
+    // then
+    assertThat(nextDueDate).isEqualTo(NOW + 1_000 + TimerWheel.TRIGGER_RETRY_MILLIS);
+    assertThat(dueTimersBeforeRetry).isEmpty();
+    assertThat(dueTimersAtRetry).containsExactly(10L);
+  }
+
+  @Test
+  void shouldCollectTriggeredTimerWhenAddedAgain() {
+    // given
+    wheel.add(NOW + 1_000, 1, 10);
+    collectDue(NOW + 1_000);
+    wheel.markTriggered(10, NOW + 1_000);
+
+    // when
+    wheel.add(NOW + 2_000, 1, 10);
+
+    // then
+    assertThat(collectDue(NOW + 1_900)).isEmpty();
+    assertThat(collectDue(NOW + 2_000)).containsExactly(10L);
+  }
+
+  @Test
+  void shouldNotCollectRemovedTimer() {
+    // given
+    wheel.add(NOW + 1_000, 1, 10);
+    wheel.add(NOW + 1_000, 2, 20);
+
+    // when
+    wheel.remove(10);
+
+    // then
+    assertThat(collectDue(NOW + 1_000)).containsExactly(20L);
+  }
+
+  @Test
+  void shouldMoveTimerWhenAddedAgain() {
+    // given
+    wheel.add(NOW + 1_000, 1, 10);
+
+    // when
+    wheel.add(NOW + 5_000, 1, 10);
+
+    // then
+    assertThat(collectDue(NOW + 1_000)).isEmpty();
+    assertThat(collectDue(NOW + 5_000)).containsExactly(10L);
+    assertThat(wheel.size()).isOne();
+  }
+
+  @Test
+  void shouldCollectTimerWhichIsAlreadyDue() {
+    // given
+    wheel.add(NOW - 1_000, 1, 10);
+
+    // when
+    final var dueTimers = collectDue(NOW);
+
+    // then
+    assertThat(dueTimers).containsExactly(10L);
+  }
+
+  @Test
+  void shouldReturnNextDueDateLowerBound() {
+    // given
+    final var dueDate = NOW + Duration.ofMinutes(10).toMillis();
+    wheel.add(dueDate, 1, 10);
+
+    // when
+    final var nextDueDate = wheel.collectDue(NOW, 10, (d, e, t) -> {});
+
+    // then
+    assertThat(nextDueDate).isGreaterThan(NOW).isLessThanOrEqualTo(dueDate);
+  }
+
+  @Test
+  void shouldReturnNoNextDueDateIfEmpty() {
+    // when
+    final var nextDueDate = wheel.collectDue(NOW + 1_000, 10, (d, e, t) -> {});
+
+    // then
+    assertThat(nextDueDate).isEqualTo(-1);
+  }
+
+  @Test
+  void shouldReturnDueDateOfTimersExceedingLimit() {
+    // given
+    wheel.add(NOW + 100, 1, 10);
+    wheel.add(NOW + 200, 2, 20);
+
+    // when
+    final var collected = new ArrayList<Long>();
+    final var nextDueDate = wheel.collectDue(NOW + 200, 1, (d, e, t) -> collected.add(t));
+
+    // then
+    assertThat(collected).hasSize(1);
+    assertThat(nextDueDate).isLessThanOrEqualTo(NOW + 200);
+  }
+
+  @Test
+  void shouldCollectTimersDueInFarFuture() {
+    // given - beyond the range of the wheel levels, which is about 19 days
+    final var dueDate = NOW + Duration.ofDays(60).toMillis();
+    wheel.add(dueDate, 1, 10);
+
+    // when
+    final var dueTimersBefore = collectDue(dueDate - 1);
+    final var dueTimersAt = collectDue(dueDate);
+
+    // then
+    assertThat(dueTimersBefore).isEmpty();
+    assertThat(dueTimersAt).containsExactly(10L);
+  }
+
+  @Test
+  void shouldReplaceTimersOnRebuild() {
+    // given
+    wheel.add(NOW + 1_000, 1, 10);
+
+    // when
+    wheel.rebuild(timers -> timers.accept(NOW + 2_000, 2, 20));
+
+    // then
+    assertThat(collectDue(NOW + 2_000)).containsExactly(20L);
+    assertThat(wheel.size()).isOne();
+  }
+
+  @Test
+  void shouldCollectTimersInDueDateOrderWhileAdvancing() {
+    // given - timers spread over all levels, which are collected while advancing in small steps
+    final var random = new Random(42);
+    final var expected = new TreeMap<Long, List<Long>>();
+    final var maxDelay = Duration.ofDays(30).toMillis();
+    for (long timerKey = 1; timerKey <= 10_000; timerKey++) {
+      final var dueDate = NOW + (long) (random.nextDouble() * maxDelay);
+      wheel.add(dueDate, timerKey, timerKey);
+      expected.computeIfAbsent(dueDate, d -> new ArrayList<>()).add(timerKey);
+    }
+
+    // when
+    var now = NOW;
+    final var step = Duration.ofMinutes(5).toMillis();
+    while (!expected.isEmpty()) {
+      now += step;
+      final var due = expected.headMap(now, true);
+      final var expectedKeys = due.values().stream().flatMap(List::stream).toList();
+
+      // then - exactly the timers which are due are collected
+      final var collected = collectDue(now);
+      assertThat(collected).containsExactlyInAnyOrderElementsOf(expectedKeys);
+
+      collected.forEach(wheel::remove);
+      due.clear();
+
+      if (!expected.isEmpty()) {
+        final var nextDueDate = wheel.collectDue(now, 0, (d, e, t) -> {});
+        assertThat(nextDueDate).isLessThanOrEqualTo(expected.firstKey());
+      }
+    }
+    assertThat(wheel.size()).isZero();
+  }
+
+  private List<Long> collectDue(final long timestamp) {
+    final var timerKeys = new ArrayList<Long>();
+    wheel.collectDue(
+        timestamp,
+        Integer.MAX_VALUE,
+        (dueDate, elementInstanceKey, timerKey) -> timerKeys.add(timerKey));
+    return timerKeys;
+  }
+}
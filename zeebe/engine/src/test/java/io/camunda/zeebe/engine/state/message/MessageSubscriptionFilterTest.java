@@ -0,0 +1,126 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.message;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.metrics.MessageSubscriptionFilterMetrics;
+import org.junit.jupiter.api.Test;
+
+final class MessageSubscriptionFilterTest {
+
+  private static final long SUBSCRIPTION = hash("message", "key-1");
+  private static final long OTHER_SUBSCRIPTION = hash("message", "key-2");
+
+  private final MessageSubscriptionFilter filter =
+      new MessageSubscriptionFilter(1024, new MessageSubscriptionFilterMetrics(1));
+
+  @Test
+  void shouldContainAnySubscriptionUntilBuilt() {
+    // when
+    filter.add(SUBSCRIPTION);
+
+    // then
+    assertThat(filter.isReady()).isFalse();
+    assertThat(filter.mightContain(OTHER_SUBSCRIPTION)).isTrue();
+  }
+
+  @Test
+  void shouldContainSubscriptionsOfRebuild() {
+    // when
+    filter.rebuild(subscriptions -> subscriptions.accept(SUBSCRIPTION));
+
+    // then
+    assertThat(filter.mightContain(SUBSCRIPTION)).isTrue();
+    assertThat(filter.mightContain(OTHER_SUBSCRIPTION)).isFalse();
+  }
+
+  @Test
+  void shouldContainAddedSubscription() {
+    // given
+    filter.rebuild(subscriptions -> {});
+
+    // when
+    filter.add(SUBSCRIPTION);
+
+    // then
+    assertThat(filter.mightContain(SUBSCRIPTION)).isTrue();
+  }
+
+  @Test
+  void shouldRemoveSubscriptionOnlyOnFlush() {
+    // given
+    filter.rebuild(subscriptions -> subscriptions.accept(SUBSCRIPTION));
+    filter.remove(SUBSCRIPTION);
+    assertThat(filter.mightContain(SUBSCRIPTION)).isTrue();
+
+    // when
+    filter.flushPendingRemovals();
+
+    // then
+    assertThat(filter.mightContain(SUBSCRIPTION)).isFalse();
+  }
+
+  @Test
+  void shouldKeepSubscriptionIfRemovalIsDiscarded() {
+    // given
+    filter.rebuild(subscriptions -> subscriptions.accept(SUBSCRIPTION));
+    filter.remove(SUBSCRIPTION);
+
+    // when
+    filter.discardPendingRemovals();
+    filter.flushPendingRemovals();
+
+    // then
+    assertThat(filter.mightContain(SUBSCRIPTION)).isTrue();
+  }
+
+  @Test
+  void shouldKeepSubscriptionWithSameNameAndCorrelationKey() {
+    // given
+    filter.rebuild(subscriptions -> {});
+    filter.add(SUBSCRIPTION);
+    filter.add(SUBSCRIPTION);
+
+    // when
+    filter.remove(SUBSCRIPTION);
+    filter.flushPendingRemovals();
+
+    // then
+    assertThat(filter.mightContain(SUBSCRIPTION)).isTrue();
+  }
+
+  @Test
+  void shouldDistinguishFieldsOfHash() {
+    // when
+    final var hash = hash("ab", "c");
+    final var otherHash = hash("a", "bc");
+
+    // then
+    assertThat(hash).isNotEqualTo(otherHash);
+  }
+
+  @Test
+  void shouldNeverBeReadyIfDisabled() {
+    // given
+    final var disabledFilter = MessageSubscriptionFilter.disabled();
+
+    // when
+    disabledFilter.rebuild(subscriptions -> subscriptions.accept(SUBSCRIPTION));
+
+    // then
+    assertThat(disabledFilter.isReady()).isFalse();
+    assertThat(disabledFilter.mightContain(OTHER_SUBSCRIPTION)).isTrue();
+  }
+
+  private static long hash(final String messageName, final String correlationKey) {
+    return MessageSubscriptionFilter.hash(
+        "<default>", wrapString(messageName), wrapString(correlationKey));
+  }
+}
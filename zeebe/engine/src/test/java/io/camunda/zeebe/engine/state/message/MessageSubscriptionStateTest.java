@@ -184,6 +184,30 @@ public final class MessageSubscriptionStateTest {
     assertThat(keys).hasSize(1).contains(1L);
   }
 
+  @Test
+  public void shouldVisitSubscriptionsWithBuiltFilter() {
+    // given
+    state.put(1L, subscription("messageName", "correlationKey", 1L));
+    ((DbMessageSubscriptionState) state).onRecovered(null);
+    state.put(2L, subscription("messageName", "correlationKey", 2L));
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    state.visitSubscriptions(
+        DEFAULT_TENANT,
+        wrapString("messageName"),
+        wrapString("correlationKey"),
+        s -> keys.add(s.getRecord().getElementInstanceKey()));
+    state.visitSubscriptions(
+        DEFAULT_TENANT,
+        wrapString("messageName"),
+        wrapString("otherCorrelationKey"),
+        s -> keys.add(s.getRecord().getElementInstanceKey()));
+
+    // then
+    assertThat(keys).containsExactly(1L, 2L);
+  }
+
   private MessageSubscriptionRecord subscriptionWithElementInstanceKey(
       final long elementInstanceKey) {
     return subscription("messageName", "correlationKey", elementInstanceKey);
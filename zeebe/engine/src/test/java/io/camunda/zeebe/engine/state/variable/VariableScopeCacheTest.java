@@ -0,0 +1,203 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.variable;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static io.camunda.zeebe.test.util.MsgPackUtil.assertEquality;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.metrics.VariableScopeCacheMetrics;
+import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.camunda.zeebe.engine.state.immutable.VariableState;
+import io.camunda.zeebe.engine.state.variable.VariableScopeCache.CachedScope;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import java.io.File;
+import java.util.List;
+import org.agrona.collections.MutableInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class VariableScopeCacheTest {
+
+  private static final long PROCESS_DEFINITION_KEY = 123;
+
+  private final VariableScopeCache cache =
+      new VariableScopeCache(100, new VariableScopeCacheMetrics(1));
+  private final MutableInteger loadedScopes = new MutableInteger();
+
+  private ZeebeDb<ZbColumnFamilies> db;
+  private TransactionContext transactionContext;
+  private DbVariableState variableState;
+
+  @BeforeEach
+  void setUp(final @TempDir File directory) {
+    db = DefaultZeebeDbFactory.defaultFactory().createDb(directory);
+    transactionContext = db.createContext();
+    variableState = new DbVariableState(db, transactionContext, cache);
+    variableState.onRecovered(null);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    db.close();
+  }
+
+  @Test
+  void shouldLoadScopeOnlyOnce() {
+    // given
+    cache.get(1, this::loadScope);
+
+    // when
+    final var cachedScope = cache.get(1, this::loadScope);
+
+    // then
+    assertThat(cachedScope.parentKey()).isEqualTo(1);
+    assertThat(loadedScopes.get()).isOne();
+  }
+
+  @Test
+  void shouldNotCacheModifiedScopeUntilReleased() {
+    // given
+    cache.get(1, this::loadScope);
+
+    // when
+    cache.invalidate(1);
+
+    // then
+    assertThat(cache.get(1, this::loadScope)).isNull();
+
+    cache.releaseModifiedScopes();
+    assertThat(cache.get(1, this::loadScope)).isNotNull();
+    assertThat(loadedScopes.get()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldNotCacheBeforeEnabled() {
+    // given
+    final var notRecoveredCache = new VariableScopeCache(100, new VariableScopeCacheMetrics(1));
+
+    // when
+    final var cachedScope = notRecoveredCache.get(1, this::loadScope);
+
+    // then
+    assertThat(cachedScope).isNull();
+    assertThat(loadedScopes.get()).isZero();
+  }
+
+  @Test
+  void shouldGetVariablesOfCachedScopes() {
+    // given
+    variableState.createScope(2, 1);
+    setVariable(1, "a", 1);
+    setVariable(2, "b", 2);
+    variableState.releaseModifiedScopes();
+    variableState.getVariable(2, wrapString("a"));
+
+    // when
+    final var a = variableState.getVariable(2, wrapString("a"));
+    final var b = variableState.getVariable(2, wrapString("b"));
+    final var c = variableState.getVariable(2, wrapString("c"));
+    final var document = variableState.getVariablesAsDocument(2);
+
+    // then
+    assertThat(a).isEqualTo(asMsgPack("1"));
+    assertThat(b).isEqualTo(asMsgPack("2"));
+    assertThat(c).isNull();
+    assertEquality(document, "{'a': 1, 'b': 2}");
+    assertThat(variableState.getVariablesAsDocument(2, List.of(wrapString("b"))))
+        .isEqualTo(asMsgPack("{'b': 2}"));
+    assertThat(variableState.getVariablesLocalAsDocument(1)).isEqualTo(asMsgPack("{'a': 1}"));
+  }
+
+  @Test
+  void shouldGetVariableWhichWasSetAfterCaching() {
+    // given
+    variableState.createScope(2, 1);
+    setVariable(1, "a", 1);
+    variableState.releaseModifiedScopes();
+    variableState.getVariable(2, wrapString("a"));
+
+    // when
+    setVariable(1, "a", 2);
+
+    // then
+    assertThat(variableState.getVariable(2, wrapString("a"))).isEqualTo(asMsgPack("2"));
+    variableState.releaseModifiedScopes();
+    assertThat(variableState.getVariable(2, wrapString("a"))).isEqualTo(asMsgPack("2"));
+  }
+
+  @Test
+  void shouldNotGetVariableOfRolledBackTransaction() throws Exception {
+    // given
+    variableState.createScope(2, 1);
+    setVariable(1, "a", 1);
+    variableState.releaseModifiedScopes();
+
+    // when
+    final var transaction = transactionContext.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          setVariable(1, "a", 2);
+          assertThat(variableState.getVariable(2, wrapString("a"))).isEqualTo(asMsgPack("2"));
+        });
+    transaction.rollback();
+    variableState.releaseModifiedScopes();
+
+    // then
+    assertThat(variableState.getVariable(2, wrapString("a"))).isEqualTo(asMsgPack("1"));
+  }
+
+  @Test
+  void shouldNotGetVariablesOfRemovedScope() {
+    // given
+    variableState.createScope(2, 1);
+    setVariable(2, "a", 1);
+    variableState.releaseModifiedScopes();
+    variableState.getVariable(2, wrapString("a"));
+
+    // when
+    variableState.removeScope(2);
+    variableState.releaseModifiedScopes();
+
+    // then
+    assertThat(variableState.getVariable(2, wrapString("a"))).isNull();
+    assertThat(variableState.getParentScopeKey(2)).isEqualTo(VariableState.NO_PARENT);
+  }
+
+  @Test
+  void shouldGetLargeVariableWhichIsNotCached() {
+    // given
+    final var largeValue = "x".repeat(VariableScopeCache.MAX_CACHED_VARIABLES_SIZE);
+    variableState.createScope(2, 1);
+    variableState.setVariableLocal(
+        1, 1, PROCESS_DEFINITION_KEY, wrapString("large"), asMsgPack("'" + largeValue + "'"));
+    variableState.releaseModifiedScopes();
+    variableState.getVariable(2, wrapString("large"));
+
+    // when
+    final var value = variableState.getVariable(2, wrapString("large"));
+
+    // then
+    assertThat(value).isEqualTo(asMsgPack("'" + largeValue + "'"));
+  }
+
+  private CachedScope loadScope(final long scopeKey) {
+    loadedScopes.increment();
+    return CachedScope.withoutVariables(scopeKey);
+  }
+
+  private void setVariable(final long scopeKey, final String name, final int value) {
+    variableState.setVariableLocal(
+        scopeKey, scopeKey, PROCESS_DEFINITION_KEY, wrapString(name), asMsgPack(value + ""));
+  }
+}
@@ -12,6 +12,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import io.camunda.zeebe.db.DbKey;
 import io.camunda.zeebe.db.DbValue;
+import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.processing.EngineProcessors;
 import io.camunda.zeebe.engine.processing.message.command.SubscriptionCommandSender;
 import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer;
@@ -446,6 +447,11 @@ public final class EngineRule extends ExternalResource {
     return this;
   }
 
+  public EngineRule withEngineConfig(final Consumer<EngineConfiguration> engineConfigModifier) {
+    environmentRule.withEngineConfig(engineConfigModifier);
+    return this;
+  }
+
   public void interceptInterPartitionCommands(final CommandInterceptor interceptor) {
     if (interPartitionCommandSenders == null) {
       throw new IllegalStateException(
@@ -10,6 +10,7 @@ package io.camunda.zeebe.engine.util;
 import static io.camunda.zeebe.engine.util.StreamProcessingComposite.getLogName;
 
 import io.camunda.zeebe.db.ZeebeDbFactory;
+import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessorFactory;
 import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
@@ -66,6 +67,7 @@ public final class StreamProcessorRule implements TestRule, CommandWriter {
   private ListLogStorage sharedStorage = null;
   private StreamProcessorMode streamProcessorMode = StreamProcessorMode.PROCESSING;
   private int maxCommandsInBatch = StreamProcessorContext.DEFAULT_MAX_COMMANDS_IN_BATCH;
+  private Consumer<EngineConfiguration> engineConfigModifier = config -> {};
 
   public StreamProcessorRule() {
     this(new TemporaryFolder());
@@ -269,6 +271,10 @@ public final class StreamProcessorRule implements TestRule, CommandWriter {
     this.maxCommandsInBatch = maxCommandsInBatch;
   }
 
+  public void withEngineConfig(final Consumer<EngineConfiguration> engineConfigModifier) {
+    this.engineConfigModifier = engineConfigModifier;
+  }
+
   private class SetupRule extends ExternalResource {
 
     private final int startPartitionId;
@@ -284,6 +290,7 @@ public final class StreamProcessorRule implements TestRule, CommandWriter {
       streams = new TestStreams(tempFolder, closeables, actorSchedulerRule.get(), clock);
       streams.withStreamProcessorMode(streamProcessorMode);
       streams.maxCommandsInBatch(maxCommandsInBatch);
+      streams.withEngineConfig(engineConfigModifier);
 
       int partitionId = startPartitionId;
       for (int i = 0; i < partitionCount; i++) {
@@ -95,6 +95,7 @@ public final class TestStreams {
   private boolean snapshotWasTaken = false;
   private StreamProcessorMode streamProcessorMode = StreamProcessorMode.PROCESSING;
   private int maxCommandsInBatch = StreamProcessorContext.DEFAULT_MAX_COMMANDS_IN_BATCH;
+  private Consumer<EngineConfiguration> engineConfigModifier = config -> {};
   private ListLogStorage listLogStorage;
 
   public TestStreams(
@@ -274,6 +275,9 @@ public final class TestStreams {
     final var streamProcessorListeners = new ArrayList<StreamProcessorListener>();
     streamProcessorListenerOpt.ifPresent(streamProcessorListeners::add);
 
+    final var engineConfiguration = new EngineConfiguration();
+    engineConfigModifier.accept(engineConfiguration);
+
     final var builder =
         StreamProcessor.builder()
             .logStream(stream.getAsyncLogStream())
@@ -281,7 +285,7 @@ public final class TestStreams {
             .actorSchedulingService(actorScheduler)
             .commandResponseWriter(mockCommandResponseWriter)
             .listener(new StreamProcessorListenerRelay(streamProcessorListeners))
-            .recordProcessors(List.of(new Engine(wrappedFactory, new EngineConfiguration())))
+            .recordProcessors(List.of(new Engine(wrappedFactory, engineConfiguration)))
             .streamProcessorMode(streamProcessorMode)
             .maxCommandsInBatch(maxCommandsInBatch)
             .partitionCommandSender(mock(InterPartitionCommandSender.class))
@@ -358,6 +362,10 @@ public final class TestStreams {
     this.maxCommandsInBatch = maxCommandsInBatch;
   }
 
+  public void withEngineConfig(final Consumer<EngineConfiguration> engineConfigModifier) {
+    this.engineConfigModifier = engineConfigModifier;
+  }
+
   public MutableProcessingState getProcessingState(final String streamName) {
     return Optional.ofNullable(streamContextMap.get(streamName))
         .map(c -> c.processingState)
@@ -18,6 +18,7 @@ package io.camunda.zeebe.exporter.api;
 import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.exporter.api.context.Controller;
 import io.camunda.zeebe.protocol.record.Record;
+import java.util.List;
 
 /**
  * Minimal interface to be implemented by concrete exporters.
@@ -73,4 +74,24 @@ public interface Exporter {
    * @param record the record to export
    */
   void export(Record<?> record);
+
+  /**
+   * Called with a batch of records to be exported, in the order of their positions. The default
+   * implementation calls {@link #export(Record)} for each record. Exporters which can write many
+   * records at once, e.g. in a single request, can override it to save the overhead per record.
+   *
+   * <p>Should the method throw an unexpected {@link RuntimeException}, it will be called again with
+   * the same records, including those which may have been exported before the exception was thrown,
+   * until it terminates without any exception. An exporter which does not override this method
+   * receives only the records again which were not exported yet.
+   *
+   * <p>The given list and its records are only valid during this call, see {@link #export(Record)}.
+   *
+   * @param records the records to export, never empty
+   */
+  default void exportBatch(final List<Record<?>> records) {
+    for (final Record<?> record : records) {
+      export(record);
+    }
+  }
 }
@@ -7,33 +7,41 @@
  */
 package io.camunda.zeebe.exporter;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser.Feature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.annotation.JsonAppend;
 import io.camunda.zeebe.exporter.dto.BulkIndexAction;
 import io.camunda.zeebe.protocol.record.Record;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import org.apache.http.entity.ContentProducer;
 
 /**
  * Buffers indexing requests of records. Each bulk operation is serialized before being buffered to
- * avoid having to serialize it again on retry.
+ * avoid having to serialize it again on retry. The operations are streamed directly as nd-json into
+ * a single buffer, which is reused for the next bulk request after clearing it.
  */
 final class BulkIndexRequest implements ContentProducer {
 
   private static final ObjectMapper MAPPER =
       new ObjectMapper()
           .addMixIn(Record.class, RecordSequenceMixin.class)
-          .enable(Feature.ALLOW_SINGLE_QUOTES);
+          .enable(Feature.ALLOW_SINGLE_QUOTES)
+          .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+  private static final ObjectWriter METADATA_WRITER = MAPPER.writerFor(BulkIndexAction.class);
 
   // The property of the ES record template to store the sequence of the record.
   private static final String RECORD_SEQUENCE_PROPERTY = "sequence";
 
   private final List<BulkOperation> operations = new ArrayList<>();
+  private final BulkBuffer buffer = new BulkBuffer();
 
   private BulkIndexAction lastIndexedMetadata;
   private int memoryUsageBytes = 0;
@@ -56,31 +64,39 @@ final class BulkIndexRequest implements ContentProducer {
       return;
     }
 
-    final byte[] source;
+    final int operationOffset = buffer.size();
+    final int sourceOffset;
     try {
-      source = serializeRecord(record, recordSequence);
-
+      METADATA_WRITER.writeValue(buffer, action);
+      buffer.write('\n');
+      sourceOffset = buffer.size();
+      serializeRecord(record, recordSequence, buffer);
+      buffer.write('\n');
     } catch (final IOException e) {
+      // drop the partially written operation, such that the buffer contains only valid operations
+      buffer.truncate(operationOffset);
       throw new ElasticsearchExporterException(
           String.format("Failed to serialize record to JSON for indexing action %s", action), e);
     }
 
-    final BulkOperation command = new BulkOperation(action, source);
-    memoryUsageBytes += command.source().length;
+    final BulkOperation command =
+        new BulkOperation(action, sourceOffset, buffer.size() - 1 - sourceOffset);
+    memoryUsageBytes += command.sourceLength();
     lastIndexedMetadata = action;
     operations.add(command);
   }
 
-  private static byte[] serializeRecord(final Record<?> record, final RecordSequence recordSequence)
+  private static void serializeRecord(
+      final Record<?> record, final RecordSequence recordSequence, final OutputStream output)
       throws IOException {
-    return MAPPER
+    MAPPER
         .writer()
         // Enhance the serialized record by its sequence number. The sequence number is not a part
         // of the record itself but a special property for Elasticsearch. It can be used to limit
         // the number of records when reading from the index, for example, by using a range query.
         // Read https://github.com/camunda/camunda/issues/10568 for details.
         .withAttribute(RECORD_SEQUENCE_PROPERTY, recordSequence.sequence())
-        .writeValueAsBytes(record);
+        .writeValue(output, record);
   }
 
   /** Returns the number of operations indexed so far. */
@@ -98,9 +114,10 @@ final class BulkIndexRequest implements ContentProducer {
     return operations.isEmpty();
   }
 
-  /** Clears the buffer entirely. */
+  /** Clears the buffer entirely, but keeps its capacity to reuse it for the next operations. */
   void clear() {
     operations.clear();
+    buffer.reset();
     memoryUsageBytes = 0;
     lastIndexedMetadata = null;
   }
@@ -115,22 +132,38 @@ final class BulkIndexRequest implements ContentProducer {
     return Collections.unmodifiableList(operations);
   }
 
+  /** Returns a copy of the serialized source of the given operation. */
+  byte[] source(final BulkOperation operation) {
+    return buffer.copyOf(operation.sourceOffset(), operation.sourceLength());
+  }
+
   /**
    * Writes the JSON serialized entries, separated by a line ending for each, effectively writing
    * nd-json.
    */
   @Override
   public void writeTo(final OutputStream outStream) throws IOException {
-    for (final var operation : operations) {
-      MAPPER.writeValue(outStream, operation.metadata());
-      outStream.write('\n');
-      outStream.write(operation.source());
-      outStream.write('\n');
-    }
+    buffer.writeTo(outStream);
   }
 
-  record BulkOperation(BulkIndexAction metadata, byte[] source) {}
+  record BulkOperation(BulkIndexAction metadata, int sourceOffset, int sourceLength) {}
 
   @JsonAppend(attrs = {@JsonAppend.Attr(value = RECORD_SEQUENCE_PROPERTY)})
   private static final class RecordSequenceMixin {}
+
+  /** A byte array output stream, which can drop the bytes written after a given offset. */
+  private static final class BulkBuffer extends ByteArrayOutputStream {
+
+    private BulkBuffer() {
+      super(4096);
+    }
+
+    private void truncate(final int size) {
+      count = size;
+    }
+
+    private byte[] copyOf(final int offset, final int length) {
+      return Arrays.copyOfRange(buf, offset, offset + length);
+    }
+  }
 }
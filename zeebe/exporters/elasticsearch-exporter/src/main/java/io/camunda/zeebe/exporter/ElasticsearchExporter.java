@@ -9,6 +9,7 @@ package io.camunda.zeebe.exporter;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.zeebe.exporter.ElasticsearchClient.InFlightBulk;
 import io.camunda.zeebe.exporter.ElasticsearchExporterConfiguration.IndexConfiguration;
 import io.camunda.zeebe.exporter.api.Exporter;
 import io.camunda.zeebe.exporter.api.ExporterException;
@@ -22,6 +23,8 @@ import java.io.IOException;
 import java.time.Duration;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import org.slf4j.Logger;
@@ -47,6 +50,8 @@ public class ElasticsearchExporter implements Exporter {
 
   private final ElasticsearchExporterMetadata exporterMetadata =
       new ElasticsearchExporterMetadata();
+  // the bulks which are in flight, ordered by their position
+  private final Deque<PendingBulk> pendingBulks = new ArrayDeque<>();
 
   private Controller controller;
   private ElasticsearchExporterConfiguration configuration;
@@ -92,8 +97,11 @@ public class ElasticsearchExporter implements Exporter {
   public void close() {
 
     try {
-      flush();
-      updateLastExportedPosition();
+      awaitPendingBulks();
+      if (pendingBulks.isEmpty()) {
+        flush();
+        updateLastExportedPosition();
+      }
     } catch (final Exception e) {
       log.warn("Failed to flush records before closing exporter.", e);
     }
@@ -115,11 +123,22 @@ public class ElasticsearchExporter implements Exporter {
       updateRetentionPolicyForExistingIndices();
     }
 
+    if (isFlushingAsync()) {
+      // wait before indexing the record, otherwise it would be indexed again if the exporter is
+      // invoked with the same record after a failure
+      awaitFlushCapacity();
+    }
+
     final var recordSequence = recordCounters.getNextRecordSequence(record);
     client.index(record, recordSequence);
     lastPosition = record.getPosition();
 
-    if (client.shouldFlush()) {
+    if (isFlushingAsync()) {
+      recordCounters.updateRecordCounters(record, recordSequence);
+      if (client.shouldFlush()) {
+        flushAsync();
+      }
+    } else if (client.shouldFlush()) {
       flush();
       // Update the record counters only after the flush was successful. If the synchronous flush
       // fails then the exporter will be invoked with the same record again.
@@ -141,6 +160,13 @@ public class ElasticsearchExporter implements Exporter {
               configuration.index.prefix));
     }
 
+    if (configuration.bulk.maxInFlightRequests < 1) {
+      throw new ExporterException(
+          String.format(
+              "Elasticsearch bulk maxInFlightRequests must be >= 1. Current value: %d",
+              configuration.bulk.maxInFlightRequests));
+    }
+
     if (configuration.bulk.memoryLimit > RECOMMENDED_MAX_BULK_MEMORY_LIMIT) {
       log.warn(
           "The bulk memory limit is set to more than {} bytes. It is recommended to set the limit between 5 to 15 MB.",
@@ -188,8 +214,19 @@ public class ElasticsearchExporter implements Exporter {
 
   private void flushAndReschedule() {
     try {
-      flush();
-      updateLastExportedPosition();
+      if (isFlushingAsync()) {
+        acknowledgeFlushedBulks();
+        if (pendingBulks.size() < configuration.bulk.maxInFlightRequests) {
+          flushAsync();
+        }
+        if (pendingBulks.isEmpty()) {
+          // nothing is in flight, e.g. after skipped records were acknowledged by the broker
+          updateLastExportedPosition();
+        }
+      } else {
+        flush();
+        updateLastExportedPosition();
+      }
     } catch (final Exception e) {
       log.warn("Unexpected exception occurred on periodically flushing bulk, will retry later.", e);
     }
@@ -205,10 +242,78 @@ public class ElasticsearchExporter implements Exporter {
     client.flush();
   }
 
+  private boolean isFlushingAsync() {
+    return configuration.bulk.maxInFlightRequests > 1;
+  }
+
+  private void flushAsync() {
+    final InFlightBulk bulk = client.flushAsync();
+    if (bulk != null) {
+      pendingBulks.add(new PendingBulk(bulk, lastPosition, serializeExporterMetadata()));
+    }
+  }
+
+  /**
+   * Updates the last exported position to the position of the last bulk which was acknowledged,
+   * after all bulks before it were acknowledged too. A failed bulk is sent again, and blocks the
+   * position until it was acknowledged.
+   */
+  private void acknowledgeFlushedBulks() {
+    PendingBulk acknowledged = null;
+    while (!pendingBulks.isEmpty() && pendingBulks.peek().bulk().isDone()) {
+      final var head = pendingBulks.peek();
+      if (head.bulk().isFailed()) {
+        log.warn(
+            "Failed to flush bulk up to position {}, will retry.",
+            head.position(),
+            head.bulk().failure());
+        client.retry(head.bulk());
+        break;
+      }
+
+      pendingBulks.remove();
+      client.release(head.bulk());
+      acknowledged = head;
+    }
+
+    if (acknowledged != null) {
+      controller.updateLastExportedRecordPosition(acknowledged.position(), acknowledged.metadata());
+    }
+  }
+
+  /**
+   * Blocks until less than the maximum number of bulks are in flight.
+   *
+   * @throws ElasticsearchExporterException if the oldest bulk failed; it is retried already
+   */
+  private void awaitFlushCapacity() {
+    acknowledgeFlushedBulks();
+    while (pendingBulks.size() >= configuration.bulk.maxInFlightRequests) {
+      final var head = pendingBulks.peek();
+      head.bulk().awaitResponse();
+      final var failure = head.bulk().isFailed() ? head.bulk().failure() : null;
+      acknowledgeFlushedBulks();
+
+      if (failure != null) {
+        throw new ElasticsearchExporterException("Failed to flush bulk", failure);
+      }
+    }
+  }
+
+  private void awaitPendingBulks() {
+    for (final var pendingBulk : pendingBulks) {
+      pendingBulk.bulk().awaitResponse();
+    }
+    acknowledgeFlushedBulks();
+  }
+
   private void updateLastExportedPosition() {
+    controller.updateLastExportedRecordPosition(lastPosition, serializeExporterMetadata());
+  }
+
+  private byte[] serializeExporterMetadata() {
     exporterMetadata.setRecordCountersByValueType(recordCounters.getRecordCounters());
-    final var serializeExporterMetadata = serializeExporterMetadata(exporterMetadata);
-    controller.updateLastExportedRecordPosition(lastPosition, serializeExporterMetadata);
+    return serializeExporterMetadata(exporterMetadata);
   }
 
   private byte[] serializeExporterMetadata(final ElasticsearchExporterMetadata metadata) {
@@ -381,6 +486,9 @@ public class ElasticsearchExporter implements Exporter {
     }
   }
 
+  /** A bulk which is in flight, with the position and metadata to update once acknowledged. */
+  private record PendingBulk(InFlightBulk bulk, long position, byte[] metadata) {}
+
   private static class ElasticsearchRecordFilter implements Context.RecordFilter {
 
     private final ElasticsearchExporterConfiguration configuration;
@@ -12,6 +12,7 @@ import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public class ElasticsearchMetrics {
@@ -21,7 +22,9 @@ public class ElasticsearchMetrics {
   private final String partitionIdLabel;
   private final MeterRegistry meterRegistry;
   private final AtomicInteger bulkMemorySize = new AtomicInteger(0);
+  private final AtomicInteger inFlightBulks = new AtomicInteger(0);
   private final Timer flushDuration;
+  private final Timer bulkLatency;
   private final DistributionSummary bulkSize;
   private final Counter failedFlush;
 
@@ -34,6 +37,18 @@ public class ElasticsearchMetrics {
         .description("Exporter bulk memory size")
         .register(meterRegistry);
 
+    Gauge.builder(meterName("bulk.inflight"), inFlightBulks, AtomicInteger::get)
+        .tags(PARTITION_LABEL, partitionIdLabel)
+        .description("Number of bulk requests which were sent, but not yet acknowledged")
+        .register(meterRegistry);
+
+    bulkLatency =
+        Timer.builder(meterName("bulk.latency.seconds"))
+            .description("Time between sending a bulk request and receiving its response")
+            .tags(PARTITION_LABEL, partitionIdLabel)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+
     flushDuration =
         Timer.builder(meterName("flush.duration.seconds"))
             .description("Flush duration of bulk exporters in seconds")
@@ -67,6 +82,15 @@ public class ElasticsearchMetrics {
     this.bulkMemorySize.set(bulkMemorySize);
   }
 
+  public void recordBulkSent() {
+    inFlightBulks.incrementAndGet();
+  }
+
+  public void recordBulkCompleted(final long latencyNanos) {
+    inFlightBulks.decrementAndGet();
+    bulkLatency.record(latencyNanos, TimeUnit.NANOSECONDS);
+  }
+
   public void recordFailedFlush() {
     failedFlush.increment();
   }
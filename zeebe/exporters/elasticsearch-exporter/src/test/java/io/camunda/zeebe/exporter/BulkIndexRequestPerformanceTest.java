@@ -0,0 +1,99 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter;
+
+import io.camunda.zeebe.exporter.dto.BulkIndexAction;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordValue;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.test.broker.protocol.ProtocolFactory;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+
+/**
+ * Measures how fast a bulk request of records of the given value type is serialized and written, as
+ * the exporter does on every flush. Every operation indexes {@link #BULK_SIZE} records, writes the
+ * bulk body and clears the request, so the buffer of the request is reused.
+ *
+ * <p>Run it with the GC profiler (e.g. {@code -prof gc}) to measure the allocation rate per
+ * operation, see {@code gc.alloc.rate.norm}.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 20, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class BulkIndexRequestPerformanceTest {
+  private static final int BULK_SIZE = 1000;
+  private static final int PARTITION_ID = 1;
+
+  @Param({"JOB", "PROCESS_INSTANCE", "VARIABLE", "DEPLOYMENT"})
+  private ValueType valueType;
+
+  private final BulkIndexRequest request = new BulkIndexRequest();
+  private final List<Record<RecordValue>> records = new ArrayList<>();
+  private final List<BulkIndexAction> actions = new ArrayList<>();
+
+  @Setup
+  public void setup() {
+    final var recordFactory = new ProtocolFactory();
+    for (int i = 0; i < BULK_SIZE; i++) {
+      records.add(recordFactory.generateRecord(valueType));
+      actions.add(
+          new BulkIndexAction("index", PARTITION_ID + "-" + i, String.valueOf(PARTITION_ID)));
+    }
+  }
+
+  @Benchmark
+  public int measureBulkSerialization() throws IOException {
+    for (int i = 0; i < BULK_SIZE; i++) {
+      request.index(actions.get(i), records.get(i), new RecordSequence(PARTITION_ID, i));
+    }
+
+    request.writeTo(OutputStream.nullOutputStream());
+    final var size = request.size();
+    request.clear();
+    return size;
+  }
+
+  @JMHTest("measureBulkSerialization")
+  void shouldSerializeBulkWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - a conservative ops/s score; each op serializes a bulk of 1000 records
+    final var referenceScore = 50;
+
+    // when
+    final var assertResult =
+        testCase
+            .withOptions(
+                options ->
+                    options.param("valueType", "PROCESS_INSTANCE").addProfiler(GCProfiler.class))
+            .run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+}
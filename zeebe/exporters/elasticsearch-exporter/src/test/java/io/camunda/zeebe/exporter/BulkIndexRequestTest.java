@@ -197,6 +197,55 @@ final class BulkIndexRequestTest {
               Tuple.tuple(actions.get(1), records.get(1)));
     }
 
+    @Test
+    void shouldWriteSameOperationsOnRetry() throws IOException {
+      // given
+      final var records = recordFactory.generateRecords().limit(2).toList();
+      request.index(
+          new BulkIndexAction("index", "id", "routing"),
+          records.get(0),
+          new RecordSequence(PARTITION_ID, 1));
+      request.index(
+          new BulkIndexAction("index2", "id2", "routing2"),
+          records.get(1),
+          new RecordSequence(PARTITION_ID, 2));
+
+      // when
+      final var firstAttempt = new ByteArrayOutputStream();
+      final var secondAttempt = new ByteArrayOutputStream();
+      request.writeTo(firstAttempt);
+      request.writeTo(secondAttempt);
+
+      // then
+      assertThat(secondAttempt.toByteArray()).isEqualTo(firstAttempt.toByteArray());
+    }
+
+    @Test
+    void shouldWriteOnlyOperationsIndexedAfterClear() throws IOException {
+      // given
+      final var records = recordFactory.generateRecords().limit(2).toList();
+      final var action = new BulkIndexAction("index2", "id2", "routing2");
+      request.index(
+          new BulkIndexAction("index", "id", "routing"),
+          records.get(0),
+          new RecordSequence(PARTITION_ID, 1));
+      request.clear();
+
+      // when
+      request.index(action, records.get(1), new RecordSequence(PARTITION_ID, 2));
+
+      // then
+      final var output = new ByteArrayOutputStream();
+      request.writeTo(output);
+      try (final var input =
+          new BufferedReader(
+              new InputStreamReader(new ByteArrayInputStream(output.toByteArray())))) {
+        assertThat(deserializeOperation(input.readLine().getBytes(), input.readLine().getBytes()))
+            .isEqualTo(Tuple.tuple(action, records.get(1)));
+        assertThat(input.readLine()).isNull();
+      }
+    }
+
     @Test
     void shouldIndexRecordWithSequence() {
       // given
@@ -217,7 +266,7 @@ final class BulkIndexRequestTest {
       // then
       assertThat(request.bulkOperations())
           .hasSize(2)
-          .map(operation -> MAPPER.readValue(operation.source(), MAP_TYPE_REFERENCE))
+          .map(operation -> MAPPER.readValue(request.source(operation), MAP_TYPE_REFERENCE))
           .extracting(source -> source.get("sequence"))
           .describedAs("Expect that the records are serialized with the sequences")
           .containsExactly(recordSequences.get(0).sequence(), recordSequences.get(1).sequence());
@@ -225,7 +274,7 @@ final class BulkIndexRequestTest {
 
     private Record<?> deserializeSource(final BulkOperation operation) {
       try {
-        return MAPPER.readValue(operation.source(), new TypeReference<>() {});
+        return MAPPER.readValue(request.source(operation), new TypeReference<>() {});
       } catch (final IOException e) {
         throw new UncheckedIOException(
             String.format("Failed to deserialize operation [%s] source", operation.metadata()), e);
@@ -0,0 +1,146 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.camunda.zeebe.exporter.test.ExporterTestConfiguration;
+import io.camunda.zeebe.exporter.test.ExporterTestContext;
+import io.camunda.zeebe.exporter.test.ExporterTestController;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordValue;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.test.broker.protocol.ProtocolFactory;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many records the exporter exports per second against a local mock bulk endpoint,
+ * which responds to every bulk request after {@link #BULK_LATENCY_MS}. Every operation exports
+ * {@link #RECORDS} records, which are flushed in bulks of {@link #BULK_SIZE} records, so the score
+ * is dominated by how many bulk requests are in flight at the same time.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class ElasticsearchExporterPerformanceTest {
+  private static final int RECORDS = 1000;
+  private static final int BULK_SIZE = 100;
+  private static final long BULK_LATENCY_MS = 5;
+  private static final byte[] BULK_RESPONSE =
+      "{\"errors\":false,\"items\":[]}".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] ACKNOWLEDGED_RESPONSE =
+      "{\"acknowledged\":true}".getBytes(StandardCharsets.UTF_8);
+
+  @Param({"1", "4"})
+  private int maxInFlightRequests;
+
+  private final List<Record<RecordValue>> records = new ArrayList<>();
+  private final ExecutorService serverExecutor = Executors.newFixedThreadPool(8);
+  private HttpServer server;
+  private ElasticsearchExporter exporter;
+
+  @Setup
+  public void setup() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext("/", ElasticsearchExporterPerformanceTest::respond);
+    server.setExecutor(serverExecutor);
+    server.start();
+
+    final var config = new ElasticsearchExporterConfiguration();
+    config.url = "http://localhost:" + server.getAddress().getPort();
+    config.index.createTemplate = false;
+    config.bulk.size = BULK_SIZE;
+    config.bulk.maxInFlightRequests = maxInFlightRequests;
+
+    final var recordFactory = new ProtocolFactory();
+    for (int i = 0; i < RECORDS; i++) {
+      records.add(recordFactory.generateRecord(ValueType.PROCESS_INSTANCE));
+    }
+
+    exporter = new ElasticsearchExporter();
+    exporter.configure(
+        new ExporterTestContext()
+            .setConfiguration(new ExporterTestConfiguration<>("elasticsearch", config)));
+    exporter.open(new ExporterTestController());
+  }
+
+  @TearDown
+  public void tearDown() {
+    exporter.close();
+    server.stop(0);
+    serverExecutor.shutdownNow();
+  }
+
+  @Benchmark
+  public int measureExportThroughput() {
+    for (final var record : records) {
+      exporter.export(record);
+    }
+
+    return records.size();
+  }
+
+  @JMHTest("measureExportThroughput")
+  void shouldExportWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - a conservative ops/s score; each op flushes 10 bulks which take 5 ms each, so at most
+    // 20 ops/s are possible if the bulks are flushed one after another
+    final var referenceScore = 40;
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("maxInFlightRequests", "4")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  private static void respond(final HttpExchange exchange) throws IOException {
+    try (exchange) {
+      exchange.getRequestBody().readAllBytes();
+
+      final byte[] response;
+      if (exchange.getRequestURI().getPath().equals("/_bulk")) {
+        Thread.sleep(BULK_LATENCY_MS);
+        response = BULK_RESPONSE;
+      } else {
+        response = ACKNOWLEDGED_RESPONSE;
+      }
+
+      exchange.getResponseHeaders().add("Content-Type", "application/json");
+      exchange.sendResponseHeaders(200, response.length);
+      exchange.getResponseBody().write(response);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -19,6 +19,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.camunda.zeebe.exporter.ElasticsearchClient.InFlightBulk;
 import io.camunda.zeebe.exporter.api.ExporterException;
 import io.camunda.zeebe.exporter.api.context.Context.RecordFilter;
 import io.camunda.zeebe.exporter.test.ExporterTestConfiguration;
@@ -31,6 +32,7 @@ import io.camunda.zeebe.protocol.record.ValueType;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -316,6 +318,110 @@ final class ElasticsearchExporterTest {
           .isInstanceOf(ElasticsearchExporterException.class);
       assertThat(controller.getPosition()).isEqualTo(-1L);
     }
+
+    @Test
+    void shouldNotUpdatePositionUntilBulkIsAcknowledged() {
+      // given
+      config.bulk.maxInFlightRequests = 2;
+      final var response = new CompletableFuture<Void>();
+      exporter.configure(context);
+      exporter.open(controller);
+      when(client.shouldFlush()).thenReturn(true);
+      when(client.flushAsync())
+          .thenReturn(new InFlightBulk(new BulkIndexRequest(), response))
+          .thenReturn(null);
+
+      // when
+      exporter.export(recordWithPosition(10L));
+
+      // then
+      verify(client, never()).flush();
+      assertThat(controller.getPosition()).isEqualTo(-1L);
+
+      response.complete(null);
+      controller.runScheduledTasks(Duration.ofSeconds(config.bulk.delay));
+      assertThat(controller.getPosition()).isEqualTo(10L);
+    }
+
+    @Test
+    void shouldAcknowledgeBulksInOrder() {
+      // given
+      config.bulk.maxInFlightRequests = 3;
+      final var firstResponse = new CompletableFuture<Void>();
+      final var secondResponse = new CompletableFuture<Void>();
+      exporter.configure(context);
+      exporter.open(controller);
+      when(client.shouldFlush()).thenReturn(true);
+      when(client.flushAsync())
+          .thenReturn(
+              new InFlightBulk(new BulkIndexRequest(), firstResponse),
+              new InFlightBulk(new BulkIndexRequest(), secondResponse))
+          .thenReturn(null);
+      exporter.export(recordWithPosition(10L));
+      exporter.export(recordWithPosition(20L));
+
+      // when
+      secondResponse.complete(null);
+      controller.runScheduledTasks(Duration.ofSeconds(config.bulk.delay));
+
+      // then
+      assertThat(controller.getPosition()).isEqualTo(-1L);
+
+      firstResponse.complete(null);
+      controller.runScheduledTasks(Duration.ofSeconds(config.bulk.delay));
+      assertThat(controller.getPosition()).isEqualTo(20L);
+    }
+
+    @Test
+    void shouldRetryFailedBulk() {
+      // given
+      config.bulk.maxInFlightRequests = 2;
+      final var bulk =
+          new InFlightBulk(
+              new BulkIndexRequest(),
+              CompletableFuture.failedFuture(new ElasticsearchExporterException("failed")));
+      exporter.configure(context);
+      exporter.open(controller);
+      when(client.shouldFlush()).thenReturn(true);
+      when(client.flushAsync()).thenReturn(bulk).thenReturn(null);
+      exporter.export(recordWithPosition(10L));
+
+      // when
+      controller.runScheduledTasks(Duration.ofSeconds(config.bulk.delay));
+
+      // then
+      verify(client, times(1)).retry(bulk);
+      assertThat(controller.getPosition()).isEqualTo(-1L);
+    }
+
+    @Test
+    void shouldNotExportMoreRecordsIfTooManyBulksFailed() {
+      // given
+      config.bulk.maxInFlightRequests = 2;
+      final var bulk =
+          new InFlightBulk(
+              new BulkIndexRequest(),
+              CompletableFuture.failedFuture(new ElasticsearchExporterException("failed")));
+      exporter.configure(context);
+      exporter.open(controller);
+      when(client.shouldFlush()).thenReturn(true);
+      when(client.flushAsync()).thenReturn(bulk);
+      exporter.export(recordWithPosition(10L));
+      exporter.export(recordWithPosition(20L));
+
+      // when - then
+      assertThatCode(() -> exporter.export(recordWithPosition(30L)))
+          .isInstanceOf(ElasticsearchExporterException.class);
+      verify(client, times(2)).flushAsync();
+      assertThat(controller.getPosition()).isEqualTo(-1L);
+    }
+
+    private Record<?> recordWithPosition(final long position) {
+      return ImmutableRecord.builder()
+          .withPosition(position)
+          .withValueType(ValueType.PROCESS_INSTANCE)
+          .build();
+    }
   }
 
   @Nested
@@ -366,6 +472,16 @@ final class ElasticsearchExporterTest {
           .hasMessageContaining("Examples are: 'yyyy-MM-dd' or 'yyyy-MM-dd_HH'");
     }
 
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(ints = {-1, 0})
+    void shouldForbidNonPositiveMaxInFlightRequests(final int invalidMaxInFlightRequests) {
+      // given
+      config.bulk.maxInFlightRequests = invalidMaxInFlightRequests;
+
+      // when - then
+      assertThatCode(() -> exporter.configure(context)).isInstanceOf(ExporterException.class);
+    }
+
     @Test
     void shouldForbidNegativeNumberOfReplicas() {
       // given
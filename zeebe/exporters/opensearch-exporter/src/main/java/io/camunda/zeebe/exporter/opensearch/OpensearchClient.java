@@ -30,14 +30,19 @@ import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.prometheus.client.Histogram;
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import org.apache.http.entity.EntityTemplate;
 import org.opensearch.client.Request;
+import org.opensearch.client.Response;
+import org.opensearch.client.ResponseListener;
 import org.opensearch.client.RestClient;
 
 public class OpensearchClient implements AutoCloseable {
@@ -48,7 +53,10 @@ public class OpensearchClient implements AutoCloseable {
   private final OpensearchExporterConfiguration configuration;
   private final TemplateReader templateReader;
   private final RecordIndexRouter indexRouter;
-  private final BulkIndexRequest bulkIndexRequest;
+  // bulk requests which were acknowledged, and which can be reused for the next bulk
+  private final Deque<BulkIndexRequest> releasedBulkRequests = new ArrayDeque<>();
+
+  private BulkIndexRequest bulkIndexRequest;
 
   private OpensearchMetrics metrics;
 
@@ -125,6 +133,42 @@ public class OpensearchClient implements AutoCloseable {
     }
   }
 
+  /**
+   * Sends the bulk request to Opensearch without waiting for the response, unless it's currently
+   * empty. The following records are indexed into a new bulk request, so that multiple bulk
+   * requests can be in flight at the same time. The returned bulk must be {@link
+   * #release(InFlightBulk) released} once it was acknowledged, or {@link #retry(InFlightBulk)
+   * retried} if it failed.
+   *
+   * @return the bulk which is in flight, or null if nothing was indexed
+   */
+  public InFlightBulk flushAsync() {
+    if (bulkIndexRequest.isEmpty()) {
+      return null;
+    }
+
+    metrics.recordBulkSize(bulkIndexRequest.size());
+    metrics.recordBulkMemorySize(bulkIndexRequest.memoryUsageBytes());
+
+    final var bulk = new InFlightBulk(bulkIndexRequest);
+    final var releasedRequest = releasedBulkRequests.poll();
+    bulkIndexRequest = releasedRequest != null ? releasedRequest : new BulkIndexRequest();
+
+    sendBulk(bulk);
+    return bulk;
+  }
+
+  /** Sends the given failed bulk again, with the same records. */
+  public void retry(final InFlightBulk bulk) {
+    sendBulk(bulk);
+  }
+
+  /** Clears the given acknowledged bulk, to reuse its buffers for one of the next bulks. */
+  public void release(final InFlightBulk bulk) {
+    bulk.request.clear();
+    releasedBulkRequests.push(bulk.request);
+  }
+
   /**
    * Returns whether the exporter should call {@link #flush()} or not.
    *
@@ -163,21 +207,41 @@ public class OpensearchClient implements AutoCloseable {
   private void exportBulk() {
     final BulkIndexResponse response;
     try {
-      final var request = new Request("POST", "/_bulk");
-      final var body = new EntityTemplate(bulkIndexRequest);
-      request.setJsonEntity(new String(body.getContent().readAllBytes()));
-
-      response = sendRequest(request, BulkIndexResponse.class);
+      response = sendRequest(createBulkRequest(bulkIndexRequest), BulkIndexResponse.class);
     } catch (final IOException e) {
       throw new OpensearchExporterException("Failed to flush bulk", e);
     }
 
     if (response.errors()) {
-      throwCollectedBulkError(response);
+      throw collectBulkError(response);
+    }
+  }
+
+  private void sendBulk(final InFlightBulk bulk) {
+    final var response = new CompletableFuture<Void>();
+    bulk.response = response;
+
+    final Request request;
+    try {
+      request = createBulkRequest(bulk.request);
+    } catch (final IOException e) {
+      metrics.recordFailedFlush();
+      response.completeExceptionally(new OpensearchExporterException("Failed to flush bulk", e));
+      return;
     }
+
+    metrics.recordBulkSent();
+    client.performRequestAsync(request, new BulkResponseListener(response, System.nanoTime()));
+  }
+
+  private Request createBulkRequest(final BulkIndexRequest bulkRequest) throws IOException {
+    final var request = new Request("POST", "/_bulk");
+    final var body = new EntityTemplate(bulkRequest);
+    request.setJsonEntity(new String(body.getContent().readAllBytes()));
+    return request;
   }
 
-  private void throwCollectedBulkError(final BulkIndexResponse bulkResponse) {
+  private OpensearchExporterException collectBulkError(final BulkIndexResponse bulkResponse) {
     final var collectedErrors = new ArrayList<String>();
     bulkResponse.items().stream()
         .flatMap(item -> Optional.ofNullable(item.index()).stream())
@@ -190,7 +254,7 @@ public class OpensearchClient implements AutoCloseable {
                         "Failed to flush %d item(s) of bulk request [type: %s, reason: %s]",
                         errors.size(), errorType, errors.get(0).reason())));
 
-    throw new OpensearchExporterException("Failed to flush bulk request: " + collectedErrors);
+    return new OpensearchExporterException("Failed to flush bulk request: " + collectedErrors);
   }
 
   private boolean putIndexTemplate(final String templateName, final Template template) {
@@ -312,10 +376,88 @@ public class OpensearchClient implements AutoCloseable {
   }
 
   private <T> T sendRequest(final Request request, final Class<T> responseType) throws IOException {
-    final var response = client.performRequest(request);
+    return readResponse(client.performRequest(request), responseType);
+  }
+
+  private static <T> T readResponse(final Response response, final Class<T> responseType)
+      throws IOException {
     // buffer the complete response in memory before parsing it; this will give us a better error
     // message which contains the raw response should the deserialization fail
     final var responseBody = response.getEntity().getContent().readAllBytes();
     return MAPPER.readValue(responseBody, responseType);
   }
+
+  /**
+   * A bulk request which was sent by {@link #flushAsync()}. Its response is completed by the HTTP
+   * client's I/O thread, but the bulk itself must only be used by the exporter.
+   */
+  static final class InFlightBulk {
+    private final BulkIndexRequest request;
+    private volatile CompletableFuture<Void> response;
+
+    InFlightBulk(final BulkIndexRequest request) {
+      this(request, new CompletableFuture<>());
+    }
+
+    InFlightBulk(final BulkIndexRequest request, final CompletableFuture<Void> response) {
+      this.request = request;
+      this.response = response;
+    }
+
+    /** Returns true if the bulk was acknowledged or failed. */
+    boolean isDone() {
+      return response.isDone();
+    }
+
+    /** Returns true if the bulk was not flushed successfully; must only be called if done. */
+    boolean isFailed() {
+      return response.isCompletedExceptionally();
+    }
+
+    /** Returns the reason why the bulk failed; must only be called if the bulk failed. */
+    Throwable failure() {
+      return response.exceptionNow();
+    }
+
+    /** Blocks until the bulk was acknowledged or failed. */
+    void awaitResponse() {
+      response.handle((ok, error) -> null).join();
+    }
+  }
+
+  private final class BulkResponseListener implements ResponseListener {
+    private final CompletableFuture<Void> response;
+    private final long sentAtNanos;
+
+    private BulkResponseListener(final CompletableFuture<Void> response, final long sentAtNanos) {
+      this.response = response;
+      this.sentAtNanos = sentAtNanos;
+    }
+
+    @Override
+    public void onSuccess(final Response httpResponse) {
+      metrics.recordBulkCompleted(System.nanoTime() - sentAtNanos);
+      try {
+        final var bulkResponse = readResponse(httpResponse, BulkIndexResponse.class);
+        if (bulkResponse.errors()) {
+          fail(collectBulkError(bulkResponse));
+        } else {
+          response.complete(null);
+        }
+      } catch (final IOException e) {
+        fail(new OpensearchExporterException("Failed to flush bulk", e));
+      }
+    }
+
+    @Override
+    public void onFailure(final Exception exception) {
+      metrics.recordBulkCompleted(System.nanoTime() - sentAtNanos);
+      fail(new OpensearchExporterException("Failed to flush bulk", exception));
+    }
+
+    private void fail(final OpensearchExporterException exception) {
+      metrics.recordFailedFlush();
+      response.completeExceptionally(exception);
+    }
+  }
 }
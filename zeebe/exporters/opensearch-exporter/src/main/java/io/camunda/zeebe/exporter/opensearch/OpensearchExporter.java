@@ -13,12 +13,15 @@ import io.camunda.zeebe.exporter.api.Exporter;
 import io.camunda.zeebe.exporter.api.ExporterException;
 import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.exporter.api.context.Controller;
+import io.camunda.zeebe.exporter.opensearch.OpensearchClient.InFlightBulk;
 import io.camunda.zeebe.exporter.opensearch.OpensearchExporterConfiguration.IndexConfiguration;
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.ValueType;
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -31,6 +34,8 @@ public class OpensearchExporter implements Exporter {
   private final ObjectMapper exporterMetadataObjectMapper = new ObjectMapper();
 
   private final OpensearchExporterMetadata exporterMetadata = new OpensearchExporterMetadata();
+  // the bulks which are in flight, ordered by their position
+  private final Deque<PendingBulk> pendingBulks = new ArrayDeque<>();
 
   private Controller controller;
   private OpensearchExporterConfiguration configuration;
@@ -73,8 +78,11 @@ public class OpensearchExporter implements Exporter {
   public void close() {
 
     try {
-      flush();
-      updateLastExportedPosition();
+      awaitPendingBulks();
+      if (pendingBulks.isEmpty()) {
+        flush();
+        updateLastExportedPosition();
+      }
     } catch (final Exception e) {
       log.warn("Failed to flush records before closing exporter.", e);
     }
@@ -96,11 +104,22 @@ public class OpensearchExporter implements Exporter {
       updateRetentionPolicyForExistingIndices();
     }
 
+    if (isFlushingAsync()) {
+      // wait before indexing the record, otherwise it would be indexed again if the exporter is
+      // invoked with the same record after a failure
+      awaitFlushCapacity();
+    }
+
     final var recordSequence = recordCounters.getNextRecordSequence(record);
     client.index(record, recordSequence);
     lastPosition = record.getPosition();
 
-    if (client.shouldFlush()) {
+    if (isFlushingAsync()) {
+      recordCounters.updateRecordCounters(record, recordSequence);
+      if (client.shouldFlush()) {
+        flushAsync();
+      }
+    } else if (client.shouldFlush()) {
       flush();
       // Update the record counters only after the flush was successful. If the synchronous flush
       // fails then the exporter will be invoked with the same record again.
@@ -122,6 +141,13 @@ public class OpensearchExporter implements Exporter {
               configuration.index.prefix));
     }
 
+    if (configuration.bulk.maxInFlightRequests < 1) {
+      throw new ExporterException(
+          String.format(
+              "Opensearch bulk maxInFlightRequests must be >= 1. Current value: %d",
+              configuration.bulk.maxInFlightRequests));
+    }
+
     if (configuration.bulk.memoryLimit > RECOMMENDED_MAX_BULK_MEMORY_LIMIT) {
       log.warn(
           "The bulk memory limit is set to more than {} bytes. It is recommended to set the limit between 5 to 15 MB.",
@@ -150,8 +176,19 @@ public class OpensearchExporter implements Exporter {
 
   private void flushAndReschedule() {
     try {
-      flush();
-      updateLastExportedPosition();
+      if (isFlushingAsync()) {
+        acknowledgeFlushedBulks();
+        if (pendingBulks.size() < configuration.bulk.maxInFlightRequests) {
+          flushAsync();
+        }
+        if (pendingBulks.isEmpty()) {
+          // nothing is in flight, e.g. after skipped records were acknowledged by the broker
+          updateLastExportedPosition();
+        }
+      } else {
+        flush();
+        updateLastExportedPosition();
+      }
     } catch (final Exception e) {
       log.warn("Unexpected exception occurred on periodically flushing bulk, will retry later.", e);
     }
@@ -167,10 +204,78 @@ public class OpensearchExporter implements Exporter {
     client.flush();
   }
 
+  private boolean isFlushingAsync() {
+    return configuration.bulk.maxInFlightRequests > 1;
+  }
+
+  private void flushAsync() {
+    final InFlightBulk bulk = client.flushAsync();
+    if (bulk != null) {
+      pendingBulks.add(new PendingBulk(bulk, lastPosition, serializeExporterMetadata()));
+    }
+  }
+
+  /**
+   * Updates the last exported position to the position of the last bulk which was acknowledged,
+   * after all bulks before it were acknowledged too. A failed bulk is sent again, and blocks the
+   * position until it was acknowledged.
+   */
+  private void acknowledgeFlushedBulks() {
+    PendingBulk acknowledged = null;
+    while (!pendingBulks.isEmpty() && pendingBulks.peek().bulk().isDone()) {
+      final var head = pendingBulks.peek();
+      if (head.bulk().isFailed()) {
+        log.warn(
+            "Failed to flush bulk up to position {}, will retry.",
+            head.position(),
+            head.bulk().failure());
+        client.retry(head.bulk());
+        break;
+      }
+
+      pendingBulks.remove();
+      client.release(head.bulk());
+      acknowledged = head;
+    }
+
+    if (acknowledged != null) {
+      controller.updateLastExportedRecordPosition(acknowledged.position(), acknowledged.metadata());
+    }
+  }
+
+  /**
+   * Blocks until less than the maximum number of bulks are in flight.
+   *
+   * @throws OpensearchExporterException if the oldest bulk failed; it is retried already
+   */
+  private void awaitFlushCapacity() {
+    acknowledgeFlushedBulks();
+    while (pendingBulks.size() >= configuration.bulk.maxInFlightRequests) {
+      final var head = pendingBulks.peek();
+      head.bulk().awaitResponse();
+      final var failure = head.bulk().isFailed() ? head.bulk().failure() : null;
+      acknowledgeFlushedBulks();
+
+      if (failure != null) {
+        throw new OpensearchExporterException("Failed to flush bulk", failure);
+      }
+    }
+  }
+
+  private void awaitPendingBulks() {
+    for (final var pendingBulk : pendingBulks) {
+      pendingBulk.bulk().awaitResponse();
+    }
+    acknowledgeFlushedBulks();
+  }
+
   private void updateLastExportedPosition() {
+    controller.updateLastExportedRecordPosition(lastPosition, serializeExporterMetadata());
+  }
+
+  private byte[] serializeExporterMetadata() {
     exporterMetadata.setRecordCountersByValueType(recordCounters.getRecordCounters());
-    final var serializeExporterMetadata = serializeExporterMetadata(exporterMetadata);
-    controller.updateLastExportedRecordPosition(lastPosition, serializeExporterMetadata);
+    return serializeExporterMetadata(exporterMetadata);
   }
 
   private byte[] serializeExporterMetadata(final OpensearchExporterMetadata metadata) {
@@ -369,6 +474,9 @@ public class OpensearchExporter implements Exporter {
     }
   }
 
+  /** A bulk which is in flight, with the position and metadata to update once acknowledged. */
+  private record PendingBulk(InFlightBulk bulk, long position, byte[] metadata) {}
+
   private static class OpensearchRecordFilter implements Context.RecordFilter {
 
     private final OpensearchExporterConfiguration configuration;
@@ -10,6 +10,7 @@ package io.camunda.zeebe.exporter.opensearch;
 import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
+import java.util.concurrent.TimeUnit;
 
 public class OpensearchMetrics {
   private static final String NAMESPACE = "zeebe_opensearch_exporter";
@@ -48,6 +49,22 @@ public class OpensearchMetrics {
           .labelNames(PARTITION_LABEL)
           .register();
 
+  private static final Gauge BULK_IN_FLIGHT =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("bulk_inflight")
+          .help("Number of bulk requests which were sent, but not yet acknowledged")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
+  private static final Histogram BULK_LATENCY =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("bulk_latency_seconds")
+          .help("Time between sending a bulk request and receiving its response")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
   private final String partitionIdLabel;
 
   public OpensearchMetrics(final int partitionId) {
@@ -66,6 +83,17 @@ public class OpensearchMetrics {
     BULK_MEMORY_SIZE.labels(partitionIdLabel).set(bulkMemorySize);
   }
 
+  public void recordBulkSent() {
+    BULK_IN_FLIGHT.labels(partitionIdLabel).inc();
+  }
+
+  public void recordBulkCompleted(final long latencyNanos) {
+    BULK_IN_FLIGHT.labels(partitionIdLabel).dec();
+    BULK_LATENCY
+        .labels(partitionIdLabel)
+        .observe(latencyNanos / (double) TimeUnit.SECONDS.toNanos(1));
+  }
+
   public void recordFailedFlush() {
     FAILED_FLUSH.labels(partitionIdLabel).inc();
   }
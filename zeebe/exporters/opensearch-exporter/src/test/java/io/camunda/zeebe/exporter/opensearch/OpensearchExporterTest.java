@@ -22,6 +22,7 @@ import static org.mockito.Mockito.when;
 
 import io.camunda.zeebe.exporter.api.ExporterException;
 import io.camunda.zeebe.exporter.api.context.Context.RecordFilter;
+import io.camunda.zeebe.exporter.opensearch.OpensearchClient.InFlightBulk;
 import io.camunda.zeebe.exporter.opensearch.dto.GetIndexStateManagementPolicyResponse;
 import io.camunda.zeebe.exporter.test.ExporterTestConfiguration;
 import io.camunda.zeebe.exporter.test.ExporterTestContext;
@@ -34,6 +35,7 @@ import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -369,6 +371,88 @@ final class OpensearchExporterTest {
       assertThatCode(() -> exporter.export(record)).isInstanceOf(OpensearchExporterException.class);
       assertThat(controller.getPosition()).isEqualTo(-1L);
     }
+
+    @Test
+    void shouldNotUpdatePositionUntilBulkIsAcknowledged() {
+      // given
+      config.bulk.maxInFlightRequests = 2;
+      final var response = new CompletableFuture<Void>();
+      exporter.configure(context);
+      exporter.open(controller);
+      when(client.shouldFlush()).thenReturn(true);
+      when(client.flushAsync())
+          .thenReturn(new InFlightBulk(new BulkIndexRequest(), response))
+          .thenReturn(null);
+
+      // when
+      exporter.export(recordWithPosition(10L));
+
+      // then
+      verify(client, never()).flush();
+      assertThat(controller.getPosition()).isEqualTo(-1L);
+
+      response.complete(null);
+      controller.runScheduledTasks(Duration.ofSeconds(config.bulk.delay));
+      assertThat(controller.getPosition()).isEqualTo(10L);
+    }
+
+    @Test
+    void shouldAcknowledgeBulksInOrder() {
+      // given
+      config.bulk.maxInFlightRequests = 3;
+      final var firstResponse = new CompletableFuture<Void>();
+      final var secondResponse = new CompletableFuture<Void>();
+      exporter.configure(context);
+      exporter.open(controller);
+      when(client.shouldFlush()).thenReturn(true);
+      when(client.flushAsync())
+          .thenReturn(
+              new InFlightBulk(new BulkIndexRequest(), firstResponse),
+              new InFlightBulk(new BulkIndexRequest(), secondResponse))
+          .thenReturn(null);
+      exporter.export(recordWithPosition(10L));
+      exporter.export(recordWithPosition(20L));
+
+      // when
+      secondResponse.complete(null);
+      controller.runScheduledTasks(Duration.ofSeconds(config.bulk.delay));
+
+      // then
+      assertThat(controller.getPosition()).isEqualTo(-1L);
+
+      firstResponse.complete(null);
+      controller.runScheduledTasks(Duration.ofSeconds(config.bulk.delay));
+      assertThat(controller.getPosition()).isEqualTo(20L);
+    }
+
+    @Test
+    void shouldRetryFailedBulk() {
+      // given
+      config.bulk.maxInFlightRequests = 2;
+      final var bulk =
+          new InFlightBulk(
+              new BulkIndexRequest(),
+              CompletableFuture.failedFuture(new OpensearchExporterException("failed")));
+      exporter.configure(context);
+      exporter.open(controller);
+      when(client.shouldFlush()).thenReturn(true);
+      when(client.flushAsync()).thenReturn(bulk).thenReturn(null);
+      exporter.export(recordWithPosition(10L));
+
+      // when
+      controller.runScheduledTasks(Duration.ofSeconds(config.bulk.delay));
+
+      // then
+      verify(client, times(1)).retry(bulk);
+      assertThat(controller.getPosition()).isEqualTo(-1L);
+    }
+
+    private Record<?> recordWithPosition(final long position) {
+      return ImmutableRecord.builder()
+          .withPosition(position)
+          .withValueType(ValueType.PROCESS_INSTANCE)
+          .build();
+    }
   }
 
   @Nested
@@ -392,6 +476,16 @@ final class OpensearchExporterTest {
       assertThatCode(() -> exporter.configure(context)).isInstanceOf(ExporterException.class);
     }
 
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(ints = {-1, 0})
+    void shouldForbidNonPositiveMaxInFlightRequests(final int invalidMaxInFlightRequests) {
+      // given
+      config.bulk.maxInFlightRequests = invalidMaxInFlightRequests;
+
+      // when - then
+      assertThatCode(() -> exporter.configure(context)).isInstanceOf(ExporterException.class);
+    }
+
     @Test
     void shouldForbidNegativeNumberOfReplicas() {
       // given
@@ -0,0 +1,178 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.rest.perf;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import io.camunda.service.ProcessInstanceServices;
+import io.camunda.service.entities.ProcessInstanceEntity;
+import io.camunda.service.search.query.ProcessInstanceQuery;
+import io.camunda.service.search.query.SearchQueryResult.Builder;
+import io.camunda.service.security.auth.Authentication;
+import io.camunda.zeebe.gateway.rest.controller.ProcessInstanceQueryController;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Sends 10k concurrent search requests to the process instance query endpoint of the REST API,
+ * served by an embedded Tomcat, with and without {@code spring.threads.virtual.enabled}. The search
+ * service answers after a fixed delay, the same way the query controllers block on the search
+ * client.
+ *
+ * <p>{@link #measureConcurrentRequests()} reports the throughput in batches of {@link
+ * #CONCURRENT_REQUESTS} per second, while {@link #measureConcurrentRequestsLatency()} samples the
+ * time until the slowest request of a batch completed, such that its p0.99 is the p99 latency of
+ * the batch.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 20, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class RestVirtualThreadsPerformanceTest {
+  private static final int CONCURRENT_REQUESTS = 10_000;
+  private static final long SEARCH_DELAY_MS = 10;
+
+  @Param({"true", "false"})
+  private boolean virtualThreads;
+
+  private ConfigurableApplicationContext application;
+  private HttpClient httpClient;
+  private HttpRequest searchRequest;
+
+  @Setup
+  public void setup() {
+    application =
+        new SpringApplicationBuilder(BenchmarkApplication.class)
+            .properties(
+                "server.port=0",
+                "camunda.rest.query.enabled=true",
+                "spring.threads.virtual.enabled=" + virtualThreads,
+                // accept all requests of a batch at once, instead of queueing them in the kernel
+                "server.tomcat.max-connections=" + CONCURRENT_REQUESTS * 2,
+                "server.tomcat.accept-count=" + CONCURRENT_REQUESTS)
+            .run();
+
+    final var port = ((ServletWebServerApplicationContext) application).getWebServer().getPort();
+    httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    searchRequest =
+        HttpRequest.newBuilder(
+                URI.create("http://localhost:" + port + "/v2/process-instances/search"))
+            .header("Content-Type", "application/json")
+            .POST(BodyPublishers.ofString("{}"))
+            .build();
+  }
+
+  @TearDown
+  public void tearDown() {
+    httpClient.close();
+    application.close();
+  }
+
+  @Benchmark
+  public long measureConcurrentRequests() {
+    return sendConcurrentRequests();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public long measureConcurrentRequestsLatency() {
+    return sendConcurrentRequests();
+  }
+
+  @JMHTest("measureConcurrentRequests")
+  void shouldHandleConcurrentRequestsOnVirtualThreads(final JMHTestCase testCase) {
+    // given - a conservative ops/s score; each op is a batch of 10k requests, whereas the 200
+    // platform threads of Tomcat need at least 500ms per batch, i.e. 2 ops/s at best
+    final var referenceScore = 4;
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("virtualThreads", "true")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  private long sendConcurrentRequests() {
+    final var responses = new ArrayList<CompletableFuture<HttpResponse<Void>>>();
+    for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+      responses.add(httpClient.sendAsync(searchRequest, BodyHandlers.discarding()));
+    }
+
+    long succeeded = 0;
+    for (final var response : responses) {
+      if (response.join().statusCode() == 200) {
+        succeeded++;
+      }
+    }
+    return succeeded;
+  }
+
+  @SpringBootConfiguration
+  @EnableAutoConfiguration(
+      exclude = {
+        SecurityAutoConfiguration.class,
+        HibernateJpaAutoConfiguration.class,
+        DataSourceAutoConfiguration.class
+      })
+  @Import(ProcessInstanceQueryController.class)
+  static class BenchmarkApplication {
+
+    @Bean
+    ProcessInstanceServices processInstanceServices() {
+      // stub only, as recording millions of invocations would exhaust the heap
+      final var services = mock(ProcessInstanceServices.class, withSettings().stubOnly());
+      when(services.withAuthentication(any(Authentication.class))).thenReturn(services);
+      when(services.search(any(ProcessInstanceQuery.class)))
+          .thenAnswer(
+              invocation -> {
+                Thread.sleep(SEARCH_DELAY_MS);
+                return new Builder<ProcessInstanceEntity>().build();
+              });
+      return services;
+    }
+  }
+}
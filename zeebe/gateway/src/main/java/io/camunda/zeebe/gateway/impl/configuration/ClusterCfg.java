@@ -12,6 +12,7 @@ import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.
 import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_CLUSTER_MEMBER_ID;
 import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_CLUSTER_NAME;
 import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_CLUSTER_PORT;
+import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_CONNECTIONS_PER_SUBJECT;
 import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_CONTACT_POINT_HOST;
 import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_CONTACT_POINT_PORT;
 import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_REQUEST_TIMEOUT;
@@ -42,6 +43,7 @@ public final class ClusterCfg {
   private MembershipCfg membership = new MembershipCfg();
   private SecurityCfg security = new SecurityCfg();
   private CompressionAlgorithm messageCompression = CompressionAlgorithm.NONE;
+  private int connectionsPerSubject = DEFAULT_CONNECTIONS_PER_SUBJECT;
 
   public String getMemberId() {
     return memberId;
@@ -147,6 +149,15 @@ public final class ClusterCfg {
     messageCompression = compressionAlgorithm;
   }
 
+  public int getConnectionsPerSubject() {
+    return connectionsPerSubject;
+  }
+
+  public ClusterCfg setConnectionsPerSubject(final int connectionsPerSubject) {
+    this.connectionsPerSubject = connectionsPerSubject;
+    return this;
+  }
+
   public List<String> getInitialContactPoints() {
     return initialContactPoints;
   }
@@ -167,7 +178,8 @@ public final class ClusterCfg {
         port,
         membership,
         security,
-        messageCompression);
+        messageCompression,
+        connectionsPerSubject);
   }
 
   @Override
@@ -180,6 +192,7 @@ public final class ClusterCfg {
     }
     final ClusterCfg that = (ClusterCfg) o;
     return port == that.port
+        && connectionsPerSubject == that.connectionsPerSubject
         && Objects.equals(initialContactPoints, that.initialContactPoints)
         && Objects.equals(requestTimeout, that.requestTimeout)
         && Objects.equals(clusterName, that.clusterName)
@@ -214,6 +227,8 @@ public final class ClusterCfg {
         + security
         + ", messageCompression="
         + messageCompression
+        + ", connectionsPerSubject="
+        + connectionsPerSubject
         + '}';
   }
 }
@@ -10,6 +10,7 @@ package io.camunda.zeebe.logstreams.impl;
 import static io.camunda.zeebe.logstreams.impl.LogStreamMetrics.FlowControlOutComeLabels.labelForContext;
 import static io.camunda.zeebe.logstreams.impl.LogStreamMetrics.FlowControlOutComeLabels.labelForReason;
 
+import io.camunda.zeebe.logstreams.impl.flowcontrol.CommandLane;
 import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl.Rejection;
 import io.camunda.zeebe.logstreams.impl.log.LogAppendEntryMetadata;
 import io.camunda.zeebe.logstreams.log.WriteContext;
@@ -25,8 +26,10 @@ import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
 import io.prometheus.client.Histogram.Timer;
+import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 
 public final class LogStreamMetrics {
   private static final Counter FLOW_CONTROL_OUTCOME =
@@ -162,6 +165,44 @@ public final class LogStreamMetrics {
           .labelNames("partition")
           .register();
 
+  private static final Gauge BACKLOG =
+      Gauge.build()
+          .namespace("zeebe")
+          .subsystem("flow_control")
+          .name("backlog")
+          .help("The number of written records which are not yet processed or exported")
+          .labelNames("partition", "stage")
+          .register();
+
+  private static final Gauge REQUEST_LIMIT_GRADIENT =
+      Gauge.build()
+          .namespace("zeebe")
+          .subsystem("flow_control")
+          .name("request_limit_gradient")
+          .help(
+              "The gradient by which each signal of the lag aware request limit adjusts the limit,"
+                  + " where 1.0 means that the signal is within its acceptable range")
+          .labelNames("partition", "signal")
+          .register();
+
+  private static final Counter LANE_REQUESTS =
+      Counter.build()
+          .namespace("zeebe")
+          .subsystem("flow_control")
+          .name("lane_requests")
+          .help("Number of commands admitted or rejected per flow control lane")
+          .labelNames("partition", "lane", "outcome")
+          .register();
+
+  private static final Gauge LANE_INFLIGHT_REQUESTS =
+      Gauge.build()
+          .namespace("zeebe")
+          .subsystem("flow_control")
+          .name("lane_inflight_requests")
+          .help("Number of in-flight requests per flow control lane")
+          .labelNames("partition", "lane")
+          .register();
+
   private final Counter.Child deferredAppends;
   private final Counter.Child triedAppends;
   private final Gauge.Child inflightAppends;
@@ -176,6 +217,17 @@ public final class LogStreamMetrics {
   private final Gauge.Child exportingRate;
   private final Gauge.Child writeRateMaxLimit;
   private final Gauge.Child writeRateLimit;
+  private final Gauge.Child processingBacklog;
+  private final Gauge.Child exportingBacklog;
+  private final Gauge.Child latencyGradient;
+  private final Gauge.Child processingGradient;
+  private final Gauge.Child exportingGradient;
+  private final Map<CommandLane, Counter.Child> acceptedLaneRequests =
+      new EnumMap<>(CommandLane.class);
+  private final Map<CommandLane, Counter.Child> rejectedLaneRequests =
+      new EnumMap<>(CommandLane.class);
+  private final Map<CommandLane, Gauge.Child> inflightLaneRequests =
+      new EnumMap<>(CommandLane.class);
   private final String partitionLabel;
 
   public LogStreamMetrics(final int partitionId) {
@@ -194,6 +246,18 @@ public final class LogStreamMetrics {
     exportingRate = EXPORTING_RATE.labels(partitionLabel);
     writeRateMaxLimit = WRITE_RATE_MAX_LIMIT.labels(partitionLabel);
     writeRateLimit = WRITE_RATE_LIMIT.labels(partitionLabel);
+    processingBacklog = BACKLOG.labels(partitionLabel, "processing");
+    exportingBacklog = BACKLOG.labels(partitionLabel, "exporting");
+    latencyGradient = REQUEST_LIMIT_GRADIENT.labels(partitionLabel, "latency");
+    processingGradient = REQUEST_LIMIT_GRADIENT.labels(partitionLabel, "processing");
+    exportingGradient = REQUEST_LIMIT_GRADIENT.labels(partitionLabel, "exporting");
+    for (final var lane : CommandLane.values()) {
+      acceptedLaneRequests.put(
+          lane, LANE_REQUESTS.labels(partitionLabel, lane.label(), "accepted"));
+      rejectedLaneRequests.put(
+          lane, LANE_REQUESTS.labels(partitionLabel, lane.label(), "rejected"));
+      inflightLaneRequests.put(lane, LANE_INFLIGHT_REQUESTS.labels(partitionLabel, lane.label()));
+    }
   }
 
   public void increaseInflightAppends() {
@@ -270,7 +334,7 @@ public final class LogStreamMetrics {
       final WriteContext context, final List<LogAppendEntryMetadata> batchMetadata) {
     triedAppends.inc();
     if (context instanceof UserCommand) {
-      receivedRequests.inc();
+      receivedRequests.inc(batchMetadata.size());
     }
     FLOW_CONTROL_OUTCOME
         .labels(partitionLabel, labelForContext(context), "accepted")
@@ -284,8 +348,8 @@ public final class LogStreamMetrics {
     triedAppends.inc();
     deferredAppends.inc();
     if (context instanceof UserCommand) {
-      receivedRequests.inc();
-      droppedRequests.inc();
+      receivedRequests.inc(batchMetadata.size());
+      droppedRequests.inc(batchMetadata.size());
     }
     FLOW_CONTROL_OUTCOME
         .labels(partitionLabel, labelForContext(context), labelForReason(reason))
@@ -304,6 +368,34 @@ public final class LogStreamMetrics {
     writeRateLimit.set(value);
   }
 
+  public void laneAccepted(final CommandLane lane, final int count) {
+    acceptedLaneRequests.get(lane).inc(count);
+  }
+
+  public void laneRejected(final CommandLane lane, final int count) {
+    rejectedLaneRequests.get(lane).inc(count);
+  }
+
+  public void increaseLaneInflight(final CommandLane lane) {
+    inflightLaneRequests.get(lane).inc();
+  }
+
+  public void decreaseLaneInflight(final CommandLane lane) {
+    inflightLaneRequests.get(lane).dec();
+  }
+
+  public void setBacklog(final long processing, final long exporting) {
+    processingBacklog.set(processing);
+    exportingBacklog.set(exporting);
+  }
+
+  public void setRequestLimitGradients(
+      final double latency, final double processing, final double exporting) {
+    latencyGradient.set(latency);
+    processingGradient.set(processing);
+    exportingGradient.set(exporting);
+  }
+
   static final class FlowControlOutComeLabels {
 
     private FlowControlOutComeLabels() {}
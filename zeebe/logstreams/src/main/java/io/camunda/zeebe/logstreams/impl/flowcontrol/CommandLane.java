@@ -0,0 +1,91 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.flowcontrol;
+
+import io.camunda.zeebe.protocol.record.intent.CommandDistributionIntent;
+import io.camunda.zeebe.protocol.record.intent.DeploymentDistributionIntent;
+import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
+import io.camunda.zeebe.protocol.record.intent.IncidentIntent;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.intent.UserTaskIntent;
+import java.util.Set;
+
+/**
+ * The admission lanes of the flow control. Under saturation, commands which free up capacity are
+ * admitted before commands which create new work:
+ *
+ * <ul>
+ *   <li>{@link #INTERNAL}: commands sent by other partitions, e.g. to correlate messages or to
+ *       distribute commands. They are not subject to the request limit, as other partitions are
+ *       waiting for them to make progress, but are still rejected if the write rate limit is
+ *       exhausted.
+ *   <li>{@link #PRIORITY}: user commands which are never rejected by the request limit, e.g. job
+ *       completions, cancellations and deployments.
+ *   <li>{@link #COMPLETION}: other user commands which complete existing work. They are admitted as
+ *       long as the request limit is not reached.
+ *   <li>{@link #NEW_WORK}: all other user commands, e.g. creating process instances or publishing
+ *       messages. They are only admitted as long as the request limit minus a reserve for the
+ *       completion lane is not reached.
+ * </ul>
+ */
+public enum CommandLane {
+  INTERNAL("internal"),
+  PRIORITY("priority"),
+  COMPLETION("completion"),
+  NEW_WORK("newWork");
+
+  /** The share of the request limit which can only be used by the completion lane. */
+  static final double COMPLETION_RESERVE = 0.1;
+
+  private static final Set<? extends Intent> PRIORITY_COMMANDS =
+      Set.of(
+          JobIntent.COMPLETE,
+          JobIntent.FAIL,
+          ProcessInstanceIntent.CANCEL,
+          DeploymentIntent.CREATE,
+          DeploymentIntent.DISTRIBUTE,
+          DeploymentDistributionIntent.COMPLETE,
+          CommandDistributionIntent.ACKNOWLEDGE);
+
+  private static final Set<? extends Intent> COMPLETION_COMMANDS =
+      Set.of(JobIntent.THROW_ERROR, UserTaskIntent.COMPLETE, IncidentIntent.RESOLVE);
+
+  private final String label;
+
+  CommandLane(final String label) {
+    this.label = label;
+  }
+
+  public String label() {
+    return label;
+  }
+
+  static CommandLane of(final Intent intent) {
+    if (PRIORITY_COMMANDS.contains(intent)) {
+      return PRIORITY;
+    } else if (COMPLETION_COMMANDS.contains(intent)) {
+      return COMPLETION;
+    } else {
+      return NEW_WORK;
+    }
+  }
+
+  /**
+   * @return true if a command of this lane can be admitted with the given number of in-flight
+   *     requests and the current request limit
+   */
+  boolean admits(final int inflight, final int limit) {
+    return switch (this) {
+      case INTERNAL, PRIORITY -> true;
+      case COMPLETION -> inflight < limit;
+      case NEW_WORK -> inflight < limit - (int) (limit * COMPLETION_RESERVE);
+    };
+  }
+}
@@ -15,6 +15,7 @@ import io.camunda.zeebe.logstreams.impl.LogStreamMetrics;
 import io.camunda.zeebe.logstreams.impl.flowcontrol.RequestLimiter.CommandRateLimiterBuilder;
 import io.camunda.zeebe.logstreams.impl.log.LogAppendEntryMetadata;
 import io.camunda.zeebe.logstreams.log.WriteContext;
+import io.camunda.zeebe.logstreams.log.WriteContext.InterPartition;
 import io.camunda.zeebe.logstreams.log.WriteContext.Internal;
 import io.camunda.zeebe.logstreams.log.WriteContext.UserCommand;
 import io.camunda.zeebe.logstreams.storage.LogStorage.AppendListener;
@@ -22,6 +23,7 @@ import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.util.Either;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.NavigableMap;
 import java.util.TreeMap;
@@ -32,7 +34,11 @@ import java.util.TreeMap;
  *
  * <p>If enabled, a write rate limiter is used to limit the rate of appends to the log storage.
  * Additionally, a request limiter is used to limit the amount of unprocessed user commands to
- * ensure fast response times.
+ * ensure fast response times. Commands are admitted through {@link CommandLane lanes}, such that
+ * commands from other partitions and commands which complete existing work are prioritized over
+ * commands which create new work. When the request limit is a {@link LagAwareLimit}, it is kept
+ * up to date with the processing and exporting backlog, such that user commands are rejected when
+ * the stream processor or the exporters fall too far behind.
  *
  * <h3>Thread safety</h3>
  *
@@ -75,6 +81,7 @@ public final class FlowControl implements AppendListener {
   private final LogStreamMetrics metrics;
   private RateLimit writeRateLimit;
   private Limit requestLimit;
+  private LagAwareLimit lagAwareLimit;
   private Limiter<Intent> processingLimiter;
   private RateLimiter writeRateLimiter;
   private final RateMeasurement exportingRate =
@@ -110,39 +117,92 @@ public final class FlowControl implements AppendListener {
       final WriteContext context, final List<LogAppendEntryMetadata> batchMetadata) {
     final var result = tryAcquireInternal(context, batchMetadata);
     switch (result) {
-      case Either.Left<Rejection, InFlightEntry>(final var reason) ->
-          metrics.flowControlRejected(context, batchMetadata, reason);
-      case Either.Right<Rejection, InFlightEntry>(final var ignored) ->
-          metrics.flowControlAccepted(context, batchMetadata);
+      case Either.Left<Rejection, InFlightEntry>(final var reason) -> {
+        metrics.flowControlRejected(context, batchMetadata, reason);
+        countLaneRejections(context, batchMetadata);
+      }
+      case Either.Right<Rejection, InFlightEntry>(final var ignored) -> {
+        metrics.flowControlAccepted(context, batchMetadata);
+        countLaneAcceptances(context, batchMetadata);
+      }
     }
     return result;
   }
 
+  private void countLaneAcceptances(
+      final WriteContext context, final List<LogAppendEntryMetadata> batchMetadata) {
+    switch (context) {
+      case final InterPartition ignored ->
+          metrics.laneAccepted(CommandLane.INTERNAL, batchMetadata.size());
+      case final UserCommand ignored ->
+          batchMetadata.forEach(
+              metadata -> metrics.laneAccepted(CommandLane.of(metadata.intent()), 1));
+      default -> {}
+    }
+  }
+
+  private void countLaneRejections(
+      final WriteContext context, final List<LogAppendEntryMetadata> batchMetadata) {
+    switch (context) {
+      case final InterPartition ignored ->
+          metrics.laneRejected(CommandLane.INTERNAL, batchMetadata.size());
+      // a rejected batch of user commands is written again one command at a time, and only the
+      // outcome of those writes is counted, so every command is counted exactly once
+      case final UserCommand command when batchMetadata.size() <= 1 ->
+          metrics.laneRejected(CommandLane.of(command.intent()), 1);
+      default -> {}
+    }
+  }
+
   private Either<Rejection, InFlightEntry> tryAcquireInternal(
       final WriteContext context, final List<LogAppendEntryMetadata> batchMetadata) {
-    final Listener requestListener;
+    final List<Listener> requestListeners;
     switch (context) {
       case final Internal ignored -> {
         // Internal commands are always accepted for incident response and maintenance.
-        return Either.right(new InFlightEntry(metrics, batchMetadata, null));
+        return Either.right(new InFlightEntry(metrics, batchMetadata, List.of()));
       }
       case UserCommand(final var intent) -> {
-        requestListener = processingLimiter.acquire(intent).orElse(null);
-        if (requestListener == null) {
+        requestListeners = acquireRequestListeners(intent, batchMetadata);
+        if (requestListeners == null) {
           return Either.left(Rejection.RequestLimitExhausted);
         }
       }
-      default -> requestListener = null;
+      default -> requestListeners = List.of();
     }
 
     if (writeRateLimiter != null && !writeRateLimiter.tryAcquire(batchMetadata.size())) {
-      if (requestListener != null) {
-        requestListener.onIgnore();
-      }
+      requestListeners.forEach(Listener::onIgnore);
       return Either.left(Rejection.WriteRateLimitExhausted);
     }
 
-    return Either.right(new InFlightEntry(metrics, batchMetadata, requestListener));
+    return Either.right(new InFlightEntry(metrics, batchMetadata, requestListeners));
+  }
+
+  /**
+   * Acquires one request permit per user command in the batch, such that a batch of N commands
+   * counts as N requests against the request limit. The batch is only accepted if all of its
+   * commands are; otherwise, the already acquired permits are released again.
+   *
+   * @return the acquired listeners, or null if the request limit is exhausted
+   */
+  private List<Listener> acquireRequestListeners(
+      final Intent intent, final List<LogAppendEntryMetadata> batchMetadata) {
+    if (batchMetadata.size() <= 1) {
+      return processingLimiter.acquire(intent).map(List::of).orElse(null);
+    }
+
+    final var requestListeners = new ArrayList<Listener>(batchMetadata.size());
+    for (final var metadata : batchMetadata) {
+      final var requestListener = processingLimiter.acquire(metadata.intent()).orElse(null);
+      if (requestListener == null) {
+        requestListeners.forEach(Listener::onIgnore);
+        return null;
+      }
+      requestListeners.add(requestListener);
+    }
+
+    return requestListeners;
   }
 
   public void onAppend(final InFlightEntry entry, final long highestPosition) {
@@ -158,6 +218,7 @@ public final class FlowControl implements AppendListener {
   public void onWrite(final long index, final long highestPosition) {
     lastWrittenPosition = highestPosition;
     updateWriteRateThrottle();
+    updateBacklog();
     metrics.setLastWrittenPosition(highestPosition);
     final var inFlightEntry = inFlight.get(highestPosition);
     if (inFlightEntry != null) {
@@ -181,6 +242,7 @@ public final class FlowControl implements AppendListener {
       inFlightEntry.onProcessed();
     }
     lastProcessedPosition = position;
+    updateBacklog();
   }
 
   public void onExported(final long position) {
@@ -192,6 +254,22 @@ public final class FlowControl implements AppendListener {
       metrics.setExportingRate(exportingRate.rate());
     }
     updateWriteRateThrottle();
+    updateBacklog();
+  }
+
+  private void updateBacklog() {
+    final var limit = lagAwareLimit;
+    if (limit == null || lastWrittenPosition == -1) {
+      return;
+    }
+
+    final var processingBacklog = Math.max(0, lastWrittenPosition - lastProcessedPosition);
+    final var exportingBacklog =
+        lastExportedPosition > 0 ? Math.max(0, lastWrittenPosition - lastExportedPosition) : -1;
+    limit.onBacklog(processingBacklog, exportingBacklog);
+    metrics.setBacklog(processingBacklog, exportingBacklog);
+    metrics.setRequestLimitGradients(
+        limit.getLatencyGradient(), limit.getProcessingGradient(), limit.getExportingGradient());
   }
 
   private void updateWriteRateThrottle() {
@@ -207,6 +285,7 @@ public final class FlowControl implements AppendListener {
 
   public void setRequestLimit(final Limit requestLimit) {
     this.requestLimit = requestLimit;
+    lagAwareLimit = requestLimit instanceof final LagAwareLimit limit ? limit : null;
     processingLimiter =
         requestLimit != null
             ? new CommandRateLimiterBuilder().limit(requestLimit).build(metrics)
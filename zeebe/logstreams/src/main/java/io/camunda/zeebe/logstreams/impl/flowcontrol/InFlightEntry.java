@@ -16,17 +16,17 @@ import java.util.List;
 public final class InFlightEntry {
   final LogStreamMetrics metrics;
   List<LogAppendEntryMetadata> entryMetadata;
-  Listener requestListener;
+  List<Listener> requestListeners;
   Histogram.Timer writeTimer;
   Histogram.Timer commitTimer;
 
   public InFlightEntry(
       final LogStreamMetrics metrics,
       final List<LogAppendEntryMetadata> entryMetadata,
-      final Listener requestListener) {
+      final List<Listener> requestListeners) {
     this.metrics = metrics;
     this.entryMetadata = entryMetadata;
-    this.requestListener = requestListener;
+    this.requestListeners = requestListeners;
     writeTimer = null;
     commitTimer = null;
   }
@@ -34,8 +34,11 @@ public final class InFlightEntry {
   public void onAppend() {
     writeTimer = metrics.startWriteTimer();
     commitTimer = metrics.startCommitTimer();
-    if (requestListener != null) {
-      metrics.increaseInflightRequests();
+    final var requestListeners = this.requestListeners;
+    if (requestListeners != null) {
+      for (int i = 0; i < requestListeners.size(); i++) {
+        metrics.increaseInflightRequests();
+      }
     }
   }
 
@@ -64,18 +67,20 @@ public final class InFlightEntry {
   }
 
   public void onProcessed() {
-    final var requestListener = this.requestListener;
-    if (requestListener != null) {
-      requestListener.onSuccess();
-      metrics.decreaseInflightRequests();
-      this.requestListener = null;
+    final var requestListeners = this.requestListeners;
+    if (requestListeners != null) {
+      for (final var requestListener : requestListeners) {
+        requestListener.onSuccess();
+        metrics.decreaseInflightRequests();
+      }
+      this.requestListeners = null;
     }
   }
 
   public void cleanup() {
-    final var requestListener = this.requestListener;
-    if (requestListener != null) {
-      requestListener.onIgnore();
+    final var requestListeners = this.requestListeners;
+    if (requestListeners != null) {
+      requestListeners.forEach(Listener::onIgnore);
     }
     final var writeTimer = this.writeTimer;
     if (writeTimer != null) {
@@ -0,0 +1,238 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.flowcontrol;
+
+import static java.lang.Math.clamp;
+
+import com.google.common.base.Preconditions;
+import com.netflix.concurrency.limits.limit.AbstractLimit;
+
+/**
+ * A gradient based limit which does not only consider the latency of requests, but also how far the
+ * stream processor and the exporters lag behind the written log. Each of the three signals is
+ * turned into a gradient in the range [{@link #MIN_GRADIENT}, 1.0], where 1.0 means that the signal
+ * is within its acceptable range. The smallest gradient wins and is used to adjust the limit:
+ *
+ * <pre>
+ *   newLimit = estimatedLimit * gradient + queueSize
+ * </pre>
+ *
+ * <ul>
+ *   <li>The latency gradient compares the long term average latency with the short term average,
+ *       tolerating an increase by {@code rttTolerance}, similar to Gradient2.
+ *   <li>The processing gradient compares the number of written but not yet processed records with
+ *       the acceptable processing backlog.
+ *   <li>The exporting gradient compares the number of written but not yet exported records with the
+ *       acceptable exporting backlog.
+ * </ul>
+ *
+ * The backlogs are not observed by the limit itself, but must be reported through {@link
+ * #onBacklog(long, long)}. As long as no backlog is reported, only the latency is considered.
+ *
+ * <p>The new limit is smoothed, and it is only increased if the current limit is actually used, so
+ * that it does not grow unbounded while the demand is low.
+ */
+public final class LagAwareLimit extends AbstractLimit {
+  static final double MIN_GRADIENT = 0.5;
+  private static final int UNKNOWN_BACKLOG = -1;
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final double rttTolerance;
+  private final double smoothing;
+  private final long acceptableProcessingBacklog;
+  private final long acceptableExportingBacklog;
+  private final double shortRttFactor;
+  private final double longRttFactor;
+
+  private double estimatedLimit;
+  private double shortRtt;
+  private double longRtt;
+  private volatile long processingBacklog = UNKNOWN_BACKLOG;
+  private volatile long exportingBacklog = UNKNOWN_BACKLOG;
+  private volatile double latencyGradient = 1.0;
+  private volatile double processingGradient = 1.0;
+  private volatile double exportingGradient = 1.0;
+
+  private LagAwareLimit(final Builder builder) {
+    super(builder.initialLimit);
+    estimatedLimit = builder.initialLimit;
+    minLimit = builder.minLimit;
+    maxLimit = builder.maxLimit;
+    rttTolerance = builder.rttTolerance;
+    smoothing = builder.smoothing;
+    acceptableProcessingBacklog = builder.acceptableProcessingBacklog;
+    acceptableExportingBacklog = builder.acceptableExportingBacklog;
+    shortRttFactor = 2.0 / (builder.shortWindow + 1);
+    longRttFactor = 2.0 / (builder.longWindow + 1);
+  }
+
+  /**
+   * Reports the current backlogs, which are taken into account on the next update of the limit.
+   *
+   * @param processingBacklog the number of records which were written but not yet processed
+   * @param exportingBacklog the number of records which were written but not yet exported, or a
+   *     negative value if unknown, e.g. because there are no exporters
+   */
+  public void onBacklog(final long processingBacklog, final long exportingBacklog) {
+    this.processingBacklog = processingBacklog;
+    this.exportingBacklog = exportingBacklog;
+  }
+
+  @Override
+  protected int _update(
+      final long startTime, final long rtt, final int inflight, final boolean didDrop) {
+    updateRtt(rtt);
+
+    latencyGradient = gradient(longRtt * rttTolerance, shortRtt);
+    processingGradient = gradient(acceptableProcessingBacklog, processingBacklog);
+    exportingGradient = gradient(acceptableExportingBacklog, exportingBacklog);
+    final var gradient =
+        didDrop
+            ? MIN_GRADIENT
+            : Math.min(latencyGradient, Math.min(processingGradient, exportingGradient));
+
+    // don't grow the limit if it is not used, otherwise it grows without bounds on low load
+    if (gradient >= 1.0 && inflight < estimatedLimit / 2) {
+      return (int) estimatedLimit;
+    }
+
+    final var queueSize = Math.sqrt(estimatedLimit);
+    final var newLimit = estimatedLimit * gradient + queueSize;
+    estimatedLimit =
+        clamp(estimatedLimit * (1 - smoothing) + newLimit * smoothing, minLimit, maxLimit);
+
+    return (int) estimatedLimit;
+  }
+
+  private void updateRtt(final long rtt) {
+    if (longRtt == 0) {
+      shortRtt = rtt;
+      longRtt = rtt;
+      return;
+    }
+
+    shortRtt = shortRtt * (1 - shortRttFactor) + rtt * shortRttFactor;
+    longRtt = longRtt * (1 - longRttFactor) + rtt * longRttFactor;
+
+    // recover faster from a long period of high latency, so that the limit can grow again once the
+    // latency is back to normal
+    if (longRtt / shortRtt > 2) {
+      longRtt *= 0.95;
+    }
+  }
+
+  private static double gradient(final double acceptable, final double observed) {
+    if (observed <= 0) {
+      return 1.0;
+    }
+    return clamp(acceptable / observed, MIN_GRADIENT, 1.0);
+  }
+
+  public double getLatencyGradient() {
+    return latencyGradient;
+  }
+
+  public double getProcessingGradient() {
+    return processingGradient;
+  }
+
+  public double getExportingGradient() {
+    return exportingGradient;
+  }
+
+  @Override
+  public String toString() {
+    return "LagAwareLimit [limit=" + getLimit() + "]";
+  }
+
+  public static Builder newBuilder() {
+    return new Builder();
+  }
+
+  public static final class Builder {
+    private int initialLimit = 20;
+    private int minLimit = 1;
+    private int maxLimit = 1000;
+    private double rttTolerance = 2.0;
+    private double smoothing = 0.2;
+    private int shortWindow = 10;
+    private int longWindow = 600;
+    private long acceptableProcessingBacklog = 1000;
+    private long acceptableExportingBacklog = 100_000;
+
+    public Builder initialLimit(final int initialLimit) {
+      Preconditions.checkArgument(initialLimit > 0, "Initial limit must be positive");
+      this.initialLimit = initialLimit;
+      return this;
+    }
+
+    public Builder minLimit(final int minLimit) {
+      Preconditions.checkArgument(minLimit > 0, "Min limit must be positive");
+      this.minLimit = minLimit;
+      return this;
+    }
+
+    public Builder maxLimit(final int maxLimit) {
+      Preconditions.checkArgument(maxLimit > 0, "Max limit must be positive");
+      this.maxLimit = maxLimit;
+      return this;
+    }
+
+    /** How much the short term latency may exceed the long term latency before backing off. */
+    public Builder rttTolerance(final double rttTolerance) {
+      Preconditions.checkArgument(rttTolerance >= 1.0, "Rtt tolerance must be >= 1.0");
+      this.rttTolerance = rttTolerance;
+      return this;
+    }
+
+    /** How much weight a new limit has compared to the current estimated limit. */
+    public Builder smoothing(final double smoothing) {
+      Preconditions.checkArgument(
+          smoothing > 0.0 && smoothing <= 1.0, "Smoothing must be in the range (0.0, 1.0]");
+      this.smoothing = smoothing;
+      return this;
+    }
+
+    /** The number of samples over which the short term average latency is calculated. */
+    public Builder shortWindow(final int shortWindow) {
+      Preconditions.checkArgument(shortWindow > 0, "Short window must be positive");
+      this.shortWindow = shortWindow;
+      return this;
+    }
+
+    /** The number of samples over which the long term average latency is calculated. */
+    public Builder longWindow(final int longWindow) {
+      Preconditions.checkArgument(longWindow > 0, "Long window must be positive");
+      this.longWindow = longWindow;
+      return this;
+    }
+
+    /** When more records than this are not yet processed, the limit will be reduced. */
+    public Builder acceptableProcessingBacklog(final long acceptableProcessingBacklog) {
+      Preconditions.checkArgument(
+          acceptableProcessingBacklog > 0, "Acceptable processing backlog must be positive");
+      this.acceptableProcessingBacklog = acceptableProcessingBacklog;
+      return this;
+    }
+
+    /** When more records than this are not yet exported, the limit will be reduced. */
+    public Builder acceptableExportingBacklog(final long acceptableExportingBacklog) {
+      Preconditions.checkArgument(
+          acceptableExportingBacklog > 0, "Acceptable exporting backlog must be positive");
+      this.acceptableExportingBacklog = acceptableExportingBacklog;
+      return this;
+    }
+
+    public LagAwareLimit build() {
+      Preconditions.checkArgument(
+          minLimit <= maxLimit, "Min limit must not be greater than max limit");
+      return new LagAwareLimit(this);
+    }
+  }
+}
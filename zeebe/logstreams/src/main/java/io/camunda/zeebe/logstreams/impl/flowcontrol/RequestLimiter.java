@@ -9,26 +9,16 @@ package io.camunda.zeebe.logstreams.impl.flowcontrol;
 
 import com.netflix.concurrency.limits.limiter.AbstractLimiter;
 import io.camunda.zeebe.logstreams.impl.LogStreamMetrics;
-import io.camunda.zeebe.protocol.record.intent.CommandDistributionIntent;
-import io.camunda.zeebe.protocol.record.intent.DeploymentDistributionIntent;
-import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
 import io.camunda.zeebe.protocol.record.intent.Intent;
-import io.camunda.zeebe.protocol.record.intent.JobIntent;
-import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
 import java.util.Optional;
-import java.util.Set;
 
+/**
+ * Limits the number of in-flight user commands. Commands are admitted through the {@link
+ * CommandLane} of their intent, such that commands which complete existing work are still admitted
+ * when commands which create new work are already rejected.
+ */
 public final class RequestLimiter extends AbstractLimiter<Intent> {
 
-  private static final Set<? extends Intent> WHITE_LISTED_COMMANDS =
-      Set.of(
-          JobIntent.COMPLETE,
-          JobIntent.FAIL,
-          ProcessInstanceIntent.CANCEL,
-          DeploymentIntent.CREATE,
-          DeploymentIntent.DISTRIBUTE,
-          DeploymentDistributionIntent.COMPLETE,
-          CommandDistributionIntent.ACKNOWLEDGE);
   private final LogStreamMetrics metrics;
 
   private RequestLimiter(final CommandRateLimiterBuilder builder, final LogStreamMetrics metrics) {
@@ -40,11 +30,11 @@ public final class RequestLimiter extends AbstractLimiter<Intent> {
 
   @Override
   public Optional<Listener> acquire(final Intent intent) {
-    if (getInflight() >= getLimit() && !WHITE_LISTED_COMMANDS.contains(intent)) {
+    final var lane = CommandLane.of(intent);
+    if (!lane.admits(getInflight(), getLimit())) {
       return createRejectedListener();
     }
-    final Listener listener = createListener();
-    return Optional.of(listener);
+    return Optional.of(new LaneListener(createListener(), lane, metrics));
   }
 
   @Override
@@ -69,4 +59,31 @@ public final class RequestLimiter extends AbstractLimiter<Intent> {
       return new RequestLimiter(this, metrics);
     }
   }
+
+  /** Tracks the in-flight requests per lane, on top of the listener of the limiter. */
+  private record LaneListener(Listener delegate, CommandLane lane, LogStreamMetrics metrics)
+      implements Listener {
+
+    private LaneListener {
+      metrics.increaseLaneInflight(lane);
+    }
+
+    @Override
+    public void onSuccess() {
+      metrics.decreaseLaneInflight(lane);
+      delegate.onSuccess();
+    }
+
+    @Override
+    public void onIgnore() {
+      metrics.decreaseLaneInflight(lane);
+      delegate.onIgnore();
+    }
+
+    @Override
+    public void onDropped() {
+      metrics.decreaseLaneInflight(lane);
+      delegate.onDropped();
+    }
+  }
 }
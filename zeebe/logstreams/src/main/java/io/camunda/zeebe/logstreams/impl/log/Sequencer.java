@@ -18,6 +18,7 @@ import io.camunda.zeebe.logstreams.impl.serializer.DataFrameDescriptor;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
 import io.camunda.zeebe.logstreams.log.WriteContext;
+import io.camunda.zeebe.logstreams.log.WriteContext.UserCommand;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
 import io.camunda.zeebe.util.Either;
 import java.io.Closeable;
@@ -122,6 +123,9 @@ final class Sequencer implements LogStreamWriter, Closeable {
       lock.unlock();
       sequencerMetrics.observeBatchLengthBytes(batchLength);
       sequencerMetrics.observeBatchSize(batchSize);
+      if (context instanceof UserCommand) {
+        sequencerMetrics.observeUserCommandBatchSize(batchSize);
+      }
     }
   }
 
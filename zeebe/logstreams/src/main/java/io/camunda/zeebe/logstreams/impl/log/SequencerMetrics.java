@@ -28,12 +28,24 @@ final class SequencerMetrics {
           .labelNames("partition")
           .register();
 
+  private static final Histogram USER_COMMAND_BATCH_SIZE =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("sequencer_user_command_batch_size")
+          .help(
+              "Histogram over the number of client commands in each batch that is appended by the command API")
+          .buckets(1, 2, 3, 5, 10, 25, 50, 100, 500, 1000)
+          .labelNames("partition")
+          .register();
+
   private final Histogram.Child batchSize;
+  private final Histogram.Child userCommandBatchSize;
   private final Histogram.Child batchLengthBytes;
 
   SequencerMetrics(final int partitionId) {
     final var partitionLabel = String.valueOf(partitionId);
     batchSize = BATCH_SIZE.labels(partitionLabel);
+    userCommandBatchSize = USER_COMMAND_BATCH_SIZE.labels(partitionLabel);
     batchLengthBytes = BATCH_LENGTH_BYTES.labels(partitionLabel);
   }
 
@@ -41,6 +53,10 @@ final class SequencerMetrics {
     batchSize.observe(size);
   }
 
+  void observeUserCommandBatchSize(final int size) {
+    userCommandBatchSize.observe(size);
+  }
+
   void observeBatchLengthBytes(final int lengthBytes) {
     final int batchLengthKiloBytes = Math.floorDiv(lengthBytes, 1024);
     batchLengthBytes.observe(batchLengthKiloBytes);
@@ -0,0 +1,212 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.flowcontrol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.netflix.concurrency.limits.limit.FixedLimit;
+import io.camunda.zeebe.logstreams.impl.LogStreamMetrics;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl.Rejection;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.RateLimit.Throttling;
+import io.camunda.zeebe.logstreams.impl.log.LogAppendEntryMetadata;
+import io.camunda.zeebe.logstreams.log.WriteContext;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
+import io.camunda.zeebe.protocol.record.intent.UserTaskIntent;
+import io.camunda.zeebe.test.util.asserts.EitherAssert;
+import io.prometheus.client.CollectorRegistry;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+final class FlowControlTest {
+  private static final LogAppendEntryMetadata CREATE_COMMAND =
+      new LogAppendEntryMetadata(
+          RecordType.COMMAND,
+          ValueType.PROCESS_INSTANCE_CREATION,
+          ProcessInstanceCreationIntent.CREATE);
+  private static final WriteContext USER_COMMAND =
+      WriteContext.userCommand(ProcessInstanceCreationIntent.CREATE);
+
+  private static final LogAppendEntryMetadata COMPLETE_COMMAND =
+      new LogAppendEntryMetadata(RecordType.COMMAND, ValueType.USER_TASK, UserTaskIntent.COMPLETE);
+
+  private final FlowControl flowControl =
+      new FlowControl(new LogStreamMetrics(1), FixedLimit.of(2), RateLimit.disabled());
+
+  @Test
+  void shouldAcquireOneRequestPerUserCommandInBatch() {
+    // given
+    final var batch = List.of(CREATE_COMMAND, CREATE_COMMAND);
+    flowControl.onAppend(flowControl.tryAcquire(USER_COMMAND, batch).get(), 2);
+
+    // when
+    final var result = flowControl.tryAcquire(USER_COMMAND, List.of(CREATE_COMMAND));
+
+    // then
+    EitherAssert.assertThat(result).isLeft().left().isEqualTo(Rejection.RequestLimitExhausted);
+  }
+
+  @Test
+  void shouldRejectUserCommandBatchExceedingRequestLimit() {
+    // given
+    final var batch = Collections.nCopies(3, CREATE_COMMAND);
+
+    // when
+    final var result = flowControl.tryAcquire(USER_COMMAND, batch);
+
+    // then
+    EitherAssert.assertThat(result).isLeft().left().isEqualTo(Rejection.RequestLimitExhausted);
+  }
+
+  @Test
+  void shouldReleaseAcquiredRequestsOfRejectedBatch() {
+    // given
+    flowControl.tryAcquire(USER_COMMAND, Collections.nCopies(3, CREATE_COMMAND));
+
+    // when
+    final var result =
+        flowControl.tryAcquire(USER_COMMAND, List.of(CREATE_COMMAND, CREATE_COMMAND));
+
+    // then
+    EitherAssert.assertThat(result).isRight();
+  }
+
+  @Test
+  void shouldReleaseRequestsOfBatchWhenProcessed() {
+    // given
+    final var batch = List.of(CREATE_COMMAND, CREATE_COMMAND);
+    flowControl.onAppend(flowControl.tryAcquire(USER_COMMAND, batch).get(), 2);
+
+    // when
+    flowControl.onProcessed(2);
+    final var result = flowControl.tryAcquire(USER_COMMAND, batch);
+
+    // then
+    EitherAssert.assertThat(result).isRight();
+  }
+
+  @Test
+  void shouldReserveRequestLimitForCompletionCommands() {
+    // given
+    final var limitedFlowControl =
+        new FlowControl(new LogStreamMetrics(1), FixedLimit.of(10), RateLimit.disabled());
+    final var newWork = Collections.nCopies(9, CREATE_COMMAND);
+    limitedFlowControl.onAppend(limitedFlowControl.tryAcquire(USER_COMMAND, newWork).get(), 9);
+
+    // when
+    final var newWorkResult = limitedFlowControl.tryAcquire(USER_COMMAND, List.of(CREATE_COMMAND));
+    final var completionResult =
+        limitedFlowControl.tryAcquire(
+            WriteContext.userCommand(UserTaskIntent.COMPLETE), List.of(COMPLETE_COMMAND));
+
+    // then
+    EitherAssert.assertThat(newWorkResult)
+        .isLeft()
+        .left()
+        .isEqualTo(Rejection.RequestLimitExhausted);
+    EitherAssert.assertThat(completionResult).isRight();
+  }
+
+  @Test
+  void shouldAcceptInterPartitionCommandsWhenRequestLimitIsExhausted() {
+    // given
+    final var limitedFlowControl =
+        new FlowControl(new LogStreamMetrics(1), FixedLimit.of(1), RateLimit.disabled());
+    limitedFlowControl.onAppend(
+        limitedFlowControl.tryAcquire(USER_COMMAND, List.of(CREATE_COMMAND)).get(), 1);
+
+    // when
+    final var interPartitionResult =
+        limitedFlowControl.tryAcquire(WriteContext.interPartition(), List.of(CREATE_COMMAND));
+
+    // then
+    EitherAssert.assertThat(interPartitionResult).isRight();
+  }
+
+  @Test
+  void shouldRejectInterPartitionCommandsWhenWriteRateIsExhausted() {
+    // given
+    final var writeRateLimit =
+        new RateLimit(true, 1, Duration.ZERO, new Throttling(false, 0, 0, Duration.ZERO));
+    final var rateLimitedFlowControl =
+        new FlowControl(new LogStreamMetrics(5), FixedLimit.of(10), writeRateLimit);
+    rateLimitedFlowControl.tryAcquire(WriteContext.interPartition(), List.of(CREATE_COMMAND));
+
+    // when
+    final var interPartitionResult =
+        rateLimitedFlowControl.tryAcquire(WriteContext.interPartition(), List.of(CREATE_COMMAND));
+
+    // then
+    EitherAssert.assertThat(interPartitionResult)
+        .isLeft()
+        .left()
+        .isEqualTo(Rejection.WriteRateLimitExhausted);
+    assertThat(laneRequests(5, CommandLane.INTERNAL, "rejected")).isOne();
+  }
+
+  @Test
+  void shouldCountAcceptedBatchOncePerCommand() {
+    // given
+    final var countingFlowControl =
+        new FlowControl(new LogStreamMetrics(2), FixedLimit.of(10), RateLimit.disabled());
+
+    // when
+    countingFlowControl.tryAcquire(USER_COMMAND, List.of(CREATE_COMMAND, COMPLETE_COMMAND));
+
+    // then
+    assertThat(laneRequests(2, CommandLane.NEW_WORK, "accepted")).isEqualTo(1);
+    assertThat(laneRequests(2, CommandLane.COMPLETION, "accepted")).isEqualTo(1);
+  }
+
+  @Test
+  void shouldNotCountRejectedBatchWhichIsRetriedOneByOne() {
+    // given
+    final var countingFlowControl =
+        new FlowControl(new LogStreamMetrics(3), FixedLimit.of(2), RateLimit.disabled());
+
+    // when - the batch is rejected, and its commands are written again one by one
+    countingFlowControl.tryAcquire(USER_COMMAND, Collections.nCopies(3, CREATE_COMMAND));
+    countingFlowControl.onAppend(
+        countingFlowControl.tryAcquire(USER_COMMAND, List.of(CREATE_COMMAND)).get(), 1);
+    countingFlowControl.onAppend(
+        countingFlowControl.tryAcquire(USER_COMMAND, List.of(CREATE_COMMAND)).get(), 2);
+    countingFlowControl.tryAcquire(USER_COMMAND, List.of(CREATE_COMMAND));
+
+    // then
+    assertThat(laneRequests(3, CommandLane.NEW_WORK, "accepted")).isEqualTo(2);
+    assertThat(laneRequests(3, CommandLane.NEW_WORK, "rejected")).isEqualTo(1);
+  }
+
+  @Test
+  void shouldCountInterPartitionCommandsAsInternal() {
+    // given
+    final var countingFlowControl =
+        new FlowControl(new LogStreamMetrics(4), FixedLimit.of(2), RateLimit.disabled());
+
+    // when
+    countingFlowControl.tryAcquire(
+        WriteContext.interPartition(), Collections.nCopies(3, CREATE_COMMAND));
+
+    // then
+    assertThat(laneRequests(4, CommandLane.INTERNAL, "accepted")).isEqualTo(3);
+    assertThat(laneRequests(4, CommandLane.NEW_WORK, "accepted")).isZero();
+  }
+
+  private static double laneRequests(
+      final int partition, final CommandLane lane, final String outcome) {
+    final var value =
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            "zeebe_flow_control_lane_requests_total",
+            new String[] {"partition", "lane", "outcome"},
+            new String[] {String.valueOf(partition), lane.label(), outcome});
+    return value == null ? 0 : value;
+  }
+}
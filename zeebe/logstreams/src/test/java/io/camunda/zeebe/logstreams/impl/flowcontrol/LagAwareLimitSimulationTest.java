@@ -0,0 +1,175 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.flowcontrol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.netflix.concurrency.limits.Limit;
+import com.netflix.concurrency.limits.limit.FixedLimit;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Simulates a partition under overload: clients try to write far more commands than the stream
+ * processor can process, and the stream processor processes more commands than the exporters can
+ * export. The simulation advances in ticks of one millisecond and is fully deterministic.
+ */
+final class LagAwareLimitSimulationTest {
+  private static final int TICKS = 60_000;
+  private static final int DEMAND_PER_TICK = 50;
+  private static final int PROCESSING_PER_TICK = 10;
+  private static final int EXPORTING_PER_TICK = 5;
+  private static final long ACCEPTABLE_EXPORTING_BACKLOG = 1_000;
+
+  @Test
+  void shouldBoundExportingBacklogUnderOverload() {
+    // given
+    final var limit =
+        LagAwareLimit.newBuilder()
+            .acceptableProcessingBacklog(100)
+            .acceptableExportingBacklog(ACCEPTABLE_EXPORTING_BACKLOG)
+            .build();
+
+    // when
+    final var result = new Simulation(limit, true).run();
+
+    // then
+    assertThat(result.maxExportingBacklog(TICKS / 2, TICKS))
+        .isLessThanOrEqualTo(2 * ACCEPTABLE_EXPORTING_BACKLOG);
+    assertThat(result.throughput(TICKS / 2, TICKS))
+        .isGreaterThanOrEqualTo(EXPORTING_PER_TICK * 0.8);
+  }
+
+  @Test
+  void shouldKeepLatencyStableUnderOverload() {
+    // given
+    final var limit =
+        LagAwareLimit.newBuilder()
+            .acceptableProcessingBacklog(100)
+            .acceptableExportingBacklog(ACCEPTABLE_EXPORTING_BACKLOG)
+            .build();
+
+    // when
+    final var result = new Simulation(limit, true).run();
+
+    // then
+    final var p99InThirdQuarter = result.latencyPercentile(TICKS / 2, TICKS * 3 / 4, 0.99);
+    final var p99InLastQuarter = result.latencyPercentile(TICKS * 3 / 4, TICKS, 0.99);
+    assertThat(p99InLastQuarter).isLessThanOrEqualTo(10).isLessThanOrEqualTo(p99InThirdQuarter * 2);
+  }
+
+  @Test
+  void shouldNotBoundExportingBacklogWithoutBacklogSignal() {
+    // given - the same limit, but without reporting the backlogs, as with a latency only limit
+    final var limit = LagAwareLimit.newBuilder().build();
+
+    // when
+    final var result = new Simulation(limit, false).run();
+
+    // then - the exporting backlog grows with the difference of processing and exporting rate
+    assertThat(result.maxExportingBacklog(TICKS / 2, TICKS))
+        .isGreaterThan(100 * ACCEPTABLE_EXPORTING_BACKLOG);
+  }
+
+  @Test
+  void shouldNotBoundExportingBacklogWithFixedLimit() {
+    // given
+    final var limit = FixedLimit.of(100);
+
+    // when
+    final var result = new Simulation(limit, false).run();
+
+    // then
+    assertThat(result.maxExportingBacklog(TICKS / 2, TICKS))
+        .isGreaterThan(100 * ACCEPTABLE_EXPORTING_BACKLOG);
+  }
+
+  /**
+   * Every tick, commands are admitted until the limit is reached. The stream processor then
+   * processes up to {@link #PROCESSING_PER_TICK} commands in order, which completes the request and
+   * samples its latency. Finally, the exporters export up to {@link #EXPORTING_PER_TICK} processed
+   * commands.
+   */
+  private static final class Simulation {
+    private final Limit limit;
+    private final boolean reportBacklog;
+    private final ArrayDeque<Long> unprocessed = new ArrayDeque<>();
+    private final long[] exportingBacklog = new long[TICKS];
+    private final long[] processed = new long[TICKS];
+    private final int[][] latencies = new int[TICKS][];
+    private long written;
+    private long exported;
+
+    private Simulation(final Limit limit, final boolean reportBacklog) {
+      this.limit = limit;
+      this.reportBacklog = reportBacklog;
+    }
+
+    private Simulation run() {
+      for (int tick = 0; tick < TICKS; tick++) {
+        admit(tick);
+        process(tick);
+        export(tick);
+      }
+      return this;
+    }
+
+    private void admit(final int tick) {
+      for (int i = 0; i < DEMAND_PER_TICK && unprocessed.size() < limit.getLimit(); i++) {
+        unprocessed.add((long) tick);
+        written++;
+      }
+    }
+
+    private void process(final int tick) {
+      final var count = Math.min(PROCESSING_PER_TICK, unprocessed.size());
+      latencies[tick] = new int[count];
+      for (int i = 0; i < count; i++) {
+        final var inflight = unprocessed.size();
+        final long admittedAt = unprocessed.poll();
+        final var latency = tick + 1 - admittedAt;
+        latencies[tick][i] = (int) latency;
+        processed[tick]++;
+        reportBacklog();
+        limit.onSample(
+            TimeUnit.MILLISECONDS.toNanos(admittedAt),
+            TimeUnit.MILLISECONDS.toNanos(latency),
+            inflight,
+            false);
+      }
+    }
+
+    private void export(final int tick) {
+      final var processedTotal = written - unprocessed.size();
+      exported = Math.min(processedTotal, exported + EXPORTING_PER_TICK);
+      exportingBacklog[tick] = written - exported;
+    }
+
+    private void reportBacklog() {
+      if (reportBacklog && limit instanceof final LagAwareLimit lagAwareLimit) {
+        lagAwareLimit.onBacklog(unprocessed.size(), written - exported);
+      }
+    }
+
+    private long maxExportingBacklog(final int from, final int to) {
+      return Arrays.stream(exportingBacklog, from, to).max().orElseThrow();
+    }
+
+    private double throughput(final int from, final int to) {
+      return Arrays.stream(processed, from, to).sum() / (double) (to - from);
+    }
+
+    private int latencyPercentile(final int from, final int to, final double percentile) {
+      final var sorted =
+          Arrays.stream(latencies, from, to).flatMapToInt(Arrays::stream).sorted().toArray();
+      return sorted[(int) Math.min(sorted.length - 1, sorted.length * percentile)];
+    }
+  }
+}
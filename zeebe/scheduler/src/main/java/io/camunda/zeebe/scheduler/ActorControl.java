@@ -186,7 +186,7 @@ public class ActorControl implements ConcurrencyControl {
           "Incorrect usage of actor.call(...) cannot be called from current actor.");
     }
 
-    final ActorJob job = new ActorJob();
+    final ActorJob job = newJob(runner);
     final ActorFuture<T> future = job.setCallable(callable);
     job.onJobAddedToTask(task);
     task.submit(job);
@@ -223,14 +223,7 @@ public class ActorControl implements ConcurrencyControl {
   public void submit(final Runnable action) {
     final ActorThread currentThread = ActorThread.current();
     final ActorTask currentTask = currentThread == null ? null : currentThread.getCurrentTask();
-    final ActorJob job;
-
-    if (currentThread != null && currentTask == task) {
-      job = currentThread.newJob();
-    } else {
-      job = new ActorJob();
-    }
-
+    final ActorJob job = newJob(currentThread);
     job.setRunnable(action);
     job.onJobAddedToTask(task);
     task.submit(job);
@@ -336,13 +329,21 @@ public class ActorControl implements ConcurrencyControl {
       newJob.onJobAddedToTask(task);
       task.insertJob(newJob);
     } else {
-      final ActorJob job = new ActorJob();
+      final ActorJob job = newJob(currentActorThread);
       job.setRunnable(runnable);
       job.onJobAddedToTask(task);
       task.submit(job);
     }
   }
 
+  /**
+   * Takes a job from the pool of the given actor thread, if the job is submitted from an actor
+   * thread; the thread which executes the job returns it to its own pool afterwards.
+   */
+  private static ActorJob newJob(final ActorThread currentThread) {
+    return currentThread != null ? currentThread.newJob() : new ActorJob();
+  }
+
   public boolean isClosing() {
     ensureCalledFromWithinActor("isClosing()");
     return task.isClosing();
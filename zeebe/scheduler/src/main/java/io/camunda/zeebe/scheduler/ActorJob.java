@@ -28,6 +28,8 @@ public final class ActorJob {
   private ActorFuture resultFuture;
   private ActorSubscription subscription;
   private long scheduledAt = -1;
+  // links the job to the next one while it is in an ActorJobQueue
+  ActorJob next;
 
   public void onJobAddedToTask(final ActorTask task) {
     scheduledAt = System.nanoTime();
@@ -55,17 +57,24 @@ public final class ActorJob {
   }
 
   private void observeSchedulingLatency(final ActorMetrics metrics) {
-    if (metrics.isEnabled()) {
+    final var profile = task.getProfile();
+    if (metrics.isEnabled() || profile != null) {
       final var now = System.nanoTime();
       if (subscription instanceof final ActorFutureSubscription s
           && s.getFuture() instanceof final CompletableActorFuture<?> f) {
         final var subscriptionCompleted = f.getCompletedAt();
         metrics.observeJobSchedulingLatency(now - subscriptionCompleted, "Future");
       } else if (subscription instanceof final TimerSubscription s) {
-        final var timerExpired = s.getTimerExpiredAt();
-        metrics.observeJobSchedulingLatency(now - timerExpired, "Timer");
+        final var lateness = now - s.getDeadlineNanos();
+        metrics.observeJobSchedulingLatency(lateness, "Timer");
+        if (profile != null) {
+          profile.observeTimerLateness(lateness);
+        }
       } else if (subscription == null && scheduledAt != -1) {
         metrics.observeJobSchedulingLatency(now - scheduledAt, "None");
+        if (profile != null) {
+          profile.observeQueueWaitTime(now - scheduledAt);
+        }
       }
     }
   }
@@ -113,6 +122,7 @@ public final class ActorJob {
 
     resultFuture = null;
     subscription = null;
+    next = null;
   }
 
   @Override
@@ -0,0 +1,147 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Unbounded, lock-free multi-producer single-consumer queue of jobs, which links the jobs through
+ * their {@link ActorJob#next} field instead of allocating a node for every job. Any thread may
+ * {@link #offer(ActorJob)} jobs; only the thread which executes the actor task may poll them.
+ *
+ * <p>This is the intrusive variant of Dmitry Vyukov's MPSC queue: producers swap themselves in as
+ * the tail and then link the previous tail to their job. A job is only visible to the consumer once
+ * it is linked, so {@link #poll()} may return null while a producer is between both steps; the
+ * producer then wakes up the task after linking its job.
+ *
+ * <p>It doesn't implement {@link java.util.Queue}, as it can't be iterated or inspected from any
+ * other thread than the consumer.
+ */
+final class ActorJobQueue {
+  /** Fails every offered job, as it is used for actors which are not running. */
+  static final ActorJobQueue CLOSED = new ActorJobQueue(true);
+
+  private static final VarHandle TAIL;
+  private static final VarHandle NEXT;
+  private static final VarHandle SIZE;
+
+  static {
+    try {
+      final var lookup = MethodHandles.lookup();
+      TAIL = lookup.findVarHandle(ActorJobQueue.class, "tail", ActorJob.class);
+      NEXT = lookup.findVarHandle(ActorJob.class, "next", ActorJob.class);
+      SIZE = lookup.findVarHandle(ActorJobQueue.class, "size", int.class);
+    } catch (final NoSuchFieldException | IllegalAccessException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private final boolean closed;
+  // marks the end of the queue whenever the consumer took all linked jobs
+  private final ActorJob stub = new ActorJob();
+  // only accessed by the consumer
+  private ActorJob head = stub;
+
+  // accessed through TAIL
+  @SuppressWarnings("FieldMayBeFinal")
+  private volatile ActorJob tail = stub;
+
+  // accessed through SIZE; counts the offered jobs which were not polled yet
+  @SuppressWarnings("FieldMayBeFinal")
+  private volatile int size;
+
+  ActorJobQueue() {
+    this(false);
+  }
+
+  private ActorJobQueue(final boolean closed) {
+    this.closed = closed;
+  }
+
+  /**
+   * Appends the job to the queue; may be called from any thread.
+   *
+   * @return always true, as the queue is unbounded, and a closed queue fails the job instead
+   */
+  boolean offer(final ActorJob job) {
+    if (closed) {
+      job.failFuture("Actor is closed");
+      return true;
+    }
+
+    SIZE.getAndAdd(this, 1);
+    link(job);
+    return true;
+  }
+
+  /**
+   * Takes the first linked job from the queue; must only be called by the consumer.
+   *
+   * @return the first job, or null if no job is linked yet
+   */
+  ActorJob poll() {
+    ActorJob first = head;
+    ActorJob next = (ActorJob) NEXT.getAcquire(first);
+
+    if (first == stub) {
+      if (next == null) {
+        return null;
+      }
+
+      head = next;
+      first = next;
+      next = (ActorJob) NEXT.getAcquire(next);
+    }
+
+    if (next != null) {
+      return take(first, next);
+    }
+
+    if (first != tail) {
+      // a producer swapped in a new tail but didn't link it yet
+      return null;
+    }
+
+    // the first job is the last one; put the stub behind it so that it can be taken
+    link(stub);
+    next = (ActorJob) NEXT.getAcquire(first);
+    return next != null ? take(first, next) : null;
+  }
+
+  /** Returns the first linked job without taking it; must only be called by the consumer. */
+  ActorJob peek() {
+    return head == stub ? (ActorJob) NEXT.getAcquire(stub) : head;
+  }
+
+  /** Returns true if no job is linked yet; must only be called by the consumer. */
+  boolean isEmpty() {
+    return peek() == null;
+  }
+
+  /**
+   * Returns the number of offered jobs which were not polled yet. It may be called from any thread,
+   * e.g. for metrics, and includes jobs which are offered but not linked yet.
+   */
+  int size() {
+    return Math.max(0, (int) SIZE.getVolatile(this));
+  }
+
+  private void link(final ActorJob job) {
+    job.next = null;
+    final var previousTail = (ActorJob) TAIL.getAndSet(this, job);
+    NEXT.setRelease(previousTail, job);
+  }
+
+  private ActorJob take(final ActorJob first, final ActorJob next) {
+    head = next;
+    first.next = null;
+    SIZE.getAndAdd(this, -1);
+    return first;
+  }
+}
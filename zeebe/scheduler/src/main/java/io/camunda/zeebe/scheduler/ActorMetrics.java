@@ -47,10 +47,53 @@ final class ActorMetrics {
           .help("The length of the job queue for an actor task")
           .labelNames("actorName")
           .register();
+
+  private static final Counter THREAD_IDLE_TIME =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_thread_idle_time")
+          .help("Total time in seconds which an actor thread was idle, waiting for tasks")
+          .labelNames("thread")
+          .register();
+
+  private static final Histogram THREAD_WAKEUP_LATENCY =
+      Histogram.build()
+          .exponentialBuckets(1 / 1_000_000f, 4, 12)
+          .namespace("zeebe")
+          .name("actor_thread_wakeup_latency")
+          .help("Time between submitting work to an idle actor thread and executing it")
+          .labelNames("thread")
+          .register();
+
+  private static final Counter THREAD_STEAL_COUNT =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_thread_steal_count")
+          .help(
+              "Number of attempts of an actor thread to steal a queued task from another thread;"
+                  + " an attempt fails if other threads claimed the queued tasks first")
+          .labelNames("thread", "result")
+          .register();
+
   private final boolean enabled;
+  private final Counter.Child idleTime;
+  private final Histogram.Child wakeupLatency;
+  private final Counter.Child successfulSteals;
+  private final Counter.Child failedSteals;
 
-  public ActorMetrics(final boolean metricsEnabled) {
+  public ActorMetrics(final boolean metricsEnabled, final String threadName) {
     enabled = metricsEnabled;
+    if (enabled) {
+      idleTime = THREAD_IDLE_TIME.labels(threadName);
+      wakeupLatency = THREAD_WAKEUP_LATENCY.labels(threadName);
+      successfulSteals = THREAD_STEAL_COUNT.labels(threadName, "success");
+      failedSteals = THREAD_STEAL_COUNT.labels(threadName, "failure");
+    } else {
+      idleTime = null;
+      wakeupLatency = null;
+      successfulSteals = null;
+      failedSteals = null;
+    }
   }
 
   Histogram.Timer startExecutionTimer(final String name) {
@@ -78,6 +121,24 @@ final class ActorMetrics {
     }
   }
 
+  void observeIdleTime(final long idleTimeNs) {
+    if (enabled) {
+      idleTime.inc(idleTimeNs / 1_000_000_000d);
+    }
+  }
+
+  void observeWakeupLatency(final long latencyNs) {
+    if (enabled) {
+      wakeupLatency.observe(latencyNs / 1_000_000_000f);
+    }
+  }
+
+  void countSteal(final boolean success) {
+    if (enabled) {
+      (success ? successfulSteals : failedSteals).inc();
+    }
+  }
+
   public boolean isEnabled() {
     return enabled;
   }
@@ -0,0 +1,167 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import io.prometheus.client.Counter;
+
+/**
+ * Accounts where the actor threads spend their time for one actor task: how long they execute the
+ * actor, how many jobs it runs, how long its jobs wait in its queue and how late its timers fire.
+ *
+ * <p>To keep the overhead low enough for production, the statistics of a task execution are first
+ * accumulated in plain fields by the executing thread, and only added to the Prometheus counters
+ * once per execution. The profiles of all actors with the same name share the same counters.
+ */
+public final class ActorProfile {
+  private static final Counter EXECUTION_TIME =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_execution_time")
+          .help("Total time in seconds which the actor threads spent executing an actor")
+          .labelNames("actorName")
+          .register();
+
+  private static final Counter JOB_COUNT =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_job_count")
+          .help("Number of jobs executed by an actor")
+          .labelNames("actorName")
+          .register();
+
+  private static final Counter QUEUE_WAIT_TIME =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_job_queue_wait_time")
+          .help("Total time in seconds which submitted jobs waited until the actor executed them")
+          .labelNames("actorName")
+          .register();
+
+  private static final Counter QUEUED_JOB_COUNT =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_queued_job_count")
+          .help("Number of submitted jobs which the actor executed")
+          .labelNames("actorName")
+          .register();
+
+  private static final Counter TIMER_LATENESS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_timer_lateness")
+          .help("Total time in seconds between the deadline of the actor's timers and running them")
+          .labelNames("actorName")
+          .register();
+
+  private static final Counter TIMER_COUNT =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_timer_count")
+          .help("Number of expired timers which the actor ran")
+          .labelNames("actorName")
+          .register();
+
+  private final String actorName;
+  private final Counter.Child executionTime;
+  private final Counter.Child jobCount;
+  private final Counter.Child queueWaitTime;
+  private final Counter.Child queuedJobCount;
+  private final Counter.Child timerLateness;
+  private final Counter.Child timerCount;
+
+  // only accessed by the thread which currently executes the actor
+  private long pendingJobs;
+  private long pendingQueueWaitTimeNs;
+  private long pendingQueuedJobs;
+  private long pendingTimerLatenessNs;
+  private long pendingTimers;
+
+  ActorProfile(final String actorName) {
+    this.actorName = actorName;
+    executionTime = EXECUTION_TIME.labels(actorName);
+    jobCount = JOB_COUNT.labels(actorName);
+    queueWaitTime = QUEUE_WAIT_TIME.labels(actorName);
+    queuedJobCount = QUEUED_JOB_COUNT.labels(actorName);
+    timerLateness = TIMER_LATENESS.labels(actorName);
+    timerCount = TIMER_COUNT.labels(actorName);
+  }
+
+  void countJob() {
+    pendingJobs++;
+  }
+
+  void observeQueueWaitTime(final long waitTimeNs) {
+    pendingQueueWaitTimeNs += waitTimeNs;
+    pendingQueuedJobs++;
+  }
+
+  void observeTimerLateness(final long latenessNs) {
+    pendingTimerLatenessNs += latenessNs;
+    pendingTimers++;
+  }
+
+  /** Adds the execution and everything observed while executing the actor to the counters. */
+  void onTaskExecuted(final long executionTimeNs) {
+    executionTime.inc(toSeconds(executionTimeNs));
+
+    if (pendingJobs > 0) {
+      jobCount.inc(pendingJobs);
+      pendingJobs = 0;
+    }
+
+    if (pendingQueuedJobs > 0) {
+      queueWaitTime.inc(toSeconds(pendingQueueWaitTimeNs));
+      queuedJobCount.inc(pendingQueuedJobs);
+      pendingQueueWaitTimeNs = 0;
+      pendingQueuedJobs = 0;
+    }
+
+    if (pendingTimers > 0) {
+      timerLateness.inc(toSeconds(pendingTimerLatenessNs));
+      timerCount.inc(pendingTimers);
+      pendingTimerLatenessNs = 0;
+      pendingTimers = 0;
+    }
+  }
+
+  /** Returns the statistics of all actors with this name since the application started. */
+  public Snapshot snapshot() {
+    return new Snapshot(
+        actorName,
+        executionTime.get(),
+        (long) jobCount.get(),
+        queueWaitTime.get(),
+        (long) queuedJobCount.get(),
+        timerLateness.get(),
+        (long) timerCount.get());
+  }
+
+  private static double toSeconds(final long nanos) {
+    return nanos / 1_000_000_000d;
+  }
+
+  /**
+   * The statistics of an actor at a point in time.
+   *
+   * @param actorName the name of the actor
+   * @param executionTimeSeconds the total time which the actor threads spent executing the actor
+   * @param jobCount the number of jobs executed by the actor
+   * @param queueWaitTimeSeconds the total time which submitted jobs waited until being executed
+   * @param queuedJobCount the number of submitted jobs which were executed
+   * @param timerLatenessSeconds the total time between the deadline of timers and running them
+   * @param timerCount the number of expired timers which were run
+   */
+  public record Snapshot(
+      String actorName,
+      double executionTimeSeconds,
+      long jobCount,
+      double queueWaitTimeSeconds,
+      long queuedJobCount,
+      double timerLatenessSeconds,
+      long timerCount) {}
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import io.camunda.zeebe.scheduler.ActorProfile.Snapshot;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates the {@link ActorProfile} of every actor task which is submitted to the scheduler, such
+ * that the actors which take the most time of the actor threads can be listed.
+ */
+public final class ActorProfiler {
+  // one profile per actor name is enough to read the counters which all of them share
+  private final Map<String, NamedProfile> profiles = new ConcurrentHashMap<>();
+
+  ActorProfile newProfile(final String actorName) {
+    final var profile = new ActorProfile(actorName);
+    profiles.compute(
+        actorName,
+        (name, named) -> named == null ? new NamedProfile(profile, 1) : named.withTasks(1));
+    return profile;
+  }
+
+  /** Forgets the actor once no task with its name is scheduled anymore. */
+  void removeProfile(final String actorName) {
+    profiles.computeIfPresent(
+        actorName, (name, named) -> named.tasks() == 1 ? null : named.withTasks(-1));
+  }
+
+  /** Returns the actors which the actor threads spent the most time executing, in that order. */
+  public List<Snapshot> getTopActors(final int limit) {
+    return profiles.values().stream()
+        .map(named -> named.profile().snapshot())
+        .sorted(Comparator.comparingDouble(Snapshot::executionTimeSeconds).reversed())
+        .limit(limit)
+        .toList();
+  }
+
+  private record NamedProfile(ActorProfile profile, int tasks) {
+    private NamedProfile withTasks(final int delta) {
+      return new NamedProfile(profile, tasks + delta);
+    }
+  }
+}
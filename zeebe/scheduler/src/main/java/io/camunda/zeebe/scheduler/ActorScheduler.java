@@ -7,9 +7,12 @@
  */
 package io.camunda.zeebe.scheduler;
 
+import io.camunda.zeebe.scheduler.affinity.CpuTopology;
+import io.camunda.zeebe.scheduler.affinity.ThreadAffinity;
 import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
@@ -20,10 +23,12 @@ import org.agrona.concurrent.IdleStrategy;
 public final class ActorScheduler implements AutoCloseable, ActorSchedulingService {
   private final AtomicReference<SchedulerState> state = new AtomicReference<>();
   private final ActorExecutor actorTaskExecutor;
+  private final ActorProfiler profiler;
 
   public ActorScheduler(final ActorSchedulerBuilder builder) {
     state.set(SchedulerState.NEW);
     actorTaskExecutor = builder.getActorExecutor();
+    profiler = builder.getActorProfiler();
   }
 
   /**
@@ -65,6 +70,11 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     };
   }
 
+  /** Returns the profiler of the actors, if profiling is enabled. */
+  public Optional<ActorProfiler> getProfiler() {
+    return Optional.ofNullable(profiler);
+  }
+
   private void checkRunningState() {
     if (state.get() != SchedulerState.RUNNING) {
       throw new IllegalStateException("Actor scheduler is not running");
@@ -121,6 +131,13 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     /** 20 ms instead of {@link BackoffIdleStrategy#DEFAULT_MAX_PARK_PERIOD_NS}. */
     public static final long DEFAULT_MAX_PARK_PERIOD_NS = 20_000_000;
 
+    /**
+     * The longest time which an {@link AdaptiveIdleStrategy} spins before parking.
+     *
+     * @see AdaptiveIdleStrategy
+     */
+    public static final long DEFAULT_MAX_SPIN_PERIOD_NS = 50_000;
+
     private String schedulerName = "";
     private ActorClock actorClock;
     private int cpuBoundThreadsCount = Math.max(1, Runtime.getRuntime().availableProcessors() - 2);
@@ -131,8 +148,12 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     private ActorExecutor actorExecutor;
     private ActorTimerQueue actorTimerQueue;
     private boolean enableMetrics = false;
+    private ActorProfiler actorProfiler;
     private Supplier<IdleStrategy> idleStrategySupplier =
         ActorSchedulerBuilder::defaultIdleStrategySupplier;
+    private Supplier<IdleStrategy> ioIdleStrategySupplier = idleStrategySupplier;
+    private ThreadAffinity cpuThreadAffinity = ThreadAffinity.NONE;
+    private CpuTopology cpuTopology;
 
     public static IdleStrategy defaultIdleStrategySupplier() {
       return new BackoffIdleStrategy(
@@ -160,13 +181,32 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return this;
     }
 
+    /** Returns the idle strategy supplier of the CPU-bound actor threads. */
     public Supplier<IdleStrategy> getIdleStrategySupplier() {
       return idleStrategySupplier;
     }
 
+    /** Sets the idle strategy supplier of both the CPU-bound and the IO-bound actor threads. */
     public ActorSchedulerBuilder setIdleStrategySupplier(
         final Supplier<IdleStrategy> idleStrategySupplier) {
       this.idleStrategySupplier = Objects.requireNonNull(idleStrategySupplier);
+      ioIdleStrategySupplier = idleStrategySupplier;
+      return this;
+    }
+
+    public ActorSchedulerBuilder setCpuIdleStrategySupplier(
+        final Supplier<IdleStrategy> idleStrategySupplier) {
+      this.idleStrategySupplier = Objects.requireNonNull(idleStrategySupplier);
+      return this;
+    }
+
+    public Supplier<IdleStrategy> getIoIdleStrategySupplier() {
+      return ioIdleStrategySupplier;
+    }
+
+    public ActorSchedulerBuilder setIoIdleStrategySupplier(
+        final Supplier<IdleStrategy> idleStrategySupplier) {
+      ioIdleStrategySupplier = Objects.requireNonNull(idleStrategySupplier);
       return this;
     }
 
@@ -197,6 +237,32 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return this;
     }
 
+    public ThreadAffinity getCpuThreadAffinity() {
+      return cpuThreadAffinity;
+    }
+
+    /**
+     * Pins the CPU-bound actor threads to cores or NUMA nodes; the actors of a partition then only
+     * run on the threads of a single NUMA node. The threads are not pinned by default.
+     */
+    public ActorSchedulerBuilder setCpuThreadAffinity(final ThreadAffinity cpuThreadAffinity) {
+      this.cpuThreadAffinity = Objects.requireNonNull(cpuThreadAffinity);
+      return this;
+    }
+
+    /** Returns the topology the threads are pinned to; detected from the machine by default. */
+    public CpuTopology getCpuTopology() {
+      if (cpuTopology == null) {
+        cpuTopology = CpuTopology.detect();
+      }
+      return cpuTopology;
+    }
+
+    public ActorSchedulerBuilder setCpuTopology(final CpuTopology cpuTopology) {
+      this.cpuTopology = cpuTopology;
+      return this;
+    }
+
     public ActorThreadFactory getActorThreadFactory() {
       return actorThreadFactory;
     }
@@ -228,6 +294,21 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return this;
     }
 
+    /** Returns the profiler of the actors, or null if profiling is disabled. */
+    public ActorProfiler getActorProfiler() {
+      return actorProfiler;
+    }
+
+    /**
+     * Enables the accounting of execution time, executed jobs, queue wait time and timer lateness
+     * per actor, exposed as metrics and via {@link ActorScheduler#getProfiler()}. It is disabled by
+     * default.
+     */
+    public ActorSchedulerBuilder setProfilingEnabled(final boolean profilingEnabled) {
+      actorProfiler = profilingEnabled ? new ActorProfiler() : null;
+      return this;
+    }
+
     private void initActorThreadFactory() {
       if (actorThreadFactory == null) {
         actorThreadFactory = new DefaultActorThreadFactory();
@@ -16,11 +16,9 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
-import java.util.Queue;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
-import org.agrona.concurrent.ManyToOneConcurrentLinkedQueue;
 import org.jetbrains.annotations.Async;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,6 +29,8 @@ import org.slf4j.LoggerFactory;
  */
 @SuppressWarnings("restriction")
 public class ActorTask {
+  static final int NO_PARTITION = -1;
+  private static final int UNKNOWN_PARTITION = Integer.MIN_VALUE;
   private static final Logger LOG = LoggerFactory.getLogger(ActorTask.class);
   private static final AtomicReferenceFieldUpdater<ActorTask, ActorLifecyclePhase>
       LIFECYCLE_UPDATER =
@@ -49,6 +49,9 @@ public class ActorTask {
   private final CompletableActorFuture<Void> startingFuture = new CompletableActorFuture<>();
   private final CompletableActorFuture<Void> jobStartingTaskFuture = new CompletableActorFuture<>();
   private ActorThreadGroup actorThreadGroup;
+  private ActorProfile profile;
+  // benign race: every thread reads the same partition id from the immutable context
+  private int partitionId = UNKNOWN_PARTITION;
   private Deque<ActorJob> fastLaneJobs = new ClosedQueue();
   private volatile ActorLifecyclePhase lifecyclePhase = ActorLifecyclePhase.CLOSED;
   private List<ActorSubscription> subscriptions = new ArrayList<>();
@@ -57,15 +60,42 @@ public class ActorTask {
    * jobs that are submitted to this task externally. A job is submitted "internally" if it is
    * submitted from a job within the same actor while the task is in RUNNING state.
    */
-  private volatile Queue<ActorJob> submittedJobs = new ClosedQueue();
+  private volatile ActorJobQueue submittedJobs = ActorJobQueue.CLOSED;
 
   public ActorTask(final Actor actor) {
     this.actor = actor;
   }
 
+  /**
+   * Returns the id of the partition the actor belongs to, as given by its {@link
+   * Actor#ACTOR_PROP_PARTITION_ID context}, or {@link #NO_PARTITION}. It is only read once, as the
+   * context of an actor doesn't change.
+   */
+  int getPartitionId() {
+    if (partitionId == UNKNOWN_PARTITION) {
+      partitionId = readPartitionId();
+    }
+    return partitionId;
+  }
+
+  private int readPartitionId() {
+    final var value = actor.getContext().get(Actor.ACTOR_PROP_PARTITION_ID);
+    if (value == null) {
+      return NO_PARTITION;
+    }
+
+    try {
+      return Integer.parseInt(value);
+    } catch (final NumberFormatException e) {
+      return NO_PARTITION;
+    }
+  }
+
   /** called when the task is initially scheduled. */
   public ActorFuture<Void> onTaskScheduled(final ActorThreadGroup actorThreadGroup) {
     this.actorThreadGroup = actorThreadGroup;
+    final var profiler = actorThreadGroup.getProfiler();
+    profile = profiler == null ? null : profiler.newProfile(actor.getName());
     // reset previous state to allow re-scheduling
     closeFuture.close();
     closeFuture.setAwaitingResult();
@@ -79,7 +109,7 @@ public class ActorTask {
     jobStartingTaskFuture.close();
     jobStartingTaskFuture.setAwaitingResult();
 
-    submittedJobs = new ManyToOneConcurrentLinkedQueue<>();
+    submittedJobs = new ActorJobQueue();
     fastLaneJobs = new ArrayDeque<>();
     lifecyclePhase = ActorLifecyclePhase.STARTING;
 
@@ -96,7 +126,7 @@ public class ActorTask {
   /** Used to externally submit a job. */
   public void submit(@Async.Schedule final ActorJob job) {
     // get reference to jobs queue
-    final Queue<ActorJob> submittedJobs = this.submittedJobs;
+    final ActorJobQueue submittedJobs = this.submittedJobs;
 
     // add job to queue
     if (submittedJobs.offer(job)) {
@@ -116,10 +146,14 @@ public class ActorTask {
 
   public boolean execute(final ActorThread runner) {
     schedulingState.set(TaskSchedulingState.ACTIVE);
+    final long startedAt = profile != null ? System.nanoTime() : 0;
 
     boolean resubmit = false;
     while (!resubmit && (currentJob != null || poll())) {
       currentJob.execute(runner);
+      if (profile != null) {
+        profile.countJob();
+      }
 
       switch (currentJob.schedulingState) {
         case TERMINATED:
@@ -158,6 +192,11 @@ public class ActorTask {
       }
     }
 
+    if (profile != null) {
+      // before the task may be woken up and executed by another thread
+      profile.onTaskExecuted(System.nanoTime() - startedAt);
+    }
+
     if (currentJob == null) {
       resubmit = onAllJobsDone();
     }
@@ -241,6 +280,9 @@ public class ActorTask {
 
   private void onClosed() {
     schedulingState.set(TaskSchedulingState.NOT_SCHEDULED);
+    if (profile != null) {
+      actorThreadGroup.getProfiler().removeProfile(actor.getName());
+    }
 
     // we need to work on a copy - otherwise we would get a ConcurrentModificationException
     // since some subscriptions remove them self on cancel
@@ -248,8 +290,8 @@ public class ActorTask {
     actorSubscriptions.forEach(ActorSubscription::cancel);
     subscriptions = new ArrayList<>();
 
-    final Queue<ActorJob> activeJobsQueue = submittedJobs;
-    submittedJobs = new ClosedQueue();
+    final ActorJobQueue activeJobsQueue = submittedJobs;
+    submittedJobs = ActorJobQueue.CLOSED;
 
     ActorJob j;
 
@@ -425,12 +467,13 @@ public class ActorTask {
     return allTriggered;
   }
 
+  /** Moves all submitted jobs at once to the fast lane, to not contend with the producers. */
   private boolean pollSubmittedJobs() {
     boolean hasJobs = false;
 
     while (lifecyclePhase == ActorLifecyclePhase.STARTED && !submittedJobs.isEmpty()) {
-      final ActorJob job = submittedJobs.poll();
-      if (job != null) {
+      ActorJob job;
+      while ((job = submittedJobs.poll()) != null) {
         if (currentJob == null) {
           currentJob = job;
         } else {
@@ -526,8 +569,17 @@ public class ActorTask {
     actor.onActorFailed();
   }
 
+  /** Returns the profile of the actor, or null if profiling is disabled. */
+  ActorProfile getProfile() {
+    return profile;
+  }
+
+  /**
+   * Estimates the number of queued jobs for metrics. It may be called from another thread than the
+   * one executing the task, so the size of the fast lane might be outdated.
+   */
   public int estimateQueueLength() {
-    if (fastLaneJobs instanceof ClosedQueue || submittedJobs instanceof ClosedQueue) {
+    if (fastLaneJobs instanceof ClosedQueue || submittedJobs == ActorJobQueue.CLOSED) {
       return 0;
     }
     // In theory this could overflow. In practice, both queue sizes are very low.
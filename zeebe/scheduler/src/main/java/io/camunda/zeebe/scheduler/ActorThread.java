@@ -8,12 +8,14 @@
 package io.camunda.zeebe.scheduler;
 
 import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
+import io.camunda.zeebe.scheduler.affinity.CpuAffinity;
 import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.scheduler.clock.DefaultActorClock;
 import io.camunda.zeebe.util.Loggers;
 import io.camunda.zeebe.util.error.FatalErrorHandler;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
+import java.util.BitSet;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
@@ -49,6 +51,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   private final BoundedArrayQueue<ActorJob> jobs = new BoundedArrayQueue<>(2048);
   private final ActorThreadGroup actorThreadGroup;
   private volatile ActorThreadState state;
+  private BitSet cpuAffinity;
 
   public ActorThread(
       final String name,
@@ -85,7 +88,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     timerJobQueue = timerQueue != null ? timerQueue : new ActorTimerQueue(this.clock);
     actorThreadGroup = threadGroup;
     this.taskScheduler = taskScheduler;
-    actorMetrics = new ActorMetrics(metricsEnabled);
+    actorMetrics = new ActorMetrics(metricsEnabled, name);
     this.idleStrategy = new ActorTaskRunnerIdleStrategy(idleStrategy);
   }
 
@@ -93,6 +96,11 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     return actorMetrics;
   }
 
+  /** Pins the thread to the given CPUs once it is started; it is not pinned if null. */
+  void setCpuAffinity(final BitSet cpus) {
+    cpuAffinity = cpus;
+  }
+
   private void doWork() {
     submittedCallbacks.drain(this);
 
@@ -219,6 +227,9 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
 
   @Override
   public void run() {
+    if (cpuAffinity != null) {
+      CpuAffinity.pinCurrentThread(cpuAffinity);
+    }
     idleStrategy.init();
     MDC.put("actor-scheduler", actorThreadGroup.getSchedulerName());
 
@@ -278,8 +289,13 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   }
 
   protected class ActorTaskRunnerIdleStrategy {
+    private static final long NO_WAKEUP_HINT = 0;
+
     private final IdleStrategy idleStrategy;
-    private boolean isIdle;
+    // read by the threads which submit work, to measure the wakeup latency of an idle thread
+    private volatile boolean isIdle;
+    private volatile long wakeupHintNs = NO_WAKEUP_HINT;
+    private long idleSinceNs;
 
     protected ActorTaskRunnerIdleStrategy(final IdleStrategy idleStrategy) {
       this.idleStrategy = idleStrategy;
@@ -287,9 +303,13 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
 
     void init() {
       isIdle = true;
+      idleSinceNs = System.nanoTime();
     }
 
     public void hintWorkAvailable() {
+      if (actorMetrics.isEnabled() && isIdle && wakeupHintNs == NO_WAKEUP_HINT) {
+        wakeupHintNs = System.nanoTime();
+      }
       LockSupport.unpark(ActorThread.this);
     }
 
@@ -297,6 +317,9 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
       if (!isIdle) {
         clock.update();
         isIdle = true;
+        if (actorMetrics.isEnabled()) {
+          idleSinceNs = System.nanoTime();
+        }
       }
 
       idleStrategy.idle();
@@ -304,7 +327,23 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
 
     protected void onTaskExecuted() {
       idleStrategy.reset();
-      isIdle = false;
+      if (isIdle) {
+        isIdle = false;
+        if (actorMetrics.isEnabled()) {
+          observeWakeup();
+        }
+      }
+    }
+
+    private void observeWakeup() {
+      final long now = System.nanoTime();
+      actorMetrics.observeIdleTime(now - idleSinceNs);
+
+      final long hintNs = wakeupHintNs;
+      if (hintNs != NO_WAKEUP_HINT) {
+        actorMetrics.observeWakeupLatency(now - hintNs);
+        wakeupHintNs = NO_WAKEUP_HINT;
+      }
     }
   }
 }
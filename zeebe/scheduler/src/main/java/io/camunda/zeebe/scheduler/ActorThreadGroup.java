@@ -8,31 +8,77 @@
 package io.camunda.zeebe.scheduler;
 
 import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
+import io.camunda.zeebe.scheduler.affinity.ThreadAffinity;
 import io.camunda.zeebe.util.Loggers;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import org.agrona.concurrent.IdleStrategy;
 
 /**
  * A thread group is a group of threads which process the same kind of tasks (ie. blocking I/O vs.
  * CPU bound).
  */
 public abstract class ActorThreadGroup {
+  private static final int ANY_DOMAIN = -1;
+
   protected final String groupName;
   protected final ActorThread[] threads;
   protected final WorkStealingGroup tasks;
   protected final int numOfThreads;
   private final String schedulerName;
+  private final ActorProfiler profiler;
+  // the affinity domain, i.e. the NUMA node, of every thread; a domain's threads are consecutive
+  private final int[] threadDomains;
+  private final int[] domainFirstThreads;
+  private final int[] domainThreadCounts;
+  private final int domainCount;
 
   public ActorThreadGroup(
       final String groupName,
       final int numOfThreads,
       final ActorSchedulerBuilder builder,
       final String schedulerName) {
+    this(
+        groupName,
+        numOfThreads,
+        builder,
+        schedulerName,
+        ThreadAffinity.NONE,
+        builder.getIdleStrategySupplier());
+  }
+
+  /**
+   * If the threads are pinned, they are spread over the NUMA nodes and every node becomes an
+   * affinity domain: the actors of a partition only run on the threads of the domain of their
+   * partition, and threads only steal tasks from threads of their own domain. Every thread gets its
+   * own idle strategy from the given supplier.
+   */
+  protected ActorThreadGroup(
+      final String groupName,
+      final int numOfThreads,
+      final ActorSchedulerBuilder builder,
+      final String schedulerName,
+      final ThreadAffinity affinity,
+      final Supplier<IdleStrategy> idleStrategySupplier) {
     this.groupName = groupName;
     this.numOfThreads = numOfThreads;
     this.schedulerName = schedulerName;
+    profiler = builder.getActorProfiler();
+
+    final var topology = affinity == ThreadAffinity.NONE ? null : builder.getCpuTopology();
+    domainCount = topology == null ? 1 : topology.getUsedNodeCount(numOfThreads);
+    threadDomains = new int[numOfThreads];
+    domainFirstThreads = new int[domainCount];
+    domainThreadCounts = new int[domainCount];
+    for (int t = numOfThreads - 1; t >= 0; t--) {
+      final int domain = topology == null ? 0 : topology.getNodeOfThread(t, numOfThreads);
+      threadDomains[t] = domain;
+      domainFirstThreads[domain] = t;
+      domainThreadCounts[domain]++;
+    }
 
-    tasks = new WorkStealingGroup(numOfThreads);
+    tasks = new WorkStealingGroup(numOfThreads, threadDomains);
 
     threads = new ActorThread[numOfThreads];
 
@@ -49,23 +95,56 @@ public abstract class ActorThreadGroup {
                   builder.getActorClock(),
                   builder.getActorTimerQueue(),
                   builder.isMetricsEnabled(),
-                  builder.getIdleStrategySupplier().get());
+                  idleStrategySupplier.get());
 
+      if (topology != null) {
+        thread.setCpuAffinity(topology.getCpusOfThread(affinity, t, numOfThreads));
+      }
       threads[t] = thread;
     }
   }
 
   public void submit(final ActorTask actorTask) {
     final ActorThread current = ActorThread.current();
-    if (current != null && current.getActorThreadGroup() == this) {
+    final int domain = getDomain(actorTask);
+    if (current != null
+        && current.getActorThreadGroup() == this
+        && (domain == ANY_DOMAIN || threadDomains[current.getRunnerId()] == domain)) {
       tasks.submit(actorTask, current.getRunnerId());
     } else {
-      final int threadId = ThreadLocalRandom.current().nextInt(numOfThreads);
+      final int threadId;
+      if (domain == ANY_DOMAIN) {
+        threadId = ThreadLocalRandom.current().nextInt(numOfThreads);
+      } else {
+        threadId =
+            domainFirstThreads[domain]
+                + ThreadLocalRandom.current().nextInt(domainThreadCounts[domain]);
+      }
       tasks.submit(actorTask, threadId);
       threads[threadId].hintWorkAvailable();
     }
   }
 
+  /** Returns the affinity domain of the given thread; all threads share one domain if unpinned. */
+  int getThreadDomain(final int threadId) {
+    return threadDomains[threadId];
+  }
+
+  /**
+   * Returns the affinity domain of the task's partition, or {@link #ANY_DOMAIN} if the actor
+   * doesn't belong to a partition or the threads are not pinned.
+   */
+  private int getDomain(final ActorTask actorTask) {
+    if (domainCount == 1) {
+      return ANY_DOMAIN;
+    }
+
+    final int partitionId = actorTask.getPartitionId();
+    return partitionId == ActorTask.NO_PARTITION
+        ? ANY_DOMAIN
+        : Math.floorMod(partitionId - 1, domainCount);
+  }
+
   public void start() {
     for (final ActorThread actorThread : threads) {
       actorThread.start();
@@ -76,6 +155,11 @@ public abstract class ActorThreadGroup {
     return schedulerName;
   }
 
+  /** Returns the profiler of the actors, or null if profiling is disabled. */
+  ActorProfiler getProfiler() {
+    return profiler;
+  }
+
   public CompletableFuture<Void> closeAsync() {
     Loggers.ACTOR_LOGGER.debug("Closing actor thread ground '{}'", groupName);
 
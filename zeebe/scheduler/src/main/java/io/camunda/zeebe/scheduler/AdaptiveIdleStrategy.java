@@ -0,0 +1,139 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+import org.agrona.concurrent.IdleStrategy;
+
+/**
+ * An idle strategy which learns how long the thread is usually idle until the next task arrives. If
+ * tasks arrive quickly, i.e. the thread is under load, it spins for about twice the average idle
+ * period before parking, so that it picks up the next task without the latency of being unparked.
+ * If tasks arrive slowly, spinning would only waste CPU, so it parks right away and backs off
+ * exponentially from the min to the max park period.
+ *
+ * <p>The average is an exponentially weighted moving average of the idle periods, i.e. the time
+ * between the first call to {@link #idle()} and the next call to {@link #reset()}.
+ */
+public final class AdaptiveIdleStrategy implements IdleStrategy {
+
+  // the latest idle period has a weight of 1/8 in the moving average
+  private static final int AVERAGE_WEIGHT_SHIFT = 3;
+  private static final long NOT_IDLE = -1;
+
+  private final long maxSpinPeriodNs;
+  private final long minParkPeriodNs;
+  private final long maxParkPeriodNs;
+  private final LongSupplier nanoClock;
+
+  private long averageIdlePeriodNs;
+  private long idleSinceNs = NOT_IDLE;
+  private long spinPeriodNs;
+  private long parkPeriodNs;
+
+  /**
+   * @param maxSpinPeriodNs the longest time to spin before parking; the thread never spins if its
+   *     average idle period is longer than this
+   * @param minParkPeriodNs the first park period once the thread stopped spinning
+   * @param maxParkPeriodNs the longest park period
+   */
+  public AdaptiveIdleStrategy(
+      final long maxSpinPeriodNs, final long minParkPeriodNs, final long maxParkPeriodNs) {
+    this(maxSpinPeriodNs, minParkPeriodNs, maxParkPeriodNs, System::nanoTime);
+  }
+
+  AdaptiveIdleStrategy(
+      final long maxSpinPeriodNs,
+      final long minParkPeriodNs,
+      final long maxParkPeriodNs,
+      final LongSupplier nanoClock) {
+    if (maxSpinPeriodNs < 0) {
+      throw new IllegalArgumentException(
+          "Expected max spin period to be non-negative, but was " + maxSpinPeriodNs);
+    }
+    if (minParkPeriodNs < 1 || maxParkPeriodNs < minParkPeriodNs) {
+      throw new IllegalArgumentException(
+          "Expected park periods to be positive with min <= max, but got min %d and max %d"
+              .formatted(minParkPeriodNs, maxParkPeriodNs));
+    }
+
+    this.maxSpinPeriodNs = maxSpinPeriodNs;
+    this.minParkPeriodNs = minParkPeriodNs;
+    this.maxParkPeriodNs = maxParkPeriodNs;
+    this.nanoClock = nanoClock;
+  }
+
+  @Override
+  public void idle(final int workCount) {
+    if (workCount > 0) {
+      reset();
+    } else {
+      idle();
+    }
+  }
+
+  @Override
+  public void idle() {
+    final long now = nanoClock.getAsLong();
+    if (idleSinceNs == NOT_IDLE) {
+      idleSinceNs = now;
+      spinPeriodNs = getSpinPeriodNs();
+      parkPeriodNs = minParkPeriodNs;
+    }
+
+    if (now - idleSinceNs < spinPeriodNs) {
+      Thread.onSpinWait();
+    } else {
+      LockSupport.parkNanos(parkPeriodNs);
+      parkPeriodNs = Math.min(parkPeriodNs << 1, maxParkPeriodNs);
+    }
+  }
+
+  @Override
+  public void reset() {
+    if (idleSinceNs != NOT_IDLE) {
+      final long idlePeriodNs = nanoClock.getAsLong() - idleSinceNs;
+      averageIdlePeriodNs += (idlePeriodNs - averageIdlePeriodNs) >> AVERAGE_WEIGHT_SHIFT;
+      idleSinceNs = NOT_IDLE;
+    }
+  }
+
+  @Override
+  public String alias() {
+    return "adaptive";
+  }
+
+  /** Returns the average time which the thread was idle until the next task arrived. */
+  long getAverageIdlePeriodNs() {
+    return averageIdlePeriodNs;
+  }
+
+  /** Returns how long the thread spins before it parks, based on the average idle period. */
+  long getSpinPeriodNs() {
+    if (averageIdlePeriodNs > maxSpinPeriodNs) {
+      return 0;
+    }
+
+    return Math.min(averageIdlePeriodNs << 1, maxSpinPeriodNs);
+  }
+
+  @Override
+  public String toString() {
+    return "AdaptiveIdleStrategy{"
+        + "maxSpinPeriodNs="
+        + maxSpinPeriodNs
+        + ", minParkPeriodNs="
+        + minParkPeriodNs
+        + ", maxParkPeriodNs="
+        + maxParkPeriodNs
+        + ", averageIdlePeriodNs="
+        + averageIdlePeriodNs
+        + '}';
+  }
+}
@@ -24,7 +24,8 @@ public final class DelayedTimerSubscription implements TimerSubscription {
   private volatile boolean isCanceled = false;
   private long timerId = -1L;
   private ActorThread thread;
-  private long timerExpiredAt;
+  private long deadline;
+  private long deadlineNanos;
 
   public DelayedTimerSubscription(
       final ActorJob job, final long delay, final TimeUnit timeUnit, final boolean isRecurring) {
@@ -92,14 +93,17 @@ public final class DelayedTimerSubscription implements TimerSubscription {
 
   @Override
   public long getDeadline(final ActorClock now) {
-    return now.getTimeMillis() + timeUnit.convert(delay, timeUnit);
+    deadline = now.getTimeMillis() + timeUnit.convert(delay, timeUnit);
+    return deadline;
   }
 
   @Override
   public void onTimerExpired(final TimeUnit timeUnit, final long now) {
     if (!isCanceled) {
       isDone = true;
-      timerExpiredAt = timeUnit.toNanos(now);
+      // the wheel may expire the timer after its deadline; translate the deadline to the time base
+      // of System.nanoTime(), to measure how late the timer runs
+      deadlineNanos = System.nanoTime() - timeUnit.toNanos(now - deadline);
       task.tryWakeup();
     }
   }
@@ -110,8 +114,8 @@ public final class DelayedTimerSubscription implements TimerSubscription {
   }
 
   @Override
-  public long getTimerExpiredAt() {
-    return timerExpiredAt;
+  public long getDeadlineNanos() {
+    return deadlineNanos;
   }
 
   public TimeUnit getTimeUnit() {
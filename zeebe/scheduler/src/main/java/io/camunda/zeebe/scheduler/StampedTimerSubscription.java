@@ -18,7 +18,7 @@ public final class StampedTimerSubscription implements TimerSubscription {
   private volatile boolean isCanceled = false;
   private long timerId = -1L;
   private ActorThread thread;
-  private long timerExpiredAt;
+  private long deadlineNanos;
 
   public StampedTimerSubscription(final ActorJob job, final long timestamp) {
     this.job = job;
@@ -86,7 +86,9 @@ public final class StampedTimerSubscription implements TimerSubscription {
   public void onTimerExpired(final TimeUnit timeUnit, final long now) {
     if (!isCanceled) {
       isDone = true;
-      timerExpiredAt = timeUnit.toNanos(now);
+      // the wheel may expire the timer after its deadline; translate the deadline to the time base
+      // of System.nanoTime(), to measure how late the timer runs
+      deadlineNanos = System.nanoTime() - timeUnit.toNanos(now - deadline);
       task.tryWakeup();
     }
   }
@@ -97,8 +99,8 @@ public final class StampedTimerSubscription implements TimerSubscription {
   }
 
   @Override
-  public long getTimerExpiredAt() {
-    return timerExpiredAt;
+  public long getDeadlineNanos() {
+    return deadlineNanos;
   }
 
   @Override
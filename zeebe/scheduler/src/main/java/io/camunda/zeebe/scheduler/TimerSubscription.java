@@ -40,5 +40,8 @@ public interface TimerSubscription extends ActorSubscription, ScheduledTimer, Ru
   @Override
   void run();
 
-  long getTimerExpiredAt();
+  /**
+   * @return the deadline of the expired timer on the time base of {@link System#nanoTime()}
+   */
+  long getDeadlineNanos();
 }
@@ -15,9 +15,19 @@ import java.util.concurrent.ThreadLocalRandom;
 public final class WorkStealingGroup implements TaskScheduler {
   private final int numOfThreads;
   private final ActorTaskQueue[] taskQueues;
+  private final int[] threadDomains;
 
   public WorkStealingGroup(final int numOfThreads) {
+    this(numOfThreads, new int[numOfThreads]);
+  }
+
+  /**
+   * @param threadDomains the affinity domain of every thread; threads only steal tasks from threads
+   *     of the same domain
+   */
+  public WorkStealingGroup(final int numOfThreads, final int[] threadDomains) {
     this.numOfThreads = numOfThreads;
+    this.threadDomains = threadDomains;
     taskQueues = new ActorTaskQueue[numOfThreads];
     for (int i = 0; i < numOfThreads; i++) {
       taskQueues[i] = new ActorTaskQueue();
@@ -76,19 +86,33 @@ public final class WorkStealingGroup implements TaskScheduler {
      * Also, the optimization only makes sense if the system uses at least 3 runners.
      */
     final int offset = ThreadLocalRandom.current().nextInt(numOfThreads);
+    boolean lostRace = false;
 
     for (int i = offset; i < offset + numOfThreads; i++) {
       final int runnerId = i % numOfThreads;
 
-      if (runnerId != currentThread.getRunnerId()) {
-        final ActorTask stolenActor = taskQueues[runnerId].trySteal();
+      if (runnerId != currentThread.getRunnerId()
+          && threadDomains[runnerId] == threadDomains[currentThread.getRunnerId()]) {
+        final ActorTaskQueue victimQueue = taskQueues[runnerId];
+        if (victimQueue.isEmpty()) {
+          continue;
+        }
+
+        final ActorTask stolenActor = victimQueue.trySteal();
 
         if (stolenActor != null) {
+          currentThread.getActorMetrics().countSteal(true);
           return stolenActor;
         }
+        // the victim had tasks, but they were claimed by another thread in the meantime
+        lostRace = true;
       }
     }
 
+    // an idle poll which found no tasks to steal is not a failed attempt
+    if (lostRace) {
+      currentThread.getActorMetrics().countSteal(false);
+    }
     return null;
   }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler.affinity;
+
+import com.sun.jna.LastErrorException;
+import com.sun.jna.Library;
+import com.sun.jna.Native;
+import com.sun.jna.Platform;
+import io.camunda.zeebe.util.Loggers;
+import java.util.Arrays;
+import java.util.BitSet;
+import org.slf4j.Logger;
+
+/**
+ * Pins the current thread to a set of CPUs, using {@code sched_setaffinity} of the C library. This
+ * is only supported on Linux; on other platforms, or if the call fails, the thread is not pinned
+ * and keeps running on any CPU.
+ */
+public final class CpuAffinity {
+  private static final Logger LOG = Loggers.ACTOR_LOGGER;
+  // sched_setaffinity expects the size of the mask as a multiple of the size of a long
+  private static final int MASK_WORD_BYTES = Long.BYTES;
+
+  private CpuAffinity() {}
+
+  /**
+   * Pins the current thread to the given CPUs.
+   *
+   * @return true if the thread was pinned, false otherwise
+   */
+  public static boolean pinCurrentThread(final BitSet cpus) {
+    if (!Platform.isLinux()) {
+      LOG.warn(
+          "Expected to pin thread '{}' to CPUs {}, but pinning threads is only supported on Linux",
+          Thread.currentThread().getName(),
+          cpus);
+      return false;
+    }
+
+    final var mask = toMask(cpus);
+    try {
+      CLibrary.INSTANCE.sched_setaffinity(0, mask.length, mask);
+      LOG.debug("Pinned thread '{}' to CPUs {}", Thread.currentThread().getName(), cpus);
+      return true;
+    } catch (final LastErrorException | LinkageError e) {
+      LOG.warn("Failed to pin thread '{}' to CPUs {}", Thread.currentThread().getName(), cpus, e);
+      return false;
+    }
+  }
+
+  /** Returns the CPUs as a {@code cpu_set_t}, where bit N of the mask is set for CPU N. */
+  static byte[] toMask(final BitSet cpus) {
+    final var bytes = cpus.toByteArray();
+    final int words = Math.max(1, (bytes.length + MASK_WORD_BYTES - 1) / MASK_WORD_BYTES);
+    return Arrays.copyOf(bytes, words * MASK_WORD_BYTES);
+  }
+
+  private interface CLibrary extends Library {
+    CLibrary INSTANCE = Native.load("c", CLibrary.class);
+
+    /** Sets the CPU affinity of the given thread, or of the calling thread if the pid is 0. */
+    int sched_setaffinity(int pid, int cpusetsize, byte[] mask) throws LastErrorException;
+  }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler.affinity;
+
+import io.camunda.zeebe.util.Loggers;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * The NUMA nodes of the machine, with the CPUs which belong to each node. Assigns the actor threads
+ * of a thread group to the nodes, so that consecutive threads belong to the same node.
+ */
+public final class CpuTopology {
+
+  private static final Path NODES_DIRECTORY = Path.of("/sys/devices/system/node");
+  private static final Pattern NODE_DIRECTORY_NAME = Pattern.compile("node\\d+");
+
+  private final List<BitSet> nodes;
+
+  public CpuTopology(final List<BitSet> nodes) {
+    if (nodes.isEmpty()) {
+      throw new IllegalArgumentException("Expected at least one NUMA node, but got none");
+    }
+    this.nodes = List.copyOf(nodes);
+  }
+
+  /**
+   * Reads the NUMA nodes of the machine. If they are unknown, e.g. on a platform other than Linux,
+   * all available processors belong to a single node.
+   */
+  public static CpuTopology detect() {
+    final var topology = read(NODES_DIRECTORY);
+    if (topology != null) {
+      return topology;
+    }
+
+    final var cpus = new BitSet();
+    cpus.set(0, Runtime.getRuntime().availableProcessors());
+    return new CpuTopology(List.of(cpus));
+  }
+
+  /** Returns the topology of the given sysfs node directory, or null if it can't be read. */
+  static CpuTopology read(final Path nodesDirectory) {
+    if (!Files.isDirectory(nodesDirectory)) {
+      return null;
+    }
+
+    try (final Stream<Path> files = Files.list(nodesDirectory)) {
+      final var nodeDirectories =
+          files
+              .filter(path -> NODE_DIRECTORY_NAME.matcher(path.getFileName().toString()).matches())
+              .sorted(Comparator.comparingInt(CpuTopology::nodeId))
+              .toList();
+
+      final var nodes = new ArrayList<BitSet>();
+      for (final var nodeDirectory : nodeDirectories) {
+        final var cpus = parseCpuList(Files.readString(nodeDirectory.resolve("cpulist")));
+        if (!cpus.isEmpty()) {
+          nodes.add(cpus);
+        }
+      }
+
+      return nodes.isEmpty() ? null : new CpuTopology(nodes);
+    } catch (final IOException | IllegalArgumentException e) {
+      Loggers.ACTOR_LOGGER.warn("Failed to read the NUMA nodes from {}", nodesDirectory, e);
+      return null;
+    }
+  }
+
+  /** Parses a CPU list in the format of the kernel, e.g. {@code 0-3,8,10-11}. */
+  static BitSet parseCpuList(final String cpuList) {
+    final var cpus = new BitSet();
+    for (final var range : cpuList.trim().split(",")) {
+      if (range.isEmpty()) {
+        continue;
+      }
+
+      final var bounds = range.split("-");
+      final int from = Integer.parseInt(bounds[0]);
+      final int to = bounds.length > 1 ? Integer.parseInt(bounds[1]) : from;
+      cpus.set(from, to + 1);
+    }
+    return cpus;
+  }
+
+  public int getNodeCount() {
+    return nodes.size();
+  }
+
+  /** Returns the number of nodes which the given number of threads are assigned to. */
+  public int getUsedNodeCount(final int threadCount) {
+    return Math.max(1, Math.min(nodes.size(), threadCount));
+  }
+
+  /** Returns the node of the given thread, if the threads are spread evenly over the nodes. */
+  public int getNodeOfThread(final int threadIndex, final int threadCount) {
+    return (int) ((long) threadIndex * getUsedNodeCount(threadCount) / threadCount);
+  }
+
+  /** Returns the CPUs which the given thread is pinned to, or null if it is not pinned. */
+  public BitSet getCpusOfThread(
+      final ThreadAffinity affinity, final int threadIndex, final int threadCount) {
+    final int node = getNodeOfThread(threadIndex, threadCount);
+    final var nodeCpus = nodes.get(node);
+
+    return switch (affinity) {
+      case NONE -> null;
+      case NUMA_NODE -> (BitSet) nodeCpus.clone();
+      case CORE -> {
+        final int firstThreadOfNode = getFirstThreadOfNode(node, threadCount);
+        final int index = (threadIndex - firstThreadOfNode) % nodeCpus.cardinality();
+
+        int cpu = nodeCpus.nextSetBit(0);
+        for (int i = 0; i < index; i++) {
+          cpu = nodeCpus.nextSetBit(cpu + 1);
+        }
+
+        final var cpus = new BitSet();
+        cpus.set(cpu);
+        yield cpus;
+      }
+    };
+  }
+
+  private int getFirstThreadOfNode(final int node, final int threadCount) {
+    int thread = 0;
+    while (getNodeOfThread(thread, threadCount) < node) {
+      thread++;
+    }
+    return thread;
+  }
+
+  private static int nodeId(final Path nodeDirectory) {
+    return Integer.parseInt(nodeDirectory.getFileName().toString().substring("node".length()));
+  }
+
+  @Override
+  public String toString() {
+    return "CpuTopology{" + "nodes=" + nodes + '}';
+  }
+}
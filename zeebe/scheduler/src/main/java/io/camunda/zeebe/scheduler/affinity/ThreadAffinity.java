@@ -0,0 +1,24 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler.affinity;
+
+/**
+ * Defines to which CPUs the CPU-bound actor threads are pinned. If the threads are pinned, they are
+ * spread evenly over the NUMA nodes of the machine, and the actors of a partition only run on the
+ * threads of a single node.
+ */
+public enum ThreadAffinity {
+  /** The threads are not pinned, and may run on any CPU. */
+  NONE,
+
+  /** Every thread is pinned to a single CPU of its NUMA node. */
+  CORE,
+
+  /** Every thread is pinned to all CPUs of its NUMA node. */
+  NUMA_NODE
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+
+final class ActorJobQueueTest {
+
+  private final ActorJobQueue queue = new ActorJobQueue();
+
+  @Test
+  void shouldBeEmptyInitially() {
+    // then
+    assertThat(queue.isEmpty()).isTrue();
+    assertThat(queue.poll()).isNull();
+    assertThat(queue.size()).isZero();
+  }
+
+  @Test
+  void shouldPollJobsInOrder() {
+    // given
+    final var jobs = List.of(new ActorJob(), new ActorJob(), new ActorJob());
+    jobs.forEach(queue::offer);
+
+    // when
+    final var polled = new ArrayList<ActorJob>();
+    ActorJob job;
+    while ((job = queue.poll()) != null) {
+      polled.add(job);
+    }
+
+    // then
+    assertThat(polled).containsExactlyElementsOf(jobs);
+    assertThat(queue.isEmpty()).isTrue();
+  }
+
+  @Test
+  void shouldOfferAfterQueueWasDrained() {
+    // given
+    final var first = new ActorJob();
+    final var second = new ActorJob();
+    queue.offer(first);
+    queue.poll();
+
+    // when
+    queue.offer(second);
+
+    // then
+    assertThat(queue.size()).isOne();
+    assertThat(queue.peek()).isSameAs(second);
+    assertThat(queue.poll()).isSameAs(second);
+    assertThat(queue.poll()).isNull();
+  }
+
+  @Test
+  void shouldCountJobsUntilPolled() {
+    // given
+    queue.offer(new ActorJob());
+    queue.offer(new ActorJob());
+    queue.offer(new ActorJob());
+
+    // when
+    queue.poll();
+
+    // then
+    assertThat(queue.size()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldFailJobsOfferedToClosedQueue() {
+    // given
+    final var job = new ActorJob();
+    final var future = new CompletableActorFuture<>();
+    job.setResultFuture(future);
+
+    // when
+    final var offered = ActorJobQueue.CLOSED.offer(job);
+
+    // then
+    assertThat(offered).isTrue();
+    assertThat(future.isCompletedExceptionally()).isTrue();
+    assertThat(future.getException()).hasMessage("Actor is closed");
+    assertThat(ActorJobQueue.CLOSED.poll()).isNull();
+    assertThat(ActorJobQueue.CLOSED.size()).isZero();
+  }
+
+  @Test
+  void shouldUnlinkPolledJobs() {
+    // given
+    final var first = new ActorJob();
+    queue.offer(first);
+    queue.offer(new ActorJob());
+
+    // when
+    final var polled = queue.poll();
+
+    // then
+    assertThat(polled).isSameAs(first);
+    assertThat(polled.next).isNull();
+  }
+
+  @Test
+  void shouldKeepOrderOfEveryProducer() {
+    // given
+    final int producers = 4;
+    final int jobsPerProducer = 10_000;
+    final Map<ActorJob, int[]> origins = new IdentityHashMap<>();
+    final var producerJobs = new ArrayList<List<ActorJob>>();
+    for (int p = 0; p < producers; p++) {
+      final var jobs = new ArrayList<ActorJob>();
+      for (int i = 0; i < jobsPerProducer; i++) {
+        final var job = new ActorJob();
+        origins.put(job, new int[] {p, i});
+        jobs.add(job);
+      }
+      producerJobs.add(jobs);
+    }
+
+    // when
+    final var lastPolled = new int[producers];
+    Arrays.fill(lastPolled, -1);
+    int polledCount = 0;
+    try (final var executor = Executors.newFixedThreadPool(producers)) {
+      final var done =
+          CompletableFuture.allOf(
+              producerJobs.stream()
+                  .map(
+                      jobs ->
+                          CompletableFuture.runAsync(() -> jobs.forEach(queue::offer), executor))
+                  .toArray(CompletableFuture[]::new));
+
+      while (polledCount < producers * jobsPerProducer) {
+        final var job = queue.poll();
+        if (job != null) {
+          final var origin = origins.get(job);
+          assertThat(origin[1]).isEqualTo(lastPolled[origin[0]] + 1);
+          lastPolled[origin[0]] = origin[1];
+          polledCount++;
+        }
+      }
+      done.join();
+    }
+
+    // then
+    assertThat(lastPolled).containsOnly(jobsPerProducer - 1);
+    assertThat(queue.isEmpty()).isTrue();
+    assertThat(queue.size()).isZero();
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of submitting jobs to a single actor from several producer threads, and
+ * executing them. Every operation submits {@link #JOBS} jobs, spread evenly over the producers, and
+ * waits until all of them were executed.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 20, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class ActorJobSubmissionPerformanceTest {
+  private static final int JOBS = 12_000;
+
+  @Param({"1", "4", "12"})
+  private int producers;
+
+  private final CounterActor actor = new CounterActor();
+  private final List<Callable<Long>> producerTasks = new ArrayList<>();
+  private ActorScheduler scheduler;
+  private ExecutorService producerThreads;
+
+  @Setup
+  public void setup() {
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .build();
+    scheduler.start();
+    scheduler.submitActor(actor).join();
+
+    producerThreads = Executors.newFixedThreadPool(producers);
+    for (int i = 0; i < producers; i++) {
+      producerTasks.add(this::submitJobs);
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    producerThreads.shutdownNow();
+    scheduler.close();
+  }
+
+  @Benchmark
+  public long measureSubmissionThroughput() throws Exception {
+    long total = 0;
+    for (final Future<Long> result : producerThreads.invokeAll(producerTasks)) {
+      total += result.get();
+    }
+    return total;
+  }
+
+  @JMHTest("measureSubmissionThroughput")
+  void shouldSubmitJobsWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - a conservative ops/s score; each op submits and executes 12000 jobs
+    final var referenceScore = 100;
+
+    // when
+    final var assertResult = testCase.withOptions(options -> options.param("producers", "4")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  private long submitJobs() {
+    final int jobs = JOBS / producers;
+    for (int i = 0; i < jobs - 1; i++) {
+      actor.increment();
+    }
+    return actor.read().join();
+  }
+
+  private static final class CounterActor extends Actor {
+    private long counter;
+
+    private void increment() {
+      actor.run(() -> counter++);
+    }
+
+    private ActorFuture<Long> read() {
+      return actor.call(() -> counter);
+    }
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import io.camunda.zeebe.scheduler.affinity.ThreadAffinity;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of the scheduler with and without pinning the CPU threads. Every
+ * operation sends {@link #CALLS} calls to each of the {@link #PARTITIONS} partition actors, and
+ * waits until all of them were executed.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 20, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class ActorSchedulerPerformanceTest {
+  private static final int PARTITIONS = 8;
+  private static final int CALLS = 1000;
+
+  @Param({"NONE", "NUMA_NODE", "CORE"})
+  private ThreadAffinity affinity;
+
+  private final List<PartitionActor> actors = new ArrayList<>();
+  private ActorScheduler scheduler;
+
+  @Setup
+  public void setup() {
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(Math.max(2, Runtime.getRuntime().availableProcessors()))
+            .setIoBoundActorThreadCount(1)
+            .setCpuThreadAffinity(affinity)
+            .build();
+    scheduler.start();
+
+    for (int partitionId = 1; partitionId <= PARTITIONS; partitionId++) {
+      final var actor = new PartitionActor(partitionId);
+      scheduler.submitActor(actor).join();
+      actors.add(actor);
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    scheduler.close();
+  }
+
+  @Benchmark
+  public long measureSchedulerThroughput() {
+    final var lastCalls = new ArrayList<ActorFuture<Long>>(PARTITIONS);
+    for (final var actor : actors) {
+      ActorFuture<Long> lastCall = null;
+      for (int i = 0; i < CALLS; i++) {
+        lastCall = actor.increment();
+      }
+      lastCalls.add(lastCall);
+    }
+
+    long total = 0;
+    for (final var lastCall : lastCalls) {
+      total += lastCall.join();
+    }
+    return total;
+  }
+
+  @JMHTest("measureSchedulerThroughput")
+  void shouldScheduleWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - a conservative ops/s score; each op executes 8000 actor calls
+    final var referenceScore = 20;
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("affinity", "NUMA_NODE")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  private static final class PartitionActor extends Actor {
+    private final int partitionId;
+    private long counter;
+
+    private PartitionActor(final int partitionId) {
+      this.partitionId = partitionId;
+    }
+
+    @Override
+    protected Map<String, String> createContext() {
+      final var context = super.createContext();
+      context.put(ACTOR_PROP_PARTITION_ID, Integer.toString(partitionId));
+      return context;
+    }
+
+    @Override
+    public String getName() {
+      return "partition-" + partitionId;
+    }
+
+    private ActorFuture<Long> increment() {
+      return actor.call(() -> ++counter);
+    }
+  }
+}
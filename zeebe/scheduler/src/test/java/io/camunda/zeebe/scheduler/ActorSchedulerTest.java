@@ -11,7 +11,18 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
 
+import io.camunda.zeebe.scheduler.ActorProfile.Snapshot;
+import io.camunda.zeebe.scheduler.affinity.CpuTopology;
+import io.camunda.zeebe.scheduler.affinity.ThreadAffinity;
+import io.camunda.zeebe.scheduler.clock.ControlledActorClock;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import java.time.Duration;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import org.junit.jupiter.api.Test;
 
@@ -83,5 +94,197 @@ final class ActorSchedulerTest {
         .isInstanceOf(IllegalStateException.class);
   }
 
+  @Test
+  void shouldRunActorsOfPartitionOnThreadsOfSameNode() throws Exception {
+    // given
+    final var topology = new CpuTopology(List.of(cpus(0), cpus(1)));
+    final var builder =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(4)
+            .setCpuThreadAffinity(ThreadAffinity.NUMA_NODE)
+            .setCpuTopology(topology);
+    final var firstPartitionActor = new PartitionActor(1);
+    final var secondPartitionActor = new PartitionActor(2);
+
+    try (final var scheduler = builder.build()) {
+      final var threadGroup = builder.getCpuBoundActorThreads();
+      scheduler.start();
+
+      // when
+      scheduler.submitActor(firstPartitionActor).join();
+      scheduler.submitActor(secondPartitionActor).join();
+      for (int i = 0; i < 100; i++) {
+        firstPartitionActor.recordThread().join();
+        secondPartitionActor.recordThread().join();
+      }
+
+      // then
+      assertThat(firstPartitionActor.threads)
+          .allSatisfy(thread -> assertThat(threadGroup.getThreadDomain(thread)).isZero());
+      assertThat(secondPartitionActor.threads)
+          .allSatisfy(thread -> assertThat(threadGroup.getThreadDomain(thread)).isOne());
+    }
+  }
+
+  @Test
+  void shouldProfileActors() throws Exception {
+    // given
+    final var actor = new ProfiledActor();
+
+    try (final var scheduler =
+        ActorScheduler.newActorScheduler().setProfilingEnabled(true).build()) {
+      scheduler.start();
+      final var profiler = scheduler.getProfiler().orElseThrow();
+
+      // when
+      scheduler.submitActor(actor).join();
+      for (int i = 0; i < 10; i++) {
+        actor.noop().join();
+      }
+      actor.runDelayed().join();
+
+      // then
+      await("until the executions of the actor were accounted for")
+          .untilAsserted(
+              () ->
+                  assertThat(profiler.getTopActors(Integer.MAX_VALUE))
+                      .filteredOn(snapshot -> snapshot.actorName().equals(actor.getName()))
+                      .singleElement()
+                      .satisfies(
+                          snapshot -> {
+                            assertThat(snapshot.executionTimeSeconds()).isPositive();
+                            assertThat(snapshot.jobCount()).isGreaterThanOrEqualTo(12);
+                            assertThat(snapshot.queuedJobCount()).isGreaterThanOrEqualTo(10);
+                            assertThat(snapshot.timerCount()).isOne();
+                          }));
+    }
+  }
+
+  @Test
+  void shouldMeasureTimerLatenessFromDeadline() throws Exception {
+    // given
+    final var clock = new ControlledActorClock();
+    clock.pinCurrentTime();
+    final var actor = new ProfiledActor("ActorSchedulerTest-late-timer");
+
+    try (final var scheduler =
+        ActorScheduler.newActorScheduler().setActorClock(clock).setProfilingEnabled(true).build()) {
+      scheduler.start();
+      final var profiler = scheduler.getProfiler().orElseThrow();
+      scheduler.submitActor(actor).join();
+      final var timerRun = new CompletableActorFuture<Void>();
+      actor.schedule(Duration.ofSeconds(1), timerRun).join();
+
+      // when - the timer expires 9 seconds after its deadline
+      clock.addTime(Duration.ofSeconds(10));
+      timerRun.join();
+
+      // then
+      await("until the timer was accounted for")
+          .untilAsserted(
+              () ->
+                  assertThat(profiler.getTopActors(Integer.MAX_VALUE))
+                      .filteredOn(snapshot -> snapshot.actorName().equals(actor.getName()))
+                      .singleElement()
+                      .satisfies(
+                          snapshot -> {
+                            assertThat(snapshot.timerCount()).isOne();
+                            assertThat(snapshot.timerLatenessSeconds()).isGreaterThanOrEqualTo(9);
+                          }));
+    }
+  }
+
+  @Test
+  void shouldRemoveProfileOfClosedActor() throws Exception {
+    // given
+    final var actor = new ProfiledActor("ActorSchedulerTest-closed");
+
+    try (final var scheduler =
+        ActorScheduler.newActorScheduler().setProfilingEnabled(true).build()) {
+      scheduler.start();
+      final var profiler = scheduler.getProfiler().orElseThrow();
+      scheduler.submitActor(actor).join();
+
+      // when
+      actor.closeAsync().join();
+
+      // then
+      assertThat(profiler.getTopActors(Integer.MAX_VALUE))
+          .extracting(Snapshot::actorName)
+          .doesNotContain(actor.getName());
+    }
+  }
+
+  @Test
+  void shouldNotProfileActorsByDefault() {
+    // when
+    final var scheduler = ActorScheduler.newActorScheduler().build();
+
+    // then
+    assertThat(scheduler.getProfiler()).isEmpty();
+  }
+
+  private static BitSet cpus(final int cpu) {
+    final var cpus = new BitSet();
+    cpus.set(cpu);
+    return cpus;
+  }
+
   private static final class TestActor extends Actor {}
+
+  private static final class ProfiledActor extends Actor {
+    private final String name;
+
+    private ProfiledActor() {
+      this("ActorSchedulerTest-profiled");
+    }
+
+    private ProfiledActor(final String name) {
+      this.name = name;
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+
+    private ActorFuture<Void> noop() {
+      return actor.call(() -> null);
+    }
+
+    private ActorFuture<Void> runDelayed() {
+      final var future = new CompletableActorFuture<Void>();
+      actor.run(() -> actor.schedule(Duration.ofMillis(1), () -> future.complete(null)));
+      return future;
+    }
+
+    private ActorFuture<Void> schedule(
+        final Duration delay, final CompletableActorFuture<Void> timerRun) {
+      return actor.call(
+          () -> {
+            actor.schedule(delay, () -> timerRun.complete(null));
+            return null;
+          });
+    }
+  }
+
+  private static final class PartitionActor extends Actor {
+    private final Set<Integer> threads = ConcurrentHashMap.newKeySet();
+    private final int partitionId;
+
+    private PartitionActor(final int partitionId) {
+      this.partitionId = partitionId;
+    }
+
+    @Override
+    protected Map<String, String> createContext() {
+      final var context = super.createContext();
+      context.put(ACTOR_PROP_PARTITION_ID, Integer.toString(partitionId));
+      return context;
+    }
+
+    private ActorFuture<Boolean> recordThread() {
+      return actor.call(() -> threads.add(ActorThread.current().getRunnerId()));
+    }
+  }
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+import org.agrona.concurrent.IdleStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the latency of a call to an actor which is submitted from outside the scheduler, with
+ * the default backoff and the adaptive idle strategy. Calls are sent with a short pause between
+ * them, such that the actor thread becomes idle before every call, as it does under moderate load.
+ * The throughput of the round trips is a proxy for their latency, as the pause is the same for both
+ * strategies.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 20, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class ActorWakeupLatencyPerformanceTest {
+  private static final long PAUSE_NS = TimeUnit.MICROSECONDS.toNanos(20);
+
+  @Param({"BACKOFF", "ADAPTIVE"})
+  private String idleStrategy;
+
+  private final CounterActor actor = new CounterActor();
+  private ActorScheduler scheduler;
+
+  @Setup
+  public void setup() {
+    final Supplier<IdleStrategy> idleStrategySupplier =
+        switch (idleStrategy) {
+          case "ADAPTIVE" ->
+              () ->
+                  new AdaptiveIdleStrategy(
+                      ActorSchedulerBuilder.DEFAULT_MAX_SPIN_PERIOD_NS,
+                      ActorSchedulerBuilder.DEFAULT_MIN_PARK_PERIOD_NS,
+                      ActorSchedulerBuilder.DEFAULT_MAX_PARK_PERIOD_NS);
+          default -> ActorSchedulerBuilder::defaultIdleStrategySupplier;
+        };
+
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setIdleStrategySupplier(idleStrategySupplier)
+            .build();
+    scheduler.start();
+    scheduler.submitActor(actor).join();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    scheduler.close();
+  }
+
+  @Benchmark
+  public long measureWakeupLatency() {
+    LockSupport.parkNanos(PAUSE_NS);
+    return actor.increment().join();
+  }
+
+  @JMHTest("measureWakeupLatency")
+  void shouldWakeUpWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - a conservative ops/s score; every op pauses for at least 20 microseconds
+    final var referenceScore = 5_000;
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("idleStrategy", "ADAPTIVE")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  private static final class CounterActor extends Actor {
+    private long counter;
+
+    private ActorFuture<Long> increment() {
+      return actor.call(() -> ++counter);
+    }
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+final class AdaptiveIdleStrategyTest {
+  private static final long MAX_SPIN_PERIOD_NS = 50_000;
+
+  private final AtomicLong clock = new AtomicLong();
+  private final AdaptiveIdleStrategy idleStrategy =
+      new AdaptiveIdleStrategy(MAX_SPIN_PERIOD_NS, 1, 1, clock::get);
+
+  @Test
+  void shouldNotSpinWithoutKnownIdlePeriod() {
+    // when
+    final var spinPeriod = idleStrategy.getSpinPeriodNs();
+
+    // then
+    assertThat(spinPeriod).isZero();
+  }
+
+  @Test
+  void shouldSpinForTwiceTheAverageIdlePeriod() {
+    // when
+    idleRepeatedly(1_000);
+
+    // then
+    assertThat(idleStrategy.getAverageIdlePeriodNs()).isCloseTo(1_000L, within(10L));
+    assertThat(idleStrategy.getSpinPeriodNs()).isCloseTo(2_000L, within(20L));
+  }
+
+  @Test
+  void shouldLimitSpinPeriod() {
+    // when
+    idleRepeatedly(MAX_SPIN_PERIOD_NS - 100);
+
+    // then
+    assertThat(idleStrategy.getSpinPeriodNs()).isEqualTo(MAX_SPIN_PERIOD_NS);
+  }
+
+  @Test
+  void shouldNotSpinIfIdleLongerThanMaxSpinPeriod() {
+    // when
+    idleRepeatedly(MAX_SPIN_PERIOD_NS * 10);
+
+    // then
+    assertThat(idleStrategy.getSpinPeriodNs()).isZero();
+  }
+
+  @Test
+  void shouldSpinAgainOnceTasksArriveQuickly() {
+    // given
+    idleRepeatedly(MAX_SPIN_PERIOD_NS * 10);
+
+    // when
+    idleRepeatedly(1_000);
+
+    // then
+    assertThat(idleStrategy.getSpinPeriodNs()).isPositive();
+  }
+
+  @Test
+  void shouldNotMeasureIdlePeriodWithoutIdling() {
+    // given
+    idleRepeatedly(1_000);
+    final var averageIdlePeriod = idleStrategy.getAverageIdlePeriodNs();
+
+    // when - tasks are executed back to back
+    clock.addAndGet(MAX_SPIN_PERIOD_NS);
+    idleStrategy.reset();
+
+    // then
+    assertThat(idleStrategy.getAverageIdlePeriodNs()).isEqualTo(averageIdlePeriod);
+  }
+
+  @Test
+  void shouldRejectInvalidParkPeriods() {
+    assertThatThrownBy(() -> new AdaptiveIdleStrategy(MAX_SPIN_PERIOD_NS, 100, 10))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private void idleRepeatedly(final long idlePeriodNs) {
+    for (int i = 0; i < 100; i++) {
+      idleStrategy.idle();
+      clock.addAndGet(idlePeriodNs);
+      idleStrategy.reset();
+    }
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler.affinity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class CpuTopologyTest {
+
+  @Test
+  void shouldParseCpuList() {
+    // when
+    final var cpus = CpuTopology.parseCpuList("0-3,8,10-11\n");
+
+    // then
+    assertThat(cpus).isEqualTo(cpus(0, 1, 2, 3, 8, 10, 11));
+  }
+
+  @Test
+  void shouldReadNodesOrderedById(final @TempDir Path nodesDirectory) throws IOException {
+    // given
+    writeNode(nodesDirectory, 10, "4-7");
+    writeNode(nodesDirectory, 2, "0-3");
+    Files.createDirectories(nodesDirectory.resolve("power"));
+
+    // when
+    final var topology = CpuTopology.read(nodesDirectory);
+
+    // then
+    assertThat(topology).isNotNull();
+    assertThat(topology.getNodeCount()).isEqualTo(2);
+    assertThat(topology.getCpusOfThread(ThreadAffinity.NUMA_NODE, 0, 2))
+        .isEqualTo(cpus(0, 1, 2, 3));
+    assertThat(topology.getCpusOfThread(ThreadAffinity.NUMA_NODE, 1, 2))
+        .isEqualTo(cpus(4, 5, 6, 7));
+  }
+
+  @Test
+  void shouldNotReadMissingNodes(final @TempDir Path directory) {
+    // when
+    final var topology = CpuTopology.read(directory.resolve("missing"));
+
+    // then
+    assertThat(topology).isNull();
+  }
+
+  @Test
+  void shouldSpreadConsecutiveThreadsOverNodes() {
+    // given
+    final var topology = new CpuTopology(List.of(cpus(0, 1), cpus(2, 3)));
+
+    // when
+    final var nodes = IntStream.range(0, 5).map(t -> topology.getNodeOfThread(t, 5)).toArray();
+
+    // then
+    assertThat(nodes).containsExactly(0, 0, 0, 1, 1);
+  }
+
+  @Test
+  void shouldOnlyUseAsManyNodesAsThreads() {
+    // given
+    final var topology = new CpuTopology(List.of(cpus(0), cpus(1), cpus(2)));
+
+    // when
+    final var usedNodes = topology.getUsedNodeCount(2);
+
+    // then
+    assertThat(usedNodes).isEqualTo(2);
+    assertThat(topology.getNodeOfThread(1, 2)).isOne();
+  }
+
+  @Test
+  void shouldPinEveryThreadToOneCoreOfItsNode() {
+    // given
+    final var topology = new CpuTopology(List.of(cpus(0, 1), cpus(4, 5)));
+
+    // when
+    final var cpus =
+        IntStream.range(0, 6)
+            .mapToObj(t -> topology.getCpusOfThread(ThreadAffinity.CORE, t, 6))
+            .toList();
+
+    // then - the cores are reused if a node has more threads than cores
+    assertThat(cpus).containsExactly(cpus(0), cpus(1), cpus(0), cpus(4), cpus(5), cpus(4));
+  }
+
+  @Test
+  void shouldNotPinThreadsWithoutAffinity() {
+    // given
+    final var topology = new CpuTopology(List.of(cpus(0, 1)));
+
+    // when
+    final var cpus = topology.getCpusOfThread(ThreadAffinity.NONE, 0, 1);
+
+    // then
+    assertThat(cpus).isNull();
+  }
+
+  @Test
+  void shouldConvertCpusToMaskOfLongs() {
+    // when
+    final var mask = CpuAffinity.toMask(cpus(0, 9, 65));
+
+    // then
+    assertThat(mask).hasSize(16);
+    assertThat(mask[0]).isEqualTo((byte) 0b1);
+    assertThat(mask[1]).isEqualTo((byte) 0b10);
+    assertThat(mask[8]).isEqualTo((byte) 0b10);
+  }
+
+  private static void writeNode(final Path nodesDirectory, final int nodeId, final String cpuList)
+      throws IOException {
+    final var nodeDirectory = Files.createDirectories(nodesDirectory.resolve("node" + nodeId));
+    Files.writeString(nodeDirectory.resolve("cpulist"), cpuList + "\n");
+  }
+
+  private static BitSet cpus(final int... cpus) {
+    final var bitSet = new BitSet();
+    for (final int cpu : cpus) {
+      bitSet.set(cpu);
+    }
+    return bitSet;
+  }
+}
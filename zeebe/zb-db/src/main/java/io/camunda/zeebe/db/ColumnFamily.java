@@ -144,6 +144,20 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
    */
   void deleteExisting(KeyType key);
 
+  /**
+   * Deletes the key-value pair with the given key like {@link #deleteExisting(DbKey)}, but the key
+   * must have been written only once since it was last deleted, e.g. by a single {@link
+   * #insert(DbKey, DbValue)} and never updated afterwards. The tombstone of such a delete is
+   * dropped by the compaction together with the value it deletes, instead of being carried down to
+   * the last level. This reduces the write amplification of keys which are deleted in masses, e.g.
+   * of expired messages.
+   *
+   * <p>If the key was written more than once, the result is undefined.
+   *
+   * @throws IllegalStateException if the key does not exist
+   */
+  void singleDeleteExisting(KeyType key);
+
   /**
    * Deletes the key-value pair if the key does exist in the column family. No-op if the key does
    * not exist.
@@ -0,0 +1,67 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Describes how a column family is accessed, which defines how it's tuned. Every profile is stored
+ * in its own RocksDB column family, which is configured for the profile; the column families of
+ * Zeebe are still identified by their prefix within it.
+ */
+public enum ColumnFamilyProfile {
+  /**
+   * For column families which are both read by key and iterated by prefix. Stored in the default
+   * column family of RocksDB, with the same options as before there were profiles.
+   */
+  DEFAULT("default"),
+
+  /**
+   * For column families which are mostly iterated by prefix, e.g. all activatable jobs of a type or
+   * all children of an element instance. Only builds prefix filters, and uses larger blocks which
+   * are all compressed, as iterating reads many consecutive entries of the same block.
+   */
+  PREFIX_SCAN("prefix-scan"),
+
+  /**
+   * For column families which are mostly read by their full key, e.g. jobs by their key. Builds
+   * whole key filters for the memtables and SST files, and uses smaller blocks, as a lookup only
+   * needs a single entry of a block.
+   */
+  POINT_LOOKUP("point-lookup");
+
+  private final String columnFamilyName;
+
+  ColumnFamilyProfile(final String columnFamilyName) {
+    this.columnFamilyName = columnFamilyName;
+  }
+
+  /**
+   * @return the name of the RocksDB column family which stores the column families of the profile
+   */
+  public String getColumnFamilyName() {
+    return columnFamilyName;
+  }
+
+  public byte[] getColumnFamilyNameBytes() {
+    return columnFamilyName.getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * @return the profile which is stored in the given RocksDB column family, or null if there is
+   *     none
+   */
+  public static ColumnFamilyProfile ofColumnFamilyName(final String columnFamilyName) {
+    for (final var profile : values()) {
+      if (profile.columnFamilyName.equals(columnFamilyName)) {
+        return profile;
+      }
+    }
+    return null;
+  }
+}
@@ -7,7 +7,12 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb;
 
+import io.camunda.zeebe.protocol.EnumValue;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 
 public final class RocksDbConfiguration {
 
@@ -43,6 +48,8 @@ public final class RocksDbConfiguration {
 
   public static final int DEFAULT_IO_RATE_BYTES_PER_SECOND = 0;
 
+  public static final int DEFAULT_DELETION_COMPACTION_TRIGGER = 0;
+
   private Properties columnFamilyOptions = new Properties();
   private boolean statisticsEnabled = DEFAULT_STATISTICS_ENABLED;
   private long memoryLimit = DEFAULT_MEMORY_LIMIT;
@@ -72,6 +79,30 @@ public final class RocksDbConfiguration {
    */
   private int ioRateBytesPerSecond = DEFAULT_IO_RATE_BYTES_PER_SECOND;
 
+  /**
+   * Marks an SST file for compaction once it contains at least this many deletions within any
+   * window of {@link ZeebeRocksDbFactory#DELETION_COMPACTION_WINDOW_SIZE} consecutive entries. This
+   * compacts away ranges of tombstones early, e.g. after many messages expired at once, instead of
+   * waiting until the file is compacted because of its size. Iterating over such ranges is then not
+   * slowed down by the tombstones.
+   *
+   * <p>Setting to 0 (the default) or less will disable it.
+   *
+   * <p>https://github.com/facebook/rocksdb/wiki/Implement-Queue-Service-Using-RocksDB
+   */
+  private int deletionCompactionTrigger = DEFAULT_DELETION_COMPACTION_TRIGGER;
+
+  /**
+   * The profiles of the column families, by their value. Every profile is stored in its own RocksDB
+   * column family which is tuned for it, and column families without a profile use the {@link
+   * ColumnFamilyProfile#DEFAULT} one. Per default, this is empty, and all column families are
+   * stored in the default column family of RocksDB.
+   *
+   * <p>If the profiles change, the column families are moved to their new RocksDB column family
+   * when the database is opened.
+   */
+  private Map<Integer, ColumnFamilyProfile> columnFamilyProfiles = Map.of();
+
   public RocksDbConfiguration() {}
 
   public Properties getColumnFamilyOptions() {
@@ -138,6 +169,40 @@ public final class RocksDbConfiguration {
     return this;
   }
 
+  public int getDeletionCompactionTrigger() {
+    return deletionCompactionTrigger;
+  }
+
+  public RocksDbConfiguration setDeletionCompactionTrigger(final int deletionCompactionTrigger) {
+    this.deletionCompactionTrigger = deletionCompactionTrigger;
+    return this;
+  }
+
+  /**
+   * @return the profile of the column family with the given value
+   */
+  public ColumnFamilyProfile getColumnFamilyProfile(final long columnFamilyValue) {
+    return columnFamilyProfiles.getOrDefault((int) columnFamilyValue, ColumnFamilyProfile.DEFAULT);
+  }
+
+  /**
+   * @return the profiles which are used by any column family, which always includes the default
+   */
+  public Set<ColumnFamilyProfile> getUsedColumnFamilyProfiles() {
+    final var profiles = EnumSet.of(ColumnFamilyProfile.DEFAULT);
+    profiles.addAll(columnFamilyProfiles.values());
+    return profiles;
+  }
+
+  public RocksDbConfiguration setColumnFamilyProfiles(
+      final Map<? extends EnumValue, ColumnFamilyProfile> columnFamilyProfiles) {
+    final var profilesByValue = new HashMap<Integer, ColumnFamilyProfile>();
+    columnFamilyProfiles.forEach(
+        (columnFamily, profile) -> profilesByValue.put(columnFamily.getValue(), profile));
+    this.columnFamilyProfiles = Map.copyOf(profilesByValue);
+    return this;
+  }
+
   public boolean isWalDisabled() {
     return walDisabled;
   }
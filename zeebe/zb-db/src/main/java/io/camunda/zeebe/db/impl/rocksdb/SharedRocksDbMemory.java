@@ -0,0 +1,260 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+import io.camunda.zeebe.db.impl.rocksdb.transaction.ZeebeTransactionDb;
+import io.prometheus.client.Gauge;
+import java.util.ArrayList;
+import java.util.List;
+import org.rocksdb.Cache;
+import org.rocksdb.LRUCache;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.WriteBufferManager;
+import org.slf4j.Logger;
+
+/**
+ * The block cache and write buffer manager which are shared by the databases of all partitions of a
+ * broker. The memory limit of the broker is the configured memory limit per partition multiplied by
+ * the number of partitions of the broker. The write buffers are charged against the block cache, so
+ * the partitions share one budget: an idle partition leaves its memory to the busy ones, instead of
+ * reserving a fixed slice of it.
+ *
+ * <p>The cache itself is a single LRU cache, which naturally favors the blocks of the partitions
+ * which are read the most. The write buffers however have a fixed size per database. If rebalancing
+ * is enabled, {@link #refresh()} redistributes the write buffer budget based on the number of
+ * writes of each partition since the last refresh: half of the budget is split evenly, such that
+ * idle partitions can still make progress, and the other half is split proportional to the writes.
+ *
+ * <p>Closing this only releases the Java handles; the native cache and write buffer manager are
+ * reference counted, and remain valid until the last database using them is closed.
+ */
+public final class SharedRocksDbMemory implements AutoCloseable {
+
+  private static final Logger LOG = Loggers.DB_LOGGER;
+  private static final String ZEEBE_NAMESPACE = "zeebe";
+  private static final String PARTITION = "partition";
+
+  /** The share of the budget which is split evenly over all partitions, regardless of load. */
+  private static final double EVEN_SHARE = 0.5;
+
+  /** Write buffer sizes are only changed if they differ by more than this from the current one. */
+  private static final double RESIZE_THRESHOLD = 0.1;
+
+  private static final Gauge CACHE_USAGE =
+      Gauge.build()
+          .namespace(ZEEBE_NAMESPACE)
+          .name("rocksdb_shared_cache_usage")
+          .help("Memory used by the block cache shared by all partitions, including write buffers")
+          .register();
+  private static final Gauge CACHE_PINNED_USAGE =
+      Gauge.build()
+          .namespace(ZEEBE_NAMESPACE)
+          .name("rocksdb_shared_cache_pinned_usage")
+          .help("Memory pinned in the block cache shared by all partitions")
+          .register();
+  private static final Gauge CACHE_CAPACITY =
+      Gauge.build()
+          .namespace(ZEEBE_NAMESPACE)
+          .name("rocksdb_shared_cache_capacity")
+          .help("Capacity of the block cache shared by all partitions")
+          .register();
+  private static final Gauge WRITE_BUFFER_SIZE =
+      Gauge.build()
+          .namespace(ZEEBE_NAMESPACE)
+          .name("rocksdb_shared_write_buffer_size")
+          .help(
+              "Size of a single write buffer of a partition, assigned from the shared budget; it"
+                  + " applies to the write buffers of every RocksDB column family of the partition")
+          .labelNames(PARTITION)
+          .register();
+
+  private final List<Member> members = new ArrayList<>();
+  private final long memoryLimit;
+  private final long writeBufferMemory;
+  private final int partitionCount;
+  private final int maxWriteBufferNumber;
+  private final boolean rebalancingEnabled;
+  private final LRUCache cache;
+  private final WriteBufferManager writeBufferManager;
+
+  public SharedRocksDbMemory(
+      final RocksDbConfiguration rocksDbConfiguration,
+      final int partitionCount,
+      final boolean rebalancingEnabled) {
+    if (partitionCount < 1) {
+      throw new IllegalArgumentException(
+          "Expected to share memory between at least one partition, but got %d"
+              .formatted(partitionCount));
+    }
+
+    this.partitionCount = partitionCount;
+    this.rebalancingEnabled = rebalancingEnabled;
+    maxWriteBufferNumber = rocksDbConfiguration.getMaxWriteBufferNumber();
+    memoryLimit = rocksDbConfiguration.getMemoryLimit() * partitionCount;
+    // same split as for a single partition: a third for the blocks, the rest for the write buffers
+    writeBufferMemory = memoryLimit - memoryLimit / 3;
+
+    cache = new LRUCache(memoryLimit, 8, false, 0.15);
+    writeBufferManager = new WriteBufferManager(writeBufferMemory, cache);
+    CACHE_CAPACITY.set(memoryLimit);
+  }
+
+  public Cache getCache() {
+    return cache;
+  }
+
+  public WriteBufferManager getWriteBufferManager() {
+    return writeBufferManager;
+  }
+
+  public long getMemoryLimit() {
+    return memoryLimit;
+  }
+
+  /**
+   * @return the size of a single write buffer of a partition, if the write buffer budget is split
+   *     evenly between all partitions
+   */
+  public long getInitialWriteBufferSize() {
+    return getWriteBufferSize(1.0 / partitionCount);
+  }
+
+  /**
+   * Registers the database of a partition, which from now on takes part in the rebalancing. The
+   * returned registration must be closed before the database is closed.
+   */
+  public synchronized AutoCloseable register(
+      final int partitionId, final ZeebeTransactionDb<?> database) {
+    final var member =
+        new Member(
+            Integer.toString(partitionId),
+            database,
+            database.getLatestSequenceNumber(),
+            getInitialWriteBufferSize());
+    members.add(member);
+    WRITE_BUFFER_SIZE.labels(member.partition).set(member.writeBufferSize);
+    return () -> unregister(member);
+  }
+
+  /** Updates the cache metrics and, if enabled, rebalances the write buffers of the partitions. */
+  public synchronized void refresh() {
+    CACHE_USAGE.set(cache.getUsage());
+    CACHE_PINNED_USAGE.set(cache.getPinnedUsage());
+
+    if (!rebalancingEnabled || members.isEmpty()) {
+      return;
+    }
+
+    final var writes = new long[members.size()];
+    for (int i = 0; i < writes.length; i++) {
+      final var member = members.get(i);
+      final var sequenceNumber = member.database.getLatestSequenceNumber();
+      writes[i] = Math.max(0, sequenceNumber - member.lastSequenceNumber);
+      member.lastSequenceNumber = sequenceNumber;
+    }
+
+    final var shares = computeShares(writes);
+    for (int i = 0; i < shares.length; i++) {
+      resize(members.get(i), getWriteBufferSize(shares[i]));
+    }
+  }
+
+  /**
+   * @return the current size of a single write buffer of the given partition, or 0 if it is not
+   *     registered
+   */
+  synchronized long getWriteBufferSize(final int partitionId) {
+    final var partition = Integer.toString(partitionId);
+    return members.stream()
+        .filter(member -> member.partition.equals(partition))
+        .mapToLong(member -> member.writeBufferSize)
+        .findFirst()
+        .orElse(0);
+  }
+
+  @Override
+  public synchronized void close() {
+    members.forEach(member -> WRITE_BUFFER_SIZE.remove(member.partition));
+    members.clear();
+    writeBufferManager.close();
+    cache.close();
+  }
+
+  /**
+   * Splits the write buffer budget between the partitions: half of it evenly, and the other half
+   * proportional to the given number of writes of each partition. Without any writes, the budget is
+   * split evenly.
+   *
+   * @return the share of each partition, which add up to 1
+   */
+  static double[] computeShares(final long[] writes) {
+    final var shares = new double[writes.length];
+    long totalWrites = 0;
+    for (final long partitionWrites : writes) {
+      totalWrites += partitionWrites;
+    }
+
+    for (int i = 0; i < writes.length; i++) {
+      shares[i] =
+          totalWrites == 0
+              ? 1.0 / writes.length
+              : EVEN_SHARE / writes.length + (1 - EVEN_SHARE) * writes[i] / totalWrites;
+    }
+    return shares;
+  }
+
+  private long getWriteBufferSize(final double share) {
+    return Math.round(
+        (writeBufferMemory * share / maxWriteBufferNumber)
+            * (1 - ZeebeRocksDbFactory.MEMTABLE_PREFIX_FILTER_MEMORY));
+  }
+
+  private void resize(final Member member, final long writeBufferSize) {
+    final var difference = Math.abs(writeBufferSize - member.writeBufferSize);
+    if (difference <= member.writeBufferSize * RESIZE_THRESHOLD) {
+      return;
+    }
+
+    try {
+      member.database.setWriteBufferSize(writeBufferSize);
+      LOG.debug(
+          "Resized write buffers of partition {} from {} to {} bytes",
+          member.partition,
+          member.writeBufferSize,
+          writeBufferSize);
+      member.writeBufferSize = writeBufferSize;
+      WRITE_BUFFER_SIZE.labels(member.partition).set(writeBufferSize);
+    } catch (final RocksDBException e) {
+      LOG.warn("Failed to resize write buffers of partition {}", member.partition, e);
+    }
+  }
+
+  private synchronized void unregister(final Member member) {
+    if (members.remove(member)) {
+      WRITE_BUFFER_SIZE.remove(member.partition);
+    }
+  }
+
+  private static final class Member {
+    private final String partition;
+    private final ZeebeTransactionDb<?> database;
+    private long lastSequenceNumber;
+    private long writeBufferSize;
+
+    private Member(
+        final String partition,
+        final ZeebeTransactionDb<?> database,
+        final long lastSequenceNumber,
+        final long writeBufferSize) {
+      this.partition = partition;
+      this.database = database;
+      this.lastSequenceNumber = lastSequenceNumber;
+      this.writeBufferSize = writeBufferSize;
+    }
+  }
+}
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.db.impl.rocksdb;
 
 import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.rocksdb.transaction.ZeebeTransactionDb;
 import io.camunda.zeebe.protocol.EnumValue;
 import io.prometheus.client.Gauge;
 import java.util.Objects;
@@ -15,7 +16,19 @@ import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** This class exports metrics for a RocksDB instance to Prometheus. */
+/**
+ * This class exports metrics for a RocksDB instance to Prometheus. All properties are exported once
+ * per partition; properties of a single RocksDB column family are summed up over all RocksDB column
+ * families of the database for that. If the database uses more than the default column family, i.e.
+ * if {@link ColumnFamilyProfile}s are enabled, these properties are additionally exported per
+ * RocksDB column family, as separate metrics labelled with its name. The metrics per partition keep
+ * their labels, whether profiles are enabled or not.
+ *
+ * <p>If the block cache is shared by all partitions of a broker, its usage cannot be attributed to
+ * a single partition: the block cache properties are then the same broker wide values for every
+ * partition, which {@link SharedRocksDbMemory} also exports once. The share of a partition is the
+ * size of its memtables, which are charged against the shared cache.
+ */
 public final class ZeebeRocksDBMetricExporter<
     ColumnFamilyType extends Enum<? extends EnumValue> & EnumValue> {
 
@@ -23,6 +36,8 @@ public final class ZeebeRocksDBMetricExporter<
       LoggerFactory.getLogger(ZeebeRocksDBMetricExporter.class.getName());
 
   private static final String PARTITION = "partition";
+  private static final String COLUMN_FAMILY = "columnFamily";
+  private static final String COLUMN_FAMILY_METRICS_INFIX = "_column_family";
   private static final String ZEEBE_NAMESPACE = "zeebe";
 
   private static final String MEMORY_METRICS_HELP =
@@ -30,33 +45,36 @@ public final class ZeebeRocksDBMetricExporter<
   private static final String MEMORY_METRICS_PREFIX = "rocksdb_memory";
   private static final RocksDBMetric[] MEMORY_METRICS = {
     new RocksDBMetric(
-        "rocksdb.cur-size-all-mem-tables", MEMORY_METRICS_PREFIX, MEMORY_METRICS_HELP),
+        "rocksdb.cur-size-all-mem-tables", MEMORY_METRICS_PREFIX, MEMORY_METRICS_HELP, true),
+    new RocksDBMetric(
+        "rocksdb.cur-size-active-mem-table", MEMORY_METRICS_PREFIX, MEMORY_METRICS_HELP, true),
     new RocksDBMetric(
-        "rocksdb.cur-size-active-mem-table", MEMORY_METRICS_PREFIX, MEMORY_METRICS_HELP),
-    new RocksDBMetric("rocksdb.size-all-mem-tables", MEMORY_METRICS_PREFIX, MEMORY_METRICS_HELP),
+        "rocksdb.size-all-mem-tables", MEMORY_METRICS_PREFIX, MEMORY_METRICS_HELP, true),
     new RocksDBMetric("rocksdb.block-cache-usage", MEMORY_METRICS_PREFIX, MEMORY_METRICS_HELP),
     new RocksDBMetric("rocksdb.block-cache-capacity", MEMORY_METRICS_PREFIX, MEMORY_METRICS_HELP),
     new RocksDBMetric(
         "rocksdb.block-cache-pinned-usage", MEMORY_METRICS_PREFIX, MEMORY_METRICS_HELP),
     new RocksDBMetric(
-        "rocksdb.estimate-table-readers-mem", MEMORY_METRICS_PREFIX, MEMORY_METRICS_HELP),
+        "rocksdb.estimate-table-readers-mem", MEMORY_METRICS_PREFIX, MEMORY_METRICS_HELP, true),
   };
 
   private static final String SST_METRICS_HELP =
       "Everything which is related to SST files in RocksDB per column family and partition";
   private static final String SST_METRICS_PREFIX = "rocksdb_sst";
   private static final RocksDBMetric[] SST_METRICS = {
-    new RocksDBMetric("rocksdb.total-sst-files-size", SST_METRICS_PREFIX, SST_METRICS_HELP),
-    new RocksDBMetric("rocksdb.live-sst-files-size", SST_METRICS_PREFIX, SST_METRICS_HELP),
+    new RocksDBMetric("rocksdb.total-sst-files-size", SST_METRICS_PREFIX, SST_METRICS_HELP, true),
+    new RocksDBMetric("rocksdb.live-sst-files-size", SST_METRICS_PREFIX, SST_METRICS_HELP, true),
   };
 
   private static final String LIVE_METRICS_HELP =
       "Other estimated properties based on entries in RocksDb per column family and partition";
   private static final String LIVE_METRICS_PREFIX = "rocksdb_live";
   private static final RocksDBMetric[] LIVE_METRICS = {
-    new RocksDBMetric("rocksdb.num-entries-imm-mem-tables", LIVE_METRICS_PREFIX, LIVE_METRICS_HELP),
-    new RocksDBMetric("rocksdb.estimate-num-keys", LIVE_METRICS_PREFIX, LIVE_METRICS_HELP),
-    new RocksDBMetric("rocksdb.estimate-live-data-size", LIVE_METRICS_PREFIX, LIVE_METRICS_HELP),
+    new RocksDBMetric(
+        "rocksdb.num-entries-imm-mem-tables", LIVE_METRICS_PREFIX, LIVE_METRICS_HELP, true),
+    new RocksDBMetric("rocksdb.estimate-num-keys", LIVE_METRICS_PREFIX, LIVE_METRICS_HELP, true),
+    new RocksDBMetric(
+        "rocksdb.estimate-live-data-size", LIVE_METRICS_PREFIX, LIVE_METRICS_HELP, true),
   };
 
   private static final String WRITE_METRICS_HELP =
@@ -67,7 +85,8 @@ public final class ZeebeRocksDBMetricExporter<
     new RocksDBMetric("rocksdb.is-write-stopped", WRITE_METRICS_PREFIX, WRITE_METRICS_HELP),
     new RocksDBMetric(
         "rocksdb.actual-delayed-write-rate", WRITE_METRICS_PREFIX, WRITE_METRICS_HELP),
-    new RocksDBMetric("rocksdb.mem-table-flush-pending", WRITE_METRICS_PREFIX, WRITE_METRICS_HELP),
+    new RocksDBMetric(
+        "rocksdb.mem-table-flush-pending", WRITE_METRICS_PREFIX, WRITE_METRICS_HELP, true),
     new RocksDBMetric("rocksdb.num-running-flushes", WRITE_METRICS_PREFIX, WRITE_METRICS_HELP),
     new RocksDBMetric("rocksdb.num-running-compactions", WRITE_METRICS_PREFIX, WRITE_METRICS_HELP),
   };
@@ -99,22 +118,59 @@ public final class ZeebeRocksDBMetricExporter<
     }
     for (final RocksDBMetric metric : metrics) {
       try {
-        database
-            .getProperty(metric.getPropertyName())
-            .map(Double::parseDouble)
-            .ifPresent(value -> metric.exportValue(partition, value));
+        if (metric.isPerColumnFamily()
+            && database instanceof final ZeebeTransactionDb<?> transactionDb) {
+          exportPerColumnFamily(transactionDb, metric);
+        } else {
+          // e.g. a snapshot only database, which only knows the default column family
+          database
+              .getProperty(metric.getPropertyName())
+              .map(Double::parseDouble)
+              .ifPresent(value -> metric.exportValue(partition, value));
+        }
       } catch (final Exception exception) {
         LOG.debug("Error occurred on exporting metric {}", metric.getPropertyName(), exception);
       }
     }
   }
 
+  private void exportPerColumnFamily(
+      final ZeebeTransactionDb<?> database, final RocksDBMetric metric) {
+    final var profiles = database.getColumnFamilyProfiles();
+    double total = 0;
+    boolean found = false;
+    for (final var profile : profiles) {
+      final var value =
+          database.getProperty(profile, metric.getPropertyName()).map(Double::parseDouble);
+      if (value.isPresent()) {
+        total += value.get();
+        found = true;
+        if (profiles.size() > 1) {
+          metric.exportValue(partition, profile.getColumnFamilyName(), value.get());
+        }
+      }
+    }
+
+    if (found) {
+      metric.exportValue(partition, total);
+    }
+  }
+
   private static final class RocksDBMetric {
 
     private final String propertyName;
     private final Gauge gauge;
+    private final Gauge columnFamilyGauge;
 
     private RocksDBMetric(final String propertyName, final String namePrefix, final String help) {
+      this(propertyName, namePrefix, help, false);
+    }
+
+    private RocksDBMetric(
+        final String propertyName,
+        final String namePrefix,
+        final String help,
+        final boolean perColumnFamily) {
       this.propertyName = Objects.requireNonNull(propertyName);
 
       gauge =
@@ -124,6 +180,15 @@ public final class ZeebeRocksDBMetricExporter<
               .help(help)
               .labelNames(PARTITION)
               .register();
+      columnFamilyGauge =
+          perColumnFamily
+              ? Gauge.build()
+                  .namespace(ZEEBE_NAMESPACE)
+                  .name(namePrefix + COLUMN_FAMILY_METRICS_INFIX + gaugeSuffix())
+                  .help(help)
+                  .labelNames(PARTITION, COLUMN_FAMILY)
+                  .register()
+              : null;
     }
 
     private String gaugeSuffix() {
@@ -136,6 +201,15 @@ public final class ZeebeRocksDBMetricExporter<
       gauge.labels(partitionID).set(value);
     }
 
+    public void exportValue(
+        final String partitionID, final String columnFamily, final Double value) {
+      columnFamilyGauge.labels(partitionID, columnFamily).set(value);
+    }
+
+    public boolean isPerColumnFamily() {
+      return columnFamilyGauge != null;
+    }
+
     public String getPropertyName() {
       return propertyName;
     }
@@ -18,12 +18,14 @@ import java.io.File;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
 import org.agrona.CloseHelper;
 import org.rocksdb.BlockBasedTableConfig;
 import org.rocksdb.BloomFilter;
+import org.rocksdb.Cache;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.CompactionPriority;
 import org.rocksdb.CompactionStyle;
@@ -32,7 +34,6 @@ import org.rocksdb.DBOptions;
 import org.rocksdb.DataBlockIndexType;
 import org.rocksdb.IndexType;
 import org.rocksdb.LRUCache;
-import org.rocksdb.Options;
 import org.rocksdb.RateLimiter;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
@@ -40,11 +41,24 @@ import org.rocksdb.SstPartitionerFixedPrefixFactory;
 import org.rocksdb.Statistics;
 import org.rocksdb.StatsLevel;
 import org.rocksdb.TableFormatConfig;
+import org.rocksdb.TablePropertiesCollectorFactory;
+import org.rocksdb.WriteBufferManager;
 
 public final class ZeebeRocksDbFactory<
         ColumnFamilyType extends Enum<? extends EnumValue> & EnumValue>
     implements ZeebeDbFactory<ColumnFamilyType> {
 
+  /** The number of consecutive entries in which the deletions are counted to trigger compaction. */
+  static final long DELETION_COMPACTION_WINDOW_SIZE = 128 * 1024L;
+
+  /**
+   * Prefix seek must be fast, so we allocate some extra memory of a single memtable budget to
+   * create a filter for each memtable, allowing us to skip the prefixes if possible. Values can be
+   * between 0 and 0.25 (anything higher gets clamped to 0.25); 0.15 is a current guess and
+   * candidate for further tuning.
+   */
+  static final double MEMTABLE_PREFIX_FILTER_MEMORY = 0.15;
+
   static {
     RocksDB.loadLibrary();
   }
@@ -52,27 +66,47 @@ public final class ZeebeRocksDbFactory<
   private final RocksDbConfiguration rocksDbConfiguration;
   private final ConsistencyChecksSettings consistencyChecksSettings;
   private final AccessMetricsConfiguration metrics;
+  private final SharedRocksDbMemory sharedMemory;
 
   public ZeebeRocksDbFactory(
       final RocksDbConfiguration rocksDbConfiguration,
       final ConsistencyChecksSettings consistencyChecksSettings,
       final AccessMetricsConfiguration metricsConfiguration) {
+    this(rocksDbConfiguration, consistencyChecksSettings, metricsConfiguration, null);
+  }
+
+  /**
+   * @param sharedMemory the block cache and write buffer manager shared with the databases of other
+   *     partitions, or null if every database should get its own
+   */
+  public ZeebeRocksDbFactory(
+      final RocksDbConfiguration rocksDbConfiguration,
+      final ConsistencyChecksSettings consistencyChecksSettings,
+      final AccessMetricsConfiguration metricsConfiguration,
+      final SharedRocksDbMemory sharedMemory) {
     this.rocksDbConfiguration = Objects.requireNonNull(rocksDbConfiguration);
     this.consistencyChecksSettings = Objects.requireNonNull(consistencyChecksSettings);
     metrics = metricsConfiguration;
+    this.sharedMemory = sharedMemory;
   }
 
   @Override
   public ZeebeTransactionDb<ColumnFamilyType> createDb(final File pathName) {
     final List<AutoCloseable> closeables = Collections.synchronizedList(new ArrayList<>());
     try {
-      return ZeebeTransactionDb.openTransactionalDb(
-          prepareOptions(closeables),
-          pathName.getAbsolutePath(),
-          closeables,
-          rocksDbConfiguration,
-          consistencyChecksSettings,
-          metrics);
+      final ZeebeTransactionDb<ColumnFamilyType> db =
+          ZeebeTransactionDb.openTransactionalDb(
+              prepareOptions(closeables),
+              pathName.getAbsolutePath(),
+              closeables,
+              rocksDbConfiguration,
+              consistencyChecksSettings,
+              metrics);
+      if (sharedMemory != null) {
+        // closed before the database, as the resources are closed in reverse order
+        closeables.add(sharedMemory.register(metrics.partitionId(), db));
+      }
+      return db;
     } catch (final RocksDBException e) {
       CloseHelper.quietCloseAll(closeables);
       throw new IllegalStateException("Unexpected error occurred trying to open the database", e);
@@ -83,17 +117,15 @@ public final class ZeebeRocksDbFactory<
   public ZeebeDb<ColumnFamilyType> openSnapshotOnlyDb(final File pathName) {
     final List<AutoCloseable> managedResources = Collections.synchronizedList(new ArrayList<>());
     final var options = prepareOptions(managedResources);
-    final var snapshotOnlyOptions =
-        new Options(options.dbOptions(), options.cfOptions())
-            // only open existing databases
-            .setCreateIfMissing(false)
-            // this can slow down open significantly if there are many SST files
-            .setSkipCheckingSstFileSizesOnDbOpen(true);
-    managedResources.add(snapshotOnlyOptions);
+    options
+        .dbOptions()
+        // only open existing databases
+        .setCreateIfMissing(false)
+        // this can slow down open significantly if there are many SST files
+        .setSkipCheckingSstFileSizesOnDbOpen(true);
 
     try {
-      return SnapshotOnlyDb.openDb(
-          snapshotOnlyOptions, pathName.getAbsolutePath(), managedResources);
+      return SnapshotOnlyDb.openDb(options, pathName.getAbsolutePath(), managedResources);
     } catch (final RocksDBException e) {
       CloseHelper.quietCloseAll(managedResources);
       throw new IllegalStateException(
@@ -102,15 +134,49 @@ public final class ZeebeRocksDbFactory<
   }
 
   private RocksDbOptions prepareOptions(final List<AutoCloseable> managedResources) {
+    final var profiles = rocksDbConfiguration.getUsedColumnFamilyProfiles();
+    final var hasMultipleColumnFamilies = profiles.size() > 1;
+    final var cache = createBlockCache(managedResources, hasMultipleColumnFamilies);
+
     // column family options have to be closed as last
-    final var columnFamilyOptions = createColumnFamilyOptions(managedResources);
-    managedResources.add(columnFamilyOptions);
-    final var dbOptions = createDefaultDbOptions(managedResources);
+    final var columnFamilyOptions =
+        new EnumMap<ColumnFamilyProfile, ColumnFamilyOptions>(ColumnFamilyProfile.class);
+    for (final var profile : profiles) {
+      final var options = createColumnFamilyOptions(profile, cache, managedResources);
+      managedResources.add(options);
+      columnFamilyOptions.put(profile, options);
+    }
+
+    final var dbOptions =
+        createDefaultDbOptions(managedResources, cache, hasMultipleColumnFamilies);
     managedResources.add(dbOptions);
     return new RocksDbOptions(dbOptions, columnFamilyOptions);
   }
 
-  private DBOptions createDefaultDbOptions(final List<AutoCloseable> closeables) {
+  private Cache createBlockCache(
+      final List<AutoCloseable> closeables, final boolean chargeWriteBuffers) {
+    if (sharedMemory != null) {
+      // owned by the shared memory, so it's not closed together with the database
+      return sharedMemory.getCache();
+    }
+
+    // recommended by RocksDB, but we could tweak it; keep in mind we're also caching the indexes
+    // and filters into the block cache, so we don't need to account for more memory there. if the
+    // write buffers are charged against the cache, it must hold the whole budget instead
+    final var memoryLimit = rocksDbConfiguration.getMemoryLimit();
+    final var capacity = chargeWriteBuffers ? memoryLimit : memoryLimit / 3;
+
+    // you can use the perf context to check if we're often blocked on the block cache mutex, in
+    // which case we want to increase the number of shards (shard count == 2^shardBits)
+    final var cache = new LRUCache(capacity, 8, false, 0.15);
+    closeables.add(cache);
+    return cache;
+  }
+
+  private DBOptions createDefaultDbOptions(
+      final List<AutoCloseable> closeables,
+      final Cache cache,
+      final boolean hasMultipleColumnFamilies) {
     final var props = new Properties();
     props.put("file_checksum_gen_factory", "FileChecksumGenCrc32cFactory");
     //    Enables full file checksum
@@ -123,8 +189,8 @@ public final class ZeebeRocksDbFactory<
             .setMaxOpenFiles(rocksDbConfiguration.getMaxOpenFiles())
             // 1 flush, 1 compaction
             .setMaxBackgroundJobs(2)
-            // we only use the default CF
-            .setCreateMissingColumnFamilies(false)
+            // creates the column families of new profiles
+            .setCreateMissingColumnFamilies(true)
             // may not be necessary when WAL is disabled, but nevertheless recommended to avoid
             // many small SST files
             .setAvoidFlushDuringRecovery(true)
@@ -143,6 +209,19 @@ public final class ZeebeRocksDbFactory<
       dbOptions.setRateLimiter(rateLimiter);
     }
 
+    if (sharedMemory != null) {
+      // the write buffers of all partitions are limited together, and charged against the shared
+      // block cache
+      dbOptions.setWriteBufferManager(sharedMemory.getWriteBufferManager());
+    } else if (hasMultipleColumnFamilies) {
+      // every column family has its own write buffers; to keep them within the same budget as a
+      // single column family, they are limited together and charged against the block cache
+      final var memoryLimit = rocksDbConfiguration.getMemoryLimit();
+      final var writeBufferManager = new WriteBufferManager(memoryLimit - memoryLimit / 3, cache);
+      closeables.add(writeBufferManager);
+      dbOptions.setWriteBufferManager(writeBufferManager);
+    }
+
     if (rocksDbConfiguration.isStatisticsEnabled()) {
       final var statistics = new Statistics();
       closeables.add(statistics);
@@ -159,9 +238,19 @@ public final class ZeebeRocksDbFactory<
   }
 
   /**
-   * @return Options which are used on all column families
+   * @return Options which are used on the default column family
    */
   ColumnFamilyOptions createColumnFamilyOptions(final List<AutoCloseable> closeables) {
+    return createColumnFamilyOptions(
+        ColumnFamilyProfile.DEFAULT, createBlockCache(closeables, false), closeables);
+  }
+
+  /**
+   * @return Options which are used on the column family of the given profile; user provided options
+   *     are used for all profiles alike
+   */
+  ColumnFamilyOptions createColumnFamilyOptions(
+      final ColumnFamilyProfile profile, final Cache cache, final List<AutoCloseable> closeables) {
     final var userProvidedColumnFamilyOptions = rocksDbConfiguration.getColumnFamilyOptions();
     final var hasUserOptions = !userProvidedColumnFamilyOptions.isEmpty();
 
@@ -169,7 +258,7 @@ public final class ZeebeRocksDbFactory<
       return createFromUserOptions(userProvidedColumnFamilyOptions);
     }
 
-    return createDefaultColumnFamilyOptions(closeables);
+    return createDefaultColumnFamilyOptions(profile, cache, closeables);
   }
 
   private ColumnFamilyOptions createFromUserOptions(
@@ -189,10 +278,11 @@ public final class ZeebeRocksDbFactory<
   }
 
   private ColumnFamilyOptions createDefaultColumnFamilyOptions(
-      final List<AutoCloseable> closeables) {
+      final ColumnFamilyProfile profile, final Cache cache, final List<AutoCloseable> closeables) {
     final var columnFamilyOptions = new ColumnFamilyOptions();
 
     final var totalMemoryBudget = rocksDbConfiguration.getMemoryLimit();
+    final var maxConcurrentMemtableCount = rocksDbConfiguration.getMaxWriteBufferNumber();
     // recommended by RocksDB, but we could tweak it; keep in mind we're also caching the indexes
     // and filters into the block cache, so we don't need to account for more memory there
     final var blockCacheMemory = totalMemoryBudget / 3;
@@ -200,30 +290,38 @@ public final class ZeebeRocksDbFactory<
     // although only a single one is writable. once we have too many memtables, writes will stop.
     // since prefix iteration is our bread n butter, we will build an additional filter for each
     // memtable which takes a bit of memory which must be accounted for from the memtable's memory
-    final var maxConcurrentMemtableCount = rocksDbConfiguration.getMaxWriteBufferNumber();
-    // this is a current guess and candidate for further tuning
-    // values can be between 0 and 0.25 (anything higher gets clamped to 0.25), we randomly picked
-    // 0.15
-    // prefix seek must be fast, so we allocate some extra memory of a single memtable budget to
-    // create
-    // a filter for each memtable, allowing us to skip the prefixes if possible
-    final var memtablePrefixFilterMemory = 0.15;
     final var memtableMemory =
-        Math.round(
-            ((totalMemoryBudget - blockCacheMemory) / (double) maxConcurrentMemtableCount)
-                * (1 - memtablePrefixFilterMemory));
+        sharedMemory != null
+            ? sharedMemory.getInitialWriteBufferSize()
+            : Math.round(
+                ((totalMemoryBudget - blockCacheMemory) / (double) maxConcurrentMemtableCount)
+                    * (1 - MEMTABLE_PREFIX_FILTER_MEMORY));
 
-    final var tableConfig = createTableFormatConfig(closeables, blockCacheMemory);
+    final var tableConfig = createTableFormatConfig(profile, cache, closeables);
 
     if (rocksDbConfiguration.isSstPartitioningEnabled()) {
       columnFamilyOptions.setSstPartitionerFactory(
           new SstPartitionerFixedPrefixFactory(Long.BYTES));
     }
 
+    if (rocksDbConfiguration.getDeletionCompactionTrigger() > 0) {
+      // only the number of deletions within the window triggers the compaction, not their ratio
+      final var deletionCollectorFactory =
+          TablePropertiesCollectorFactory.NewCompactOnDeletionCollectorFactory(
+              DELETION_COMPACTION_WINDOW_SIZE,
+              rocksDbConfiguration.getDeletionCompactionTrigger(),
+              0);
+      closeables.add(deletionCollectorFactory);
+      columnFamilyOptions.setTablePropertiesCollectorFactory(List.of(deletionCollectorFactory));
+    }
+
     return columnFamilyOptions
         // to extract our column family type (used as prefix) and seek faster
         .useFixedLengthPrefixExtractor(Long.BYTES)
-        .setMemtablePrefixBloomSizeRatio(memtablePrefixFilterMemory)
+        .setMemtablePrefixBloomSizeRatio(MEMTABLE_PREFIX_FILTER_MEMORY)
+        // point lookups can skip memtables which don't contain the key, instead of only the ones
+        // which don't contain its prefix
+        .setMemtableWholeKeyFiltering(profile == ColumnFamilyProfile.POINT_LOOKUP)
         // memtables
         // merge at least 3 memtables per L0 file, otherwise all memtables are flushed as individual
         // files
@@ -248,12 +346,7 @@ public final class ZeebeRocksDbFactory<
         .setNumLevels(4)
         .setMaxBytesForLevelBase(32 * 1024 * 1024L)
         .setMaxBytesForLevelMultiplier(10)
-        .setCompressionPerLevel(
-            List.of(
-                CompressionType.NO_COMPRESSION,
-                CompressionType.NO_COMPRESSION,
-                CompressionType.LZ4_COMPRESSION,
-                CompressionType.LZ4_COMPRESSION))
+        .setCompressionPerLevel(compressionPerLevel(profile))
         // Target file size for compaction.
         // Defines the desired SST file size for different levels (but not guaranteed, it is usually
         // lower)
@@ -269,41 +362,77 @@ public final class ZeebeRocksDbFactory<
         .setTableFormatConfig(tableConfig);
   }
 
-  private TableFormatConfig createTableFormatConfig(
-      final List<AutoCloseable> closeables, final long blockCacheMemory) {
-    // you can use the perf context to check if we're often blocked on the block cache mutex, in
-    // which case we want to increase the number of shards (shard count == 2^shardBits)
-    final var cache = new LRUCache(blockCacheMemory, 8, false, 0.15);
-    closeables.add(cache);
+  private static List<CompressionType> compressionPerLevel(final ColumnFamilyProfile profile) {
+    return switch (profile) {
+      // scans decompress a block once for many consecutive entries, so they can afford to compress
+      // all levels below L0, which keeps more of the data in the OS page cache
+      case PREFIX_SCAN ->
+          List.of(
+              CompressionType.NO_COMPRESSION,
+              CompressionType.LZ4_COMPRESSION,
+              CompressionType.LZ4_COMPRESSION,
+              CompressionType.LZ4_COMPRESSION);
+      case DEFAULT, POINT_LOOKUP ->
+          List.of(
+              CompressionType.NO_COMPRESSION,
+              CompressionType.NO_COMPRESSION,
+              CompressionType.LZ4_COMPRESSION,
+              CompressionType.LZ4_COMPRESSION);
+    };
+  }
 
+  private TableFormatConfig createTableFormatConfig(
+      final ColumnFamilyProfile profile, final Cache cache, final List<AutoCloseable> closeables) {
     final var filter = new BloomFilter(10, false);
     closeables.add(filter);
 
-    return new BlockBasedTableConfig()
-        .setBlockCache(cache)
-        // increasing block size means reducing memory usage, but increasing read iops
-        .setBlockSize(32 * 1024L)
-        // full and partitioned filters use a more efficient bloom filter implementation when
-        // using format 5
-        .setFormatVersion(5)
-        .setFilterPolicy(filter)
-        // caching and pinning indexes and filters is important to keep reads/seeks fast when we
-        // have many memtables, and pinning them ensures they are never evicted from the block
-        // cache
-        .setCacheIndexAndFilterBlocks(true)
-        .setPinL0FilterAndIndexBlocksInCache(true)
-        .setCacheIndexAndFilterBlocksWithHighPriority(true)
-        // default is binary search, but all of our scans are prefix based which is a good use
-        // case for efficient hashing
-        .setIndexType(IndexType.kHashSearch)
-        .setDataBlockIndexType(DataBlockIndexType.kDataBlockBinaryAndHash)
-        // RocksDB dev benchmarks show improvements when this is between 0.5 and 1, so let's
-        // start with the middle and optimize later from there
-        .setDataBlockHashTableUtilRatio(0.75)
-        // while we mostly care about the prefixes, these are covered below by the
-        // setMemtablePrefixBloomSizeRatio which will create a separate index for prefixes, so
-        // keeping the whole keys in the prefixes is still useful for efficient gets. think of
-        // it as a two-tiered index
-        .setWholeKeyFiltering(true);
+    final var tableConfig =
+        new BlockBasedTableConfig()
+            .setBlockCache(cache)
+            // full and partitioned filters use a more efficient bloom filter implementation when
+            // using format 5
+            .setFormatVersion(5)
+            .setFilterPolicy(filter)
+            // caching and pinning indexes and filters is important to keep reads/seeks fast when
+            // we have many memtables, and pinning them ensures they are never evicted from the
+            // block cache
+            .setCacheIndexAndFilterBlocks(true)
+            .setPinL0FilterAndIndexBlocksInCache(true)
+            .setCacheIndexAndFilterBlocksWithHighPriority(true)
+            .setDataBlockIndexType(DataBlockIndexType.kDataBlockBinaryAndHash)
+            // RocksDB dev benchmarks show improvements when this is between 0.5 and 1, so let's
+            // start with the middle and optimize later from there
+            .setDataBlockHashTableUtilRatio(0.75);
+
+    return switch (profile) {
+      case DEFAULT ->
+          tableConfig
+              // increasing block size means reducing memory usage, but increasing read iops
+              .setBlockSize(32 * 1024L)
+              // default is binary search, but all of our scans are prefix based which is a good
+              // use case for efficient hashing
+              .setIndexType(IndexType.kHashSearch)
+              // while we mostly care about the prefixes, these are covered below by the
+              // setMemtablePrefixBloomSizeRatio which will create a separate index for prefixes,
+              // so keeping the whole keys in the prefixes is still useful for efficient gets.
+              // think of it as a two-tiered index
+              .setWholeKeyFiltering(true);
+      case PREFIX_SCAN ->
+          tableConfig
+              // a scan reads many consecutive entries, so larger blocks mean fewer reads
+              .setBlockSize(64 * 1024L)
+              .setIndexType(IndexType.kHashSearch)
+              // the filters only contain the prefixes, which makes them much smaller; gets are
+              // rare and may not skip files by their filter
+              .setWholeKeyFiltering(false);
+      case POINT_LOOKUP ->
+          tableConfig
+              // a lookup only needs a single entry, so smaller blocks mean reading less data
+              .setBlockSize(16 * 1024L)
+              // the hash index only helps to find the blocks of a prefix, which all keys of a
+              // column family share; the data block hash index finds the key within the block
+              .setIndexType(IndexType.kBinarySearch)
+              .setWholeKeyFiltering(true);
+    };
   }
 }
@@ -0,0 +1,159 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static io.camunda.zeebe.db.impl.ZeebeDbConstants.ZB_DB_BYTE_ORDER;
+
+import io.camunda.zeebe.db.impl.rocksdb.ColumnFamilyProfile;
+import io.camunda.zeebe.db.impl.rocksdb.Loggers;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
+import org.rocksdb.WriteBatch;
+import org.rocksdb.WriteOptions;
+import org.slf4j.Logger;
+
+/**
+ * Moves the column families of Zeebe into the RocksDB column family of their configured {@link
+ * ColumnFamilyProfile}, e.g. after the profile of a column family was changed, or profiles were
+ * enabled for an existing database. As every key is prefixed with the value of its column family,
+ * the keys are copied as they are, and the moved prefix is deleted from the previous RocksDB column
+ * family afterwards.
+ *
+ * <p>The deletion is written together with the last copied entries; if the broker crashes before
+ * that, the prefix is simply moved again on the next start.
+ */
+final class ColumnFamilyRelocation {
+
+  private static final Logger LOG = Loggers.DB_LOGGER;
+
+  /** The number of entries which are copied within one write batch. */
+  private static final int BATCH_SIZE = 10_000;
+
+  /** Sorts last when comparing the keys byte-wise, and is never used by a Zeebe column family. */
+  private static final long LAST_PREFIX = -1L;
+
+  private final RocksDB database;
+  private final RocksDbConfiguration rocksDbConfiguration;
+  private final Map<ColumnFamilyProfile, ColumnFamilyHandle> profileHandles;
+
+  ColumnFamilyRelocation(
+      final RocksDB database,
+      final RocksDbConfiguration rocksDbConfiguration,
+      final Map<ColumnFamilyProfile, ColumnFamilyHandle> profileHandles) {
+    this.database = database;
+    this.rocksDbConfiguration = rocksDbConfiguration;
+    this.profileHandles = profileHandles;
+  }
+
+  /**
+   * Moves every column family which is stored in one of the given RocksDB column families, but
+   * belongs to another one.
+   */
+  void relocate(final List<ColumnFamilyHandle> handles) throws RocksDBException {
+    for (final var handle : handles) {
+      relocateFrom(handle);
+    }
+  }
+
+  private void relocateFrom(final ColumnFamilyHandle source) throws RocksDBException {
+    try (final var readOptions = new ReadOptions().setTotalOrderSeek(true);
+        final var iterator = database.newIterator(source, readOptions)) {
+      iterator.seekToFirst();
+      while (iterator.isValid()) {
+        final var key = iterator.key();
+        if (key.length < Long.BYTES) {
+          // not written by Zeebe, so it doesn't belong to any column family
+          iterator.next();
+          continue;
+        }
+
+        final var columnFamilyValue = ByteBuffer.wrap(key).order(ZB_DB_BYTE_ORDER).getLong();
+        if (columnFamilyValue == LAST_PREFIX) {
+          // the last possible prefix, which has no next prefix to seek to or to delete up to
+          return;
+        }
+
+        final var target =
+            profileHandles.get(rocksDbConfiguration.getColumnFamilyProfile(columnFamilyValue));
+        if (target != source) {
+          move(iterator, columnFamilyValue, source, target);
+        }
+
+        iterator.seek(prefixOf(columnFamilyValue + 1));
+      }
+      iterator.status();
+    }
+  }
+
+  private void move(
+      final RocksIterator iterator,
+      final long columnFamilyValue,
+      final ColumnFamilyHandle source,
+      final ColumnFamilyHandle target)
+      throws RocksDBException {
+    final var prefix = prefixOf(columnFamilyValue);
+    final var nextPrefix = prefixOf(columnFamilyValue + 1);
+    long movedEntries = 0;
+
+    try (final var writeOptions = new WriteOptions()) {
+      var batch = new WriteBatch();
+      try {
+        while (iterator.isValid() && hasPrefix(iterator.key(), prefix)) {
+          batch.put(target, iterator.key(), iterator.value());
+          movedEntries++;
+          if (batch.count() >= BATCH_SIZE) {
+            database.write(writeOptions, batch);
+            batch.close();
+            batch = new WriteBatch();
+          }
+          iterator.next();
+        }
+        iterator.status();
+
+        batch.deleteRange(source, prefix, nextPrefix);
+        database.write(writeOptions, batch);
+      } finally {
+        batch.close();
+      }
+    }
+
+    LOG.info(
+        "Moved {} entries of column family {} from RocksDB column family '{}' to '{}'",
+        movedEntries,
+        columnFamilyValue,
+        new String(source.getName(), StandardCharsets.UTF_8),
+        new String(target.getName(), StandardCharsets.UTF_8));
+  }
+
+  private static boolean hasPrefix(final byte[] key, final byte[] prefix) {
+    if (key.length < prefix.length) {
+      return false;
+    }
+    for (int i = 0; i < prefix.length; i++) {
+      if (key[i] != prefix[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static byte[] prefixOf(final long columnFamilyValue) {
+    return ByteBuffer.allocate(Long.BYTES)
+        .order(ZB_DB_BYTE_ORDER)
+        .putLong(columnFamilyValue)
+        .array();
+  }
+}
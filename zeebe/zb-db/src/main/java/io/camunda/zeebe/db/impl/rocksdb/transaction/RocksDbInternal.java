@@ -37,6 +37,7 @@ public final class RocksDbInternal {
   static MethodHandle putWithHandle;
   static MethodHandle getWithHandle;
   static MethodHandle removeWithHandle;
+  static MethodHandle singleRemoveWithHandle;
 
   static {
     RocksDB.loadLibrary();
@@ -54,6 +55,7 @@ public final class RocksDbInternal {
     putWithHandle();
     getWithHandle();
     removeWithHandle();
+    singleRemoveWithHandle();
   }
 
   private static void nativeHandles() throws NoSuchFieldException {
@@ -116,6 +118,22 @@ public final class RocksDbInternal {
     }
   }
 
+  /*
+   private native void singleDelete(final long handle, final byte[] key, final int keyLength,
+       final long columnFamilyHandle, final boolean assumeTracked) throws RocksDBException;
+  */
+  private static void singleRemoveWithHandle() throws NoSuchMethodException {
+    final var method =
+        Transaction.class.getDeclaredMethod(
+            "singleDelete", Long.TYPE, byte[].class, Integer.TYPE, Long.TYPE, Boolean.TYPE);
+    method.setAccessible(true);
+    try {
+      singleRemoveWithHandle = MethodHandles.lookup().unreflect(method);
+    } catch (final IllegalAccessException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   static boolean isRocksDbExceptionRecoverable(final RocksDBException rdbex) {
     final Status status = rdbex.getStatus();
     return RECOVERABLE_ERROR_CODES.contains(status.getCode());
@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
+import io.camunda.zeebe.db.impl.rocksdb.ColumnFamilyProfile;
+import java.util.Map;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.DBOptions;
 
@@ -15,11 +17,28 @@ import org.rocksdb.DBOptions;
  * change these depending on its own configuration. As each of the parts must be individually
  * closed, this record allows easily passing both configurations around within Zeebe.
  *
- * <p>While each column family in RocksDB can be configured differently, Zeebe only uses a single
- * RocksDB column family. We therefore don't have to differentiate further than a single database
- * options and a single column family options.
+ * <p>Zeebe stores its column families in as many RocksDB column families as there are used {@link
+ * ColumnFamilyProfile}s, which is only the default column family unless profiles are configured.
+ * Each of these RocksDB column families has its own options, tuned for the profile.
  *
  * @param dbOptions The database options used to open the RocksDB database
- * @param cfOptions The column family options used to open the RocksDB database
+ * @param columnFamilyOptions The column family options of every used profile
  */
-public record RocksDbOptions(DBOptions dbOptions, ColumnFamilyOptions cfOptions) {}
+public record RocksDbOptions(
+    DBOptions dbOptions, Map<ColumnFamilyProfile, ColumnFamilyOptions> columnFamilyOptions) {
+
+  /**
+   * @return The options of the default column family, which always exists
+   */
+  public ColumnFamilyOptions cfOptions() {
+    return columnFamilyOptions.get(ColumnFamilyProfile.DEFAULT);
+  }
+
+  /**
+   * @return The options of the given profile, or of the default column family if the profile is not
+   *     used
+   */
+  public ColumnFamilyOptions cfOptions(final ColumnFamilyProfile profile) {
+    return columnFamilyOptions.getOrDefault(profile, cfOptions());
+  }
+}
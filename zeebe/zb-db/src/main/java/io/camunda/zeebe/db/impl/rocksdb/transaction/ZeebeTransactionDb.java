@@ -18,19 +18,27 @@ import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.FineGrainedColumnFamilyMetrics;
 import io.camunda.zeebe.db.impl.NoopColumnFamilyMetrics;
+import io.camunda.zeebe.db.impl.rocksdb.ColumnFamilyProfile;
 import io.camunda.zeebe.db.impl.rocksdb.Loggers;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
 import io.camunda.zeebe.protocol.EnumValue;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.rocksdb.Checkpoint;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.MutableColumnFamilyOptions;
 import org.rocksdb.OptimisticTransactionDB;
+import org.rocksdb.Options;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
@@ -52,18 +60,26 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
   private final WriteOptions defaultWriteOptions;
   private final ColumnFamilyHandle defaultHandle;
   private final long defaultNativeHandle;
+  private final Map<ColumnFamilyProfile, ColumnFamilyHandle> profileHandles;
+  private final Map<ColumnFamilyProfile, Long> profileNativeHandles;
+  private final RocksDbConfiguration rocksDbConfiguration;
   private final ConsistencyChecksSettings consistencyChecksSettings;
   private final AccessMetricsConfiguration accessMetricsConfiguration;
 
   protected ZeebeTransactionDb(
-      final ColumnFamilyHandle defaultHandle,
+      final Map<ColumnFamilyProfile, ColumnFamilyHandle> profileHandles,
       final OptimisticTransactionDB optimisticTransactionDB,
       final List<AutoCloseable> closables,
       final RocksDbConfiguration rocksDbConfiguration,
       final ConsistencyChecksSettings consistencyChecksSettings,
       final AccessMetricsConfiguration accessMetricsConfiguration) {
-    this.defaultHandle = defaultHandle;
+    this.profileHandles = new EnumMap<>(profileHandles);
+    profileNativeHandles = new EnumMap<>(ColumnFamilyProfile.class);
+    profileHandles.forEach(
+        (profile, handle) -> profileNativeHandles.put(profile, getNativeHandle(handle)));
+    defaultHandle = profileHandles.get(ColumnFamilyProfile.DEFAULT);
     defaultNativeHandle = getNativeHandle(defaultHandle);
+    this.rocksDbConfiguration = rocksDbConfiguration;
     this.optimisticTransactionDB = optimisticTransactionDB;
     this.closables = closables;
     this.consistencyChecksSettings = consistencyChecksSettings;
@@ -93,25 +109,61 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
           final ConsistencyChecksSettings consistencyChecksSettings,
           final AccessMetricsConfiguration metrics)
           throws RocksDBException {
-    final var cfDescriptors =
-        Arrays.asList( // todo: could consider using List.of
-            new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, options.cfOptions()));
+    // column families of profiles which are no longer used must still be opened, as their data is
+    // moved to the column families of the profiles which are used now
+    final var existingColumnFamilies = listColumnFamilies(path);
+    final var cfDescriptors = new ArrayList<ColumnFamilyDescriptor>();
+    final var usedProfiles = rocksDbConfiguration.getUsedColumnFamilyProfiles();
+    for (final var profile : usedProfiles) {
+      cfDescriptors.add(
+          new ColumnFamilyDescriptor(
+              profile.getColumnFamilyNameBytes(), options.cfOptions(profile)));
+    }
+    for (final var name : existingColumnFamilies) {
+      final var profile = ColumnFamilyProfile.ofColumnFamilyName(name);
+      if (profile == null || !usedProfiles.contains(profile)) {
+        cfDescriptors.add(
+            new ColumnFamilyDescriptor(name.getBytes(StandardCharsets.UTF_8), options.cfOptions()));
+      }
+    }
+
     final List<ColumnFamilyHandle> cfHandles = new ArrayList<>();
     final OptimisticTransactionDB optimisticTransactionDB =
         OptimisticTransactionDB.open(options.dbOptions(), path, cfDescriptors, cfHandles);
     closables.add(optimisticTransactionDB);
 
-    if (cfHandles.size() != 1) {
+    if (cfHandles.size() != cfDescriptors.size()) {
       throw new IllegalStateException(
-          "Expected a handle for the default column family but found %d handles"
-              .formatted(cfHandles.size()));
+          "Expected a handle for each of the %d column families but found %d handles"
+              .formatted(cfDescriptors.size(), cfHandles.size()));
+    }
+    closables.addAll(cfHandles);
+
+    final var profileHandles =
+        new EnumMap<ColumnFamilyProfile, ColumnFamilyHandle>(ColumnFamilyProfile.class);
+    final var unusedHandles = new ArrayList<ColumnFamilyHandle>();
+    for (final var handle : cfHandles) {
+      final var profile =
+          ColumnFamilyProfile.ofColumnFamilyName(
+              new String(handle.getName(), StandardCharsets.UTF_8));
+      if (profile != null && usedProfiles.contains(profile)) {
+        profileHandles.put(profile, handle);
+      } else {
+        unusedHandles.add(handle);
+      }
     }
 
-    final ColumnFamilyHandle defaultColumnFamilyHandle = cfHandles.getFirst();
-    closables.add(defaultColumnFamilyHandle);
+    new ColumnFamilyRelocation(optimisticTransactionDB, rocksDbConfiguration, profileHandles)
+        .relocate(cfHandles);
+    for (final var handle : unusedHandles) {
+      LOG.info(
+          "Dropping RocksDB column family '{}', as its profile is no longer used",
+          new String(handle.getName(), StandardCharsets.UTF_8));
+      optimisticTransactionDB.dropColumnFamily(handle);
+    }
 
     return new ZeebeTransactionDb<>(
-        defaultColumnFamilyHandle,
+        profileHandles,
         optimisticTransactionDB,
         closables,
         rocksDbConfiguration,
@@ -119,6 +171,23 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
         metrics);
   }
 
+  /**
+   * @return the names of the column families of the existing database at the given path, without
+   *     the default column family, or an empty list if there is no database yet
+   */
+  public static List<String> listColumnFamilies(final String path) throws RocksDBException {
+    if (!Files.exists(Path.of(path, "CURRENT"))) {
+      return List.of();
+    }
+
+    try (final var options = new Options()) {
+      return RocksDB.listColumnFamilies(options, path).stream()
+          .map(name -> new String(name, StandardCharsets.UTF_8))
+          .filter(name -> !ColumnFamilyProfile.DEFAULT.getColumnFamilyName().equals(name))
+          .toList();
+    }
+  }
+
   static long getNativeHandle(final RocksObject object) {
     try {
       return RocksDbInternal.nativeHandle.getLong(object);
@@ -144,6 +213,20 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     return defaultNativeHandle;
   }
 
+  /**
+   * @return the handle of the RocksDB column family which stores the given column family
+   */
+  protected ColumnFamilyHandle getHandle(final long columnFamilyValue) {
+    return profileHandles.get(rocksDbConfiguration.getColumnFamilyProfile(columnFamilyValue));
+  }
+
+  /**
+   * @return the native handle of the RocksDB column family which stores the given column family
+   */
+  protected long getNativeHandle(final long columnFamilyValue) {
+    return profileNativeHandles.get(rocksDbConfiguration.getColumnFamilyProfile(columnFamilyValue));
+  }
+
   @Override
   public <KeyType extends DbKey, ValueType extends DbValue>
       ColumnFamily<KeyType, ValueType> createColumnFamily(
@@ -182,15 +265,55 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
 
   @Override
   public Optional<String> getProperty(final String propertyName) {
+    return getProperty(defaultHandle, propertyName);
+  }
+
+  /**
+   * @return the profiles which are stored in their own RocksDB column family of this database
+   */
+  public Set<ColumnFamilyProfile> getColumnFamilyProfiles() {
+    return Collections.unmodifiableSet(profileHandles.keySet());
+  }
+
+  /**
+   * @return the value of the property of the RocksDB column family which stores the given profile,
+   *     or empty if the profile is not stored in this database
+   */
+  public Optional<String> getProperty(
+      final ColumnFamilyProfile profile, final String propertyName) {
+    final var handle = profileHandles.get(profile);
+    return handle == null ? Optional.empty() : getProperty(handle, propertyName);
+  }
+
+  private Optional<String> getProperty(final ColumnFamilyHandle handle, final String propertyName) {
     String propertyValue = null;
     try {
-      propertyValue = optimisticTransactionDB.getProperty(defaultHandle, propertyName);
+      propertyValue = optimisticTransactionDB.getProperty(handle, propertyName);
     } catch (final RocksDBException rde) {
       LOG.debug(rde.getMessage(), rde);
     }
     return Optional.ofNullable(propertyValue);
   }
 
+  /**
+   * @return the sequence number of the latest write, which grows with every written key
+   */
+  public long getLatestSequenceNumber() {
+    return optimisticTransactionDB.getLatestSequenceNumber();
+  }
+
+  /**
+   * Changes the size of a single write buffer of every column family, without having to reopen the
+   * database.
+   */
+  public void setWriteBufferSize(final long writeBufferSize) throws RocksDBException {
+    final var writeBufferOptions =
+        MutableColumnFamilyOptions.builder().setWriteBufferSize(writeBufferSize).build();
+    for (final var handle : profileHandles.values()) {
+      optimisticTransactionDB.setOptions(handle, writeBufferOptions);
+    }
+  }
+
   @Override
   public TransactionContext createContext() {
     final Transaction transaction = optimisticTransactionDB.beginTransaction(defaultWriteOptions);
@@ -164,6 +164,21 @@ public final class ColumnFamilyTest {
     assertThat(zbLong).isNull();
   }
 
+  @Test
+  public void shouldSingleDelete() {
+    // given
+    key.wrapLong(1213);
+    value.wrapLong(255);
+    columnFamily.insert(key, value);
+
+    // when
+    columnFamily.singleDeleteExisting(key);
+
+    // then
+    assertThat(columnFamily.exists(key)).isFalse();
+    assertThat(columnFamily.get(key)).isNull();
+  }
+
   @Test
   public void shouldNotDeleteDifferentKey() {
     // given
@@ -436,6 +451,14 @@ public final class ColumnFamilyTest {
         .isInstanceOf(ZeebeDbInconsistentException.class);
   }
 
+  @Test
+  public void shouldThrowOnSingleDeleteExisting() {
+    key.wrapLong(1);
+    assertThatThrownBy(() -> columnFamily.singleDeleteExisting(key))
+        .hasMessageContaining("does not exist")
+        .isInstanceOf(ZeebeDbInconsistentException.class);
+  }
+
   @Test
   public void shouldThrowOnMissingForeignKeyInKeyPosition() {
     // given
@@ -0,0 +1,266 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.rocksdb.transaction.ZeebeTransactionDb;
+import io.camunda.zeebe.protocol.EnumValue;
+import io.prometheus.client.CollectorRegistry;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.LRUCache;
+
+final class ColumnFamilyProfilesTest {
+
+  private static final Map<ColumnFamilies, ColumnFamilyProfile> PROFILES =
+      Map.of(
+          ColumnFamilies.SCANNED, ColumnFamilyProfile.PREFIX_SCAN,
+          ColumnFamilies.LOOKED_UP, ColumnFamilyProfile.POINT_LOOKUP);
+
+  @Test
+  void shouldStoreEveryProfileInItsOwnColumnFamily(final @TempDir File path) throws Exception {
+    // given
+    try (final var db = createDb(path, PROFILES)) {
+      // when
+      write(db, 100);
+
+      // then
+      assertThat(read(db)).containsExactly(100L, 100L, 100L);
+    }
+
+    assertThat(ZeebeTransactionDb.listColumnFamilies(path.getAbsolutePath()))
+        .containsExactlyInAnyOrder("prefix-scan", "point-lookup");
+  }
+
+  @Test
+  void shouldExportMetricsPerColumnFamily(final @TempDir File path) throws Exception {
+    // given
+    try (final var db = createDb(path, PROFILES)) {
+      write(db, 100);
+      final var exporter = new ZeebeRocksDBMetricExporter<>("profiles", () -> db);
+
+      // when
+      exporter.exportMetrics();
+
+      // then
+      final var columnFamilies = List.of("default", "prefix-scan", "point-lookup");
+      assertThat(columnFamilies)
+          .allSatisfy(
+              columnFamily ->
+                  assertThat(
+                          CollectorRegistry.defaultRegistry.getSampleValue(
+                              "zeebe_rocksdb_live_column_family_estimate_num_keys",
+                              new String[] {"partition", "columnFamily"},
+                              new String[] {"profiles", columnFamily}))
+                      .isPositive());
+      final double keysPerColumnFamily =
+          columnFamilies.stream()
+              .mapToDouble(
+                  columnFamily ->
+                      CollectorRegistry.defaultRegistry.getSampleValue(
+                          "zeebe_rocksdb_live_column_family_estimate_num_keys",
+                          new String[] {"partition", "columnFamily"},
+                          new String[] {"profiles", columnFamily}))
+              .sum();
+      assertThat(
+              CollectorRegistry.defaultRegistry.getSampleValue(
+                  "zeebe_rocksdb_live_estimate_num_keys",
+                  new String[] {"partition"},
+                  new String[] {"profiles"}))
+          .isEqualTo(keysPerColumnFamily);
+      assertThat(
+              CollectorRegistry.defaultRegistry.getSampleValue(
+                  "zeebe_rocksdb_memory_block_cache_capacity",
+                  new String[] {"partition"},
+                  new String[] {"profiles"}))
+          .isPositive();
+    }
+  }
+
+  @Test
+  void shouldNotExportMetricsPerColumnFamilyWithoutProfiles(final @TempDir File path)
+      throws Exception {
+    // given
+    try (final var db = createDb(path, Map.of())) {
+      write(db, 100);
+      final var exporter = new ZeebeRocksDBMetricExporter<>("noProfiles", () -> db);
+
+      // when
+      exporter.exportMetrics();
+
+      // then
+      assertThat(
+              CollectorRegistry.defaultRegistry.getSampleValue(
+                  "zeebe_rocksdb_live_estimate_num_keys",
+                  new String[] {"partition"},
+                  new String[] {"noProfiles"}))
+          .isPositive();
+      assertThat(
+              CollectorRegistry.defaultRegistry.getSampleValue(
+                  "zeebe_rocksdb_live_column_family_estimate_num_keys",
+                  new String[] {"partition", "columnFamily"},
+                  new String[] {"noProfiles", "default"}))
+          .isNull();
+    }
+  }
+
+  @Test
+  void shouldMoveDataWhenEnablingProfiles(final @TempDir File path) throws Exception {
+    // given
+    try (final var db = createDb(path, Map.of())) {
+      write(db, 100);
+    }
+
+    // when
+    try (final var db = createDb(path, PROFILES)) {
+      // then
+      assertThat(read(db)).containsExactly(100L, 100L, 100L);
+    }
+  }
+
+  @Test
+  void shouldMoveDataAndDropColumnFamiliesWhenDisablingProfiles(final @TempDir File path)
+      throws Exception {
+    // given
+    try (final var db = createDb(path, PROFILES)) {
+      write(db, 100);
+    }
+
+    // when
+    try (final var db = createDb(path, Map.of())) {
+      // then
+      assertThat(read(db)).containsExactly(100L, 100L, 100L);
+    }
+
+    assertThat(ZeebeTransactionDb.listColumnFamilies(path.getAbsolutePath())).isEmpty();
+  }
+
+  @Test
+  void shouldSnapshotAllColumnFamilies(final @TempDir File path, final @TempDir File tempDir)
+      throws Exception {
+    // given
+    final var snapshotPath = new File(tempDir, "snapshot");
+    try (final var db = createDb(path, PROFILES)) {
+      write(db, 100);
+    }
+
+    // when
+    try (final var db = createFactory(PROFILES).openSnapshotOnlyDb(path)) {
+      db.createSnapshot(snapshotPath);
+    }
+
+    // then
+    try (final var db = createDb(snapshotPath, PROFILES)) {
+      assertThat(read(db)).containsExactly(100L, 100L, 100L);
+    }
+  }
+
+  @Test
+  void shouldTuneOptionsPerProfile() {
+    // given
+    final var factory = createFactory(PROFILES);
+    final var closeables = new ArrayList<AutoCloseable>();
+
+    try (final var cache = new LRUCache(1024 * 1024L)) {
+      // when
+      final var scanOptions =
+          factory.createColumnFamilyOptions(ColumnFamilyProfile.PREFIX_SCAN, cache, closeables);
+      final var lookupOptions =
+          factory.createColumnFamilyOptions(ColumnFamilyProfile.POINT_LOOKUP, cache, closeables);
+
+      // then
+      final var scanTable = (BlockBasedTableConfig) scanOptions.tableFormatConfig();
+      final var lookupTable = (BlockBasedTableConfig) lookupOptions.tableFormatConfig();
+      assertThat(scanTable.blockSize()).isGreaterThan(lookupTable.blockSize());
+      assertThat(scanTable.wholeKeyFiltering()).isFalse();
+      assertThat(lookupTable.wholeKeyFiltering()).isTrue();
+      assertThat(scanOptions.memtableWholeKeyFiltering()).isFalse();
+      assertThat(lookupOptions.memtableWholeKeyFiltering()).isTrue();
+
+      scanOptions.close();
+      lookupOptions.close();
+    } finally {
+      closeables.forEach(
+          closeable -> {
+            try {
+              closeable.close();
+            } catch (final Exception e) {
+              throw new RuntimeException(e);
+            }
+          });
+    }
+  }
+
+  private static ZeebeRocksDbFactory<ColumnFamilies> createFactory(
+      final Map<ColumnFamilies, ColumnFamilyProfile> profiles) {
+    return new ZeebeRocksDbFactory<>(
+        new RocksDbConfiguration().setColumnFamilyProfiles(profiles),
+        new ConsistencyChecksSettings(true, true),
+        new AccessMetricsConfiguration(Kind.NONE, 1));
+  }
+
+  private static ZeebeDb<ColumnFamilies> createDb(
+      final File path, final Map<ColumnFamilies, ColumnFamilyProfile> profiles) {
+    return createFactory(profiles).createDb(path);
+  }
+
+  private static void write(final ZeebeDb<ColumnFamilies> db, final int count) {
+    final var context = db.createContext();
+    final var key = new DbLong();
+    final var value = new DbLong();
+    for (final var columnFamily : ColumnFamilies.values()) {
+      final var column = db.createColumnFamily(columnFamily, context, key, value);
+      for (int i = 0; i < count; i++) {
+        key.wrapLong(i);
+        value.wrapLong(i);
+        column.insert(key, value);
+      }
+    }
+  }
+
+  /**
+   * @return the number of entries of each column family, after checking that every key can be read
+   */
+  private static List<Long> read(final ZeebeDb<ColumnFamilies> db) {
+    final var context = db.createContext();
+    final var key = new DbLong();
+    final var counts = new ArrayList<Long>();
+    for (final var columnFamily : ColumnFamilies.values()) {
+      final var column = db.createColumnFamily(columnFamily, context, key, new DbLong());
+      final var count = column.count();
+      for (int i = 0; i < count; i++) {
+        key.wrapLong(i);
+        assertThat(column.get(key)).isNotNull();
+      }
+      counts.add(count);
+    }
+    return counts;
+  }
+
+  private enum ColumnFamilies implements EnumValue {
+    DEFAULT,
+    SCANNED,
+    LOOKED_UP;
+
+    @Override
+    public int getValue() {
+      return ordinal();
+    }
+  }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.util.ByteValue;
+import io.prometheus.client.CollectorRegistry;
+import java.io.File;
+import java.util.ArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class SharedRocksDbMemoryTest {
+
+  private final RocksDbConfiguration configuration =
+      new RocksDbConfiguration().setMemoryLimit(ByteValue.ofMegabytes(64));
+  private SharedRocksDbMemory sharedMemory;
+
+  @AfterEach
+  void tearDown() {
+    if (sharedMemory != null) {
+      sharedMemory.close();
+    }
+  }
+
+  @Test
+  void shouldSplitSharesEvenlyWithoutWrites() {
+    // when
+    final var shares = SharedRocksDbMemory.computeShares(new long[] {0, 0, 0, 0});
+
+    // then
+    assertThat(shares).containsExactly(0.25, 0.25, 0.25, 0.25);
+  }
+
+  @Test
+  void shouldSplitHalfOfTheSharesByWrites() {
+    // when
+    final var shares = SharedRocksDbMemory.computeShares(new long[] {300, 100, 0, 0});
+
+    // then
+    assertThat(shares)
+        .containsExactly(new double[] {0.125 + 0.375, 0.125 + 0.125, 0.125, 0.125}, within(0.0001));
+  }
+
+  @Test
+  void shouldLimitMemoryOfAllPartitions() {
+    // when
+    sharedMemory = new SharedRocksDbMemory(configuration, 4, false);
+
+    // then
+    assertThat(sharedMemory.getMemoryLimit()).isEqualTo(ByteValue.ofMegabytes(256));
+    assertThat(sharedMemory.getInitialWriteBufferSize())
+        .isEqualTo(
+            new ZeebeRocksDbFactory<DefaultColumnFamily>(
+                    configuration,
+                    new ConsistencyChecksSettings(),
+                    new AccessMetricsConfiguration(Kind.NONE, 1))
+                .createColumnFamilyOptions(new ArrayList<>())
+                .writeBufferSize());
+  }
+
+  @Test
+  void shouldShareCacheBetweenPartitions(
+      final @TempDir File firstPath, final @TempDir File secondPath) throws Exception {
+    // given
+    sharedMemory = new SharedRocksDbMemory(configuration, 2, false);
+
+    // when
+    try (final var firstDb = createDb(1, firstPath);
+        final var secondDb = createDb(2, secondPath)) {
+      write(firstDb, 1_000);
+      write(secondDb, 1_000);
+
+      // then - the write buffers of both partitions are charged against the shared cache
+      assertThat(sharedMemory.getCache().getUsage()).isPositive();
+      assertThat(firstDb.getProperty("rocksdb.block-cache-capacity"))
+          .hasValue(Long.toString(sharedMemory.getMemoryLimit()));
+      assertThat(secondDb.getProperty("rocksdb.block-cache-capacity"))
+          .hasValue(Long.toString(sharedMemory.getMemoryLimit()));
+    }
+  }
+
+  @Test
+  void shouldGiveMoreWriteBufferMemoryToBusierPartition(
+      final @TempDir File firstPath, final @TempDir File secondPath) throws Exception {
+    // given
+    sharedMemory = new SharedRocksDbMemory(configuration, 2, true);
+    final var initialSize = sharedMemory.getInitialWriteBufferSize();
+
+    try (final var busyDb = createDb(1, firstPath);
+        final var idleDb = createDb(2, secondPath)) {
+      write(busyDb, 1_000);
+
+      // when
+      sharedMemory.refresh();
+
+      // then
+      assertThat(sharedMemory.getWriteBufferSize(1)).isGreaterThan(initialSize);
+      assertThat(sharedMemory.getWriteBufferSize(2)).isLessThan(initialSize);
+    }
+  }
+
+  @Test
+  void shouldExportWriteBufferSizePerPartition(final @TempDir File path) throws Exception {
+    // given
+    sharedMemory = new SharedRocksDbMemory(configuration, 1, false);
+
+    // when
+    try (final var db = createDb(1, path)) {
+      // then
+      assertThat(
+              CollectorRegistry.defaultRegistry.getSampleValue(
+                  "zeebe_rocksdb_shared_write_buffer_size",
+                  new String[] {"partition"},
+                  new String[] {"1"}))
+          .isEqualTo((double) sharedMemory.getInitialWriteBufferSize());
+    }
+  }
+
+  @Test
+  void shouldNotRebalanceIfDisabled(final @TempDir File firstPath, final @TempDir File secondPath)
+      throws Exception {
+    // given
+    sharedMemory = new SharedRocksDbMemory(configuration, 2, false);
+    final var initialSize = sharedMemory.getInitialWriteBufferSize();
+
+    try (final var busyDb = createDb(1, firstPath);
+        final var idleDb = createDb(2, secondPath)) {
+      write(busyDb, 1_000);
+
+      // when
+      sharedMemory.refresh();
+
+      // then
+      assertThat(sharedMemory.getWriteBufferSize(1)).isEqualTo(initialSize);
+      assertThat(sharedMemory.getWriteBufferSize(2)).isEqualTo(initialSize);
+    }
+  }
+
+  @Test
+  void shouldUnregisterClosedPartition(final @TempDir File path) throws Exception {
+    // given
+    sharedMemory = new SharedRocksDbMemory(configuration, 1, true);
+
+    // when
+    createDb(1, path).close();
+
+    // then
+    assertThat(sharedMemory.getWriteBufferSize(1)).isZero();
+  }
+
+  private ZeebeDb<DefaultColumnFamily> createDb(final int partitionId, final File path) {
+    return new ZeebeRocksDbFactory<DefaultColumnFamily>(
+            configuration,
+            new ConsistencyChecksSettings(),
+            new AccessMetricsConfiguration(Kind.NONE, partitionId),
+            sharedMemory)
+        .createDb(path);
+  }
+
+  private static void write(final ZeebeDb<DefaultColumnFamily> db, final int count) {
+    final var key = new DbString();
+    final var value = new DbString();
+    final var column =
+        db.createColumnFamily(DefaultColumnFamily.DEFAULT, db.createContext(), key, value);
+    for (int i = 0; i < count; i++) {
+      key.wrapString("key-" + i);
+      value.wrapString("value-" + i);
+      column.upsert(key, value);
+    }
+  }
+}
@@ -110,6 +110,29 @@ final class ZeebeRocksDbFactoryTest {
         .containsExactly(ByteValue.ofMegabytes(16), CompactionPriority.ByCompensatedSize, 7);
   }
 
+  @Test
+  void shouldCompactOnDeletionIfConfigured() {
+    // given
+    //noinspection unchecked
+    final var factoryWithDefaults =
+        (ZeebeRocksDbFactory<DefaultColumnFamily>)
+            DefaultZeebeDbFactory.<DefaultColumnFamily>getDefaultFactory();
+    final var factoryWithDeletionCompaction =
+        new ZeebeRocksDbFactory<>(
+            new RocksDbConfiguration().setDeletionCompactionTrigger(1024),
+            new ConsistencyChecksSettings(),
+            new AccessMetricsConfiguration(Kind.NONE, 1));
+
+    // when
+    final var defaults = factoryWithDefaults.createColumnFamilyOptions(new ArrayList<>());
+    final var deletionCompactionOptions =
+        factoryWithDeletionCompaction.createColumnFamilyOptions(new ArrayList<>());
+
+    // then
+    assertThat(defaults.tablePropertiesCollectorFactory()).isEmpty();
+    assertThat(deletionCompactionOptions.tablePropertiesCollectorFactory()).hasSize(1);
+  }
+
   @Test
   void shouldFailIfPropertiesDoesNotExist(final @TempDir File pathName) {
     // given